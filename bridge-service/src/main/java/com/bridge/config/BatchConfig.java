@@ -1,8 +1,12 @@
 package com.bridge.config;
 
-import com.bridge.tasklet.AreaBasedListFetchingTasklet;
-import com.bridge.tasklet.DetailFetchingTasklet;
-import com.bridge.tasklet.SendingToKafkaTasklet;
+import com.bridge.exception.CustomDetailFetchingException;
+import com.bridge.model.dto.EventDto;
+import com.bridge.processor.DetailFetchingItemProcessor;
+import com.bridge.processor.DetailFetchingSkipListener;
+import com.bridge.reader.AreaBasedListItemReader;
+import com.bridge.service.EventWatermarkStore;
+import com.bridge.writer.KafkaItemWriter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
@@ -10,10 +14,16 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.integration.async.AsyncItemProcessor;
+import org.springframework.batch.integration.async.AsyncItemWriter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.concurrent.Future;
+
 @Configuration
 @Slf4j
 public class BatchConfig {
@@ -21,90 +31,81 @@ public class BatchConfig {
         /**
          * 공공데이터 API들로부터 이벤트 정보를 페칭하고 카프카로 전송하는 배치 Job
          *
-         * 세 개의 스텝을 순차적으로 실행하며, 각 Step이 완료되면 다음 스텝으로 진행합니다.
+         * 목록 조회 -> 상세 정보 조회 -> 카프카 전송을 하나의 청크 지향 스텝에서 처리합니다.
          * 
-         * @param jobRepository             Spring Batch 작업 저장소
-         * @param areaBasedListFetchingStep 1단계: 지역 기반 이벤트 리스트를 조회하는 Step
-         * @param detailFetchingStep        2단계: 각 이벤트의 상세 정보를 조회하는 Step
-         * @param sendingToKafkaStep        3단계: 종합한 이벤트 데이터를 카프카로 전송하는 Step
+         * @param jobRepository               Spring Batch 작업 저장소
+         * @param eventFetchingAndSendingStep 이벤트를 조회해서 카프카로 전송하는 Step
          * @return 구성된 배치 작업 객체
          */
         @Bean
         public Job eventFetchingAndSendingJob(
                         JobRepository jobRepository,
-                        Step areaBasedListFetchingStep,
-                        Step detailFetchingStep,
-                        Step sendingToKafkaStep) {
+                        Step eventFetchingAndSendingStep) {
                 return new JobBuilder("eventFetchingAndSendingJob", jobRepository)
                                 .incrementer(new RunIdIncrementer())  // 각 실행마다 고유한 ID 생성
-                                .start(areaBasedListFetchingStep)     // 첫번째 스텝
-                                .next(detailFetchingStep)             // 두번째 스텝
-                                .next(sendingToKafkaStep)             // 세번째 스텝
+                                .start(eventFetchingAndSendingStep)
                                 .build();
         }
 
         /**
-         * [1단계 스텝] 지역 기반 이벤트 리스트를 조회하는 Step
-         * 
-         * 지역기반관광정보조회 API를 호출하여 지역 기반 이벤트 리스트를 조회하는 스텝입니다.
-         * 이 단계에서는 기본적인 이벤트 정보(ID, 제목, 주소 등)를 조회합니다.
-         * 
-         * @param jobRepository      Spring Batch 작업 저장소
-         * @param transactionManager 트랜잭션 매니저 - Step 실행 중 트랜잭션 관리
-         * @param tasklet            지역 기반 리스트 조회 로직을 담당하는 Tasklet
-         * @return 구성된 Step 객체
-         */
-        @Bean
-        public Step areaBasedListFetchingStep(
-                        JobRepository jobRepository,
-                        PlatformTransactionManager transactionManager,
-                        AreaBasedListFetchingTasklet tasklet) {
-                return new StepBuilder("areaBasedListFetchingStep", jobRepository)
-                                .tasklet(tasklet, transactionManager)
-                                .build();
-        }
-
-        /**
-         * [2단계 스텝] 각 이벤트의 상세 정보를 조회하는 Step
+         * 이벤트를 조회해서 카프카로 전송하는 청크 지향 Step
+         *
+         * Reader: 지역기반관광정보조회 API 페이지를 순서대로 읽음
+         * Processor: 공통정보조회 API와 소개정보조회 API로 상세 정보를 추가 (청크 안의 이벤트들을 가상 스레드에서 동시에 처리)
+         * Writer: 상세 정보가 추가된 이벤트를 카프카로 전송
          *
-         * 첫번째 스텝에서 가져온 이벤트 목록을 기반으로
-         * 공통정보조회 API와 소개정보조회 API를 호출해서
-         * 각 이벤트의 상세 정보를 조회하는 스텝입니다.
+         * 스텝 시작 시 EventWatermarkStore가 이벤트별 수정 시각 워터마크를 적재하므로, 증분 동기화에서는
+         * 마지막 전송 이후 수정되지 않은 이벤트의 상세 정보 조회와 카프카 전송을 건너뜁니다.
          *
-         * 이 단계에서는 이벤트의 상세 설명, 이미지, 위치 정보 등을 추가로 가져옵니다.
+         * 재시도 후에도 상세 정보 조회에 실패한 이벤트는 skip-limit까지 건너뛰고 DetailFetchingSkipListener가 기록합니다.
+         * 한도를 넘으면 API 장애로 보고 스텝을 실패시킵니다.
+         * 상세 정보 조회는 트랜잭션과 무관하므로, 실패한 청크를 한 건씩 다시 쓸 때 API를 다시 호출하지 않고
+         * 이미 조회한 결과(Future)를 재사용합니다. (processorNonTransactional)
+         *
+         * 이벤트 목록 전체를 JobExecutionContext에 담아 넘기지 않으므로 메모리 사용량은 청크 크기로 제한되고,
+         * 재시작 시에는 마지막으로 커밋된 청크 다음부터 다시 처리합니다.
          * 
-         * @param jobRepository      Spring Batch 작업 저장소
-         * @param transactionManager 트랜잭션 매니저 - 스텝 실행 중 트랜잭션 관리
-         * @param tasklet            상세 정보 조회 로직을 담당하는 Tasklet
-         * @return 구성된 스텝 객체
+         * @param jobRepository               Spring Batch 작업 저장소
+         * @param transactionManager          트랜잭션 매니저 - 청크 단위 트랜잭션 관리
+         * @param areaBasedListItemReader     지역 기반 이벤트 목록을 읽는 Reader
+         * @param detailFetchingItemProcessor 상세 정보를 조회하는 Processor
+         * @param kafkaItemWriter             카프카로 전송하는 Writer
+         * @param eventWatermarkStore         이벤트별 수정 시각 워터마크 저장소
+         * @param detailFetchingSkipListener  상세 정보 조회에 실패해서 건너뛴 이벤트를 기록하는 리스너
+         * @param chunkSize                   청크 크기 (한 트랜잭션에서 처리할 이벤트 수)
+         * @param skipLimit                   상세 정보 조회 실패로 건너뛸 수 있는 최대 이벤트 수
+         * @return 구성된 Step 객체
          */
         @Bean
-        public Step detailFetchingStep(
+        public Step eventFetchingAndSendingStep(
                         JobRepository jobRepository,
                         PlatformTransactionManager transactionManager,
-                        DetailFetchingTasklet tasklet) {
-                return new StepBuilder("detailFetchingStep", jobRepository)
-                                .tasklet(tasklet, transactionManager)
-                                .build();
-        }
+                        AreaBasedListItemReader areaBasedListItemReader,
+                        DetailFetchingItemProcessor detailFetchingItemProcessor,
+                        KafkaItemWriter kafkaItemWriter,
+                        EventWatermarkStore eventWatermarkStore,
+                        DetailFetchingSkipListener detailFetchingSkipListener,
+                        @Value("${batch.chunk-size}") int chunkSize,
+                        @Value("${batch.skip-limit}") int skipLimit) {
+                AsyncItemProcessor<EventDto, EventDto> asyncItemProcessor = new AsyncItemProcessor<>();
+                asyncItemProcessor.setDelegate(detailFetchingItemProcessor);
+                asyncItemProcessor.setTaskExecutor(new VirtualThreadTaskExecutor("detail-fetching-"));
 
-        /**
-         * [3단계 스텝] 카프카로 데이터를 전송하는 Step
-         * 
-         * 이전 스텝들로부터 수집한 완전한 이벤트 데이터를 카프카로 전송하는 스텝입니다.
-         * 
-         * @param jobRepository      Spring Batch 작업 저장소
-         * @param transactionManager 트랜잭션 매니저 - 스텝 실행 중 트랜잭션 관리
-         * @param tasklet            카프카 전송 로직을 담당하는 Tasklet
-         * @return 구성된 스텝 객체
-         */
-        @Bean
-        public Step sendingToKafkaStep(
-                        JobRepository jobRepository,
-                        PlatformTransactionManager transactionManager,
-                        SendingToKafkaTasklet tasklet) {
-                return new StepBuilder("sendingToKafkaStep", jobRepository)
-                                .tasklet(tasklet, transactionManager)
+                // 걸러진(null) 이벤트는 전송하지 않고, 상세 정보 조회 실패는 Future를 꺼낼 때 예외로 던짐
+                AsyncItemWriter<EventDto> asyncItemWriter = new AsyncItemWriter<>();
+                asyncItemWriter.setDelegate(kafkaItemWriter);
+
+                return new StepBuilder("eventFetchingAndSendingStep", jobRepository)
+                                .<EventDto, Future<EventDto>>chunk(chunkSize, transactionManager)
+                                .reader(areaBasedListItemReader)
+                                .processor(asyncItemProcessor)
+                                .writer(asyncItemWriter)
+                                .listener(eventWatermarkStore)
+                                .faultTolerant()
+                                .processorNonTransactional()
+                                .skip(CustomDetailFetchingException.class)
+                                .skipLimit(skipLimit)
+                                .listener(detailFetchingSkipListener)
                                 .build();
         }
 
@@ -1,6 +1,7 @@
 package com.bridge.config;
 
 import com.bridge.exception.CustomBatchException;
+import com.bridge.service.EventWatermarkStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -11,11 +12,15 @@ import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpStatus;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 
+import java.time.DayOfWeek;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -24,6 +29,10 @@ import java.time.format.DateTimeFormatter;
  * 배치 스케줄러 설정 클래스
  *
  * 주기적으로 이벤트 데이터 수집 및 카프카 전송 배치 작업을 실행합니다.
+ *
+ * 평소에는 마지막 전송 이후 수정된 이벤트만 처리하는 증분 동기화로 실행하고,
+ * full-sync-day-of-week 요일에는 워터마크와 관계없이 모든 이벤트를 다시 전송하는 전체 재동기화로 실행합니다.
+ * 애플리케이션 시작 시 실행(run-on-startup)도 같은 기준으로 동기화 모드를 정합니다.
  */
 @Configuration
 @EnableScheduling
@@ -36,19 +45,63 @@ public class BatchScheduler {
     private final Job eventFetchingAndSendingJob;
 
     /**
-     * 테스트를 위한 배칭 스케쥴러
-     * 
+     * 전체 재동기화를 실행할 요일입니다. (설정하지 않으면 항상 증분 동기화)
+     */
+    @Value("${batch.full-sync-day-of-week:#{null}}")
+    private DayOfWeek fullSyncDayOfWeek;
+
+    /**
+     * 애플리케이션 시작 시 배치 작업을 한 번 실행할지 여부입니다.
+     */
+    @Value("${batch.run-on-startup:false}")
+    private boolean runOnStartup;
+
+    /**
+     * 애플리케이션 시작 시 배치 작업을 실행합니다.
+     * 실행에 실패해도 애플리케이션은 계속 떠 있도록 예외는 로그로만 남기고, 다음 스케줄에 다시 실행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void runEventFetchingAndSendingJobOnStartup() {
+        if (!runOnStartup) {
+            return;
+        }
+
+        try {
+            scheduleEventFetchingAndSendingJob();
+        } catch (CustomBatchException e) {
+            log.error("Startup batch job was not launched: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 매일 정해진 시각(batch.cron, 한국 시간)에 배치 작업을 실행합니다.
+     * 실행하는 날이 full-sync-day-of-week 요일이면 전체 재동기화, 그 외에는 증분 동기화로 실행합니다.
+     *
      * @throws CustomBatchException 배치 작업 실행 실패 시 발생하는 커스텀 예외
      */
-//    @Scheduled(cron = "0 0 1 * * ?")
+    @Scheduled(cron = "${batch.cron}", zone = "Asia/Seoul")
     public void scheduleEventFetchingAndSendingJob() {
+        ZonedDateTime nowKST = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
+        boolean fullSync = nowKST.getDayOfWeek() == fullSyncDayOfWeek;
+        launchEventFetchingAndSendingJob(fullSync ? EventWatermarkStore.FULL_SYNC_MODE : EventWatermarkStore.INCREMENTAL_SYNC_MODE);
+    }
+
+    /**
+     * 지정한 동기화 모드로 배치 작업을 실행합니다.
+     *
+     * @param syncMode full이면 전체 재동기화, 그 외에는 증분 동기화
+     * @throws CustomBatchException 배치 작업 실행 실패 시 발생하는 커스텀 예외
+     */
+    public void launchEventFetchingAndSendingJob(String syncMode) {
         ZonedDateTime nowKST = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
         String formattedTime = nowKST.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
 
         // 매번 다른 시간값으로 새로운 JobInstance를 생성
         JobParameters jobParameters = new JobParametersBuilder()
                 .addString("koreanTime", formattedTime)
+                .addString(EventWatermarkStore.SYNC_MODE_PARAMETER, syncMode)
                 .toJobParameters();
+        log.info("Launching eventFetchingAndSendingJob. syncMode: {}", syncMode);
 
         try {
             // 배치 작업 실행
@@ -0,0 +1,36 @@
+package com.bridge.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * 이벤트 토픽 설정
+ *
+ * event-core의 리스너 스레드 수만큼 병렬로 소비할 수 있도록 토픽을 여러 파티션으로 생성합니다.
+ * 토픽이 이미 있고 파티션 수가 더 적으면 KafkaAdmin이 파티션을 늘립니다.
+ * (파티션이 늘어나면 키와 파티션의 대응이 바뀌므로, 늘리는 시점에 처리 중이던 이벤트는 순서가 바뀔 수 있음)
+ */
+@Configuration
+public class KafkaTopicConfig {
+
+    @Value("${spring.kafka.topic}")
+    private String topic;
+
+    @Value("${spring.kafka.topic-partitions}")
+    private int topicPartitions;
+
+    @Value("${spring.kafka.topic-replicas}")
+    private int topicReplicas;
+
+    @Bean
+    public NewTopic eventTopic() {
+        return TopicBuilder.name(topic)
+                .partitions(topicPartitions)
+                .replicas(topicReplicas)
+                .build();
+    }
+
+}
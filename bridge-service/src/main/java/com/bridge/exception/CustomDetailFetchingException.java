@@ -0,0 +1,16 @@
+package com.bridge.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class CustomDetailFetchingException extends RuntimeException {
+
+    private final HttpStatus httpStatus;
+
+    public CustomDetailFetchingException(HttpStatus httpStatus, String message) {
+        super(message);
+        this.httpStatus = httpStatus;
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.bridge.model.areabasedlist;
+
+import com.bridge.model.dto.EventDto;
+
+import java.util.List;
+
+/**
+ * 지역기반관광정보조회 API의 한 페이지 조회 결과
+ *
+ * @param pageNo       조회한 페이지 번호 (1부터 시작)
+ * @param numOfRows    요청한 페이지 크기
+ * @param totalCount   전체 페이지를 합친 데이터 총 건수
+ * @param eventDtoList 이 페이지의 이벤트 목록
+ */
+public record AreaBasedListPage(
+        int pageNo,
+        int numOfRows,
+        int totalCount,
+        List<EventDto> eventDtoList
+) {
+
+    /**
+     * 전체 페이지 수를 계산합니다.
+     */
+    public int pageCount() {
+        if (numOfRows <= 0) {
+            return 0;
+        }
+        return (totalCount + numOfRows - 1) / numOfRows;
+    }
+
+}
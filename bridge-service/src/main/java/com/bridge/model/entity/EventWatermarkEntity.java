@@ -0,0 +1,59 @@
+package com.bridge.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트별로 마지막으로 카프카에 전송한 수정 시각(워터마크)
+ *
+ * 지역기반관광정보조회 API의 modifiedTime이 워터마크보다 최신인 이벤트만 상세 정보를 다시 조회하고 전송합니다.
+ * contentId를 직접 할당하므로 새 행을 저장할 때 SELECT가 먼저 실행되지 않도록 Persistable을 구현합니다.
+ */
+@Entity
+@Table(name = "event_watermark_table")
+@Setter
+@Getter
+@NoArgsConstructor
+public class EventWatermarkEntity implements Persistable<Long> {
+
+    @Id
+    private Long contentId;
+
+    private LocalDateTime modifiedTime;
+
+    @Column(columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private Instant sentAt;
+
+    // 조회하거나 저장한 엔티티는 merge 대상
+    @Transient
+    private boolean isNew = true;
+
+    public EventWatermarkEntity(Long contentId, LocalDateTime modifiedTime) {
+        this.contentId = contentId;
+        this.modifiedTime = modifiedTime;
+        this.sentAt = Instant.now();
+    }
+
+    @Override
+    public Long getId() {
+        return contentId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+}
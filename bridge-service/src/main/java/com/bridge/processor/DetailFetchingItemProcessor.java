@@ -0,0 +1,116 @@
+package com.bridge.processor;
+
+import com.bridge.exception.CustomBatchException;
+import com.bridge.exception.CustomDetailFetchingException;
+import com.bridge.model.dto.EventDto;
+import com.bridge.service.EventWatermarkStore;
+import com.bridge.service.PublicDataApiClient;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 이벤트 상세 정보 조회 ItemProcessor
+ *
+ * 지역기반관광정보조회 API로 읽은 이벤트에 공통정보조회 API와 소개정보조회 API 결과를 추가합니다.
+ * 한 이벤트의 두 API는 동시에 호출하고, 동시에 처리하는 이벤트 수는 detail-concurrency로 제한합니다.
+ *
+ * 대표 이미지가 없는 이벤트는 서비스에 노출하지 않으므로 상세 정보를 조회하지 않고 걸러내고,
+ * 마지막으로 전송한 이후 modifiedTime이 바뀌지 않은 이벤트도 조회하지 않고 걸러냅니다. (EventWatermarkStore)
+ * 재시도 후에도 상세 정보 조회에 실패하면 CustomDetailFetchingException을 던지고,
+ * 스텝의 skip 정책(batch.skip-limit)과 DetailFetchingSkipListener가 해당 이벤트를 건너뛰고 기록합니다.
+ */
+@Component
+@Slf4j
+public class DetailFetchingItemProcessor implements ItemProcessor<EventDto, EventDto> {
+
+    // 공통정보조회/소개정보조회 API를 각각 가상 스레드에서 호출
+    private static final Executor VIRTUAL_THREAD_EXECUTOR = command -> Thread.ofVirtual().start(command);
+
+    private final PublicDataApiClient publicDataApiClient;
+
+    private final RetryTemplate retryTemplate;
+
+    private final EventWatermarkStore eventWatermarkStore;
+
+    private final Semaphore semaphore;
+
+    public DetailFetchingItemProcessor(
+            PublicDataApiClient publicDataApiClient,
+            RetryTemplate retryTemplate,
+            EventWatermarkStore eventWatermarkStore,
+            @Value("${public-data-api.detail-concurrency}") int detailConcurrency) {
+        this.publicDataApiClient = publicDataApiClient;
+        this.retryTemplate = retryTemplate;
+        this.eventWatermarkStore = eventWatermarkStore;
+        this.semaphore = new Semaphore(detailConcurrency);
+    }
+
+    /**
+     * 주어진 EventDto 객체에 대해 공통정보조회 API와 소개정보조회 API를 동시에 호출하여 상세 정보를 추가합니다.
+     * 재시도는 이벤트 단위로 이루어지며, 재시도 대기 중에는 동시 처리 슬롯을 점유하지 않습니다.
+     *
+     * @param eventDto 상세 정보를 추가할 이벤트 DTO 객체
+     * @return 상세 정보가 추가된 이벤트 (걸러낸 경우 null)
+     * @throws CustomDetailFetchingException 재시도 후에도 상세 정보 조회에 실패한 경우
+     */
+    @Override
+    public EventDto process(@NonNull EventDto eventDto) {
+        Long contentId = eventDto.getContentId();
+        String firstImage = eventDto.getFirstImage();
+        if (firstImage == null || firstImage.isBlank()) {
+            log.debug("Skip fetching details for contentId={} (missing firstImage)", contentId);
+            return null;
+        }
+
+        if (eventWatermarkStore.isUpToDate(eventDto)) {
+            log.debug("Skip fetching details for contentId={} (not modified since last sent)", contentId);
+            return null;
+        }
+
+        try {
+            // API 호출에 리트라이 로직 적용
+            retryTemplate.execute(retryContext -> {
+                log.info("Fetching details for contentId={} (Retry: {})", contentId, retryContext.getRetryCount());
+
+                semaphore.acquire();
+                try {
+                    // 공통정보조회 API 호출해서 공통 상세 정보를 eventDto에 추가
+                    CompletableFuture<Void> detailCommonFuture = CompletableFuture.runAsync(
+                            () -> publicDataApiClient.setDetailCommon(String.valueOf(contentId), eventDto),
+                            VIRTUAL_THREAD_EXECUTOR);
+
+                    // 소개정보조회 API 호출해서 소개 정보를 eventDto에 추가
+                    CompletableFuture<Void> detailIntroFuture = CompletableFuture.runAsync(
+                            () -> publicDataApiClient.setDetailIntro(String.valueOf(contentId), eventDto),
+                            VIRTUAL_THREAD_EXECUTOR);
+
+                    // 한쪽이 실패해도 두 호출이 모두 끝난 뒤에 슬롯을 반환
+                    CompletableFuture.allOf(detailCommonFuture, detailIntroFuture).join();
+                } finally {
+                    semaphore.release();
+                }
+                return null;
+            });
+            return eventDto;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while fetching details for contentId={}", contentId);
+            throw new CustomBatchException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Interrupted while fetching details for contentId=" + contentId);
+        } catch (Exception e) {
+            log.error("Failed to fetch details for contentId={}: {}", contentId, e.getMessage());
+            throw new CustomDetailFetchingException(HttpStatus.BAD_GATEWAY,
+                    "Failed to fetch details for contentId=" + contentId + ": " + e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.bridge.processor;
+
+import com.bridge.model.dto.EventDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Future;
+
+/**
+ * 상세 정보 조회에 실패해서 건너뛴 이벤트를 기록하는 SkipListener
+ *
+ * 상세 정보 조회는 AsyncItemProcessor에서 비동기로 실행되므로 실패는 AsyncItemWriter가 Future를 꺼낼 때 드러나고,
+ * 건너뛴 이벤트도 쓰기 단계에서 Future로 전달됩니다. (contentId는 예외 메시지에 포함)
+ * 건너뛴 이벤트 수는 스텝 실행 정보의 skip 수와 batch.detail.skipped 메트릭으로 확인할 수 있습니다.
+ */
+@Component
+@Slf4j
+public class DetailFetchingSkipListener implements SkipListener<EventDto, Future<EventDto>> {
+
+    private final Counter skippedEventCounter;
+
+    public DetailFetchingSkipListener(MeterRegistry meterRegistry) {
+        this.skippedEventCounter = Counter.builder("batch.detail.skipped")
+                .description("Number of events skipped because their details could not be fetched")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onSkipInWrite(Future<EventDto> item, Throwable t) {
+        skippedEventCounter.increment();
+        log.warn("Skipped event: {}", t.getMessage());
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.bridge.reader;
+
+import com.bridge.exception.CustomBatchException;
+import com.bridge.model.areabasedlist.AreaBasedListPage;
+import com.bridge.model.dto.EventDto;
+import com.bridge.service.PublicDataApiClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 지역기반관광정보조회 API 페이지를 순서대로 읽는 ItemReader
+ *
+ * 전체 목록을 한 번에 메모리에 올리지 않고 페이지 단위로 이벤트를 하나씩 반환합니다.
+ * 첫 페이지 응답의 전체 건수로 페이지 수를 구한 다음, 다음 page-concurrency 개 페이지를
+ * 가상 스레드에서 미리 조회해 두므로 메모리에는 최대 (page-concurrency + 1)개 페이지만 유지됩니다.
+ *
+ * 청크가 커밋될 때마다 읽은 건수가 StepExecutionContext에 저장되고,
+ * 재시작 시에는 해당 건수가 속한 페이지부터 다시 조회합니다.
+ */
+@Component
+@StepScope
+@Slf4j
+public class AreaBasedListItemReader extends AbstractItemCountingItemStreamItemReader<EventDto> {
+
+    private final PublicDataApiClient publicDataApiClient;
+
+    private final RetryTemplate retryTemplate;
+
+    /**
+     * 미리 조회해 둘 최대 페이지 수입니다.
+     */
+    private final int pageConcurrency;
+
+    private ExecutorService executorService;
+
+    // 요청 순서대로 미리 조회 중인 페이지
+    private final Deque<Future<AreaBasedListPage>> prefetchedPageQueue = new ArrayDeque<>();
+
+    private Iterator<EventDto> currentPageIterator = Collections.emptyIterator();
+
+    // 다음에 요청할 페이지 번호
+    private int nextPageNo = 1;
+
+    // 전체 페이지 수 (첫 페이지를 조회하기 전에는 -1)
+    private int pageCount = -1;
+
+    public AreaBasedListItemReader(
+            PublicDataApiClient publicDataApiClient,
+            RetryTemplate retryTemplate,
+            @Value("${public-data-api.page-concurrency}") int pageConcurrency) {
+        this.publicDataApiClient = publicDataApiClient;
+        this.retryTemplate = retryTemplate;
+        this.pageConcurrency = pageConcurrency;
+        setName("areaBasedListItemReader");
+    }
+
+    @Override
+    protected void doOpen() {
+        executorService = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @Override
+    protected EventDto doRead() {
+        while (!currentPageIterator.hasNext()) {
+            if (!loadNextPage()) {
+                return null;
+            }
+        }
+        return currentPageIterator.next();
+    }
+
+    /**
+     * 재시작 시 itemIndex 번째 이벤트가 속한 페이지부터 조회하고, 페이지 안에서 이미 읽은 이벤트는 건너뜁니다.
+     */
+    @Override
+    protected void jumpToItem(int itemIndex) {
+        int numOfRows = publicDataApiClient.getNumOfRows();
+        nextPageNo = itemIndex / numOfRows + 1;
+        log.info("Restarting AreaBasedList from page {} (read count: {})", nextPageNo, itemIndex);
+
+        if (loadNextPage()) {
+            for (int i = 0; i < itemIndex % numOfRows && currentPageIterator.hasNext(); i++) {
+                currentPageIterator.next();
+            }
+        }
+    }
+
+    @Override
+    protected void doClose() {
+        prefetchedPageQueue.forEach(future -> future.cancel(true));
+        prefetchedPageQueue.clear();
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+        currentPageIterator = Collections.emptyIterator();
+    }
+
+    /**
+     * 다음 페이지를 현재 페이지로 가져오고, 미리 조회할 페이지를 채웁니다.
+     *
+     * @return 더 읽을 페이지가 없으면 false
+     */
+    private boolean loadNextPage() {
+        AreaBasedListPage areaBasedListPage;
+        if (!prefetchedPageQueue.isEmpty()) {
+            areaBasedListPage = await(prefetchedPageQueue.poll());
+        } else if (pageCount < 0 || nextPageNo <= pageCount) {
+            // 페이지 수를 모르는 첫 조회는 동기로 실행
+            areaBasedListPage = fetchPageWithRetry(nextPageNo++);
+        } else {
+            return false;
+        }
+
+        if (pageCount < 0) {
+            pageCount = areaBasedListPage.pageCount();
+            log.info("AreaBasedList totalCount: {}, pageCount: {}", areaBasedListPage.totalCount(), pageCount);
+        }
+        while (prefetchedPageQueue.size() < pageConcurrency && nextPageNo <= pageCount) {
+            int pageNo = nextPageNo++;
+            prefetchedPageQueue.add(executorService.submit(() -> fetchPageWithRetry(pageNo)));
+        }
+
+        currentPageIterator = areaBasedListPage.eventDtoList().iterator();
+        return true;
+    }
+
+    /**
+     * 한 페이지를 재시도 로직을 적용해서 조회합니다.
+     */
+    private AreaBasedListPage fetchPageWithRetry(int pageNo) {
+        return retryTemplate.execute(retryContext -> {
+            log.info("Fetching AreaBasedList page {} (Retry: {})", pageNo, retryContext.getRetryCount());
+            return publicDataApiClient.fetchAreaBasedListPage(pageNo);
+        });
+    }
+
+    private AreaBasedListPage await(Future<AreaBasedListPage> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomBatchException(HttpStatus.INTERNAL_SERVER_ERROR, "Interrupted while fetching AreaBasedList");
+        } catch (ExecutionException e) {
+            // 재시도 후에도 실패한 페이지가 있으면 스텝을 실패시키고, 재시작 시 마지막으로 커밋된 청크 이후부터 다시 읽음
+            throw new CustomBatchException(HttpStatus.BAD_GATEWAY,
+                    "Failed to fetch AreaBasedList page: " + e.getCause().getMessage());
+        }
+    }
+
+}
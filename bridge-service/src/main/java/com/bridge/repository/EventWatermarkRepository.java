@@ -0,0 +1,9 @@
+package com.bridge.repository;
+
+import com.bridge.model.entity.EventWatermarkEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EventWatermarkRepository extends JpaRepository<EventWatermarkEntity, Long> {
+}
@@ -0,0 +1,62 @@
+package com.bridge.serializer;
+
+import com.bridge.model.dto.EventDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * EventDto를 Jackson Smile(바이너리 JSON)로 직렬화하는 카프카 Serializer
+ *
+ * JSON과 같은 데이터 모델을 사용하지만 필드 이름을 한 번만 기록하고 숫자를 가변 길이로 저장하므로
+ * 같은 EventDto를 JSON보다 작게, 더 적은 CPU로 직렬화합니다.
+ * 날짜는 기존 JSON 메시지와 같은 ISO-8601 문자열로 기록하고, null 필드는 기록하지 않습니다.
+ *
+ * 컨슈머가 포맷을 구분할 수 있도록 content-type과 schema-version 헤더를 추가합니다.
+ */
+public class SmileEventDtoSerializer implements Serializer<EventDto> {
+
+    private static final byte[] SMILE_CONTENT_TYPE_BYTES =
+            EventWireFormat.SMILE_CONTENT_TYPE.getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] SCHEMA_VERSION_BYTES =
+            String.valueOf(EventWireFormat.SCHEMA_VERSION).getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper smileMapper = SmileMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .build();
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, EventDto eventDto) {
+        headers.remove(EventWireFormat.CONTENT_TYPE_HEADER);
+        headers.remove(EventWireFormat.SCHEMA_VERSION_HEADER);
+        headers.add(EventWireFormat.CONTENT_TYPE_HEADER, SMILE_CONTENT_TYPE_BYTES);
+        headers.add(EventWireFormat.SCHEMA_VERSION_HEADER, SCHEMA_VERSION_BYTES);
+        return serialize(topic, eventDto);
+    }
+
+    @Override
+    public byte[] serialize(String topic, EventDto eventDto) {
+        if (eventDto == null) {
+            return null;
+        }
+
+        try {
+            return smileMapper.writeValueAsBytes(eventDto);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException(
+                    "Failed to serialize EventDto (contentId: " + eventDto.getContentId() + ") to Smile", e);
+        }
+    }
+
+}
@@ -0,0 +1,169 @@
+package com.bridge.service;
+
+import com.bridge.model.dto.EventDto;
+import com.bridge.model.entity.EventWatermarkEntity;
+import com.bridge.repository.EventWatermarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트별 수정 시각 워터마크 저장소
+ *
+ * 스텝이 시작될 때 DB의 워터마크를 메모리에 적재해 두고, 지역기반관광정보조회 API로 읽은 이벤트의
+ * modifiedTime이 워터마크보다 최신이 아니면 상세 정보 조회와 카프카 전송을 건너뛰게 합니다.
+ * 워터마크는 카프카 전송이 끝난 이벤트에 대해서만 청크 트랜잭션 안에서 갱신되므로,
+ * 전송에 실패한 이벤트는 다음 실행에서 다시 처리됩니다.
+ *
+ * 잡 파라미터 syncMode가 full이면 워터마크와 관계없이 모든 이벤트를 다시 조회하고 전송합니다. (전체 재동기화)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventWatermarkStore implements StepExecutionListener {
+
+    public static final String SYNC_MODE_PARAMETER = "syncMode";
+
+    public static final String FULL_SYNC_MODE = "full";
+
+    public static final String INCREMENTAL_SYNC_MODE = "incremental";
+
+    private final EventWatermarkRepository eventWatermarkRepository;
+
+    // contentId -> 마지막으로 전송한 modifiedTime
+    private final Map<Long, LocalDateTime> watermarkMap = new ConcurrentHashMap<>();
+
+    // 이번 스텝에서 워터마크 때문에 건너뛴 이벤트 수
+    private final LongAdder skippedCount = new LongAdder();
+
+    private volatile boolean fullSync = false;
+
+    /**
+     * 스텝 시작 시 동기화 모드를 확인하고, 증분 동기화면 워터마크를 메모리에 적재합니다.
+     */
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        fullSync = FULL_SYNC_MODE.equals(stepExecution.getJobParameters().getString(SYNC_MODE_PARAMETER));
+        skippedCount.reset();
+        watermarkMap.clear();
+        if (!fullSync) {
+            eventWatermarkRepository.findAll().stream()
+                    .filter(eventWatermarkEntity -> eventWatermarkEntity.getModifiedTime() != null)
+                    .forEach(eventWatermarkEntity -> watermarkMap.put(
+                            eventWatermarkEntity.getContentId(), eventWatermarkEntity.getModifiedTime()));
+        }
+        log.info("Event watermarks loaded. fullSync: {}, watermarks: {}", fullSync, watermarkMap.size());
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        log.info("Skipped {} unchanged events by watermark (fullSync: {})", skippedCount.sum(), fullSync);
+        watermarkMap.clear();
+        return stepExecution.getExitStatus();
+    }
+
+    /**
+     * 이벤트가 마지막으로 전송한 이후 수정되지 않았는지 확인합니다.
+     * 전체 재동기화 중이거나 modifiedTime을 알 수 없으면 항상 false를 반환합니다.
+     *
+     * @param eventDto 지역기반관광정보조회 API로 읽은 이벤트
+     * @return 건너뛰어도 되면 true
+     */
+    public boolean isUpToDate(EventDto eventDto) {
+        if (fullSync || eventDto.getContentId() == null || eventDto.getModifiedTime() == null) {
+            return false;
+        }
+
+        LocalDateTime watermark = watermarkMap.get(eventDto.getContentId());
+        boolean upToDate = watermark != null && !eventDto.getModifiedTime().isAfter(watermark);
+        if (upToDate) {
+            skippedCount.increment();
+        }
+        return upToDate;
+    }
+
+    /**
+     * 카프카로 전송한 이벤트들의 워터마크를 modifiedTime으로 갱신합니다.
+     * 청크 트랜잭션에 참여하므로 청크가 롤백되면 DB와 메모리의 워터마크 모두 갱신되지 않습니다.
+     *
+     * @param eventDtoList 전송한 이벤트 목록
+     */
+    @Transactional
+    public void advance(List<? extends EventDto> eventDtoList) {
+        // 같은 contentId가 여러 번 있으면 가장 최근 modifiedTime만 반영
+        Map<Long, LocalDateTime> modifiedTimeMap = new HashMap<>();
+        for (EventDto eventDto : eventDtoList) {
+            if (eventDto.getContentId() != null && eventDto.getModifiedTime() != null) {
+                modifiedTimeMap.merge(eventDto.getContentId(), eventDto.getModifiedTime(),
+                        (left, right) -> left.isAfter(right) ? left : right);
+            }
+        }
+        if (modifiedTimeMap.isEmpty()) {
+            return;
+        }
+
+        Map<Long, EventWatermarkEntity> eventWatermarkEntityMap = eventWatermarkRepository
+                .findAllById(modifiedTimeMap.keySet())
+                .stream()
+                .collect(Collectors.toMap(EventWatermarkEntity::getContentId, Function.identity()));
+
+        Instant now = Instant.now();
+        List<EventWatermarkEntity> changedEventWatermarkEntityList = modifiedTimeMap.entrySet().stream()
+                .map(entry -> {
+                    EventWatermarkEntity eventWatermarkEntity = eventWatermarkEntityMap.get(entry.getKey());
+                    if (eventWatermarkEntity == null) {
+                        return new EventWatermarkEntity(entry.getKey(), entry.getValue());
+                    }
+                    if (eventWatermarkEntity.getModifiedTime() != null
+                            && !entry.getValue().isAfter(eventWatermarkEntity.getModifiedTime())) {
+                        return null;
+                    }
+                    eventWatermarkEntity.setModifiedTime(entry.getValue());
+                    eventWatermarkEntity.setSentAt(now);
+                    return eventWatermarkEntity;
+                })
+                .filter(Objects::nonNull)
+                .toList();
+
+        eventWatermarkRepository.saveAll(changedEventWatermarkEntityList);
+        afterCommit(() -> modifiedTimeMap.forEach((contentId, modifiedTime) -> watermarkMap.merge(
+                contentId, modifiedTime, (left, right) -> left.isAfter(right) ? left : right)));
+    }
+
+    /**
+     * 청크가 롤백된 뒤 재시도되는 이벤트를 메모리의 워터마크 때문에 건너뛰지 않도록
+     * 메모리 워터마크는 청크 트랜잭션이 커밋된 이후에 갱신합니다.
+     * 트랜잭션 밖에서 호출되면 즉시 갱신합니다.
+     */
+    private void afterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+}
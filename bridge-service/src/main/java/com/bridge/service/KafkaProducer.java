@@ -2,16 +2,21 @@ package com.bridge.service;
 
 import com.bridge.exception.CustomKafkaException;
 import com.bridge.model.dto.EventDto;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.clients.producer.RecordMetadata;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -19,14 +24,23 @@ import java.util.concurrent.TimeoutException;
  * 카프카 이벤트 메시지 프로듀서
  *
  * 수집된 이벤트 데이터를 카프카으로 전송하는 메시지 프로듀서입니다.
+ * contentId를 레코드 키로 사용하므로 같은 이벤트의 메시지는 같은 파티션에 순서대로 저장됩니다.
+ * 청크 단위 전송 시에는 레코드마다 브로커 응답을 기다리지 않고 비동기로 전송해서
+ * 프로듀서의 배치(linger.ms, batch.size)와 압축이 적용되도록 합니다.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class KafkaProducer {
 
     private final KafkaTemplate<String, EventDto> kafkaTemplate;
 
+    // 레코드 하나의 전송 요청부터 브로커 응답까지 걸린 시간
+    private final Timer sendLatencyTimer;
+
+    private final Counter sentRecordCounter;
+
+    private final Counter failedRecordCounter;
+
     @Value("${spring.kafka.topic}")
     private String topic;
 
@@ -34,36 +48,114 @@ public class KafkaProducer {
     private long timeoutSeconds;
 
     /**
-     * EventDto 객체를 JSON 형태로 직렬화하여 설정된 카프카로 전송합니다.
-     * 동기식 전송을 사용하여 전송 결과를 즉시 확인하고 성공/실패를 처리합니다.
-     * 
-     * @param eventDto   카프카로 전송할 이벤트 DTO 객체
-     * @throws CustomKafkaException 카프카 전송 실패 시 발생하는 커스텀 예외
+     * 응답을 기다리는 중인 전송 요청 수를 제한해서 브로커 장애 시 프로듀서 버퍼와 힙이 계속 늘어나지 않도록 합니다.
+     */
+    private final Semaphore inFlightSemaphore;
+
+    public KafkaProducer(
+            KafkaTemplate<String, EventDto> kafkaTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${spring.kafka.max-in-flight-sends}") int maxInFlightSends) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.inFlightSemaphore = new Semaphore(maxInFlightSends);
+        this.sendLatencyTimer = Timer.builder("kafka.producer.send.latency")
+                .description("Time from send request to broker acknowledgement per record")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sentRecordCounter = Counter.builder("kafka.producer.records")
+                .description("Number of records sent to Kafka")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failedRecordCounter = Counter.builder("kafka.producer.records")
+                .description("Number of records sent to Kafka")
+                .tag("result", "failure")
+                .register(meterRegistry);
+    }
+
+    /**
+     * EventDto 목록을 비동기로 전송하고, 모든 전송이 끝날 때까지 기다립니다.
+     * 전송을 모두 요청한 뒤 응답을 기다리므로 레코드 수만큼 브로커 왕복을 기다리지 않습니다.
+     * 실패한 레코드만 반환하므로 호출하는 쪽에서 실패한 레코드만 다시 전송할 수 있습니다.
+     *
+     * 타임아웃으로 실패 처리된 레코드도 나중에 브로커에 저장될 수 있으므로,
+     * 재전송 시 같은 레코드가 중복 전송될 수 있습니다. (event-core의 upsert는 멱등)
+     *
+     * @param eventDtoList 카프카로 전송할 이벤트 DTO 목록
+     * @return 전송에 실패한 이벤트 DTO 목록 (모두 성공하면 빈 목록)
+     * @throws CustomKafkaException 응답을 기다리는 중에 인터럽트된 경우
      */
-    public void sendEventDto(EventDto eventDto) {
-        // 전송 결과를 담을 변수 초기화
-        SendResult<String, EventDto> sendResult = null;
+    public List<EventDto> sendAll(List<? extends EventDto> eventDtoList) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        List<CompletableFuture<SendResult<String, EventDto>>> futureList = new ArrayList<>(eventDtoList.size());
+        List<EventDto> failedEventDtoList = new ArrayList<>();
+
+        try {
+            for (EventDto eventDto : eventDtoList) {
+                // 응답을 기다리는 요청이 너무 많으면 자리가 날 때까지 대기
+                if (!inFlightSemaphore.tryAcquire(remainingNanos(deadlineNanos), TimeUnit.NANOSECONDS)) {
+                    futureList.add(CompletableFuture.failedFuture(
+                            new TimeoutException("Timed out waiting for an in-flight slot")));
+                    continue;
+                }
+                futureList.add(sendAsync(eventDto));
+            }
+
+            // 모든 전송이 끝나거나 타임아웃이 지날 때까지 대기 (개별 실패는 아래에서 확인)
+            CompletableFuture.allOf(futureList.toArray(CompletableFuture[]::new))
+                    .get(remainingNanos(deadlineNanos), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Some Kafka messages were not acknowledged: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomKafkaException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Interrupted while waiting for Kafka acknowledgements");
+        }
 
+        for (int i = 0; i < futureList.size(); i++) {
+            CompletableFuture<SendResult<String, EventDto>> future = futureList.get(i);
+            if (!future.isDone() || future.isCompletedExceptionally()) {
+                failedEventDtoList.add(eventDtoList.get(i));
+            }
+        }
+
+        sentRecordCounter.increment(eventDtoList.size() - failedEventDtoList.size());
+        failedRecordCounter.increment(failedEventDtoList.size());
+        log.info("Kafka messages sent. total: {}, failed: {}", eventDtoList.size(), failedEventDtoList.size());
+        return failedEventDtoList;
+    }
+
+    /**
+     * 레코드 하나를 비동기로 전송합니다. 전송이 끝나면 in-flight 슬롯을 반환하고 지연 시간을 기록합니다.
+     */
+    private CompletableFuture<SendResult<String, EventDto>> sendAsync(EventDto eventDto) {
+        long startNanos = System.nanoTime();
         try {
-            sendResult = kafkaTemplate
-                    .send(topic, eventDto)
-                    .get(timeoutSeconds, TimeUnit.SECONDS);  // 동기식 전송으로 결과를 기다림 (타임아웃 적용)
-
-            // 전송 성공 시 메타데이터 추출 및 로깅
-            RecordMetadata recordMetadata = sendResult.getRecordMetadata();
-            log.info(
-                    "Kafka message sent successfully. Topic: {}, Partition: {}, Offset: {}, contentId: {}",
-                    recordMetadata.topic(), recordMetadata.partition(), recordMetadata.offset(), eventDto.getContentId()
-            );
-        } catch (TimeoutException | ExecutionException | InterruptedException e) {
-            // 전송 실패 시 예외 처리
-            log.error("Kafka message sending failed (contentId: {}): {}", eventDto.getContentId(), e.getMessage(), e);
-            throw new CustomKafkaException(
-                    HttpStatus.INTERNAL_SERVER_ERROR,
-                    String.format("Kafka message sending failed (contentId: %s): %s", eventDto.getContentId(),
-                            e.getMessage())
-            );
+            return kafkaTemplate.send(topic, toKey(eventDto), eventDto)
+                    .whenComplete((sendResult, throwable) -> {
+                        inFlightSemaphore.release();
+                        sendLatencyTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                        if (throwable != null) {
+                            log.error("Kafka message sending failed (contentId: {}): {}",
+                                    eventDto.getContentId(), throwable.getMessage());
+                        }
+                    });
+        } catch (RuntimeException e) {
+            // 직렬화 실패 등 전송 요청 자체가 실패한 경우
+            inFlightSemaphore.release();
+            log.error("Kafka message sending failed (contentId: {}): {}", eventDto.getContentId(), e.getMessage());
+            return CompletableFuture.failedFuture(e);
         }
     }
 
+    /**
+     * 같은 이벤트가 항상 같은 파티션에 저장되도록 contentId를 레코드 키로 사용합니다.
+     */
+    private String toKey(EventDto eventDto) {
+        return String.valueOf(eventDto.getContentId());
+    }
+
+    private long remainingNanos(long deadlineNanos) {
+        return Math.max(deadlineNanos - System.nanoTime(), 0);
+    }
+
 }
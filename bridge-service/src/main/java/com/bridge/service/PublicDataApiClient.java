@@ -3,6 +3,7 @@ package com.bridge.service;
 import com.bridge.exception.CustomPublicDataApiException;
 import com.bridge.model.areabasedlist.AreaBasedListHttpResponse;
 import com.bridge.model.areabasedlist.AreaBasedListItem;
+import com.bridge.model.areabasedlist.AreaBasedListPage;
 import com.bridge.model.detailcommon.DetailCommonHttpResponse;
 import com.bridge.model.detailcommon.DetailCommonItem;
 import com.bridge.model.detailintro.DetailIntroHttpResponse;
@@ -29,6 +30,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * 한국관광공사 공공데이터 API 클라이언트 서비스
@@ -48,6 +50,10 @@ public class PublicDataApiClient {
 
     private final ObjectMapper objectMapper;
 
+    private final PublicDataApiRateLimiter publicDataApiRateLimiter;
+
+    private final PublicDataApiResponseCache publicDataApiResponseCache;
+
     /**
      * 공공데이터 API 서비스의 기본 경로입니다.
      */
@@ -90,6 +96,13 @@ public class PublicDataApiClient {
     @Value("${public-data-api.minus-days}")
     private long minusDays;
 
+    /**
+     * 한 번의 API 호출로 가져오는 데이터 건수(페이지 크기)를 반환합니다.
+     */
+    public int getNumOfRows() {
+        return numOfRows;
+    }
+
     /**
      * 지역기반관광정보조회 API를 통해 전체 이벤트 목록을 조회합니다.
      * 첫 번째 페이지부터 시작하여 더 이상 데이터가 없을 때까지 순차적으로 조회합니다.
@@ -120,66 +133,85 @@ public class PublicDataApiClient {
      * @throws CustomPublicDataApiException API 호출 실패 또는 응답 파싱 실패 시 발생
      */
     public boolean setAreaBasedList(int pageNo, List<EventDto> eventDtoList) {
+        AreaBasedListPage areaBasedListPage = fetchAreaBasedListPage(pageNo);
+        eventDtoList.addAll(areaBasedListPage.eventDtoList());
+
+        // 페이징 종료 조건 확인
+        // 조건 1: 현재 페이지에 데이터가 없는 경우
+        // 조건 2: 요청한 건수(numOfRows)보다 실제 반환된 건수가 적은 경우
+        // 조건 3: 현재 페이지가 마지막 페이지인 경우
+        int currentNumOfRows = areaBasedListPage.eventDtoList().size();
+        if (currentNumOfRows == 0 || numOfRows > currentNumOfRows || pageNo >= areaBasedListPage.pageCount()) {
+            log.debug("No more AreaBasedList");
+            return false;
+        }
+
+        // 다음 페이지가 존재하는 경우 true를 리턴
+        return true;
+    }
+
+    /**
+     * 지역기반관광정보조회 API로 특정 페이지 하나를 조회합니다.
+     * 응답에 전체 건수가 포함되어 있으므로 첫 페이지를 조회하면 나머지 페이지 번호를 모두 알 수 있습니다.
+     *
+     * @param pageNo 조회할 페이지 번호 (1부터 시작)
+     * @return 페이지 조회 결과 (페이지에 데이터가 없으면 빈 목록)
+     * @throws CustomPublicDataApiException API 호출 실패 또는 응답 파싱 실패 시 발생
+     */
+    public AreaBasedListPage fetchAreaBasedListPage(int pageNo) {
         String apiName = "AreaBasedList";
 
         // 지역기반관광정보조회 API 호출을 위한 URI 생성
         URI uri = buildAreaBasedListUri(pageNo);
 
         // 지역기반관광정보조회 API 호출 및 응답 수신
-        ResponseEntity<String> response = fetchApiResponse(uri, apiName);
+        // 목록 페이지는 같은 URI라도 수정된 이벤트에 따라 내용이 달라지므로 응답 캐시를 사용하지 않음
+        ResponseEntity<String> response = fetchApiResponse(uri, apiName, null);
         String result = response.getBody();
 
         // 응답 Content-Type이 JSON인지 확인 (정상 응답 판별)
         // 공공데이터 API 공식문서에 따르면 정상응답은 JSON 포맷, 비정상응답은 XML 포맷
-        if (isJson(response)) {
-            log.info("page number = {}", pageNo);
-            log.debug("AreaBasedList Parsing JSON");
-
-            // JSON 문자열을 JsonNode 객체로 파싱
-            JsonNode rootJsonNode = toJsonNode(apiName, result);
-            JsonNode bodyJsonNode = rootJsonNode.path("response").path("body");
-
-            // 현재 페이지에서 실제 반환된 데이터 건수 추출
-            int currentNumOfRows = bodyJsonNode.path("numOfRows").asInt();
-            log.info("currentNumOfRows = {}", currentNumOfRows);
-
-            // 전체 데이터 총 건수 추출 (모든 페이지를 합친 총 개수)
-            int currentTotalCount = bodyJsonNode.path("totalCount").asInt();
-
-            // 현재 페이지에 데이터가 없으면 더 이상 페이지가 없음을 의미
-            if (currentNumOfRows == 0) {
-                log.debug("No more AreaBasedList");
-                return false;
-            }
-
-            // 응답을 AreaBasedListHttpResponse 타입으로 변환
-            AreaBasedListHttpResponse areaBasedListHttpResponse = parseJsonNode(rootJsonNode,
-                    AreaBasedListHttpResponse.class);
-
-            List<AreaBasedListItem> areaBasedListItemList = areaBasedListHttpResponse.getResponse().getBody().getItems()
-                    .getAreaBasedListItemList();
-
-            // 각 이벤트 아이템을 EventDto로 변환하여 리스트에 추가
-            areaBasedListItemList.forEach(areaBasedListItem -> {
-                EventDto eventDto = new EventDto();
-                setEventDto(eventDto, areaBasedListItem);
-                eventDtoList.add(eventDto);
-            });
-
-            // 페이징 종료 조건 확인
-            // 조건 1: 요청한 건수(numOfRows)보다 실제 반환된 건수가 적은 경우
-            // 조건 2: 현재까지 조회한 총 건수가 전체 건수와 같은 경우
-            if (numOfRows > currentNumOfRows || currentNumOfRows * pageNo == currentTotalCount) {
-                log.debug("No more AreaBasedList");
-                return false;
-            }
-        } else {
+        if (!isJson(response)) {
             // JSON이 아닌 응답 (XML 에러 응답 등)을 받은 경우
             processErrorResponse(apiName, response, result);
         }
 
-        // 다음 페이지가 존재하는 경우 true를 리턴
-        return true;
+        log.info("page number = {}", pageNo);
+        log.debug("AreaBasedList Parsing JSON");
+
+        // JSON 문자열을 JsonNode 객체로 파싱
+        JsonNode rootJsonNode = toJsonNode(apiName, result);
+        JsonNode bodyJsonNode = rootJsonNode.path("response").path("body");
+
+        // 현재 페이지에서 실제 반환된 데이터 건수 추출
+        int currentNumOfRows = bodyJsonNode.path("numOfRows").asInt();
+        log.info("currentNumOfRows = {}", currentNumOfRows);
+
+        // 전체 데이터 총 건수 추출 (모든 페이지를 합친 총 개수)
+        int currentTotalCount = bodyJsonNode.path("totalCount").asInt();
+
+        // 현재 페이지에 데이터가 없으면 더 이상 페이지가 없음을 의미
+        if (currentNumOfRows == 0) {
+            log.debug("No more AreaBasedList");
+            return new AreaBasedListPage(pageNo, numOfRows, currentTotalCount, List.of());
+        }
+
+        // 응답을 AreaBasedListHttpResponse 타입으로 변환
+        AreaBasedListHttpResponse areaBasedListHttpResponse = parseJsonNode(rootJsonNode,
+                AreaBasedListHttpResponse.class);
+
+        List<AreaBasedListItem> areaBasedListItemList = areaBasedListHttpResponse.getResponse().getBody().getItems()
+                .getAreaBasedListItemList();
+
+        // 각 이벤트 아이템을 EventDto로 변환하여 리스트에 추가
+        List<EventDto> eventDtoList = new ArrayList<>(areaBasedListItemList.size());
+        areaBasedListItemList.forEach(areaBasedListItem -> {
+            EventDto eventDto = new EventDto();
+            setEventDto(eventDto, areaBasedListItem);
+            eventDtoList.add(eventDto);
+        });
+
+        return new AreaBasedListPage(pageNo, numOfRows, currentTotalCount, eventDtoList);
     }
 
     /**
@@ -194,7 +226,7 @@ public class PublicDataApiClient {
         log.debug("contentId = {}", contentId);
 
         URI uri = buildDetailCommonUri(contentId);
-        ResponseEntity<String> response = fetchApiResponse(uri, apiName);
+        ResponseEntity<String> response = fetchApiResponse(uri, apiName, detailCacheVersion(eventDto));
         String result = response.getBody();
 
         if (isJson(response)) {
@@ -222,7 +254,7 @@ public class PublicDataApiClient {
         log.debug("contentId = {}", contentId);
 
         URI uri = buildDetailIntroUri(contentId);
-        ResponseEntity<String> response = fetchApiResponse(uri, apiName);
+        ResponseEntity<String> response = fetchApiResponse(uri, apiName, detailCacheVersion(eventDto));
         String result = response.getBody();
 
         if (isJson(response)) {
@@ -318,15 +350,38 @@ public class PublicDataApiClient {
         return uri;
     }
 
+    /**
+     * 상세 조회 응답의 캐시 버전을 만듭니다.
+     * 목록에서 받은 modifiedTime이 바뀐 이벤트는 캐시된 상세 정보를 쓰지 않고 새로 조회합니다.
+     *
+     * @param eventDto 지역기반관광정보조회 API로 읽은 이벤트
+     * @return 캐시 버전 (modifiedTime이 없으면 null이고 캐시를 사용하지 않음)
+     */
+    private String detailCacheVersion(EventDto eventDto) {
+        return eventDto.getModifiedTime() == null ? null : eventDto.getModifiedTime().toString();
+    }
+
     /**
      * 주어진 URI로 GET 요청을 실행하고 응답을 리턴합니다.
+     * 모든 API 호출은 전역 호출 속도 제한을 거칩니다.
+     * 로컬 응답 캐시에 같은 버전의 TTL 안의 정상 응답이 있으면 API를 호출하지 않고 캐시된 응답을 리턴하며,
+     * 새로 받은 응답은 JSON(정상 응답)인 경우에만 캐시에 저장합니다.
      *
-     * @param uri     요청할 API의 완전한 URI
-     * @param apiName 로깅 및 에러 메시지에 사용할 API 이름
+     * @param uri          요청할 API의 완전한 URI
+     * @param apiName      로깅 및 에러 메시지에 사용할 API 이름
+     * @param cacheVersion 응답 캐시 버전 (null이면 캐시를 사용하지 않음)
      * @return HTTP 응답 엔티티 (응답 본문과 헤더 정보 포함)
      * @throws CustomPublicDataApiException HTTP 요청 실패 시 발생
      */
-    private ResponseEntity<String> fetchApiResponse(URI uri, String apiName) {
+    private ResponseEntity<String> fetchApiResponse(URI uri, String apiName, String cacheVersion) {
+        Optional<String> cachedBody = publicDataApiResponseCache.get(apiName, uri, cacheVersion);
+        if (cachedBody.isPresent()) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(cachedBody.get());
+        }
+
+        publicDataApiRateLimiter.acquire();
         ResponseEntity<String> response = restClient.get()
                 .uri(uri)
                 .retrieve()
@@ -340,6 +395,9 @@ public class PublicDataApiClient {
                 .toEntity(String.class);
         log.debug("{} fetching result: {}", apiName, response.getBody());
 
+        if (response.getHeaders().getContentType() != null && isJson(response)) {
+            publicDataApiResponseCache.put(apiName, uri, cacheVersion, response.getBody());
+        }
         return response;
     }
 
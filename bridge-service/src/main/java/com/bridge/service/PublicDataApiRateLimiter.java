@@ -0,0 +1,62 @@
+package com.bridge.service;
+
+import com.bridge.exception.CustomPublicDataApiException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 공공데이터 API 전역 호출 속도 제한기
+ *
+ * 여러 스레드가 동시에 API를 호출해도 초당 호출 수가 TourAPI 할당량을 넘지 않도록,
+ * 호출마다 다음 호출 가능 시각을 예약하고 그 시각까지 대기합니다.
+ * 요청 간격이 일정하게 유지되므로 순간적으로 호출이 몰리지 않습니다.
+ */
+@Component
+@Slf4j
+public class PublicDataApiRateLimiter {
+
+    // 호출 사이의 최소 간격 (0이면 제한 없음)
+    private final long intervalNanos;
+
+    // 다음 호출이 가능한 시각 (System.nanoTime 기준)
+    private long nextFreeNanos = System.nanoTime();
+
+    public PublicDataApiRateLimiter(@Value("${public-data-api.requests-per-second}") double requestsPerSecond) {
+        this.intervalNanos = requestsPerSecond > 0 ? (long) (1_000_000_000L / requestsPerSecond) : 0;
+    }
+
+    /**
+     * 호출 허가를 받을 때까지 대기합니다.
+     *
+     * @throws CustomPublicDataApiException 대기 중 인터럽트된 경우 발생
+     */
+    public void acquire() {
+        if (intervalNanos == 0) {
+            return;
+        }
+
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long reservedNanos = Math.max(nextFreeNanos, now);
+            nextFreeNanos = reservedNanos + intervalNanos;
+            waitNanos = reservedNanos - now;
+        }
+
+        if (waitNanos > 0) {
+            try {
+                Thread.sleep(Duration.ofNanos(waitNanos));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CustomPublicDataApiException(
+                        HttpStatus.SERVICE_UNAVAILABLE,
+                        "Interrupted while waiting for public data API rate limit");
+            }
+        }
+    }
+
+}
@@ -0,0 +1,212 @@
+package com.bridge.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 공공데이터 API 원본 응답의 로컬 디스크 캐시
+ *
+ * 요청 URI(엔드포인트 + 파라미터)에서 서비스 키를 뺀 값과 응답 버전을 SHA-256으로 해시해서 파일 이름으로 사용하고,
+ * 정상 응답(JSON) 본문을 그대로 저장합니다.
+ * 스텝이 실패해서 RetryTemplate이 전체를 다시 실행하거나 같은 날 잡을 다시 실행해도
+ * TTL 안에서는 이미 받은 상세 정보를 API를 호출하지 않고 디스크에서 읽습니다.
+ *
+ * 같은 URI라도 이벤트가 수정되면 응답이 달라지므로, 응답 버전(상세 조회는 목록에서 받은 modifiedTime)을
+ * 키에 포함해서 수정된 이벤트는 새로 조회합니다. 버전을 알 수 없는 응답(목록 페이지 등)은 캐시하지 않습니다.
+ *
+ * 파일 첫 줄에는 요청 키가 저장되어 있어서 캐시 디렉터리를 그대로 오프라인 테스트용 응답 모음으로 쓸 수 있습니다.
+ * 캐시 적중/미스 수는 public.data.api.response.cache 메트릭으로 확인합니다.
+ */
+@Component
+@Slf4j
+public class PublicDataApiResponseCache {
+
+    private static final String SERVICE_KEY_PARAMETER = "serviceKey";
+
+    private static final String FILE_EXTENSION = ".json";
+
+    private static final char VERSION_SEPARATOR = '#';
+
+    private final boolean enabled;
+
+    private final Path directory;
+
+    private final Duration ttl;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    public PublicDataApiResponseCache(
+            MeterRegistry meterRegistry,
+            @Value("${public-data-api.response-cache.enabled}") boolean enabled,
+            @Value("${public-data-api.response-cache.directory}") Path directory,
+            @Value("${public-data-api.response-cache.ttl}") Duration ttl) {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.ttl = ttl;
+        this.hitCounter = Counter.builder("public.data.api.response.cache")
+                .description("Number of public data API response cache lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("public.data.api.response.cache")
+                .description("Number of public data API response cache lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * TTL 안에 저장된 응답 본문이 있으면 반환합니다.
+     * 파일을 읽지 못하면 캐시 미스로 처리합니다.
+     *
+     * @param apiName API 이름 (캐시 하위 디렉터리)
+     * @param uri     요청 URI
+     * @param version 응답 버전 (null이면 캐시를 사용하지 않음)
+     * @return 캐시된 응답 본문 (없거나 만료되었으면 빈 값)
+     */
+    public Optional<String> get(String apiName, URI uri, String version) {
+        if (!enabled || version == null) {
+            return Optional.empty();
+        }
+
+        String key = keyOf(uri, version);
+        Path path = pathOf(apiName, key);
+        try {
+            FileTime lastModifiedTime = Files.getLastModifiedTime(path);
+            if (lastModifiedTime.toInstant().plus(ttl).isBefore(Instant.now())) {
+                missCounter.increment();
+                return Optional.empty();
+            }
+
+            String content = Files.readString(path, StandardCharsets.UTF_8);
+            int newLineIndex = content.indexOf('\n');
+            if (newLineIndex < 0 || !content.substring(0, newLineIndex).equals(key)) {
+                // 해시가 충돌했거나 쓰는 중에 잘린 파일
+                missCounter.increment();
+                return Optional.empty();
+            }
+
+            hitCounter.increment();
+            log.debug("{} response cache hit: {}", apiName, path.getFileName());
+            return Optional.of(content.substring(newLineIndex + 1));
+        } catch (NoSuchFileException e) {
+            missCounter.increment();
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("Failed to read {} response cache {}: {}", apiName, path, e.getMessage());
+            missCounter.increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 응답 본문을 저장합니다.
+     * 임시 파일에 쓴 뒤 이동하므로 동시에 읽는 스레드가 쓰는 중인 파일을 보지 않으며,
+     * 저장에 실패해도 API 호출 결과에는 영향을 주지 않습니다.
+     *
+     * @param apiName API 이름 (캐시 하위 디렉터리)
+     * @param uri     요청 URI
+     * @param version 응답 버전 (null이면 저장하지 않음)
+     * @param body    정상 응답 본문
+     */
+    public void put(String apiName, URI uri, String version, String body) {
+        if (!enabled || version == null || body == null) {
+            return;
+        }
+
+        String key = keyOf(uri, version);
+        Path path = pathOf(apiName, key);
+        try {
+            Files.createDirectories(path.getParent());
+            Path tempPath = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            try {
+                Files.writeString(tempPath, key + "\n" + body, StandardCharsets.UTF_8);
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempPath);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to write {} response cache {}: {}", apiName, path, e.getMessage());
+        }
+    }
+
+    /**
+     * 애플리케이션이 시작될 때 TTL이 지난 캐시 파일을 삭제합니다.
+     */
+    @PostConstruct
+    public void evictExpired() {
+        if (!enabled || !Files.isDirectory(directory)) {
+            return;
+        }
+
+        Instant expiredBefore = Instant.now().minus(ttl);
+        int evictedCount = 0;
+        try (Stream<Path> pathStream = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) pathStream
+                    .filter(path -> path.getFileName().toString().endsWith(FILE_EXTENSION))::iterator) {
+                try {
+                    if (Files.getLastModifiedTime(path).toInstant().isBefore(expiredBefore)
+                            && Files.deleteIfExists(path)) {
+                        evictedCount++;
+                    }
+                } catch (IOException e) {
+                    log.warn("Failed to evict response cache {}: {}", path, e.getMessage());
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Failed to scan response cache directory {}: {}", directory, e.getMessage());
+        }
+        log.info("Evicted {} expired public data API response cache files", evictedCount);
+    }
+
+    /**
+     * 캐시 키는 서비스 키를 제외한 요청 URI와 응답 버전입니다. (서비스 키를 디스크에 남기지 않음)
+     */
+    static String keyOf(URI uri, String version) {
+        StringBuilder keyBuilder = new StringBuilder(uri.getRawPath());
+        String query = uri.getRawQuery();
+        if (query != null) {
+            char separator = '?';
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith(SERVICE_KEY_PARAMETER + "=")) {
+                    continue;
+                }
+                keyBuilder.append(separator).append(parameter);
+                separator = '&';
+            }
+        }
+        return keyBuilder.append(VERSION_SEPARATOR).append(version).toString();
+    }
+
+    private Path pathOf(String apiName, String key) {
+        return directory.resolve(apiName).resolve(sha256(key) + FILE_EXTENSION);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+}
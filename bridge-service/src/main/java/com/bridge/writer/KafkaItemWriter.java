@@ -0,0 +1,64 @@
+package com.bridge.writer;
+
+import com.bridge.exception.CustomKafkaException;
+import com.bridge.model.dto.EventDto;
+import com.bridge.service.EventWatermarkStore;
+import com.bridge.service.KafkaProducer;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.http.HttpStatus;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 카프카 이벤트 데이터 전송 ItemWriter
+ *
+ * 상세 정보까지 추가된 이벤트를 청크 단위로 카프카 토픽에 전송합니다.
+ * 청크 안의 이벤트들은 비동기로 한 번에 전송하고, 재시도 시에는 전송에 실패한 이벤트만 다시 전송합니다.
+ * 재시도 후에도 전송하지 못한 이벤트가 있으면 예외를 던져서 스텝을 실패시킵니다.
+ * 모두 전송하면 이벤트들의 수정 시각 워터마크를 청크 트랜잭션 안에서 갱신합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KafkaItemWriter implements ItemWriter<EventDto> {
+
+    private final KafkaProducer kafkaProducer;
+
+    private final RetryTemplate retryTemplate;
+
+    private final EventWatermarkStore eventWatermarkStore;
+
+    @Override
+    public void write(@NonNull Chunk<? extends EventDto> chunk) {
+        List<EventDto> pendingEventDtoList = new ArrayList<>(chunk.getItems());
+
+        // 카프카 전송에 재시도 로직 적용
+        retryTemplate.execute(retryContext -> {
+            log.info("Sending {} eventDtos (Retry: {})", pendingEventDtoList.size(), retryContext.getRetryCount());
+
+            // 카프카 프로듀서를 통해 EventDto 목록 전송
+            List<EventDto> failedEventDtoList = kafkaProducer.sendAll(pendingEventDtoList);
+            if (!failedEventDtoList.isEmpty()) {
+                // 다음 재시도에서는 실패한 이벤트만 전송
+                pendingEventDtoList.clear();
+                pendingEventDtoList.addAll(failedEventDtoList);
+                throw new CustomKafkaException(
+                        HttpStatus.INTERNAL_SERVER_ERROR,
+                        String.format("Kafka message sending failed for %d of %d eventDtos",
+                                failedEventDtoList.size(), chunk.size())
+                );
+            }
+            return null;
+        });
+
+        eventWatermarkStore.advance(chunk.getItems());
+    }
+
+}
@@ -1,8 +1,10 @@
 package com.bridge.config;
 
-import com.bridge.tasklet.AreaBasedListFetchingTasklet;
-import com.bridge.tasklet.DetailFetchingTasklet;
-import com.bridge.tasklet.SendingToKafkaTasklet;
+import com.bridge.processor.DetailFetchingItemProcessor;
+import com.bridge.processor.DetailFetchingSkipListener;
+import com.bridge.reader.AreaBasedListItemReader;
+import com.bridge.service.EventWatermarkStore;
+import com.bridge.writer.KafkaItemWriter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,29 +38,28 @@ class BatchConfigTest {
     private PlatformTransactionManager transactionManager;
 
     @Mock
-    private AreaBasedListFetchingTasklet areaBasedListFetchingTasklet;
+    private AreaBasedListItemReader areaBasedListItemReader;
 
     @Mock
-    private DetailFetchingTasklet detailFetchingTasklet;
+    private DetailFetchingItemProcessor detailFetchingItemProcessor;
 
     @Mock
-    private SendingToKafkaTasklet sendingToKafkaTasklet;
+    private KafkaItemWriter kafkaItemWriter;
+
+    @Mock
+    private EventWatermarkStore eventWatermarkStore;
+
+    @Mock
+    private DetailFetchingSkipListener detailFetchingSkipListener;
 
     @Test
     @DisplayName("eventFetchingAndSendingJob 빈이 올바르게 생성되는지 테스트")
     void testEventFetchingAndSendingJobCreation() {
         // Given
-        Step mockAreaBasedStep = mock(Step.class);
-        Step mockDetailStep = mock(Step.class);
-        Step mockKafkaStep = mock(Step.class);
+        Step mockStep = mock(Step.class);
 
         // When
-        Job job = batchConfig.eventFetchingAndSendingJob(
-                jobRepository,
-                mockAreaBasedStep,
-                mockDetailStep,
-                mockKafkaStep
-        );
+        Job job = batchConfig.eventFetchingAndSendingJob(jobRepository, mockStep);
 
         // Then
         assertThat(job).isNotNull();
@@ -66,67 +67,23 @@ class BatchConfigTest {
     }
 
     @Test
-    @DisplayName("areaBasedListFetchingStep 빈이 올바르게 생성되는지 테스트")
-    void testAreaBasedListFetchingStepCreation() {
-        // Given
-
+    @DisplayName("eventFetchingAndSendingStep 빈이 올바르게 생성되는지 테스트")
+    void testEventFetchingAndSendingStepCreation() {
         // When
-        Step step = batchConfig.areaBasedListFetchingStep(
+        Step step = batchConfig.eventFetchingAndSendingStep(
                 jobRepository,
                 transactionManager,
-                areaBasedListFetchingTasklet
-        );
+                areaBasedListItemReader,
+                detailFetchingItemProcessor,
+                kafkaItemWriter,
+                eventWatermarkStore,
+                detailFetchingSkipListener,
+                50,
+                100);
 
         // Then
         assertThat(step).isNotNull();
-        assertThat(step.getName()).isEqualTo("areaBasedListFetchingStep");
-    }
-
-    @Test
-    @DisplayName("detailFetchingStep 빈이 올바르게 생성되는지 테스트")
-    void testDetailFetchingStepCreation() {
-        // Given
-
-        // When
-        Step step = batchConfig.detailFetchingStep(
-                jobRepository,
-                transactionManager,
-                detailFetchingTasklet);
-
-        // Then
-        assertThat(step).isNotNull();
-        assertThat(step.getName()).isEqualTo("detailFetchingStep");
-    }
-
-    @Test
-    @DisplayName("sendingToKafkaStep 빈이 올바르게 생성되는지 테스트")
-    void testSendingToKafkaStepCreation() {
-        // When
-        Step step = batchConfig.sendingToKafkaStep(
-                jobRepository,
-                transactionManager,
-                sendingToKafkaTasklet);
-
-        // Then
-        assertThat(step).isNotNull();
-        assertThat(step.getName()).isEqualTo("sendingToKafkaStep");
-    }
-
-    @Test
-    @DisplayName("모든 Step들이 null이 아닌 객체로 생성되는지 테스트")
-    void testAllStepsAreNotNull() {
-        // When
-        Step areaBasedStep = batchConfig.areaBasedListFetchingStep(
-                jobRepository, transactionManager, areaBasedListFetchingTasklet);
-        Step detailStep = batchConfig.detailFetchingStep(
-                jobRepository, transactionManager, detailFetchingTasklet);
-        Step kafkaStep = batchConfig.sendingToKafkaStep(
-                jobRepository, transactionManager, sendingToKafkaTasklet);
-
-        // Then
-        assertThat(areaBasedStep).isNotNull();
-        assertThat(detailStep).isNotNull();
-        assertThat(kafkaStep).isNotNull();
+        assertThat(step.getName()).isEqualTo("eventFetchingAndSendingStep");
     }
 
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.bridge.config;
 
 import com.bridge.exception.CustomBatchException;
+import com.bridge.service.EventWatermarkStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,7 @@ import org.springframework.batch.core.repository.JobExecutionAlreadyRunningExcep
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
 import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -76,6 +78,65 @@ class BatchSchedulerTest {
         }));
     }
 
+    @Test
+    @DisplayName("전체 재동기화로 실행하면 JobParameters에 동기화 모드가 포함되는지 테스트")
+    void testLaunchFullSyncContainsSyncMode() throws Exception {
+        // Given
+        when(jobLauncher.run(eq(eventFetchingAndSendingJob), any(JobParameters.class)))
+                .thenReturn(jobExecution);
+
+        // When
+        batchScheduler.launchEventFetchingAndSendingJob(EventWatermarkStore.FULL_SYNC_MODE);
+
+        // Then
+        verify(jobLauncher).run(eq(eventFetchingAndSendingJob), argThat(jobParameters ->
+                EventWatermarkStore.FULL_SYNC_MODE.equals(
+                        jobParameters.getString(EventWatermarkStore.SYNC_MODE_PARAMETER))));
+    }
+
+    @Test
+    @DisplayName("전체 재동기화 요일이 설정되지 않으면 증분 동기화로 실행되는지 테스트")
+    void testScheduleWithoutFullSyncDayRunsIncremental() throws Exception {
+        // Given
+        when(jobLauncher.run(eq(eventFetchingAndSendingJob), any(JobParameters.class)))
+                .thenReturn(jobExecution);
+
+        // When
+        batchScheduler.scheduleEventFetchingAndSendingJob();
+
+        // Then
+        verify(jobLauncher).run(eq(eventFetchingAndSendingJob), argThat(jobParameters ->
+                EventWatermarkStore.INCREMENTAL_SYNC_MODE.equals(
+                        jobParameters.getString(EventWatermarkStore.SYNC_MODE_PARAMETER))));
+    }
+
+    @Test
+    @DisplayName("시작 시 실행이 켜져 있으면 스케줄과 같은 기준으로 배치 작업을 실행하고, 실패해도 예외를 던지지 않는지 테스트")
+    void testRunOnStartupLaunchesJobWithoutThrowing() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(batchScheduler, "runOnStartup", true);
+        when(jobLauncher.run(eq(eventFetchingAndSendingJob), any(JobParameters.class)))
+                .thenThrow(new JobExecutionAlreadyRunningException("Job is already running"));
+
+        // When
+        batchScheduler.runEventFetchingAndSendingJobOnStartup();
+
+        // Then
+        verify(jobLauncher).run(eq(eventFetchingAndSendingJob), argThat(jobParameters ->
+                EventWatermarkStore.INCREMENTAL_SYNC_MODE.equals(
+                        jobParameters.getString(EventWatermarkStore.SYNC_MODE_PARAMETER))));
+    }
+
+    @Test
+    @DisplayName("시작 시 실행이 꺼져 있으면 배치 작업을 실행하지 않는지 테스트")
+    void testRunOnStartupDisabledDoesNotLaunchJob() {
+        // When
+        batchScheduler.runEventFetchingAndSendingJobOnStartup();
+
+        // Then
+        verifyNoInteractions(jobLauncher);
+    }
+
     @Test
     @DisplayName("JobExecutionAlreadyRunningException 발생 시 CustomBatchException으로 변환되는지 테스트")
     void testJobExecutionAlreadyRunningExceptionHandling() throws Exception {
@@ -0,0 +1,125 @@
+package com.bridge.processor;
+
+import com.bridge.exception.CustomDetailFetchingException;
+import com.bridge.exception.CustomPublicDataApiException;
+import com.bridge.model.dto.EventDto;
+import com.bridge.service.EventWatermarkStore;
+import com.bridge.service.PublicDataApiClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.support.RetryTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DetailFetchingItemProcessor 단위 테스트")
+class DetailFetchingItemProcessorTest {
+
+    @Mock
+    private PublicDataApiClient publicDataApiClient;
+
+    @Mock
+    private RetryTemplate retryTemplate;
+
+    @Mock
+    private EventWatermarkStore eventWatermarkStore;
+
+    private DetailFetchingItemProcessor detailFetchingItemProcessor;
+
+    @BeforeEach
+    void init() {
+        detailFetchingItemProcessor = new DetailFetchingItemProcessor(
+                publicDataApiClient, retryTemplate, eventWatermarkStore, 2);
+    }
+
+    @Nested
+    @DisplayName("process")
+    class ProcessTest {
+        @Test
+        @DisplayName("공통정보와 소개정보를 모두 조회한 이벤트를 반환")
+        void givenEventDtoWithFirstImage_whenProcess_thenFetchesBothDetails() throws Throwable {
+            // Given
+            EventDto eventDto = createEventDto(1L, "https://example.com/image1.jpg");
+            givenRetryTemplateExecutesOnce();
+
+            // When
+            EventDto result = detailFetchingItemProcessor.process(eventDto);
+
+            // Then
+            assertThat(result).isSameAs(eventDto);
+            then(publicDataApiClient).should().setDetailCommon("1", eventDto);
+            then(publicDataApiClient).should().setDetailIntro("1", eventDto);
+        }
+
+        @Test
+        @DisplayName("대표 이미지가 없는 이벤트는 상세 정보를 조회하지 않고 걸러냄")
+        void givenEventDtoWithoutFirstImage_whenProcess_thenReturnsNullWithoutApiCall() {
+            // Given
+            EventDto eventDto = createEventDto(2L, " ");
+
+            // When
+            EventDto result = detailFetchingItemProcessor.process(eventDto);
+
+            // Then
+            assertThat(result).isNull();
+            then(retryTemplate).shouldHaveNoInteractions();
+            then(publicDataApiClient).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("마지막 전송 이후 수정되지 않은 이벤트는 상세 정보를 조회하지 않고 걸러냄")
+        void givenUpToDateEventDto_whenProcess_thenReturnsNullWithoutApiCall() {
+            // Given
+            EventDto eventDto = createEventDto(4L, "https://example.com/image4.jpg");
+            given(eventWatermarkStore.isUpToDate(eventDto)).willReturn(true);
+
+            // When
+            EventDto result = detailFetchingItemProcessor.process(eventDto);
+
+            // Then
+            assertThat(result).isNull();
+            then(retryTemplate).shouldHaveNoInteractions();
+            then(publicDataApiClient).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("재시도 후에도 상세 정보 조회에 실패하면 skip 대상 예외를 던짐")
+        void givenApiFailure_whenProcess_thenThrowsDetailFetchingException() throws Throwable {
+            // Given
+            EventDto eventDto = createEventDto(3L, "https://example.com/image3.jpg");
+            givenRetryTemplateExecutesOnce();
+            willThrow(new CustomPublicDataApiException(HttpStatus.BAD_GATEWAY, "API 오류"))
+                    .given(publicDataApiClient).setDetailIntro("3", eventDto);
+
+            // When & Then
+            assertThatThrownBy(() -> detailFetchingItemProcessor.process(eventDto))
+                    .isInstanceOf(CustomDetailFetchingException.class)
+                    .hasMessageContaining("contentId=3");
+            then(publicDataApiClient).should().setDetailCommon("3", eventDto);
+        }
+    }
+
+    private void givenRetryTemplateExecutesOnce() throws Throwable {
+        // 재시도 없이 콜백을 한 번만 실행
+        given(retryTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<RetryCallback<Object, Throwable>>getArgument(0).doWithRetry(mock(RetryContext.class)));
+    }
+
+    private EventDto createEventDto(Long contentId, String firstImage) {
+        EventDto eventDto = new EventDto();
+        eventDto.setContentId(contentId);
+        eventDto.setTitle("이벤트" + contentId);
+        eventDto.setFirstImage(firstImage);
+        return eventDto;
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.bridge.reader;
+
+import com.bridge.model.areabasedlist.AreaBasedListPage;
+import com.bridge.model.dto.EventDto;
+import com.bridge.service.PublicDataApiClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.support.RetryTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AreaBasedListItemReader 단위 테스트")
+class AreaBasedListItemReaderTest {
+
+    // 페이지 크기 2, 전체 5건 -> 3페이지
+    private static final int NUM_OF_ROWS = 2;
+    private static final int TOTAL_COUNT = 5;
+
+    @Mock
+    private PublicDataApiClient publicDataApiClient;
+
+    @Mock
+    private RetryTemplate retryTemplate;
+
+    private AreaBasedListItemReader areaBasedListItemReader;
+
+    @BeforeEach
+    void init() {
+        areaBasedListItemReader = new AreaBasedListItemReader(publicDataApiClient, retryTemplate, 2);
+        // 재시도 없이 콜백을 한 번만 실행
+        given(retryTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<RetryCallback<Object, Throwable>>getArgument(0).doWithRetry(mock(RetryContext.class)));
+        given(publicDataApiClient.fetchAreaBasedListPage(anyInt())).willAnswer(invocation -> {
+            int pageNo = invocation.getArgument(0);
+            long firstContentId = (pageNo - 1L) * NUM_OF_ROWS + 1;
+            long lastContentId = Math.min(firstContentId + NUM_OF_ROWS - 1, TOTAL_COUNT);
+            List<EventDto> eventDtoList = LongStream.rangeClosed(firstContentId, lastContentId)
+                    .mapToObj(AreaBasedListItemReaderTest.this::createEventDto)
+                    .toList();
+            return new AreaBasedListPage(pageNo, NUM_OF_ROWS, TOTAL_COUNT, eventDtoList);
+        });
+    }
+
+    @Nested
+    @DisplayName("read")
+    class ReadTest {
+        @Test
+        @DisplayName("모든 페이지의 이벤트를 페이지 순서대로 한 번씩 읽는다")
+        void givenMultiplePages_whenRead_thenReadsAllEventsInOrder() throws Exception {
+            // Given
+            areaBasedListItemReader.open(new ExecutionContext());
+
+            // When
+            List<Long> contentIdList = readAll();
+
+            // Then
+            assertThat(contentIdList).containsExactly(1L, 2L, 3L, 4L, 5L);
+            then(publicDataApiClient).should(times(3)).fetchAreaBasedListPage(anyInt());
+        }
+
+        @Test
+        @DisplayName("재시작 시 마지막으로 커밋된 건수 다음 이벤트부터 읽는다")
+        void givenSavedReadCount_whenOpen_thenResumesFromNextEvent() throws Exception {
+            // Given
+            given(publicDataApiClient.getNumOfRows()).willReturn(NUM_OF_ROWS);
+            ExecutionContext executionContext = new ExecutionContext();
+            executionContext.putInt("areaBasedListItemReader.read.count", 3);
+            areaBasedListItemReader.open(executionContext);
+
+            // When
+            List<Long> contentIdList = readAll();
+
+            // Then
+            assertThat(contentIdList).containsExactly(4L, 5L);
+            then(publicDataApiClient).should(never()).fetchAreaBasedListPage(1);
+        }
+    }
+
+    private List<Long> readAll() throws Exception {
+        List<Long> contentIdList = new ArrayList<>();
+        EventDto eventDto;
+        while ((eventDto = areaBasedListItemReader.read()) != null) {
+            contentIdList.add(eventDto.getContentId());
+        }
+        areaBasedListItemReader.close();
+        return contentIdList;
+    }
+
+    private EventDto createEventDto(long contentId) {
+        EventDto eventDto = new EventDto();
+        eventDto.setContentId(contentId);
+        eventDto.setTitle("이벤트" + contentId);
+        return eventDto;
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.bridge.serializer;
+
+import com.bridge.model.dto.EventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 기존 JSON 포맷과 Smile 포맷의 레코드 크기와 직렬화/역직렬화 시간을 비교합니다.
+ *
+ * 결과는 로그로 확인하며, 실행 환경에 따라 달라지는 시간은 검증하지 않고 크기만 검증합니다.
+ */
+@DisplayName("EventDto 메시지 포맷 벤치마크")
+@Tag("benchmark")
+class EventDtoWireFormatBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EventDtoWireFormatBenchmarkTest.class);
+
+    private static final int RECORD_COUNT = 200;
+
+    private static final int WARMUP_ROUNDS = 20;
+
+    private static final int MEASURE_ROUNDS = 50;
+
+    private final ObjectMapper smileMapper = SmileMapper.builder()
+            .addModule(new JavaTimeModule())
+            .build();
+
+    @Test
+    @DisplayName("Smile 레코드가 JSON 레코드보다 작고, 같은 값으로 역직렬화된다")
+    void compareJsonAndSmile() {
+        // Given
+        List<EventDto> eventDtoList = createEventDtoList();
+
+        JsonSerializer<EventDto> jsonSerializer = new JsonSerializer<EventDto>().noTypeInfo();
+        Deserializer<EventDto> jsonDeserializer = new JsonDeserializer<>(EventDto.class, false);
+        SmileEventDtoSerializer smileSerializer = new SmileEventDtoSerializer();
+        Function<byte[], EventDto> smileDeserializer = data -> {
+            try {
+                return smileMapper.readValue(data, EventDto.class);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+
+        // When
+        Result jsonResult = measure(eventDtoList, jsonSerializer, data -> jsonDeserializer.deserialize("event-topic", data));
+        Result smileResult = measure(eventDtoList, smileSerializer, smileDeserializer);
+
+        // Then
+        log.info(String.format("[JSON ] bytes/record: %6.1f, gzip bytes/record: %6.1f, ser: %6.2f us/record, de: %6.2f us/record",
+                jsonResult.bytesPerRecord(), jsonResult.compressedBytesPerRecord(),
+                jsonResult.serializeMicrosPerRecord(), jsonResult.deserializeMicrosPerRecord()));
+        log.info(String.format("[Smile] bytes/record: %6.1f, gzip bytes/record: %6.1f, ser: %6.2f us/record, de: %6.2f us/record",
+                smileResult.bytesPerRecord(), smileResult.compressedBytesPerRecord(),
+                smileResult.serializeMicrosPerRecord(), smileResult.deserializeMicrosPerRecord()));
+
+        assertThat(smileResult.bytesPerRecord()).isLessThan(jsonResult.bytesPerRecord());
+
+        EventDto original = eventDtoList.getFirst();
+        EventDto restored = smileDeserializer.apply(smileSerializer.serialize("event-topic", new RecordHeaders(), original));
+        assertThat(restored.toString()).isEqualTo(original.toString());
+    }
+
+    private record Result(
+            double bytesPerRecord,
+            double compressedBytesPerRecord,
+            double serializeMicrosPerRecord,
+            double deserializeMicrosPerRecord
+    ) {
+    }
+
+    private Result measure(List<EventDto> eventDtoList, Serializer<EventDto> serializer,
+                           Function<byte[], EventDto> deserializer) {
+        List<byte[]> dataList = new ArrayList<>(eventDtoList.size());
+        for (EventDto eventDto : eventDtoList) {
+            dataList.add(serializer.serialize("event-topic", new RecordHeaders(), eventDto));
+        }
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            serializeAll(eventDtoList, serializer);
+            deserializeAll(dataList, deserializer);
+        }
+
+        long serializeNanos = 0;
+        long deserializeNanos = 0;
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            long startNanos = System.nanoTime();
+            serializeAll(eventDtoList, serializer);
+            serializeNanos += System.nanoTime() - startNanos;
+
+            startNanos = System.nanoTime();
+            deserializeAll(dataList, deserializer);
+            deserializeNanos += System.nanoTime() - startNanos;
+        }
+
+        long totalBytes = dataList.stream().mapToLong(data -> data.length).sum();
+        double measuredRecords = (double) MEASURE_ROUNDS * eventDtoList.size();
+        return new Result(
+                (double) totalBytes / eventDtoList.size(),
+                (double) gzip(dataList) / eventDtoList.size(),
+                serializeNanos / 1_000.0 / measuredRecords,
+                deserializeNanos / 1_000.0 / measuredRecords);
+    }
+
+    private void serializeAll(List<EventDto> eventDtoList, Serializer<EventDto> serializer) {
+        for (EventDto eventDto : eventDtoList) {
+            serializer.serialize("event-topic", new RecordHeaders(), eventDto);
+        }
+    }
+
+    private void deserializeAll(List<byte[]> dataList, Function<byte[], EventDto> deserializer) {
+        for (byte[] data : dataList) {
+            deserializer.apply(data);
+        }
+    }
+
+    /**
+     * 프로듀서 배치 압축과 비슷하게 레코드들을 이어 붙여서 한 번에 압축한 크기를 구합니다.
+     */
+    private long gzip(List<byte[]> dataList) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+            for (byte[] data : dataList) {
+                gzipOutputStream.write(data);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return byteArrayOutputStream.size();
+    }
+
+    private List<EventDto> createEventDtoList() {
+        List<EventDto> eventDtoList = new ArrayList<>(RECORD_COUNT);
+        for (long contentId = 1; contentId <= RECORD_COUNT; contentId++) {
+            EventDto eventDto = new EventDto();
+            eventDto.setContentId(3_000_000L + contentId);
+            eventDto.setTitle("제" + contentId + "회 한강 봄꽃 축제");
+            eventDto.setCreatedTime(LocalDateTime.of(2024, 3, 1, 9, 0, 0));
+            eventDto.setModifiedTime(LocalDateTime.of(2025, 4, 15, 18, 30, 0).plusMinutes(contentId));
+            eventDto.setAddr1("서울특별시 영등포구 여의동로 330");
+            eventDto.setAddr2("여의도 한강공원 일대");
+            eventDto.setArea("서울");
+            eventDto.setFirstImage("http://tong.visitkorea.or.kr/cms/resource/" + contentId + "/image_1.jpg");
+            eventDto.setFirstImage2("http://tong.visitkorea.or.kr/cms/resource/" + contentId + "/image_2.jpg");
+            eventDto.setMapX(126.9340 + contentId / 10_000.0);
+            eventDto.setMapY(37.5284 + contentId / 10_000.0);
+            eventDto.setZipCode("07337");
+            eventDto.setHomepage("<a href=\"https://www.example.com\" target=\"_blank\">www.example.com</a>");
+            eventDto.setOverview("한강의 봄을 알리는 대표 축제로, 벚꽃길 산책과 함께 다양한 공연과 체험 프로그램이 진행된다. ".repeat(12));
+            eventDto.setEventStartDate(LocalDate.of(2025, 4, 4));
+            eventDto.setEventEndDate(LocalDate.of(2025, 4, 13));
+            eventDto.setPlayTime("10:00~22:00");
+            eventDto.setUseTimeFestival("무료");
+            eventDto.setSponsor1("영등포구청");
+            eventDto.setSponsor1Tel("02-2670-3114");
+            eventDtoList.add(eventDto);
+        }
+        return eventDtoList;
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.bridge.serializer;
+
+import com.bridge.model.dto.EventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SmileEventDtoSerializer 단위 테스트")
+class SmileEventDtoSerializerTest {
+
+    private final SmileEventDtoSerializer smileEventDtoSerializer = new SmileEventDtoSerializer();
+
+    private final ObjectMapper smileMapper = SmileMapper.builder()
+            .addModule(new JavaTimeModule())
+            .build();
+
+    @Nested
+    @DisplayName("serialize")
+    class SerializeTest {
+        @Test
+        @DisplayName("Smile로 직렬화하고 content-type과 schema-version 헤더를 추가")
+        void givenEventDto_whenSerialize_thenWritesSmileWithHeaders() throws Exception {
+            // Given
+            EventDto eventDto = new EventDto();
+            eventDto.setContentId(1L);
+            eventDto.setTitle("테스트 축제");
+            eventDto.setModifiedTime(LocalDateTime.of(2025, 5, 1, 12, 30));
+            eventDto.setEventStartDate(LocalDate.of(2025, 5, 3));
+            Headers headers = new RecordHeaders();
+
+            // When
+            byte[] data = smileEventDtoSerializer.serialize("event-topic", headers, eventDto);
+
+            // Then
+            assertThat(new String(headers.lastHeader(EventWireFormat.CONTENT_TYPE_HEADER).value(), StandardCharsets.UTF_8))
+                    .isEqualTo(EventWireFormat.SMILE_CONTENT_TYPE);
+            assertThat(new String(headers.lastHeader(EventWireFormat.SCHEMA_VERSION_HEADER).value(), StandardCharsets.UTF_8))
+                    .isEqualTo("1");
+
+            EventDto result = smileMapper.readValue(data, EventDto.class);
+            assertThat(result.getContentId()).isEqualTo(1L);
+            assertThat(result.getTitle()).isEqualTo("테스트 축제");
+            assertThat(result.getModifiedTime()).isEqualTo(LocalDateTime.of(2025, 5, 1, 12, 30));
+            assertThat(result.getEventStartDate()).isEqualTo(LocalDate.of(2025, 5, 3));
+            assertThat(result.getOverview()).isNull();
+        }
+
+        @Test
+        @DisplayName("null은 null로 직렬화")
+        void givenNull_whenSerialize_thenReturnsNull() {
+            // When & Then
+            assertThat(smileEventDtoSerializer.serialize("event-topic", new RecordHeaders(), null)).isNull();
+        }
+    }
+
+}
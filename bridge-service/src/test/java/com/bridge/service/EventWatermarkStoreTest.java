@@ -0,0 +1,149 @@
+package com.bridge.service;
+
+import com.bridge.model.dto.EventDto;
+import com.bridge.model.entity.EventWatermarkEntity;
+import com.bridge.repository.EventWatermarkRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventWatermarkStore 단위 테스트")
+class EventWatermarkStoreTest {
+
+    private static final LocalDateTime WATERMARK = LocalDateTime.of(2025, 5, 1, 12, 0);
+
+    @InjectMocks
+    private EventWatermarkStore eventWatermarkStore;
+
+    @Mock
+    private EventWatermarkRepository eventWatermarkRepository;
+
+    @Mock
+    private StepExecution stepExecution;
+
+    @Nested
+    @DisplayName("isUpToDate")
+    class IsUpToDateTest {
+        @Test
+        @DisplayName("워터마크보다 최신이 아닌 이벤트는 건너뛰고, 최신이거나 처음 보는 이벤트는 처리")
+        void givenWatermark_whenIsUpToDate_thenComparesModifiedTime() {
+            // Given
+            givenSyncMode(EventWatermarkStore.INCREMENTAL_SYNC_MODE);
+            given(eventWatermarkRepository.findAll()).willReturn(List.of(new EventWatermarkEntity(1L, WATERMARK)));
+            eventWatermarkStore.beforeStep(stepExecution);
+
+            // When & Then
+            assertThat(eventWatermarkStore.isUpToDate(createEventDto(1L, WATERMARK.minusDays(1)))).isTrue();
+            assertThat(eventWatermarkStore.isUpToDate(createEventDto(1L, WATERMARK))).isTrue();
+            assertThat(eventWatermarkStore.isUpToDate(createEventDto(1L, WATERMARK.plusSeconds(1)))).isFalse();
+            assertThat(eventWatermarkStore.isUpToDate(createEventDto(2L, WATERMARK))).isFalse();
+            assertThat(eventWatermarkStore.isUpToDate(createEventDto(1L, null))).isFalse();
+        }
+
+        @Test
+        @DisplayName("전체 재동기화면 워터마크를 읽지 않고 모든 이벤트를 처리")
+        void givenFullSync_whenIsUpToDate_thenReturnsFalse() {
+            // Given
+            givenSyncMode(EventWatermarkStore.FULL_SYNC_MODE);
+            eventWatermarkStore.beforeStep(stepExecution);
+
+            // When
+            boolean upToDate = eventWatermarkStore.isUpToDate(createEventDto(1L, WATERMARK.minusDays(1)));
+
+            // Then
+            assertThat(upToDate).isFalse();
+            then(eventWatermarkRepository).should(never()).findAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("advance")
+    class AdvanceTest {
+        @Test
+        @DisplayName("처음 전송한 이벤트와 더 최신으로 전송한 이벤트의 워터마크만 저장")
+        void givenSentEventDtos_whenAdvance_thenSavesNewAndNewerWatermarks() {
+            // Given
+            EventWatermarkEntity olderEntity = new EventWatermarkEntity(1L, WATERMARK.minusDays(1));
+            EventWatermarkEntity sameEntity = new EventWatermarkEntity(2L, WATERMARK);
+            given(eventWatermarkRepository.findAllById(anyIterable())).willReturn(List.of(olderEntity, sameEntity));
+
+            // When
+            eventWatermarkStore.advance(List.of(
+                    createEventDto(1L, WATERMARK),
+                    createEventDto(2L, WATERMARK),
+                    createEventDto(3L, WATERMARK),
+                    createEventDto(4L, null)));
+
+            // Then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<EventWatermarkEntity>> captor = ArgumentCaptor.forClass(List.class);
+            then(eventWatermarkRepository).should().saveAll(captor.capture());
+            assertThat(captor.getValue())
+                    .extracting(EventWatermarkEntity::getContentId, EventWatermarkEntity::getModifiedTime)
+                    .containsExactlyInAnyOrder(tuple(1L, WATERMARK), tuple(3L, WATERMARK));
+            assertThat(eventWatermarkStore.isUpToDate(createEventDto(3L, WATERMARK))).isTrue();
+        }
+
+        @Test
+        @DisplayName("청크 트랜잭션이 커밋되기 전에는 메모리 워터마크를 갱신하지 않음")
+        void givenActiveTransaction_whenAdvance_thenUpdatesMemoryAfterCommit() {
+            // Given
+            given(eventWatermarkRepository.findAllById(anyIterable())).willReturn(List.of());
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // When
+                eventWatermarkStore.advance(List.of(createEventDto(1L, WATERMARK)));
+                boolean upToDateBeforeCommit = eventWatermarkStore.isUpToDate(createEventDto(1L, WATERMARK));
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+                // Then
+                assertThat(upToDateBeforeCommit).isFalse();
+                assertThat(eventWatermarkStore.isUpToDate(createEventDto(1L, WATERMARK))).isTrue();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("modifiedTime이 없는 이벤트만 있으면 DB를 조회하지 않음")
+        void givenEventDtosWithoutModifiedTime_whenAdvance_thenDoesNothing() {
+            // When
+            eventWatermarkStore.advance(List.of(createEventDto(1L, null)));
+
+            // Then
+            then(eventWatermarkRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    private void givenSyncMode(String syncMode) {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString(EventWatermarkStore.SYNC_MODE_PARAMETER, syncMode)
+                .toJobParameters();
+        given(stepExecution.getJobParameters()).willReturn(jobParameters);
+    }
+
+    private EventDto createEventDto(Long contentId, LocalDateTime modifiedTime) {
+        EventDto eventDto = new EventDto();
+        eventDto.setContentId(contentId);
+        eventDto.setModifiedTime(modifiedTime);
+        return eventDto;
+    }
+
+}
@@ -1,14 +1,13 @@
 package com.bridge.service;
 
-import com.bridge.exception.CustomKafkaException;
 import com.bridge.model.dto.EventDto;
-import org.apache.kafka.clients.producer.RecordMetadata;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -17,10 +16,8 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
@@ -29,98 +26,100 @@ import static org.mockito.BDDMockito.*;
 @DisplayName("KafkaProducer 단위 테스트")
 class KafkaProducerTest {
 
-    @InjectMocks
     private KafkaProducer kafkaProducer;
 
-    @Mock
-    private KafkaTemplate<String, EventDto> kafkaTemplate;
+    private MeterRegistry meterRegistry;
 
     @Mock
-    private CompletableFuture<SendResult<String, EventDto>> completableFuture;
+    private KafkaTemplate<String, EventDto> kafkaTemplate;
 
     @Mock
     private SendResult<String, EventDto> sendResult;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        kafkaProducer = new KafkaProducer(kafkaTemplate, meterRegistry, 10);
         ReflectionTestUtils.setField(kafkaProducer, "topic", "test-topic");
         ReflectionTestUtils.setField(kafkaProducer, "timeoutSeconds", 5L);
     }
 
     @Nested
-    @DisplayName("sendEventDto")
-    class SendEventDtoTest {
-        @Test
-        @DisplayName("카프카 메시지 전송 성공")
-        void givenValidEventDto_whenSendEventDto_thenSendsSuccessfully() throws Exception {
-            // Given
-            EventDto eventDto = createEventDto();
-            RecordMetadata mockMetadata = mock(RecordMetadata.class);
-
-            given(sendResult.getRecordMetadata()).willReturn(mockMetadata);
-            given(kafkaTemplate.send(eq("test-topic"), eq(eventDto))).willReturn(completableFuture);
-            given(completableFuture.get(5L, TimeUnit.SECONDS)).willReturn(sendResult);
-
-            // When & Then
-            assertThatCode(() -> kafkaProducer.sendEventDto(eventDto))
-                    .doesNotThrowAnyException();
-
-            then(kafkaTemplate).should().send("test-topic", eventDto);
-        }
-
+    @DisplayName("sendAll")
+    class SendAllTest {
         @Test
-        @DisplayName("카프카 메시지 전송 실패 - TimeoutException")
-        void givenTimeoutException_whenSendEventDto_thenThrowsCustomKafkaException() throws Exception {
+        @DisplayName("모든 레코드 전송 성공 시 빈 목록을 반환")
+        void givenAllSendsSucceed_whenSendAll_thenReturnsEmptyList() {
             // Given
-            EventDto eventDto = createEventDto();
-
-            given(kafkaTemplate.send(eq("test-topic"), eq(eventDto))).willReturn(completableFuture);
-            given(completableFuture.get(5L, TimeUnit.SECONDS)).willThrow(new TimeoutException("Timeout occurred"));
-
-            // When & Then
-            assertThatThrownBy(() -> kafkaProducer.sendEventDto(eventDto))
-                    .isInstanceOf(CustomKafkaException.class);
-
-            then(kafkaTemplate).should().send("test-topic", eventDto);
+            EventDto eventDto1 = createEventDto(1L);
+            EventDto eventDto2 = createEventDto(2L);
+
+            given(kafkaTemplate.send(eq("test-topic"), anyString(), any(EventDto.class)))
+                    .willReturn(CompletableFuture.completedFuture(sendResult));
+
+            // When
+            List<EventDto> failedEventDtoList = kafkaProducer.sendAll(List.of(eventDto1, eventDto2));
+
+            // Then
+            assertThat(failedEventDtoList).isEmpty();
+            then(kafkaTemplate).should().send("test-topic", "1", eventDto1);
+            then(kafkaTemplate).should().send("test-topic", "2", eventDto2);
+            assertThat(meterRegistry.get("kafka.producer.records").tag("result", "success").counter().count())
+                    .isEqualTo(2.0);
+            assertThat(meterRegistry.get("kafka.producer.send.latency").timer().count()).isEqualTo(2);
         }
 
         @Test
-        @DisplayName("카프카 메시지 전송 실패 - ExecutionException")
-        void givenExecutionException_whenSendEventDto_thenThrowsCustomKafkaException() throws Exception {
+        @DisplayName("전송에 실패한 레코드만 반환")
+        void givenSomeSendsFail_whenSendAll_thenReturnsOnlyFailedRecords() {
             // Given
-            EventDto eventDto = createEventDto();
-
-            given(kafkaTemplate.send(eq("test-topic"), eq(eventDto))).willReturn(completableFuture);
-            given(completableFuture.get(5L, TimeUnit.SECONDS))
-                    .willThrow(new ExecutionException("Execution failed", new RuntimeException()));
-
-            // When & Then
-            assertThatThrownBy(() -> kafkaProducer.sendEventDto(eventDto))
-                    .isInstanceOf(CustomKafkaException.class);
-
-            then(kafkaTemplate).should().send("test-topic", eventDto);
+            EventDto eventDto1 = createEventDto(1L);
+            EventDto eventDto2 = createEventDto(2L);
+            EventDto eventDto3 = createEventDto(3L);
+
+            given(kafkaTemplate.send(eq("test-topic"), anyString(), any(EventDto.class))).willAnswer(invocation ->
+                    invocation.getArgument(2) == eventDto2
+                            ? CompletableFuture.failedFuture(new RuntimeException("Broker unavailable"))
+                            : CompletableFuture.completedFuture(sendResult));
+
+            // When
+            List<EventDto> failedEventDtoList = kafkaProducer.sendAll(List.of(eventDto1, eventDto2, eventDto3));
+
+            // Then
+            assertThat(failedEventDtoList).containsExactly(eventDto2);
+            assertThat(meterRegistry.get("kafka.producer.records").tag("result", "failure").counter().count())
+                    .isEqualTo(1.0);
         }
 
         @Test
-        @DisplayName("카프카 메시지 전송 실패 - InterruptedException")
-        void givenInterruptedException_whenSendEventDto_thenThrowsCustomKafkaException() throws Exception {
+        @DisplayName("전송 요청 자체가 예외를 던져도 해당 레코드만 실패 처리")
+        void givenSendThrows_whenSendAll_thenReturnsFailedRecord() {
             // Given
-            EventDto eventDto = createEventDto();
+            EventDto eventDto1 = createEventDto(1L);
+            EventDto eventDto2 = createEventDto(2L);
 
-            given(kafkaTemplate.send(eq("test-topic"), eq(eventDto))).willReturn(completableFuture);
-            given(completableFuture.get(5L, TimeUnit.SECONDS)).willThrow(new InterruptedException("Thread interrupted"));
+            given(kafkaTemplate.send(eq("test-topic"), anyString(), any(EventDto.class))).willAnswer(invocation -> {
+                if (invocation.getArgument(2) == eventDto1) {
+                    throw new IllegalStateException("Serialization failed");
+                }
+                return CompletableFuture.completedFuture(sendResult);
+            });
 
-            // When & Then
-            assertThatThrownBy(() -> kafkaProducer.sendEventDto(eventDto))
-                    .isInstanceOf(CustomKafkaException.class);
+            // When
+            List<EventDto> failedEventDtoList = kafkaProducer.sendAll(List.of(eventDto1, eventDto2));
 
-            then(kafkaTemplate).should().send("test-topic", eventDto);
+            // Then
+            assertThat(failedEventDtoList).containsExactly(eventDto1);
         }
     }
 
     private EventDto createEventDto() {
+        return createEventDto(1L);
+    }
+
+    private EventDto createEventDto(Long contentId) {
         EventDto eventDto = new EventDto();
-        eventDto.setContentId(1L);
+        eventDto.setContentId(contentId);
         eventDto.setTitle("테스트 축제");
         eventDto.setCreatedTime(LocalDateTime.now());
         eventDto.setModifiedTime(LocalDateTime.now());
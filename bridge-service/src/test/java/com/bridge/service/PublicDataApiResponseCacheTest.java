@@ -0,0 +1,206 @@
+package com.bridge.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PublicDataApiResponseCache 단위 테스트")
+class PublicDataApiResponseCacheTest {
+
+    private static final String API_NAME = "DetailCommon";
+
+    private static final String BODY = "{\"response\":{\"body\":{\"totalCount\":1}}}";
+
+    private static final String VERSION = "2025-05-01T10:00";
+
+    private static final Duration TTL = Duration.ofHours(12);
+
+    @TempDir
+    private Path directory;
+
+    private MeterRegistry meterRegistry;
+
+    private PublicDataApiResponseCache publicDataApiResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        publicDataApiResponseCache = new PublicDataApiResponseCache(meterRegistry, true, directory, TTL);
+    }
+
+    @Nested
+    @DisplayName("get / put")
+    class GetAndPutTest {
+        @Test
+        @DisplayName("저장한 응답은 같은 엔드포인트와 파라미터로 다시 조회되고, 적중/미스 수가 기록됨")
+        void givenStoredResponse_whenGet_thenReturnsBodyAndCountsHit() {
+            // Given
+            URI uri = createUri("secret", "100");
+            Optional<String> beforePut = publicDataApiResponseCache.get(API_NAME, uri, VERSION);
+
+            // When
+            publicDataApiResponseCache.put(API_NAME, uri, VERSION, BODY);
+            Optional<String> afterPut = publicDataApiResponseCache.get(API_NAME, uri, VERSION);
+
+            // Then
+            assertThat(beforePut).isEmpty();
+            assertThat(afterPut).contains(BODY);
+            assertThat(cacheCount("hit")).isEqualTo(1.0);
+            assertThat(cacheCount("miss")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("서비스 키는 캐시 키와 파일에 포함되지 않음")
+        void givenDifferentServiceKey_whenGet_thenHitsSameEntryWithoutStoringServiceKey() throws IOException {
+            // Given
+            publicDataApiResponseCache.put(API_NAME, createUri("secret", "100"), VERSION, BODY);
+
+            // When
+            Optional<String> result = publicDataApiResponseCache.get(API_NAME, createUri("another", "100"), VERSION);
+
+            // Then
+            assertThat(result).contains(BODY);
+            List<Path> cacheFileList = listCacheFiles();
+            assertThat(cacheFileList).hasSize(1);
+            assertThat(Files.readString(cacheFileList.getFirst())).doesNotContain("secret");
+        }
+
+        @Test
+        @DisplayName("파라미터가 다르면 다른 응답으로 취급함")
+        void givenDifferentParameter_whenGet_thenReturnsEmpty() {
+            // Given
+            publicDataApiResponseCache.put(API_NAME, createUri("secret", "100"), VERSION, BODY);
+
+            // When
+            Optional<String> result = publicDataApiResponseCache.get(API_NAME, createUri("secret", "200"), VERSION);
+
+            // Then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("응답 버전(modifiedTime)이 다르면 다른 응답으로 취급함")
+        void givenDifferentVersion_whenGet_thenReturnsEmpty() {
+            // Given
+            URI uri = createUri("secret", "100");
+            publicDataApiResponseCache.put(API_NAME, uri, VERSION, BODY);
+
+            // When
+            Optional<String> result = publicDataApiResponseCache.get(API_NAME, uri, "2025-05-02T10:00");
+
+            // Then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("응답 버전이 없으면 저장하지도 조회하지도 않음")
+        void givenNoVersion_whenPutAndGet_thenDoesNothing() throws IOException {
+            // Given
+            URI uri = createUri("secret", "100");
+
+            // When
+            publicDataApiResponseCache.put(API_NAME, uri, null, BODY);
+            Optional<String> result = publicDataApiResponseCache.get(API_NAME, uri, null);
+
+            // Then
+            assertThat(result).isEmpty();
+            assertThat(listCacheFiles()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("TTL이 지난 응답은 반환하지 않음")
+        void givenExpiredResponse_whenGet_thenReturnsEmpty() throws IOException {
+            // Given
+            URI uri = createUri("secret", "100");
+            publicDataApiResponseCache.put(API_NAME, uri, VERSION, BODY);
+            expireAll();
+
+            // When
+            Optional<String> result = publicDataApiResponseCache.get(API_NAME, uri, VERSION);
+
+            // Then
+            assertThat(result).isEmpty();
+            assertThat(cacheCount("miss")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("캐시를 끄면 저장하지도 조회하지도 않음")
+        void givenDisabled_whenPutAndGet_thenDoesNothing() throws IOException {
+            // Given
+            PublicDataApiResponseCache disabledCache = new PublicDataApiResponseCache(meterRegistry, false, directory, TTL);
+            URI uri = createUri("secret", "100");
+
+            // When
+            disabledCache.put(API_NAME, uri, VERSION, BODY);
+            Optional<String> result = disabledCache.get(API_NAME, uri, VERSION);
+
+            // Then
+            assertThat(result).isEmpty();
+            assertThat(listCacheFiles()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("evictExpired")
+    class EvictExpiredTest {
+        @Test
+        @DisplayName("TTL이 지난 캐시 파일만 삭제")
+        void givenExpiredAndFreshFiles_whenEvictExpired_thenDeletesOnlyExpired() throws IOException {
+            // Given
+            publicDataApiResponseCache.put(API_NAME, createUri("secret", "100"), VERSION, BODY);
+            expireAll();
+            URI freshUri = createUri("secret", "200");
+            publicDataApiResponseCache.put(API_NAME, freshUri, VERSION, BODY);
+
+            // When
+            publicDataApiResponseCache.evictExpired();
+
+            // Then
+            assertThat(listCacheFiles()).hasSize(1);
+            assertThat(publicDataApiResponseCache.get(API_NAME, freshUri, VERSION)).contains(BODY);
+        }
+    }
+
+    private URI createUri(String serviceKey, String contentId) {
+        return URI.create("https://apis.data.go.kr/B551011/KorService2/detailCommon2"
+                + "?serviceKey=" + serviceKey + "&MobileApp=event&MobileOS=ETC&_type=json&contentId=" + contentId);
+    }
+
+    private double cacheCount(String result) {
+        return meterRegistry.get("public.data.api.response.cache").tag("result", result).counter().count();
+    }
+
+    private List<Path> listCacheFiles() throws IOException {
+        if (!Files.isDirectory(directory.resolve(API_NAME))) {
+            return List.of();
+        }
+        try (Stream<Path> pathStream = Files.list(directory.resolve(API_NAME))) {
+            return pathStream.toList();
+        }
+    }
+
+    private void expireAll() throws IOException {
+        FileTime expiredTime = FileTime.from(Instant.now().minus(TTL).minusSeconds(60));
+        for (Path path : listCacheFiles()) {
+            Files.setLastModifiedTime(path, expiredTime);
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.bridge.writer;
+
+import com.bridge.exception.CustomKafkaException;
+import com.bridge.model.dto.EventDto;
+import com.bridge.service.EventWatermarkStore;
+import com.bridge.service.KafkaProducer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.Chunk;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.support.RetryTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KafkaItemWriter 단위 테스트")
+class KafkaItemWriterTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @InjectMocks
+    private KafkaItemWriter kafkaItemWriter;
+
+    @Mock
+    private KafkaProducer kafkaProducer;
+
+    @Mock
+    private RetryTemplate retryTemplate;
+
+    @Mock
+    private EventWatermarkStore eventWatermarkStore;
+
+    @Nested
+    @DisplayName("write")
+    class WriteTest {
+        @Test
+        @DisplayName("청크의 이벤트들을 한 번에 카프카로 전송")
+        void givenChunk_whenWrite_thenSendsAllEventDtos() throws Throwable {
+            // Given
+            EventDto eventDto1 = createEventDto(1L);
+            EventDto eventDto2 = createEventDto(2L);
+            List<List<EventDto>> sentEventDtoLists = new ArrayList<>();
+            givenRetryTemplateRetries();
+            given(kafkaProducer.sendAll(anyList())).willAnswer(invocation -> {
+                sentEventDtoLists.add(List.copyOf(invocation.getArgument(0)));
+                return List.of();
+            });
+
+            // When
+            kafkaItemWriter.write(Chunk.of(eventDto1, eventDto2));
+
+            // Then
+            assertThat(sentEventDtoLists).containsExactly(List.of(eventDto1, eventDto2));
+            then(eventWatermarkStore).should().advance(List.of(eventDto1, eventDto2));
+        }
+
+        @Test
+        @DisplayName("재시도 시 전송에 실패한 이벤트만 다시 전송")
+        void givenPartialFailure_whenWrite_thenRetriesOnlyFailedEventDtos() throws Throwable {
+            // Given
+            EventDto eventDto1 = createEventDto(1L);
+            EventDto eventDto2 = createEventDto(2L);
+            List<List<EventDto>> sentEventDtoLists = new ArrayList<>();
+            givenRetryTemplateRetries();
+            given(kafkaProducer.sendAll(anyList())).willAnswer(invocation -> {
+                List<EventDto> eventDtoList = List.copyOf(invocation.getArgument(0));
+                sentEventDtoLists.add(eventDtoList);
+                return sentEventDtoLists.size() == 1 ? List.of(eventDto2) : List.of();
+            });
+
+            // When
+            kafkaItemWriter.write(Chunk.of(eventDto1, eventDto2));
+
+            // Then
+            assertThat(sentEventDtoLists).containsExactly(List.of(eventDto1, eventDto2), List.of(eventDto2));
+        }
+
+        @Test
+        @DisplayName("재시도 후에도 전송에 실패한 이벤트가 있으면 예외 발생")
+        void givenPersistentFailure_whenWrite_thenThrowsCustomKafkaException() throws Throwable {
+            // Given
+            EventDto eventDto1 = createEventDto(1L);
+            givenRetryTemplateRetries();
+            given(kafkaProducer.sendAll(anyList())).willReturn(List.of(eventDto1));
+
+            // When & Then
+            assertThatThrownBy(() -> kafkaItemWriter.write(Chunk.of(eventDto1)))
+                    .isInstanceOf(CustomKafkaException.class);
+            then(kafkaProducer).should(times(MAX_ATTEMPTS)).sendAll(anyList());
+            then(eventWatermarkStore).shouldHaveNoInteractions();
+        }
+    }
+
+    /**
+     * 대기 없이 최대 MAX_ATTEMPTS번 콜백을 실행하는 RetryTemplate 동작
+     */
+    private void givenRetryTemplateRetries() throws Throwable {
+        given(retryTemplate.execute(any())).willAnswer(invocation -> {
+            RetryCallback<Object, Throwable> retryCallback = invocation.getArgument(0);
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return retryCallback.doWithRetry(mock(RetryContext.class));
+                } catch (CustomKafkaException e) {
+                    if (attempt >= MAX_ATTEMPTS) {
+                        throw e;
+                    }
+                }
+            }
+        });
+    }
+
+    private EventDto createEventDto(Long contentId) {
+        EventDto eventDto = new EventDto();
+        eventDto.setContentId(contentId);
+        return eventDto;
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.event.analysis;
+
+/**
+ * 이벤트별 댓글 분석 작업 상태
+ */
+public enum CommentAnalysisJobStatus {
+
+    // 진행 중인 분석 작업 없음
+    IDLE,
+
+    // 이 파드의 작업 큐에서 대기 중
+    QUEUED,
+
+    // 이 파드 또는 다른 파드에서 분석 중
+    RUNNING
+
+}
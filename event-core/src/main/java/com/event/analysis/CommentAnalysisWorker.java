@@ -0,0 +1,262 @@
+package com.event.analysis;
+
+import com.event.exception.CustomAiException;
+import com.event.model.response.CommentAnalysisResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 댓글 분석 백그라운드 워커
+ *
+ * AI 응답을 기다리는 동안 요청 스레드를 잡고 있지 않도록 댓글 분석을 고정 크기 스레드 풀에서 실행합니다.
+ * 같은 이벤트의 분석 요청은 하나의 작업으로 합칩니다. (single-flight)
+ * - 같은 파드: 진행 중인 작업이 있으면 새 작업을 만들지 않고 진행 중인 작업의 결과를 함께 기다립니다.
+ * - 여러 파드: Redis 락(ai-analysis:lock:{contentId})을 잡은 파드만 분석합니다.
+ *   다른 파드가 락을 잡고 있으면 작업 스레드가 락을 기다리지 않고 "분석 중"(503)으로 바로 끝냅니다.
+ *   (다시 분석하는 경우 요청에는 이미 마지막 분석 결과가 반환되었고, 분석 중인지는 상태 조회로 확인할 수 있음)
+ *
+ * 락은 분석이 끝날 때까지 lock-ttl의 1/3마다 연장하므로 AI 응답이 lock-ttl보다 오래 걸려도 다른 파드가 중복 분석하지 않고,
+ * 락을 잡은 파드가 죽으면 연장이 멈춰서 최대 lock-ttl 뒤에 풀립니다.
+ *
+ * 작업 큐는 크기가 정해져 있어서 가득 차면 작업을 거절하고(503), 큐 길이와 작업 수는 ai.analysis.* 메트릭으로 확인합니다.
+ * Redis를 사용할 수 없으면 파드 안에서만 작업을 합칩니다.
+ */
+@Component
+@Slf4j
+public class CommentAnalysisWorker {
+
+    private static final String LOCK_KEY_PREFIX = "ai-analysis:lock:";
+
+    // 락을 잡은 작업만 락을 해제하도록 값이 같을 때만 삭제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+                    + "return 0",
+            Long.class);
+
+    // 락을 잡은 작업만 락을 연장하도록 값이 같을 때만 유효기간을 다시 설정
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end "
+                    + "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Duration lockTtl;
+
+    private final ThreadPoolExecutor executor;
+
+    // 실행 중인 작업의 락 연장
+    private final ScheduledExecutorService lockRenewalScheduler;
+
+    // contentId -> 대기 중이거나 실행 중인 작업
+    private final Map<Long, CompletableFuture<CommentAnalysisResponse>> jobMap = new ConcurrentHashMap<>();
+
+    // 실행 중인 작업의 contentId
+    private final Set<Long> runningContentIdSet = ConcurrentHashMap.newKeySet();
+
+    private final Counter submittedJobCounter;
+
+    private final Counter coalescedJobCounter;
+
+    private final Counter rejectedJobCounter;
+
+    public CommentAnalysisWorker(
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${ai-analysis.worker.threads}") int threads,
+            @Value("${ai-analysis.worker.queue-capacity}") int queueCapacity,
+            @Value("${ai-analysis.worker.lock-ttl}") Duration lockTtl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.lockTtl = lockTtl;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ai-analysis-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.lockRenewalScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ai-analysis-lock-renewal");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("ai.analysis.queue.size", executor, threadPoolExecutor -> threadPoolExecutor.getQueue().size())
+                .description("Number of comment analysis jobs waiting in the queue")
+                .register(meterRegistry);
+        Gauge.builder("ai.analysis.queue.remaining", executor,
+                        threadPoolExecutor -> threadPoolExecutor.getQueue().remainingCapacity())
+                .description("Remaining capacity of the comment analysis job queue")
+                .register(meterRegistry);
+        Gauge.builder("ai.analysis.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Number of comment analysis jobs running")
+                .register(meterRegistry);
+        this.submittedJobCounter = Counter.builder("ai.analysis.jobs")
+                .description("Number of comment analysis job requests")
+                .tag("result", "submitted")
+                .register(meterRegistry);
+        this.coalescedJobCounter = Counter.builder("ai.analysis.jobs")
+                .description("Number of comment analysis job requests")
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+        this.rejectedJobCounter = Counter.builder("ai.analysis.jobs")
+                .description("Number of comment analysis job requests")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 댓글 분석 작업을 큐에 넣습니다. 같은 이벤트의 작업이 이미 대기 중이거나 실행 중이면 그 작업을 반환합니다.
+     *
+     * @param contentId 이벤트 컨텐츠 ID
+     * @param analysis  락을 잡은 상태에서 실행할 분석 (다시 분석할 필요가 없으면 저장된 결과를 반환해야 함)
+     * @return 분석 결과를 받을 작업
+     * @throws CustomAiException 작업 큐가 가득 찬 경우
+     */
+    public CompletableFuture<CommentAnalysisResponse> submit(Long contentId, Supplier<CommentAnalysisResponse> analysis) {
+        CompletableFuture<CommentAnalysisResponse> job = new CompletableFuture<>();
+        CompletableFuture<CommentAnalysisResponse> inFlightJob = jobMap.putIfAbsent(contentId, job);
+        if (inFlightJob != null) {
+            coalescedJobCounter.increment();
+            return inFlightJob;
+        }
+
+        try {
+            executor.execute(() -> run(contentId, analysis, job));
+        } catch (RejectedExecutionException e) {
+            jobMap.remove(contentId, job);
+            rejectedJobCounter.increment();
+            log.warn("Comment analysis queue is full. contentId: {}, queue size: {}",
+                    contentId, executor.getQueue().size());
+            throw new CustomAiException(HttpStatus.SERVICE_UNAVAILABLE, "Comment analysis queue is full");
+        }
+        submittedJobCounter.increment();
+        return job;
+    }
+
+    /**
+     * 이벤트의 분석 작업 상태를 조회합니다.
+     * 이 파드에 작업이 없으면 Redis 락으로 다른 파드에서 분석 중인지 확인합니다.
+     */
+    public CommentAnalysisJobStatus getStatus(Long contentId) {
+        if (runningContentIdSet.contains(contentId)) {
+            return CommentAnalysisJobStatus.RUNNING;
+        }
+        if (jobMap.containsKey(contentId)) {
+            return CommentAnalysisJobStatus.QUEUED;
+        }
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(LOCK_KEY_PREFIX + contentId))
+                    ? CommentAnalysisJobStatus.RUNNING
+                    : CommentAnalysisJobStatus.IDLE;
+        } catch (DataAccessException e) {
+            log.warn("Failed to check comment analysis lock. contentId: {}: {}", contentId, e.getMessage());
+            return CommentAnalysisJobStatus.IDLE;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<Runnable> pendingJobList = executor.shutdownNow();
+        lockRenewalScheduler.shutdownNow();
+        jobMap.values().forEach(job -> job.completeExceptionally(
+                new CustomAiException(HttpStatus.SERVICE_UNAVAILABLE, "Comment analysis worker is shutting down")));
+        log.info("Comment analysis worker stopped. pending jobs: {}", pendingJobList.size());
+    }
+
+    private void run(Long contentId, Supplier<CommentAnalysisResponse> analysis, CompletableFuture<CommentAnalysisResponse> job) {
+        runningContentIdSet.add(contentId);
+        String lockValue = UUID.randomUUID().toString();
+        boolean locked = false;
+        ScheduledFuture<?> lockRenewal = null;
+        try {
+            locked = acquireLock(contentId, lockValue);
+            if (locked) {
+                long renewalIntervalMillis = Math.max(lockTtl.toMillis() / 3, 1);
+                lockRenewal = lockRenewalScheduler.scheduleAtFixedRate(
+                        () -> renewLock(contentId, lockValue),
+                        renewalIntervalMillis, renewalIntervalMillis, TimeUnit.MILLISECONDS);
+            }
+            job.complete(analysis.get());
+        } catch (RuntimeException e) {
+            job.completeExceptionally(e);
+        } finally {
+            if (lockRenewal != null) {
+                lockRenewal.cancel(false);
+            }
+            if (locked) {
+                releaseLock(contentId, lockValue);
+            }
+            runningContentIdSet.remove(contentId);
+            jobMap.remove(contentId, job);
+        }
+    }
+
+    /**
+     * 이벤트별 분석 락을 한 번만 시도합니다.
+     * 다른 파드가 분석 중이면 작업 스레드를 잡고 기다리지 않고 바로 "분석 중" 예외로 끝냅니다.
+     *
+     * @return 락을 잡았으면 true, Redis를 사용할 수 없어서 락 없이 실행하면 false
+     * @throws CustomAiException 다른 파드가 같은 이벤트를 분석 중인 경우
+     */
+    private boolean acquireLock(Long contentId, String lockValue) {
+        String lockKey = LOCK_KEY_PREFIX + contentId;
+        Boolean acquired;
+        try {
+            acquired = stringRedisTemplate.opsForValue().setIfAbsent(lockKey, lockValue, lockTtl);
+        } catch (DataAccessException e) {
+            log.warn("Failed to acquire comment analysis lock. Analyzing without lock. contentId: {}: {}",
+                    contentId, e.getMessage());
+            return false;
+        }
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.info("Comment analysis is in progress on another pod. contentId: {}", contentId);
+            throw new CustomAiException(HttpStatus.SERVICE_UNAVAILABLE, "Comment analysis is in progress");
+        }
+        return true;
+    }
+
+    private void renewLock(Long contentId, String lockValue) {
+        try {
+            stringRedisTemplate.execute(RENEW_SCRIPT, List.of(LOCK_KEY_PREFIX + contentId),
+                    lockValue, String.valueOf(lockTtl.toMillis()));
+        } catch (DataAccessException e) {
+            // 연장하지 못해도 다음 주기에 다시 시도하고, 그 사이에 풀리면 다른 파드가 중복 분석할 수 있음
+            log.warn("Failed to renew comment analysis lock. contentId: {}: {}", contentId, e.getMessage());
+        }
+    }
+
+    private void releaseLock(Long contentId, String lockValue) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY_PREFIX + contentId), lockValue);
+        } catch (DataAccessException e) {
+            // 해제하지 못한 락은 lock-ttl이 지나면 풀림
+            log.warn("Failed to release comment analysis lock. contentId: {}: {}", contentId, e.getMessage());
+        }
+    }
+
+}
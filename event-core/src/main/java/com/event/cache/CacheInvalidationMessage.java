@@ -0,0 +1,15 @@
+package com.event.cache;
+
+/**
+ * 파드 간 로컬 캐시 무효화 메시지 (Redis pub/sub)
+ *
+ * @param origin    메시지를 보낸 인스턴스 ID (자신이 보낸 메시지는 무시)
+ * @param cacheName 캐시 이름
+ * @param key       무효화할 키 (null이면 캐시 전체)
+ */
+public record CacheInvalidationMessage(
+        String origin,
+        String cacheName,
+        String key
+) {
+}
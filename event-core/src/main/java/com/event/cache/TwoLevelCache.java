@@ -0,0 +1,213 @@
+package com.event.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * 로컬 Caffeine 캐시(L1)와 Redis 캐시(L2)를 함께 사용하는 2단계 캐시
+ *
+ * 조회는 L1 -> L2 순서로 하고, L2에서 찾은 값은 L1에도 저장해서
+ * 다음 조회부터는 Redis 왕복과 역직렬화 없이 응답합니다.
+ * 삭제/비우기는 두 단계 모두에 반영하고, 다른 파드의 L1도 지우도록 무효화 메시지를 발행합니다.
+ * pub/sub 메시지는 유실될 수 있으므로 L1에는 짧은 유효기간을 둡니다.
+ *
+ * L1 키는 Redis 캐시 키와 같이 문자열로 변환한 키를 사용합니다. (무효화 메시지로 전달할 수 있도록)
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private static final String GETS_METRIC = "cache.tier.gets";
+
+    private static final String EVICTIONS_METRIC = "cache.tier.evictions";
+
+    private final String name;
+
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+
+    private final Cache redisCache;
+
+    // (캐시 이름, 키) -> 다른 파드에 무효화 메시지 발행 (키가 null이면 캐시 전체)
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Counter localHitCounter;
+
+    private final Counter localMissCounter;
+
+    private final Counter redisHitCounter;
+
+    private final Counter redisMissCounter;
+
+    private final Counter redisEvictionCounter;
+
+    public TwoLevelCache(
+            String name,
+            Cache redisCache,
+            Duration localTtl,
+            long localMaxSize,
+            BiConsumer<String, String> invalidationPublisher,
+            MeterRegistry meterRegistry) {
+        // null 값은 L2(Redis)와 같이 캐시하지 않음
+        super(false);
+        this.name = name;
+        this.redisCache = redisCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.meterRegistry = meterRegistry;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .removalListener((String key, Object value, RemovalCause cause) -> recordLocalRemoval(cause))
+                .build();
+
+        this.localHitCounter = getsCounter("l1", "hit");
+        this.localMissCounter = getsCounter("l1", "miss");
+        this.redisHitCounter = getsCounter("l2", "hit");
+        this.redisMissCounter = getsCounter("l2", "miss");
+        this.redisEvictionCounter = evictionsCounter("l2", "explicit");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = toLocalKey(key);
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            localHitCounter.increment();
+            return value;
+        }
+        localMissCounter.increment();
+
+        ValueWrapper valueWrapper = redisCache.get(key);
+        if (valueWrapper == null || valueWrapper.get() == null) {
+            redisMissCounter.increment();
+            return null;
+        }
+        redisHitCounter.increment();
+
+        localCache.put(localKey, valueWrapper.get());
+        return valueWrapper.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper valueWrapper = get(key);
+        if (valueWrapper != null) {
+            return (T) valueWrapper.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        // null 결과는 캐시하지 않고 다음 요청에서 다시 조회
+        if (value == null) {
+            return;
+        }
+
+        redisCache.put(key, value);
+        localCache.put(toLocalKey(key), value);
+    }
+
+    /**
+     * 두 단계에서 모두 삭제하고 다른 파드의 L1에도 삭제를 알립니다.
+     * 다른 파드가 삭제 전의 L2 값을 다시 L1에 담지 않도록 L2를 먼저 삭제합니다.
+     * L2 삭제가 실패해도 L1 삭제와 무효화 메시지 발행은 하고 예외를 전파합니다.
+     * (남은 L2 값은 TTL로 만료되지만, L1에 남은 값은 L2가 복구된 뒤에도 계속 보일 수 있으므로)
+     */
+    @Override
+    public void evict(Object key) {
+        String localKey = toLocalKey(key);
+        try {
+            redisCache.evict(key);
+            redisEvictionCounter.increment();
+        } finally {
+            localCache.invalidate(localKey);
+            invalidationPublisher.accept(name, localKey);
+        }
+    }
+
+    @Override
+    public void clear() {
+        try {
+            redisCache.clear();
+            redisEvictionCounter.increment();
+        } finally {
+            localCache.invalidateAll();
+            invalidationPublisher.accept(name, null);
+        }
+    }
+
+    /**
+     * 다른 파드에서 받은 무효화 메시지로 L1에서만 삭제합니다.
+     *
+     * @param localKey 문자열로 변환한 캐시 키
+     */
+    public void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    /**
+     * 다른 파드에서 받은 무효화 메시지로 L1을 비웁니다.
+     */
+    public void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private void recordLocalRemoval(RemovalCause cause) {
+        // 같은 키로 다시 저장한 경우는 삭제가 아님
+        if (cause == RemovalCause.REPLACED) {
+            return;
+        }
+        evictionsCounter("l1", cause.name().toLowerCase(Locale.ROOT)).increment();
+    }
+
+    private Counter getsCounter(String tier, String result) {
+        return Counter.builder(GETS_METRIC)
+                .description("Cache lookups per tier")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter evictionsCounter(String tier, String cause) {
+        return Counter.builder(EVICTIONS_METRIC)
+                .description("Cache evictions per tier")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("cause", cause)
+                .register(meterRegistry);
+    }
+
+}
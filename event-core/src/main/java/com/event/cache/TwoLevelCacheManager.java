@@ -0,0 +1,128 @@
+package com.event.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * RedisCacheManager의 캐시마다 로컬 Caffeine 캐시를 앞에 두는 2단계 캐시 매니저
+ *
+ * 캐시를 삭제하거나 비우면 Redis pub/sub 채널로 무효화 메시지를 발행하고,
+ * 다른 파드는 메시지를 받아 자신의 로컬 캐시(L1)에서 같은 키를 삭제합니다.
+ * 댓글 변경 시의 @CacheEvict와 이벤트 upsert 시의 캐시 삭제가 모두 이 경로로 전파됩니다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    // 자신이 발행한 무효화 메시지를 구분하기 위한 인스턴스 ID
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final RedisCacheManager redisCacheManager;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final Duration localTtl;
+
+    private final long localMaxSize;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, TwoLevelCache> cacheMap = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+            RedisCacheManager redisCacheManager,
+            StringRedisTemplate stringRedisTemplate,
+            ObjectMapper objectMapper,
+            Duration localTtl,
+            long localMaxSize,
+            MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.localTtl = localTtl;
+        this.localMaxSize = localMaxSize;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return cacheMap.computeIfAbsent(name, cacheName -> {
+            Cache redisCache = redisCacheManager.getCache(cacheName);
+            if (redisCache == null) {
+                return null;
+            }
+            return new TwoLevelCache(
+                    cacheName, redisCache, localTtl, localMaxSize, this::publishInvalidation, meterRegistry);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    /**
+     * 다른 파드에 로컬 캐시 무효화를 알립니다.
+     * 발행에 실패해도 다른 파드의 L1은 유효기간이 지나면 만료되므로 예외를 로그로만 남깁니다.
+     *
+     * @param cacheName 캐시 이름
+     * @param key       무효화할 키 (null이면 캐시 전체)
+     */
+    void publishInvalidation(String cacheName, String key) {
+        try {
+            String message = objectMapper.writeValueAsString(new CacheInvalidationMessage(instanceId, cacheName, key));
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (IOException | DataAccessException e) {
+            log.warn("Failed to publish cache invalidation. cache: {}, key: {}", cacheName, key, e);
+        }
+    }
+
+    /**
+     * 다른 파드에서 발행한 무효화 메시지를 받아 로컬 캐시에서 삭제합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage cacheInvalidationMessage;
+        try {
+            cacheInvalidationMessage = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+        } catch (IOException e) {
+            log.warn("Ignored malformed cache invalidation message", e);
+            return;
+        }
+
+        if (instanceId.equals(cacheInvalidationMessage.origin())) {
+            return;
+        }
+
+        // 아직 한 번도 사용하지 않은 캐시는 로컬에 담긴 값이 없음
+        TwoLevelCache twoLevelCache = cacheMap.get(cacheInvalidationMessage.cacheName());
+        if (twoLevelCache == null) {
+            return;
+        }
+
+        if (cacheInvalidationMessage.key() == null) {
+            twoLevelCache.clearLocal();
+        } else {
+            twoLevelCache.evictLocal(cacheInvalidationMessage.key());
+        }
+    }
+
+}
@@ -0,0 +1,590 @@
+package com.event.catalog;
+
+import com.event.geo.GeoBounds;
+import com.event.geo.GeoDistance;
+import com.event.mapper.EventMapper;
+import com.event.model.dto.EventScrollKey;
+import com.event.model.entity.EventEntity;
+import com.event.model.response.EventListResponse;
+import com.event.model.response.EventNearbyResponse;
+import com.event.repository.EventRepository;
+import com.event.specification.EventSpecs;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 종료되지 않은 이벤트의 인메모리 카탈로그
+ *
+ * 종료되지 않은 이벤트는 수천 건 수준이고 카프카 컨슈머가 upsert 할 때만 바뀌기 때문에,
+ * (종료일, 시작일) 순으로 정렬된 불변 스냅샷을 메모리에 두고 목록/지역 필터/페이지네이션을
+ * DB 조회(Specification 쿼리 + count 쿼리) 없이 처리합니다.
+ *
+ * 주변 이벤트 조회는 스냅샷과 함께 만드는 위경도 격자 색인(GeoGrid)으로 처리합니다.
+ *
+ * 스냅샷은 이벤트가 저장/삭제될 때마다 copy-on-write 방식으로 새로 만들어 교체하고,
+ * 한국 시간 자정에는 종료된 이벤트를 제거합니다.
+ * 저장/삭제 시에는 전체를 다시 정렬하지 않고 변경된 이벤트만 정렬된 배열에 병합합니다. (Snapshot.patch)
+ *
+ * 카프카 리스너는 초기 적재보다 먼저 시작되므로, 초기 적재가 끝나기 전에 들어온 변경은
+ * 모아 두었다가 스냅샷을 만든 직후에 반영합니다. (초기 적재 결과로 덮어써서 유실되지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActiveEventCatalog {
+
+    private static final ZoneId KOREA_ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    private static final Comparator<CatalogEvent> END_START_ORDER = Comparator
+            .comparing(CatalogEvent::eventEndDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(CatalogEvent::eventStartDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(CatalogEvent::contentId);
+
+    private final EventRepository eventRepository;
+
+    private final EventMapper eventMapper;
+
+    @Value("${catalog.enabled}")
+    private boolean enabled;
+
+    // null이면 아직 초기 적재가 끝나지 않은 상태
+    private volatile Snapshot snapshot;
+
+    // 초기 적재가 끝나기 전에 들어온 변경 (contentId -> 이벤트, 삭제된 이벤트는 null), this로 동기화
+    private final Map<Long, CatalogEvent> pendingEventMap = new HashMap<>();
+
+    /**
+     * 특정 시점의 카탈로그 스냅샷 (불변)
+     *
+     * @param baseDate      스냅샷 기준 날짜 (이 날짜 이전에 종료된 이벤트는 포함하지 않음)
+     * @param eventArray    (종료일, 시작일, contentId) 순으로 정렬된 이벤트 배열
+     * @param eventMap      contentId -> 이벤트
+     * @param areaBitSetMap 지역 -> 해당 지역 이벤트의 eventArray 인덱스 비트셋
+     * @param fingerprint   (contentId, dbUpsertedAt) 집합의 순서 무관 지문
+     * @param geoGrid       좌표가 있는 이벤트의 위경도 격자 색인
+     */
+    private record Snapshot(
+            LocalDate baseDate,
+            CatalogEvent[] eventArray,
+            Map<Long, CatalogEvent> eventMap,
+            Map<String, BitSet> areaBitSetMap,
+            long fingerprint,
+            GeoGrid geoGrid
+    ) {
+
+        static Snapshot of(LocalDate baseDate, Collection<CatalogEvent> catalogEvents) {
+            CatalogEvent[] eventArray = catalogEvents.stream()
+                    .filter(catalogEvent -> isActive(catalogEvent, baseDate))
+                    .sorted(END_START_ORDER)
+                    .toArray(CatalogEvent[]::new);
+
+            Map<Long, CatalogEvent> eventMap = new HashMap<>(eventArray.length * 2);
+            long fingerprint = 0;
+            for (CatalogEvent catalogEvent : eventArray) {
+                eventMap.put(catalogEvent.contentId(), catalogEvent);
+                fingerprint += mix(catalogEvent);
+            }
+            return index(baseDate, eventArray, eventMap, fingerprint);
+        }
+
+        /**
+         * 변경된 이벤트만 반영한 새 스냅샷을 만듭니다.
+         * 정렬된 기존 배열에서 변경된 이벤트를 빼고 정렬한 변경분과 병합하므로 전체를 다시 정렬하지 않고,
+         * 지문도 바뀐 이벤트만큼만 갱신합니다. (지역 비트셋과 격자 색인은 배열 인덱스가 바뀌므로 다시 만듦)
+         * 기준 날짜가 바뀌었으면 종료된 이벤트도 걸러야 하므로 전체를 다시 만듭니다.
+         *
+         * @param baseDate        새 스냅샷의 기준 날짜
+         * @param changedEventMap contentId -> 저장된 이벤트 (삭제된 이벤트는 null)
+         */
+        Snapshot patch(LocalDate baseDate, Map<Long, CatalogEvent> changedEventMap) {
+            Map<Long, CatalogEvent> patchedEventMap = new HashMap<>(eventMap);
+            if (!baseDate.equals(this.baseDate)) {
+                changedEventMap.forEach((contentId, catalogEvent) -> {
+                    if (catalogEvent == null) {
+                        patchedEventMap.remove(contentId);
+                    } else {
+                        patchedEventMap.put(contentId, catalogEvent);
+                    }
+                });
+                return of(baseDate, patchedEventMap.values());
+            }
+
+            long patchedFingerprint = fingerprint;
+            for (Long contentId : changedEventMap.keySet()) {
+                CatalogEvent removedEvent = patchedEventMap.remove(contentId);
+                if (removedEvent != null) {
+                    patchedFingerprint -= mix(removedEvent);
+                }
+            }
+            CatalogEvent[] addedEventArray = changedEventMap.values().stream()
+                    .filter(catalogEvent -> catalogEvent != null && isActive(catalogEvent, baseDate))
+                    .sorted(END_START_ORDER)
+                    .toArray(CatalogEvent[]::new);
+            for (CatalogEvent catalogEvent : addedEventArray) {
+                patchedEventMap.put(catalogEvent.contentId(), catalogEvent);
+                patchedFingerprint += mix(catalogEvent);
+            }
+
+            // 변경되지 않은 기존 이벤트와 추가된 이벤트를 정렬 순서대로 병합
+            CatalogEvent[] patchedEventArray = new CatalogEvent[patchedEventMap.size()];
+            int oldIndex = 0;
+            int addedIndex = 0;
+            int patchedIndex = 0;
+            while (oldIndex < eventArray.length || addedIndex < addedEventArray.length) {
+                if (oldIndex < eventArray.length && changedEventMap.containsKey(eventArray[oldIndex].contentId())) {
+                    oldIndex++;
+                } else if (addedIndex == addedEventArray.length || (oldIndex < eventArray.length
+                        && END_START_ORDER.compare(eventArray[oldIndex], addedEventArray[addedIndex]) < 0)) {
+                    patchedEventArray[patchedIndex++] = eventArray[oldIndex++];
+                } else {
+                    patchedEventArray[patchedIndex++] = addedEventArray[addedIndex++];
+                }
+            }
+            return index(baseDate, patchedEventArray, patchedEventMap, patchedFingerprint);
+        }
+
+        /**
+         * 정렬된 이벤트 배열로 지역 비트셋과 격자 색인을 만들어 스냅샷을 완성합니다.
+         */
+        private static Snapshot index(
+                LocalDate baseDate,
+                CatalogEvent[] eventArray,
+                Map<Long, CatalogEvent> eventMap,
+                long fingerprint) {
+            Map<String, BitSet> areaBitSetMap = new HashMap<>();
+            for (int i = 0; i < eventArray.length; i++) {
+                String area = eventArray[i].area();
+                if (area != null) {
+                    areaBitSetMap.computeIfAbsent(area, key -> new BitSet(eventArray.length)).set(i);
+                }
+            }
+            return new Snapshot(baseDate, eventArray, eventMap, areaBitSetMap, fingerprint, GeoGrid.of(eventArray));
+        }
+
+        // DB 조회 조건(EventSpecs.notEndedFrom)과 같이 종료일이 없는 이벤트는 진행 중으로 보지 않음
+        private static boolean isActive(CatalogEvent catalogEvent, LocalDate baseDate) {
+            return catalogEvent.eventEndDate() != null && !catalogEvent.eventEndDate().isBefore(baseDate);
+        }
+
+        /**
+         * 이벤트 하나의 지문을 만듭니다.
+         * 합으로 누적하기 때문에 같은 이벤트 집합이면 파드나 적재 순서와 관계없이 같은 값이 나옵니다.
+         */
+        private static long mix(CatalogEvent catalogEvent) {
+            long upsertedAtMillis = catalogEvent.dbUpsertedAt() == null ? 0 : catalogEvent.dbUpsertedAt().toEpochMilli();
+            long hash = catalogEvent.contentId() * 0x9E3779B97F4A7C15L ^ upsertedAtMillis;
+            // splitmix64 finalizer
+            hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+            hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+            return hash ^ (hash >>> 31);
+        }
+
+        /**
+         * 지역 필터에 해당하는 인덱스 비트셋을 반환합니다.
+         *
+         * @return 필터가 없으면 null
+         */
+        BitSet filter(List<String> areaList) {
+            if (areaList == null || areaList.isEmpty()) {
+                return null;
+            }
+
+            BitSet bitSet = new BitSet(eventArray.length);
+            for (String area : areaList) {
+                BitSet areaBitSet = areaBitSetMap.get(area);
+                if (areaBitSet != null) {
+                    bitSet.or(areaBitSet);
+                }
+            }
+            return bitSet;
+        }
+    }
+
+    /**
+     * 카탈로그를 사용할 수 있는 상태인지 확인합니다.
+     */
+    public boolean isReady() {
+        return enabled && snapshot != null;
+    }
+
+    /**
+     * 현재 카탈로그 내용의 버전을 반환합니다.
+     * 기준 날짜와 (contentId, dbUpsertedAt) 집합에서 만들기 때문에 이벤트가 저장/삭제되거나 날짜가 바뀌면 달라지고,
+     * 같은 데이터를 가진 파드끼리는 같은 값이 나와서 목록 응답의 ETag로 사용할 수 있습니다.
+     *
+     * @return 카탈로그를 사용할 수 없으면 빈 값
+     */
+    public Optional<String> currentVersion() {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+
+        Snapshot current = currentSnapshot();
+        return Optional.of(current.baseDate() + "-" + Long.toHexString(current.fingerprint()));
+    }
+
+    /**
+     * 카탈로그에 있는 이벤트의 마지막 DB 저장 시각을 조회합니다.
+     *
+     * @param contentId 이벤트의 컨텐츠 ID
+     * @return 카탈로그를 사용할 수 없거나 카탈로그에 없는 이벤트면 빈 값
+     */
+    public Optional<Instant> findDbUpsertedAt(Long contentId) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(currentSnapshot().eventMap().get(contentId))
+                .map(CatalogEvent::dbUpsertedAt);
+    }
+
+    /**
+     * 애플리케이션 시작 시 종료되지 않은 이벤트로 카탈로그를 구성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            log.info("Active event catalog is disabled");
+            return;
+        }
+
+        LocalDate todayInKorea = LocalDate.now(KOREA_ZONE_ID);
+        Map<Long, CatalogEvent> eventMap = new HashMap<>();
+        for (EventEntity eventEntity : eventRepository.findAll(EventSpecs.notEndedFrom(todayInKorea))) {
+            eventMap.put(eventEntity.getContentId(), eventMapper.toCatalogEvent(eventEntity));
+        }
+
+        synchronized (this) {
+            // 조회 도중에 커밋된 변경이 조회 결과보다 오래된 값일 수 있으므로 저장 시각이 최신인 쪽을 남김
+            pendingEventMap.forEach((contentId, pendingEvent) -> {
+                if (pendingEvent == null) {
+                    eventMap.remove(contentId);
+                } else {
+                    eventMap.merge(contentId, pendingEvent, ActiveEventCatalog::newer);
+                }
+            });
+            int replayedCount = pendingEventMap.size();
+            pendingEventMap.clear();
+
+            snapshot = Snapshot.of(todayInKorea, eventMap.values());
+            log.info("Active event catalog built. events: {}, replayed: {}",
+                    snapshot.eventArray().length, replayedCount);
+        }
+    }
+
+    private static CatalogEvent newer(CatalogEvent current, CatalogEvent pending) {
+        if (current.dbUpsertedAt() == null || pending.dbUpsertedAt() == null) {
+            return pending;
+        }
+        return pending.dbUpsertedAt().isBefore(current.dbUpsertedAt()) ? current : pending;
+    }
+
+    /**
+     * 한국 시간 자정에 종료된 이벤트를 카탈로그에서 제거합니다.
+     */
+    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
+    public void rollover() {
+        if (!isReady()) {
+            return;
+        }
+
+        LocalDate todayInKorea = LocalDate.now(KOREA_ZONE_ID);
+        synchronized (this) {
+            int beforeSize = snapshot.eventArray().length;
+            snapshot = Snapshot.of(todayInKorea, snapshot.eventMap().values());
+            log.info("Active event catalog rolled over to {}. events: {} -> {}",
+                    todayInKorea, beforeSize, snapshot.eventArray().length);
+        }
+    }
+
+    /**
+     * 저장된 이벤트들을 카탈로그에 반영합니다.
+     * 여러 건을 한 번에 반영해도 스냅샷은 한 번만 새로 만들고, 카탈로그 내용이 그대로면 새로 만들지 않습니다.
+     *
+     * @param eventEntityCollection 저장된 이벤트 목록
+     */
+    public void upsertAll(Collection<EventEntity> eventEntityCollection) {
+        if (!enabled || eventEntityCollection.isEmpty()) {
+            return;
+        }
+
+        Map<Long, CatalogEvent> changedEventMap = new HashMap<>();
+        for (EventEntity eventEntity : eventEntityCollection) {
+            changedEventMap.put(eventEntity.getContentId(), eventMapper.toCatalogEvent(eventEntity));
+        }
+
+        synchronized (this) {
+            if (snapshot == null) {
+                pendingEventMap.putAll(changedEventMap);
+                return;
+            }
+
+            // 다시 전달된 같은 내용의 이벤트는 스냅샷을 바꾸지 않음
+            Map<Long, CatalogEvent> currentEventMap = snapshot.eventMap();
+            changedEventMap.entrySet().removeIf(entry -> entry.getValue().equals(currentEventMap.get(entry.getKey())));
+            if (changedEventMap.isEmpty()) {
+                return;
+            }
+            snapshot = snapshot.patch(currentBaseDate(), changedEventMap);
+        }
+    }
+
+    /**
+     * 삭제된 이벤트를 카탈로그에서 제거합니다.
+     *
+     * @param contentId 삭제된 이벤트의 컨텐츠 ID
+     */
+    public void remove(Long contentId) {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (this) {
+            if (snapshot == null) {
+                pendingEventMap.put(contentId, null);
+                return;
+            }
+            if (!snapshot.eventMap().containsKey(contentId)) {
+                return;
+            }
+            snapshot = snapshot.patch(currentBaseDate(), Collections.singletonMap(contentId, null));
+        }
+    }
+
+    /**
+     * 지역 필터와 페이지네이션을 적용한 이벤트 목록을 조회합니다.
+     * 정렬은 항상 (종료일, 시작일) 오름차순입니다.
+     *
+     * @param areaList 지역 필터 (null이면 전체)
+     * @param pageable 페이지네이션 정보
+     * @return 이벤트 목록 페이지
+     */
+    public Page<EventListResponse> selectPage(List<String> areaList, Pageable pageable) {
+        Snapshot current = currentSnapshot();
+        CatalogEvent[] eventArray = current.eventArray();
+        BitSet bitSet = current.filter(areaList);
+
+        long offset = pageable.getOffset();
+        int pageSize = pageable.getPageSize();
+        List<EventListResponse> eventListResponseList = new ArrayList<>(pageSize);
+
+        if (bitSet == null) {
+            for (long i = offset; i < eventArray.length && eventListResponseList.size() < pageSize; i++) {
+                eventListResponseList.add(eventMapper.toEventListResponse(eventArray[(int) i]));
+            }
+            return new PageImpl<>(eventListResponseList, pageable, eventArray.length);
+        }
+
+        // offset 번째 비트부터 pageSize 개의 이벤트를 담음
+        int index = bitSet.nextSetBit(0);
+        for (long skipped = 0; index >= 0 && skipped < offset; skipped++) {
+            index = bitSet.nextSetBit(index + 1);
+        }
+        while (index >= 0 && eventListResponseList.size() < pageSize) {
+            eventListResponseList.add(eventMapper.toEventListResponse(eventArray[index]));
+            index = bitSet.nextSetBit(index + 1);
+        }
+        return new PageImpl<>(eventListResponseList, pageable, bitSet.cardinality());
+    }
+
+    /**
+     * contentId 집합에 속한 이벤트만 대상으로 지역 필터와 페이지네이션을 적용합니다.
+     * 정렬은 selectPage(areaList, pageable)와 같이 (종료일, 시작일) 오름차순입니다.
+     *
+     * @param contentIdCollection 대상 contentId 집합 (예: 유저의 즐겨찾기)
+     * @param areaList            지역 필터 (null이면 전체)
+     * @param pageable            페이지네이션 정보
+     * @return 이벤트 목록 페이지
+     */
+    public Page<EventListResponse> selectPage(
+            Collection<Long> contentIdCollection,
+            List<String> areaList,
+            Pageable pageable) {
+        Map<Long, CatalogEvent> eventMap = currentSnapshot().eventMap();
+        Set<String> areaSet = areaList == null || areaList.isEmpty() ? null : new HashSet<>(areaList);
+
+        List<CatalogEvent> catalogEventList = contentIdCollection.stream()
+                .map(eventMap::get)
+                .filter(Objects::nonNull)
+                .filter(catalogEvent -> areaSet == null || areaSet.contains(catalogEvent.area()))
+                .sorted(END_START_ORDER)
+                .toList();
+
+        int fromIndex = (int) Math.min(pageable.getOffset(), catalogEventList.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), catalogEventList.size());
+        List<EventListResponse> eventListResponseList = catalogEventList.subList(fromIndex, toIndex).stream()
+                .map(eventMapper::toEventListResponse)
+                .toList();
+        return new PageImpl<>(eventListResponseList, pageable, catalogEventList.size());
+    }
+
+    /**
+     * (종료일, 시작일, contentId) 순서에서 키셋 다음 위치부터 필터에 맞는 이벤트를 최대 limit 개 조회합니다.
+     * 키셋 위치는 이진 탐색으로 찾기 때문에 offset만큼 건너뛰지 않고, 키셋의 이벤트가 이미 카탈로그에서
+     * 빠졌더라도 그 다음 이벤트부터 이어서 조회합니다.
+     *
+     * @param contentIdSet 대상 contentId 집합 (null이면 전체)
+     * @param areaList     지역 필터 (null이면 전체)
+     * @param after        마지막으로 조회한 이벤트의 키셋 (null이면 처음부터)
+     * @param limit        최대 조회 개수
+     * @return 정렬 순서대로의 이벤트 목록
+     */
+    public List<EventListResponse> selectAfter(
+            Set<Long> contentIdSet,
+            List<String> areaList,
+            EventScrollKey after,
+            int limit) {
+        Snapshot current = currentSnapshot();
+        CatalogEvent[] eventArray = current.eventArray();
+        BitSet bitSet = current.filter(areaList);
+
+        int index = after == null ? 0 : indexAfter(eventArray, after);
+        if (bitSet != null) {
+            index = bitSet.nextSetBit(index);
+        }
+
+        List<EventListResponse> eventListResponseList = new ArrayList<>(Math.min(limit, eventArray.length));
+        while (index >= 0 && index < eventArray.length && eventListResponseList.size() < limit) {
+            CatalogEvent catalogEvent = eventArray[index];
+            if (contentIdSet == null || contentIdSet.contains(catalogEvent.contentId())) {
+                eventListResponseList.add(eventMapper.toEventListResponse(catalogEvent));
+            }
+            index = bitSet == null ? index + 1 : bitSet.nextSetBit(index + 1);
+        }
+        return eventListResponseList;
+    }
+
+    /**
+     * 필터에 맞는 이벤트 수를 계산합니다.
+     *
+     * @param contentIdSet 대상 contentId 집합 (null이면 전체)
+     * @param areaList     지역 필터 (null이면 전체)
+     * @return 이벤트 수
+     */
+    public long count(Set<Long> contentIdSet, List<String> areaList) {
+        Snapshot current = currentSnapshot();
+        if (contentIdSet == null) {
+            BitSet bitSet = current.filter(areaList);
+            return bitSet == null ? current.eventArray().length : bitSet.cardinality();
+        }
+
+        Set<String> areaSet = areaList == null || areaList.isEmpty() ? null : new HashSet<>(areaList);
+        return contentIdSet.stream()
+                .map(current.eventMap()::get)
+                .filter(Objects::nonNull)
+                .filter(catalogEvent -> areaSet == null || areaSet.contains(catalogEvent.area()))
+                .count();
+    }
+
+    /**
+     * 범위 안의 이벤트를 기준 좌표에서 가까운 순서로 최대 limit 개 조회합니다.
+     * 거리가 같으면 (종료일, 시작일, contentId) 순서를 따릅니다.
+     *
+     * @param bounds            조회 범위
+     * @param mapX              거리 계산 기준 경도
+     * @param mapY              거리 계산 기준 위도
+     * @param maxDistanceMeters 최대 거리 (미터, 범위만으로 거를 때는 Double.MAX_VALUE)
+     * @param limit             최대 조회 개수
+     * @return 가까운 순서대로의 이벤트 목록
+     */
+    public List<EventNearbyResponse> selectNearby(
+            GeoBounds bounds,
+            double mapX,
+            double mapY,
+            double maxDistanceMeters,
+            int limit) {
+        Snapshot current = currentSnapshot();
+        CatalogEvent[] eventArray = current.eventArray();
+
+        // 거리가 먼 후보가 머리에 오는 크기 limit의 힙으로 가까운 이벤트만 남김
+        Comparator<NearbyCandidate> nearestFirst = Comparator
+                .comparingDouble(NearbyCandidate::distanceMeters)
+                .thenComparingInt(NearbyCandidate::index);
+        PriorityQueue<NearbyCandidate> nearestQueue = new PriorityQueue<>(nearestFirst.reversed());
+        current.geoGrid().forEachCandidate(bounds, index -> {
+            CatalogEvent catalogEvent = eventArray[index];
+            if (!bounds.contains(catalogEvent.mapX(), catalogEvent.mapY())) {
+                return;
+            }
+            double distanceMeters = GeoDistance.meters(mapX, mapY, catalogEvent.mapX(), catalogEvent.mapY());
+            if (distanceMeters > maxDistanceMeters) {
+                return;
+            }
+            nearestQueue.offer(new NearbyCandidate(index, distanceMeters));
+            if (nearestQueue.size() > limit) {
+                nearestQueue.poll();
+            }
+        });
+
+        return nearestQueue.stream()
+                .sorted(nearestFirst)
+                .map(candidate -> eventMapper.toEventNearbyResponse(
+                        eventArray[candidate.index()], Math.round(candidate.distanceMeters())))
+                .toList();
+    }
+
+    /**
+     * 주변 이벤트 조회 후보 (eventArray 인덱스, 기준 좌표와의 거리)
+     */
+    private record NearbyCandidate(int index, double distanceMeters) {
+    }
+
+    /**
+     * 정렬된 배열에서 키셋보다 뒤에 오는 첫 번째 인덱스를 찾습니다.
+     */
+    private static int indexAfter(CatalogEvent[] eventArray, EventScrollKey after) {
+        CatalogEvent probe = new CatalogEvent(
+                after.contentId(), null, null, null, after.eventStartDate(), after.eventEndDate(), null, null, null);
+        int index = Arrays.binarySearch(eventArray, probe, END_START_ORDER);
+        return index >= 0 ? index + 1 : -(index + 1);
+    }
+
+    /**
+     * contentId 목록의 순서를 유지하면서 카탈로그에 있는 이벤트를 조회합니다.
+     *
+     * @param contentIdList 조회할 contentId 목록
+     * @return 카탈로그에 있는 이벤트 목록
+     */
+    public List<EventListResponse> selectAll(List<Long> contentIdList) {
+        Map<Long, CatalogEvent> eventMap = currentSnapshot().eventMap();
+        return contentIdList.stream()
+                .map(eventMap::get)
+                .filter(Objects::nonNull)
+                .map(eventMapper::toEventListResponse)
+                .toList();
+    }
+
+    /**
+     * 날짜가 바뀌었는데 스케줄러가 아직 실행되지 않은 경우에도 종료된 이벤트가 보이지 않도록
+     * 조회 시점에 기준 날짜를 확인합니다.
+     */
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current.baseDate().isBefore(LocalDate.now(KOREA_ZONE_ID))) {
+            rollover();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private LocalDate currentBaseDate() {
+        LocalDate todayInKorea = LocalDate.now(KOREA_ZONE_ID);
+        return snapshot.baseDate().isAfter(todayInKorea) ? snapshot.baseDate() : todayInKorea;
+    }
+
+}
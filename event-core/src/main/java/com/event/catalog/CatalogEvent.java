@@ -0,0 +1,24 @@
+package com.event.catalog;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 인메모리 카탈로그에 보관하는 이벤트 정보
+ *
+ * 목록 조회에 필요한 컬럼만 보관해서 메모리 사용량을 줄입니다.
+ * dbUpsertedAt은 상세/목록 응답의 ETag를 DB 조회 없이 만들 때 사용합니다.
+ * mapX(경도), mapY(위도)는 주변 이벤트 조회의 격자 색인과 거리 계산에 사용합니다.
+ */
+public record CatalogEvent(
+        Long contentId,
+        String title,
+        String area,
+        String firstImage,
+        LocalDate eventStartDate,
+        LocalDate eventEndDate,
+        Double mapX,
+        Double mapY,
+        Instant dbUpsertedAt
+) {
+}
@@ -0,0 +1,104 @@
+package com.event.catalog;
+
+import com.event.geo.GeoBounds;
+import com.event.geo.GeoDistance;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * 카탈로그 스냅샷의 위경도 격자 색인 (불변)
+ *
+ * 좌표를 CELL_DEGREES 간격의 격자 칸으로 나누고, 칸마다 그 안에 있는 이벤트의 eventArray 인덱스를 보관합니다.
+ * 범위 조회는 범위와 겹치는 칸의 이벤트만 확인하므로 전체 이벤트를 훑지 않습니다.
+ * 스냅샷과 함께 만들어지고 교체되기 때문에 별도의 잠금이 필요 없습니다.
+ */
+final class GeoGrid {
+
+    // 위도 기준 약 2.2km (한국에서 경도 기준 약 1.8km)
+    static final double CELL_DEGREES = 0.02;
+
+    private static final GeoGrid EMPTY = new GeoGrid(Map.of());
+
+    // 격자 칸 키 -> 칸 안에 있는 이벤트의 eventArray 인덱스
+    private final Map<Long, int[]> cellMap;
+
+    private GeoGrid(Map<Long, int[]> cellMap) {
+        this.cellMap = cellMap;
+    }
+
+    /**
+     * 정렬된 이벤트 배열로 격자 색인을 만듭니다. 좌표가 없는 이벤트는 색인하지 않습니다.
+     */
+    static GeoGrid of(CatalogEvent[] eventArray) {
+        Map<Long, List<Integer>> indexListMap = new HashMap<>();
+        for (int i = 0; i < eventArray.length; i++) {
+            CatalogEvent catalogEvent = eventArray[i];
+            if (GeoDistance.isValid(catalogEvent.mapX(), catalogEvent.mapY())) {
+                indexListMap.computeIfAbsent(cellKey(cell(catalogEvent.mapX()), cell(catalogEvent.mapY())),
+                        key -> new ArrayList<>()).add(i);
+            }
+        }
+        if (indexListMap.isEmpty()) {
+            return EMPTY;
+        }
+
+        Map<Long, int[]> cellMap = new HashMap<>(indexListMap.size() * 2);
+        indexListMap.forEach((key, indexList) ->
+                cellMap.put(key, indexList.stream().mapToInt(Integer::intValue).toArray()));
+        return new GeoGrid(cellMap);
+    }
+
+    /**
+     * 범위와 겹치는 격자 칸에 있는 이벤트 인덱스를 모두 전달합니다.
+     * 칸 단위로 고르기 때문에 범위 밖의 이벤트도 포함될 수 있으며, 정확한 범위 확인은 호출하는 쪽에서 합니다.
+     *
+     * @param bounds        조회 범위
+     * @param indexConsumer 이벤트 인덱스를 받을 함수
+     */
+    void forEachCandidate(GeoBounds bounds, IntConsumer indexConsumer) {
+        int minCellX = cell(bounds.minMapX());
+        int maxCellX = cell(bounds.maxMapX());
+        int minCellY = cell(bounds.minMapY());
+        int maxCellY = cell(bounds.maxMapY());
+
+        // 범위가 넓어서 확인할 칸 수가 채워진 칸 수보다 많으면 채워진 칸만 훑음
+        long rangeCellCount = (long) (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1);
+        if (rangeCellCount > cellMap.size()) {
+            cellMap.forEach((key, indexes) -> {
+                int cellX = (int) key.longValue();
+                int cellY = (int) (key >> 32);
+                if (cellX >= minCellX && cellX <= maxCellX && cellY >= minCellY && cellY <= maxCellY) {
+                    for (int index : indexes) {
+                        indexConsumer.accept(index);
+                    }
+                }
+            });
+            return;
+        }
+
+        for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                int[] indexes = cellMap.get(cellKey(cellX, cellY));
+                if (indexes == null) {
+                    continue;
+                }
+                for (int index : indexes) {
+                    indexConsumer.accept(index);
+                }
+            }
+        }
+    }
+
+    private static int cell(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int cellX, int cellY) {
+        return ((long) cellY << 32) | (cellX & 0xFFFFFFFFL);
+    }
+
+}
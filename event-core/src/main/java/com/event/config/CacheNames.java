@@ -0,0 +1,22 @@
+package com.event.config;
+
+/**
+ * Spring Cache 캐시 이름
+ *
+ * 캐시별 TTL과 직렬화기는 RedisCacheManagerConfiguration에서 설정합니다.
+ */
+public final class CacheNames {
+
+    // 댓글 분석 결과 (contentId)
+    public static final String COMMENT_ANALYSIS = "comment-analysis";
+
+    // 비로그인 이벤트 상세 (contentId)
+    public static final String EVENT_DETAIL = "event-detail";
+
+    // 커서 없이 조회한 댓글 목록 첫 페이지 (contentId:쓰기 버전, CommentService 참고)
+    public static final String COMMENT_FIRST_PAGE = "comment-first-page";
+
+    private CacheNames() {
+    }
+
+}
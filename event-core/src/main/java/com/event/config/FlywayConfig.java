@@ -0,0 +1,40 @@
+package com.event.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Flyway 마이그레이션 설정 클래스
+ *
+ * 테이블과 컬럼은 지금처럼 Hibernate(ddl-auto: update)가 관리하고,
+ * 인덱스처럼 운영 DB에 버전을 남기며 적용해야 하는 변경은 db/migration의 Flyway 마이그레이션으로 관리합니다.
+ *
+ * Spring Boot 기본 설정에서는 Flyway가 JPA보다 먼저 실행되므로 새 DB에서는 테이블이 없는 상태로 마이그레이션하게 됩니다.
+ * 그래서 JPA 초기화(스키마 갱신)가 끝나고 리스너와 웹 서버가 시작되기 전에 마이그레이션을 실행합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.flyway", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FlywayConfig {
+
+    /**
+     * JPA보다 먼저 실행되는 기본 마이그레이션은 건너뜁니다.
+     */
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy() {
+        return flyway -> {
+        };
+    }
+
+    /**
+     * 모든 싱글톤 빈(EntityManagerFactory 포함)이 만들어진 뒤에 마이그레이션을 실행합니다.
+     */
+    @Bean
+    public SmartInitializingSingleton flywayMigrationAfterJpa(Flyway flyway) {
+        return flyway::migrate;
+    }
+
+}
@@ -1,18 +1,32 @@
 package com.event.config;
 
+import com.event.cache.TwoLevelCacheManager;
+import com.event.listener.EventReadModelBroadcaster;
 import com.event.model.response.CommentAnalysisResponse;
+import com.event.model.response.CommentScrollResponse;
+import com.event.model.response.EventResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -21,26 +35,98 @@ import java.time.Duration;
  * Redis 캐시 매니저 설정 클래스
  *
  * Spring Cache를 사용해서 Redis를 캐쉬 저장소로 사용하기 위한 설정을 제공합니다.
- * 댓글 분석 결과(CommentAnalysisResponse)를 캐슁합니다.
+ * 캐시마다 값 타입 전용 직렬화기와 유효기간을 따로 설정합니다.
+ * - comment-analysis: 댓글 분석 결과(CommentAnalysisResponse)
+ * - event-detail: 비로그인 이벤트 상세(EventResponse)
+ * - comment-first-page: 댓글 목록 첫 페이지(CommentScrollResponse)
+ *
+ * 각 Redis 캐시(L2) 앞에는 파드 로컬 Caffeine 캐시(L1)를 두고,
+ * 캐시 삭제는 Redis pub/sub으로 다른 파드의 L1에도 전파합니다.
  */
 @Configuration
 @EnableCaching
 @RequiredArgsConstructor
 @Profile("!test")
-public class RedisCacheManagerConfiguration {
+public class RedisCacheManagerConfiguration implements CachingConfigurer {
+
+    // 캐시 비우기(clear)에 KEYS 대신 SCAN을 사용할 때 한 번에 조회할 키 수
+    private static final int CLEAR_SCAN_BATCH_SIZE = 1000;
 
     private final ObjectMapper objectMapper;
 
     @Value("${redis.time-to-live}")
     private long ttlSeconds;
 
+    @Value("${redis.cache.event-detail-ttl}")
+    private Duration eventDetailTtl;
+
+    @Value("${redis.cache.comment-first-page-ttl}")
+    private Duration commentFirstPageTtl;
+
+    @Value("${redis.cache.local-ttl}")
+    private Duration localTtl;
+
+    @Value("${redis.cache.local-max-size}")
+    private long localMaxSize;
+
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public TwoLevelCacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry) {
         // CommentAnalysisResponse 전용 직렬화기 생성
         Jackson2JsonRedisSerializer<CommentAnalysisResponse> commentAnalysisResponseSerializer = new Jackson2JsonRedisSerializer<>(
                 objectMapper, CommentAnalysisResponse.class);
+        RedisCacheConfiguration commentAnalysisCacheConfiguration = cacheConfiguration(
+                commentAnalysisResponseSerializer, Duration.ofSeconds(ttlSeconds));
+
+        // 캐시를 비울 때 Redis를 블로킹하는 KEYS 대신 SCAN으로 키를 찾음
+        RedisCacheWriter redisCacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+                connectionFactory, BatchStrategies.scan(CLEAR_SCAN_BATCH_SIZE));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisCacheWriter)
+                .cacheDefaults(commentAnalysisCacheConfiguration)
+                .withCacheConfiguration(CacheNames.COMMENT_ANALYSIS, commentAnalysisCacheConfiguration)
+                .withCacheConfiguration(CacheNames.EVENT_DETAIL, cacheConfiguration(
+                        new Jackson2JsonRedisSerializer<>(objectMapper, EventResponse.class), eventDetailTtl))
+                .withCacheConfiguration(CacheNames.COMMENT_FIRST_PAGE, cacheConfiguration(
+                        new Jackson2JsonRedisSerializer<>(objectMapper, CommentScrollResponse.class),
+                        commentFirstPageTtl))
+                .build();
+        // 빈으로 등록하지 않으므로 직접 초기 캐시를 구성
+        redisCacheManager.initializeCaches();
 
-        RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
+        return new TwoLevelCacheManager(
+                redisCacheManager, stringRedisTemplate, objectMapper, localTtl, localMaxSize, meterRegistry);
+    }
+
+    /**
+     * 다른 파드에서 발행한 캐시 무효화 메시지와 읽기 모델 갱신 메시지를 구독합니다.
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TwoLevelCacheManager cacheManager,
+            EventReadModelBroadcaster eventReadModelBroadcaster) {
+        RedisMessageListenerContainer redisMessageListenerContainer = new RedisMessageListenerContainer();
+        redisMessageListenerContainer.setConnectionFactory(connectionFactory);
+        redisMessageListenerContainer.addMessageListener(
+                cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        redisMessageListenerContainer.addMessageListener(
+                eventReadModelBroadcaster, new ChannelTopic(EventReadModelBroadcaster.CHANNEL));
+        return redisMessageListenerContainer;
+    }
+
+    /**
+     * Redis 장애 시 캐시 조회/저장 실패로 요청이 실패하지 않고 DB 조회로 처리되도록 예외를 로그로만 남깁니다.
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new LoggingCacheErrorHandler();
+    }
+
+    private RedisCacheConfiguration cacheConfiguration(RedisSerializer<?> valueSerializer, Duration ttl) {
+        return RedisCacheConfiguration.defaultCacheConfig()
                 .disableCachingNullValues() // null 값은 캐시하지 않음
                 .serializeKeysWith(
                         // 키는 문자열로 직렬화
@@ -49,12 +135,9 @@ public class RedisCacheManagerConfiguration {
                 .serializeValuesWith(
                         // 값은 JSON으로 직렬화
                         RedisSerializationContext.SerializationPair
-                                .fromSerializer(commentAnalysisResponseSerializer))
+                                .fromSerializer(valueSerializer))
                 // 캐시 유효기간
-                .entryTtl(Duration.ofSeconds(ttlSeconds));
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(cacheConfiguration)
-                .build();
+                .entryTtl(ttl);
     }
 
 }
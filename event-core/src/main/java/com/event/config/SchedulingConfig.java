@@ -0,0 +1,14 @@
+package com.event.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ *
+ * 활성 이벤트 카탈로그의 날짜 변경 처리 등 주기적인 작업을 실행합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,78 @@
+package com.event.config.kafka;
+
+import com.event.model.dto.EventDto;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * event-topic의 EventDto 메시지를 역직렬화하는 카프카 Deserializer
+ *
+ * content-type 헤더가 Smile이면 Jackson Smile(바이너리 JSON)로, 헤더가 없으면 기존 JSON 메시지로 읽습니다.
+ * 배포 순서와 관계없이 두 포맷이 섞여 있는 토픽을 읽을 수 있도록 event-core를 먼저 배포해야 합니다.
+ *
+ * 이 컨슈머가 모르는 스키마 버전의 메시지는 SerializationException을 던지고,
+ * ErrorHandlingDeserializer가 해당 레코드를 null로 전달합니다.
+ * 리스너는 이 레코드를 커밋하지 않고 데드 레터 토픽으로 보냅니다. (KafkaConsumerConfig 참고)
+ */
+public class EventDtoDeserializer implements Deserializer<EventDto> {
+
+    // 기존 JsonDeserializer와 같은 설정의 ObjectMapper
+    private final ObjectMapper jsonMapper = JacksonUtils.enhancedObjectMapper();
+
+    private final ObjectMapper smileMapper = SmileMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    @Override
+    public EventDto deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+
+        if (EventWireFormat.SMILE_CONTENT_TYPE.equals(headerValue(headers, EventWireFormat.CONTENT_TYPE_HEADER))) {
+            checkSchemaVersion(headerValue(headers, EventWireFormat.SCHEMA_VERSION_HEADER));
+            return read(smileMapper, data);
+        }
+        return read(jsonMapper, data);
+    }
+
+    @Override
+    public EventDto deserialize(String topic, byte[] data) {
+        return data == null ? null : read(jsonMapper, data);
+    }
+
+    private EventDto read(ObjectMapper objectMapper, byte[] data) {
+        try {
+            return objectMapper.readValue(data, EventDto.class);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to deserialize EventDto", e);
+        }
+    }
+
+    private void checkSchemaVersion(String schemaVersion) {
+        try {
+            if (schemaVersion != null && Integer.parseInt(schemaVersion) > EventWireFormat.SCHEMA_VERSION) {
+                throw new SerializationException("Unsupported EventDto schema version: " + schemaVersion);
+            }
+        } catch (NumberFormatException e) {
+            throw new SerializationException("Invalid EventDto schema version: " + schemaVersion, e);
+        }
+    }
+
+    private String headerValue(Headers headers, String key) {
+        Header header = headers == null ? null : headers.lastHeader(key);
+        return header == null || header.value() == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+}
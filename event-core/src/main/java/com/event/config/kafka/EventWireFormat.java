@@ -0,0 +1,29 @@
+package com.event.config.kafka;
+
+/**
+ * event-topic 메시지 포맷 정의
+ *
+ * bridge-service와 event-core가 주고받는 EventDto 메시지의 헤더 이름과 스키마 버전입니다.
+ * bridge-service의 com.bridge.serializer.EventWireFormat과 값이 같아야 합니다.
+ *
+ * 스키마 버전 1은 EventDto의 현재 필드 목록입니다.
+ * 필드 추가는 모르는 필드를 무시하므로 버전을 올리지 않아도 되고,
+ * 필드 이름 변경이나 타입 변경처럼 기존 컨슈머가 읽을 수 없는 변경은 버전을 올려야 합니다.
+ */
+public final class EventWireFormat {
+
+    public static final String CONTENT_TYPE_HEADER = "content-type";
+
+    public static final String SCHEMA_VERSION_HEADER = "schema-version";
+
+    public static final String SMILE_CONTENT_TYPE = "application/x-jackson-smile";
+
+    /**
+     * 이 컨슈머가 읽을 수 있는 가장 높은 스키마 버전입니다.
+     */
+    public static final int SCHEMA_VERSION = 1;
+
+    private EventWireFormat() {
+    }
+
+}
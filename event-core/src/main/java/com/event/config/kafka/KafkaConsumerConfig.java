@@ -0,0 +1,51 @@
+package com.event.config.kafka;
+
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+/**
+ * 이벤트 리스너 에러 처리 설정
+ *
+ * 리스너가 BatchListenerFailedException을 던지면 실패한 레코드 앞까지의 오프셋을 커밋하고,
+ * 실패한 레코드는 데드 레터 토픽으로 보낸 뒤 나머지 레코드를 다시 소비합니다.
+ * 역직렬화 실패(DeserializationException)는 재시도하지 않고 바로 데드 레터 토픽으로 보내며,
+ * 원본 바이트가 그대로 전송되므로 컨슈머를 새 스키마 버전에 맞게 배포한 뒤 다시 처리할 수 있습니다.
+ *
+ * 컨테이너 팩토리는 Spring Boot가 만들고, CommonErrorHandler 빈을 찾아 자동으로 등록합니다.
+ */
+@Configuration
+public class KafkaConsumerConfig {
+
+    @Value("${spring.kafka.dead-letter-topic}")
+    private String deadLetterTopic;
+
+    @Value("${spring.kafka.listener.retry-interval}")
+    private long retryInterval;
+
+    @Value("${spring.kafka.listener.max-retries}")
+    private long maxRetries;
+
+    @Bean
+    public DefaultErrorHandler kafkaErrorHandler(KafkaProperties kafkaProperties) {
+        // 역직렬화에 실패한 레코드는 원본 byte[] 그대로 전송되므로 값은 ByteArraySerializer로 직렬화
+        KafkaTemplate<String, byte[]> deadLetterTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                kafkaProperties.buildProducerProperties(null), new StringSerializer(), new ByteArraySerializer()));
+
+        // 파티션을 -1로 지정하면 프로듀서가 레코드 키로 파티션을 선택 (원본 토픽과 파티션 수가 달라도 됨)
+        DeadLetterPublishingRecoverer deadLetterPublishingRecoverer = new DeadLetterPublishingRecoverer(
+                deadLetterTemplate, (consumerRecord, exception) -> new TopicPartition(deadLetterTopic, -1));
+
+        return new DefaultErrorHandler(deadLetterPublishingRecoverer, new FixedBackOff(retryInterval, maxRetries));
+    }
+
+}
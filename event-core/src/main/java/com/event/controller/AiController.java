@@ -1,6 +1,7 @@
 package com.event.controller;
 
 import com.event.model.response.CommentAnalysisResponse;
+import com.event.model.response.CommentAnalysisStatusResponse;
 import com.event.service.AiService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.*;
  * AI 기반 기능을 제공하는 REST 컨트롤러
  *
  * 댓글 분석 및 요약 기능을 제공합니다.
+ * 분석은 백그라운드에서 실행되므로, 진행 상황은 분석 상태 조회로 확인합니다.
  */
 @RestController
 @RequestMapping(path = "/ai/${api.version}", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -34,4 +36,16 @@ public class AiController {
         return ResponseEntity.ok(aiService.analyzeComments(contentId));
     }
 
+    /**
+     * 특정 이벤트의 댓글 분석 작업 상태를 조회합니다.
+     *
+     * @param contentId 이벤트 컨텐츠 ID
+     * @return 분석 작업 상태와 마지막 분석 정보
+     */
+    @GetMapping("/{contentId}/analysis/status")
+    @Operation(summary = "댓글 AI 분석 상태 조회")
+    ResponseEntity<CommentAnalysisStatusResponse> getCommentsAnalysisStatus(@PathVariable Long contentId) {
+        return ResponseEntity.ok(aiService.getAnalysisStatus(contentId));
+    }
+
 }
@@ -0,0 +1,43 @@
+package com.event.controller;
+
+import com.event.model.response.CommentCountResponse;
+import com.event.service.CommentService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 여러 이벤트의 댓글 수를 조회하는 REST 컨트롤러
+ *
+ * 이벤트 목록 화면이 이벤트마다 댓글 수를 요청하지 않고 한 번에 조회할 수 있도록 합니다.
+ */
+@RestController
+@RequestMapping(path = "/events/${api.version}/comments", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequiredArgsConstructor
+@Slf4j
+public class CommentCountController {
+
+    private final CommentService commentService;
+
+    /**
+     * 여러 이벤트의 댓글 수를 한 번에 조회합니다.
+     *
+     * @param contentIdList 이벤트 컨텐츠 ID 목록 (예: contentIds=1,2,3)
+     * @return 요청한 순서대로의 댓글 수 목록
+     */
+    @GetMapping("/counts")
+    @Operation(summary = "여러 이벤트의 댓글 수 조회")
+    public ResponseEntity<List<CommentCountResponse>> getCommentCountList(
+            @RequestParam(name = "contentIds") List<Long> contentIdList) {
+        return ResponseEntity.ok(commentService.getCommentCountList(contentIdList));
+    }
+
+}
@@ -1,7 +1,9 @@
 package com.event.controller;
 
 import com.event.model.response.EventListResponse;
+import com.event.model.response.EventNearbyResponse;
 import com.event.model.response.EventResponse;
+import com.event.model.response.EventScrollResponse;
 import com.event.security.CustomPrincipal;
 import com.event.service.EventService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,15 +14,26 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * 이벤트 관련 요청을 처리하는 REST 컨트롤러
  *
  * 이벤트 목록 조회 및 상세 정보 조회 기능을 제공합니다.
+ *
+ * 비로그인 목록/상세 응답에는 ETag와 Cache-Control을 붙이고,
+ * If-None-Match가 현재 ETag와 같으면 응답 본문을 만들지 않고 304를 반환합니다.
  */
 @RestController
 @RequestMapping(path = "/events/${api.version}", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -33,6 +46,18 @@ public class EventController {
     @Value("${size.event}")
     private int eventSize;
 
+    @Value("${size.nearby-event}")
+    private int nearbyEventSize;
+
+    @Value("${geo.default-radius}")
+    private int defaultRadiusMeters;
+
+    @Value("${http-cache.event-list-max-age}")
+    private Duration eventListMaxAge;
+
+    @Value("${http-cache.event-detail-max-age}")
+    private Duration eventDetailMaxAge;
+
     /**
      * 이벤트 목록을 페이지네이션과 함께 조회합니다.
      *
@@ -46,7 +71,8 @@ public class EventController {
     public ResponseEntity<Page<EventListResponse>> getEventList(
             Pageable pageable,
             @RequestParam(required = false) String query,
-            @RequestParam(name = "area", required = false) String areaString
+            @RequestParam(name = "area", required = false) String areaString,
+            WebRequest webRequest
     ) {
         Pageable fixedPageable = PageRequest.of(
                 pageable.getPageNumber(),
@@ -54,7 +80,84 @@ public class EventController {
                 Sort.by(
                         Sort.Order.asc("eventEndDate"),
                         Sort.Order.asc("eventStartDate")));
-        return ResponseEntity.ok(eventService.selectEventList(fixedPageable, query, areaString));
+        return conditionalResponse(
+                webRequest,
+                eventService.selectEventListETag(query),
+                CacheControl.maxAge(eventListMaxAge).cachePublic(),
+                () -> eventService.selectEventList(fixedPageable, query, areaString));
+    }
+
+    /**
+     * 이벤트 목록을 키셋 커서 방식으로 조회합니다.
+     * 페이지 번호 대신 이전 응답의 nextCursor를 전달하며, 페이지마다 count 쿼리를 실행하지 않습니다.
+     *
+     * @param cursor     다음 페이지 커서 (첫 페이지는 생략)
+     * @param query      검색 쿼리 (선택사항)
+     * @param areaString 지역 필터 (선택사항)
+     * @return 이벤트 목록과 다음 커서
+     */
+    @GetMapping("/scroll")
+    @Operation(summary = "이벤트 목록 커서 조회")
+    public ResponseEntity<EventScrollResponse> getEventScroll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String query,
+            @RequestParam(name = "area", required = false) String areaString,
+            WebRequest webRequest
+    ) {
+        return conditionalResponse(
+                webRequest,
+                eventService.selectEventListETag(query),
+                CacheControl.maxAge(eventListMaxAge).cachePublic(),
+                () -> eventService.selectEventScroll(cursor, eventSize, query, areaString));
+    }
+
+    /**
+     * 기준 좌표에서 반경 안에 있는 종료되지 않은 이벤트를 가까운 순서로 조회합니다.
+     *
+     * @param mapX   기준 경도
+     * @param mapY   기준 위도
+     * @param radius 반경 (미터, 생략하면 기본 반경)
+     * @return 가까운 순서대로의 이벤트 목록
+     */
+    @GetMapping("/nearby")
+    @Operation(summary = "주변 이벤트 조회")
+    public ResponseEntity<List<EventNearbyResponse>> getNearbyEventList(
+            @RequestParam double mapX,
+            @RequestParam double mapY,
+            @RequestParam(required = false) Integer radius,
+            WebRequest webRequest
+    ) {
+        int radiusMeters = (radius != null) ? radius : defaultRadiusMeters;
+        return conditionalResponse(
+                webRequest,
+                eventService.selectEventListETag(null),
+                CacheControl.maxAge(eventListMaxAge).cachePublic(),
+                () -> eventService.selectNearbyEventList(mapX, mapY, radiusMeters, nearbyEventSize));
+    }
+
+    /**
+     * 위경도 범위(지도 화면 영역) 안에 있는 종료되지 않은 이벤트를 범위 중심에서 가까운 순서로 조회합니다.
+     *
+     * @param minMapX 최소 경도
+     * @param minMapY 최소 위도
+     * @param maxMapX 최대 경도
+     * @param maxMapY 최대 위도
+     * @return 범위 중심에서 가까운 순서대로의 이벤트 목록
+     */
+    @GetMapping("/bounds")
+    @Operation(summary = "지도 범위 이벤트 조회")
+    public ResponseEntity<List<EventNearbyResponse>> getEventListInBounds(
+            @RequestParam double minMapX,
+            @RequestParam double minMapY,
+            @RequestParam double maxMapX,
+            @RequestParam double maxMapY,
+            WebRequest webRequest
+    ) {
+        return conditionalResponse(
+                webRequest,
+                eventService.selectEventListETag(null),
+                CacheControl.maxAge(eventListMaxAge).cachePublic(),
+                () -> eventService.selectEventListInBounds(minMapX, minMapY, maxMapX, maxMapY, nearbyEventSize));
     }
 
     /**
@@ -67,9 +170,18 @@ public class EventController {
     @Operation(summary = "이벤트 상세 조회")
     public ResponseEntity<EventResponse> getEvent(
             @PathVariable Long contentId,
-            @AuthenticationPrincipal CustomPrincipal customPrincipal) {
+            @AuthenticationPrincipal CustomPrincipal customPrincipal,
+            WebRequest webRequest) {
         Long userId = (customPrincipal != null) ? customPrincipal.userId() : null;
-        return ResponseEntity.ok(eventService.selectEvent(contentId, userId));
+        // 로그인 유저의 응답에는 즐겨찾기 여부가 포함되므로 공유 캐시(CDN)에 저장하지 않고 매번 재검증
+        CacheControl cacheControl = userId == null
+                ? CacheControl.maxAge(eventDetailMaxAge).cachePublic()
+                : CacheControl.noCache().cachePrivate();
+        return conditionalResponse(
+                webRequest,
+                eventService.selectEventETag(contentId, userId),
+                cacheControl,
+                () -> eventService.selectEvent(contentId, userId));
     }
 
     /**
@@ -98,4 +210,55 @@ public class EventController {
         return ResponseEntity.ok(eventService.selectFavoriteEventList(fixedPageable, userId, query, areaString));
     }
 
+    /**
+     * 인증된 사용자의 즐겨찾기 이벤트 목록을 키셋 커서 방식으로 조회합니다.
+     *
+     * @param customPrincipal 인증된 사용자 정보
+     * @param cursor          다음 페이지 커서 (첫 페이지는 생략)
+     * @param query           검색 쿼리 (선택사항)
+     * @param areaString      지역 필터 (선택사항)
+     * @return 즐겨찾기 이벤트 목록과 다음 커서
+     */
+    @GetMapping("/favorites/scroll")
+    @Operation(summary = "즐겨찾기 이벤트 목록 커서 조회")
+    public ResponseEntity<EventScrollResponse> getFavoriteEventScroll(
+            @AuthenticationPrincipal CustomPrincipal customPrincipal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String query,
+            @RequestParam(name = "areastring", required = false) String areaString) {
+        Long userId = customPrincipal.userId();
+        return ResponseEntity.ok(eventService.selectFavoriteEventScroll(userId, cursor, eventSize, query, areaString));
+    }
+
+    /**
+     * If-None-Match가 현재 ETag와 같으면 본문을 만들지 않고 304를 반환하고,
+     * 다르면 본문을 만들어 ETag, Cache-Control과 함께 반환합니다.
+     *
+     * @param webRequest   현재 요청
+     * @param eTag         현재 ETag (알 수 없으면 빈 값이며, 이때는 조건부 처리 없이 응답)
+     * @param cacheControl 응답에 붙일 Cache-Control
+     * @param bodySupplier 응답 본문 조회
+     */
+    private <T> ResponseEntity<T> conditionalResponse(
+            WebRequest webRequest,
+            Optional<String> eTag,
+            CacheControl cacheControl,
+            Supplier<T> bodySupplier) {
+        if (eTag.isEmpty()) {
+            return ResponseEntity.ok(bodySupplier.get());
+        }
+
+        if (webRequest.checkNotModified(eTag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag.get())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag.get())
+                .cacheControl(cacheControl)
+                .body(bodySupplier.get());
+    }
+
 }
\ No newline at end of file
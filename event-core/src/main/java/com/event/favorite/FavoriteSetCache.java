@@ -0,0 +1,236 @@
+package com.event.favorite;
+
+import com.event.repository.EventFavoriteRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 사용자별 즐겨찾기 contentId 집합 캐시
+ *
+ * 이벤트 상세 조회마다 실행되던 existsByContentIdAndUserId 쿼리를 대체합니다.
+ * 사용자별 즐겨찾기 집합을 Redis SET(favorite:user:{userId})에 두고,
+ * 같은 사용자의 연속된 조회는 파드 로컬의 짧은 TTL 니어 캐시(Caffeine)에서 처리합니다.
+ *
+ * 즐겨찾기 등록/해제는 DB 트랜잭션이 커밋된 이후에 Redis와 로컬 캐시에 바로 반영합니다. (write-through)
+ * 등록/해제마다 집합 버전(favorite:user:{userId}:version)을 올리고, DB에서 읽은 집합은 읽기 전의 버전이
+ * 그대로일 때만 Redis에 저장해서 동시에 커밋된 등록/해제가 이전 집합으로 덮어써지지 않게 합니다.
+ * 다른 파드의 로컬 캐시는 local-ttl 동안 이전 값을 볼 수 있습니다.
+ * Redis를 사용할 수 없으면 DB에서 집합을 읽습니다.
+ */
+@Component
+@Slf4j
+public class FavoriteSetCache {
+
+    private static final String KEY_PREFIX = "favorite:user:";
+
+    // Redis는 빈 SET을 저장하지 않으므로, 즐겨찾기가 없는 사용자도 적재된 상태임을 표시하기 위한 멤버
+    private static final String LOADED_MARKER = "-";
+
+    // 집합 버전 키 접미사 (즐겨찾기 등록/해제마다 증가)
+    private static final String VERSION_KEY_SUFFIX = ":version";
+
+    // 버전 키가 없을 때의 버전
+    private static final String INITIAL_VERSION = "0";
+
+    // DB에서 읽은 집합을 TTL과 함께 한 번에 저장
+    // DB를 읽기 전에 확인한 버전이 그대로일 때만 저장해서, 그 사이에 커밋된 등록/해제를 이전 집합으로 덮어쓰지 않음
+    // Lua의 unpack은 인자 수 제한(약 8000개)이 있으므로 1000개씩 나눠서 SADD
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '" + INITIAL_VERSION + "') ~= ARGV[2] then return 0 end "
+                    + "for i = 3, #ARGV, 1000 do "
+                    + "redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV))) "
+                    + "end "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+                    + "return 1",
+            Long.class);
+
+    // 버전을 올리고, 이미 적재된 집합에만 멤버를 추가/제거 (적재되지 않은 집합을 일부만 만들지 않도록)
+    private static final RedisScript<Long> ADD_IF_LOADED_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) "
+                    + "redis.call('EXPIRE', KEYS[2], ARGV[2]) "
+                    + "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+                    + "redis.call('SADD', KEYS[1], ARGV[1]) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+                    + "return 1",
+            Long.class);
+
+    private static final RedisScript<Long> REMOVE_IF_LOADED_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) "
+                    + "redis.call('EXPIRE', KEYS[2], ARGV[2]) "
+                    + "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+                    + "redis.call('SREM', KEYS[1], ARGV[1]) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+                    + "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final EventFavoriteRepository favoriteRepository;
+
+    private final boolean enabled;
+
+    private final String redisTtlSeconds;
+
+    // userId -> 즐겨찾기 contentId 집합 (불변)
+    private final Cache<Long, Set<Long>> localCache;
+
+    public FavoriteSetCache(
+            StringRedisTemplate stringRedisTemplate,
+            EventFavoriteRepository favoriteRepository,
+            @Value("${favorite.cache.enabled}") boolean enabled,
+            @Value("${favorite.cache.redis-ttl}") Duration redisTtl,
+            @Value("${favorite.cache.local-ttl}") Duration localTtl,
+            @Value("${favorite.cache.local-max-size}") long localMaxSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.favoriteRepository = favoriteRepository;
+        this.enabled = enabled;
+        this.redisTtlSeconds = String.valueOf(redisTtl.toSeconds());
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+    }
+
+    /**
+     * 캐시를 사용할 수 있는지 확인합니다. false면 호출하는 쪽에서 DB를 조회해야 합니다.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 사용자가 즐겨찾기한 contentId 집합을 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 즐겨찾기한 contentId 집합 (불변)
+     */
+    public Set<Long> getFavoriteIdSet(Long userId) {
+        return localCache.get(userId, this::load);
+    }
+
+    /**
+     * 사용자가 이벤트를 즐겨찾기했는지 확인합니다.
+     */
+    public boolean contains(Long userId, Long contentId) {
+        return getFavoriteIdSet(userId).contains(contentId);
+    }
+
+    /**
+     * 즐겨찾기 등록을 트랜잭션 커밋 이후에 캐시에 반영합니다.
+     */
+    public void add(Long userId, Long contentId) {
+        afterCommit(() -> {
+            localCache.asMap().computeIfPresent(userId, (key, favoriteIdSet) -> {
+                Set<Long> updatedFavoriteIdSet = new HashSet<>(favoriteIdSet);
+                updatedFavoriteIdSet.add(contentId);
+                return Collections.unmodifiableSet(updatedFavoriteIdSet);
+            });
+            updateRedis(ADD_IF_LOADED_SCRIPT, userId, contentId);
+        });
+    }
+
+    /**
+     * 즐겨찾기 해제를 트랜잭션 커밋 이후에 캐시에 반영합니다.
+     */
+    public void remove(Long userId, Long contentId) {
+        afterCommit(() -> {
+            localCache.asMap().computeIfPresent(userId, (key, favoriteIdSet) -> {
+                Set<Long> updatedFavoriteIdSet = new HashSet<>(favoriteIdSet);
+                updatedFavoriteIdSet.remove(contentId);
+                return Collections.unmodifiableSet(updatedFavoriteIdSet);
+            });
+            updateRedis(REMOVE_IF_LOADED_SCRIPT, userId, contentId);
+        });
+    }
+
+    /**
+     * Redis에서 집합을 읽고, 없으면 DB에서 읽어서 Redis에 저장합니다.
+     */
+    private Set<Long> load(Long userId) {
+        String key = KEY_PREFIX + userId;
+        String versionKey = key + VERSION_KEY_SUFFIX;
+        String version;
+        try {
+            // DB를 읽기 전의 버전 (저장할 때 그 사이에 등록/해제가 있었는지 확인)
+            version = Objects.requireNonNullElse(stringRedisTemplate.opsForValue().get(versionKey), INITIAL_VERSION);
+            Set<String> memberSet = stringRedisTemplate.opsForSet().members(key);
+            if (memberSet != null && !memberSet.isEmpty()) {
+                Set<Long> favoriteIdSet = new HashSet<>(memberSet.size());
+                for (String member : memberSet) {
+                    if (!LOADED_MARKER.equals(member)) {
+                        favoriteIdSet.add(Long.valueOf(member));
+                    }
+                }
+                return Collections.unmodifiableSet(favoriteIdSet);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to read favorite set from Redis (userId: {}): {}", userId, e.getMessage());
+            return loadFromDb(userId);
+        }
+
+        Set<Long> favoriteIdSet = loadFromDb(userId);
+        List<String> argList = new ArrayList<>(favoriteIdSet.size() + 3);
+        argList.add(redisTtlSeconds);
+        argList.add(version);
+        argList.add(LOADED_MARKER);
+        favoriteIdSet.forEach(contentId -> argList.add(String.valueOf(contentId)));
+        try {
+            stringRedisTemplate.execute(LOAD_SCRIPT, List.of(key, versionKey), argList.toArray());
+        } catch (DataAccessException e) {
+            log.warn("Failed to write favorite set to Redis (userId: {}): {}", userId, e.getMessage());
+        }
+        return favoriteIdSet;
+    }
+
+    private Set<Long> loadFromDb(Long userId) {
+        return Set.copyOf(favoriteRepository.findContentIdListByUserId(userId));
+    }
+
+    private void updateRedis(RedisScript<Long> script, Long userId, Long contentId) {
+        String key = KEY_PREFIX + userId;
+        try {
+            stringRedisTemplate.execute(
+                    script, List.of(key, key + VERSION_KEY_SUFFIX), String.valueOf(contentId), redisTtlSeconds);
+        } catch (DataAccessException e) {
+            // 갱신하지 못한 집합은 남겨두지 않고 다음 조회 때 DB에서 다시 읽도록 함
+            log.warn("Failed to update favorite set in Redis (userId: {}): {}", userId, e.getMessage());
+            localCache.invalidate(userId);
+            try {
+                stringRedisTemplate.delete(key);
+            } catch (DataAccessException deleteException) {
+                log.error("Failed to evict favorite set from Redis (userId: {}): {}", userId,
+                        deleteException.getMessage());
+            }
+        }
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+}
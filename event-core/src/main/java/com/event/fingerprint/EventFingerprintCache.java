@@ -0,0 +1,73 @@
+package com.event.fingerprint;
+
+import com.event.model.entity.EventEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * contentId별로 마지막으로 저장된 이벤트 지문을 보관하는 인메모리 캐시
+ *
+ * 지문이 같은 이벤트는 DB에 보내지 않고 건너뛰기 위해 사용합니다.
+ * 캐시에 없는 이벤트는 DB의 content_hash 비교로 한 번 더 걸러지므로,
+ * 애플리케이션 재시작 직후처럼 캐시가 비어 있어도 불필요한 갱신은 일어나지 않습니다.
+ * 그래서 보관 개수와 유효기간을 제한하고, 제거되거나 만료된 지문은 DB 비교로 처리합니다.
+ *
+ * 커밋된 값만 보관하도록 EventReadModelSynchronizer를 통해 커밋 이후에 갱신됩니다.
+ */
+@Component
+public class EventFingerprintCache {
+
+    // contentId -> 지문
+    private final Cache<Long, String> contentHashCache;
+
+    public EventFingerprintCache(
+            @Value("${fingerprint.cache.max-size}") long maxSize,
+            @Value("${fingerprint.cache.ttl}") Duration ttl) {
+        this.contentHashCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 마지막으로 저장된 지문과 같은지 확인합니다.
+     *
+     * @param contentId   컨텐츠 ID
+     * @param contentHash 새로 수신한 이벤트의 지문
+     * @return 캐시에 같은 지문이 있으면 true
+     */
+    public boolean isUnchanged(Long contentId, String contentHash) {
+        return contentHash != null && contentHash.equals(contentHashCache.getIfPresent(contentId));
+    }
+
+    /**
+     * 저장된 이벤트들의 지문을 캐시에 반영합니다.
+     *
+     * @param eventEntityCollection 저장된 이벤트 목록
+     */
+    public void putAll(Collection<EventEntity> eventEntityCollection) {
+        for (EventEntity eventEntity : eventEntityCollection) {
+            if (eventEntity.getContentId() == null || eventEntity.getContentHash() == null) {
+                continue;
+            }
+            contentHashCache.put(eventEntity.getContentId(), eventEntity.getContentHash());
+        }
+    }
+
+    /**
+     * 삭제된 이벤트의 지문을 캐시에서 제거합니다.
+     *
+     * @param contentId 삭제된 이벤트의 컨텐츠 ID
+     */
+    public void remove(Long contentId) {
+        if (contentId != null) {
+            contentHashCache.invalidate(contentId);
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.event.fingerprint;
+
+import com.event.model.entity.EventEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * 이벤트 내용의 지문(content hash)을 계산하는 유틸리티
+ *
+ * bridge-service가 내용이 바뀌지 않은 이벤트를 다시 보내도 행을 새로 쓰지 않도록,
+ * 공공데이터 API에서 받아온 모든 필드(modifiedTime 포함)의 SHA-256 해시를 지문으로 사용합니다.
+ * DB가 관리하는 dbUpsertedAt은 지문에 포함하지 않습니다.
+ */
+public final class EventFingerprints {
+
+    // 필드 구분자와 null 표시 (필드 값에 나올 수 없는 제어 문자)
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final char NULL_MARKER = '\u0000';
+
+    private EventFingerprints() {
+    }
+
+    /**
+     * 이벤트의 지문을 계산합니다.
+     *
+     * @param eventEntity 지문을 계산할 이벤트
+     * @return 64자리 16진수 SHA-256 해시
+     */
+    public static String of(EventEntity eventEntity) {
+        StringBuilder builder = new StringBuilder(512);
+        append(builder, eventEntity.getContentId());
+        append(builder, eventEntity.getTitle());
+        append(builder, eventEntity.getCreatedTime());
+        append(builder, eventEntity.getModifiedTime());
+        append(builder, eventEntity.getAddr1());
+        append(builder, eventEntity.getAddr2());
+        append(builder, eventEntity.getArea());
+        append(builder, eventEntity.getFirstImage());
+        append(builder, eventEntity.getFirstImage2());
+        append(builder, eventEntity.getMapX());
+        append(builder, eventEntity.getMapY());
+        append(builder, eventEntity.getZipCode());
+        append(builder, eventEntity.getHomepage());
+        append(builder, eventEntity.getOverview());
+        append(builder, eventEntity.getEventStartDate());
+        append(builder, eventEntity.getEventEndDate());
+        append(builder, eventEntity.getPlayTime());
+        append(builder, eventEntity.getUseTimeFestival());
+        append(builder, eventEntity.getSponsor1());
+        append(builder, eventEntity.getSponsor1Tel());
+        append(builder, eventEntity.getSponsor2());
+        append(builder, eventEntity.getSponsor2Tel());
+
+        return HexFormat.of().formatHex(sha256().digest(builder.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void append(StringBuilder builder, Object value) {
+        if (value == null) {
+            builder.append(NULL_MARKER);
+        } else {
+            builder.append(Objects.toString(value));
+        }
+        builder.append(FIELD_SEPARATOR);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 구현체는 SHA-256을 제공해야 함
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.event.geo;
+
+/**
+ * 위경도 사각 범위 (경계 포함)
+ *
+ * @param minMapX 최소 경도
+ * @param minMapY 최소 위도
+ * @param maxMapX 최대 경도
+ * @param maxMapY 최대 위도
+ */
+public record GeoBounds(
+        double minMapX,
+        double minMapY,
+        double maxMapX,
+        double maxMapY
+) {
+
+    /**
+     * 중심 좌표에서 반경 안의 모든 지점을 포함하는 사각 범위를 만듭니다.
+     * 경도 1도의 거리는 위도가 높을수록 짧아지므로 경도 폭은 cos(위도)로 나눠서 넓힙니다.
+     *
+     * @param mapX         중심 경도
+     * @param mapY         중심 위도
+     * @param radiusMeters 반경 (미터)
+     */
+    public static GeoBounds around(double mapX, double mapY, double radiusMeters) {
+        double latitudeDelta = radiusMeters / GeoDistance.METERS_PER_DEGREE;
+        double minMapY = Math.max(-90, mapY - latitudeDelta);
+        double maxMapY = Math.min(90, mapY + latitudeDelta);
+
+        // 반경이 극점을 포함하면 모든 경도가 범위에 들어감
+        double cosLatitude = Math.cos(Math.toRadians(Math.max(Math.abs(minMapY), Math.abs(maxMapY))));
+        if (minMapY <= -90 || maxMapY >= 90 || cosLatitude < 1e-6) {
+            return new GeoBounds(-180, minMapY, 180, maxMapY);
+        }
+
+        double longitudeDelta = latitudeDelta / cosLatitude;
+        return new GeoBounds(
+                Math.max(-180, mapX - longitudeDelta),
+                minMapY,
+                Math.min(180, mapX + longitudeDelta),
+                maxMapY);
+    }
+
+    public boolean contains(double mapX, double mapY) {
+        return mapX >= minMapX && mapX <= maxMapX && mapY >= minMapY && mapY <= maxMapY;
+    }
+
+    public double centerMapX() {
+        return (minMapX + maxMapX) / 2;
+    }
+
+    public double centerMapY() {
+        return (minMapY + maxMapY) / 2;
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.event.geo;
+
+/**
+ * 위경도 좌표 간 거리 계산
+ *
+ * 이벤트 좌표는 한국관광공사 API 형식을 따라 mapX가 경도, mapY가 위도입니다.
+ */
+public final class GeoDistance {
+
+    // WGS84 평균 반지름
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    // 위도 1도에 해당하는 거리
+    public static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180.0;
+
+    private GeoDistance() {
+    }
+
+    /**
+     * 두 좌표 사이의 대권 거리를 하버사인 공식으로 계산합니다.
+     *
+     * @return 거리 (미터)
+     */
+    public static double meters(double fromMapX, double fromMapY, double toMapX, double toMapY) {
+        double fromLatitude = Math.toRadians(fromMapY);
+        double toLatitude = Math.toRadians(toMapY);
+        double sinHalfLatitude = Math.sin((toLatitude - fromLatitude) / 2);
+        double sinHalfLongitude = Math.sin(Math.toRadians(toMapX - fromMapX) / 2);
+
+        double a = sinHalfLatitude * sinHalfLatitude
+                + Math.cos(fromLatitude) * Math.cos(toLatitude) * sinHalfLongitude * sinHalfLongitude;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 좌표가 위경도 범위 안에 있는지 확인합니다.
+     * 좌표가 없는 이벤트는 (0, 0)으로 저장되는 경우가 있어서 원점도 좌표가 없는 것으로 봅니다.
+     */
+    public static boolean isValid(Double mapX, Double mapY) {
+        if (mapX == null || mapY == null || mapX.isNaN() || mapY.isNaN()) {
+            return false;
+        }
+        if (mapX == 0 && mapY == 0) {
+            return false;
+        }
+        return mapX >= -180 && mapX <= 180 && mapY >= -90 && mapY <= 90;
+    }
+
+}
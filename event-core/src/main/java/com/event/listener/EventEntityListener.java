@@ -0,0 +1,40 @@
+package com.event.listener;
+
+import com.event.model.entity.EventEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * EventEntity JPA 엔티티 리스너
+ *
+ * JPA를 통해 이벤트가 저장/수정/삭제되면 인메모리 검색 색인과 활성 이벤트 카탈로그에 반영합니다.
+ *
+ * 엔티티 리스너는 EntityManagerFactory 생성 중에 만들어지므로
+ * 순환 참조를 피하기 위해 ObjectProvider로 지연 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventEntityListener {
+
+    private final ObjectProvider<EventReadModelSynchronizer> eventReadModelSynchronizerProvider;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(EventEntity eventEntity) {
+        eventReadModelSynchronizerProvider.ifAvailable(
+                eventReadModelSynchronizer -> eventReadModelSynchronizer.applySaved(List.of(eventEntity)));
+    }
+
+    @PostRemove
+    public void onRemoved(EventEntity eventEntity) {
+        eventReadModelSynchronizerProvider.ifAvailable(
+                eventReadModelSynchronizer -> eventReadModelSynchronizer.applyRemoved(eventEntity.getContentId()));
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.event.listener;
+
+import com.event.catalog.ActiveEventCatalog;
+import com.event.fingerprint.EventFingerprintCache;
+import com.event.model.entity.EventEntity;
+import com.event.repository.EventRepository;
+import com.event.search.EventSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * 카프카 레코드를 처리한 파드의 읽기 모델 변경을 다른 파드에 전파합니다.
+ *
+ * 검색 색인, 활성 이벤트 카탈로그, 지문 캐시는 파드마다 메모리에 있기 때문에
+ * 레코드를 처리한 파드만 갱신하면 나머지 파드는 재시작할 때까지 이전 데이터와 ETag로 응답합니다.
+ * 커밋 이후에 변경된 contentId를 Redis pub/sub 채널로 발행하고,
+ * 다른 파드는 메시지를 받아 해당 이벤트를 DB에서 다시 읽어 자신의 읽기 모델에 반영합니다.
+ * (DB에 없는 contentId는 삭제된 이벤트로 보고 읽기 모델에서 제거)
+ *
+ * 응답 캐시(L1)는 TwoLevelCacheManager의 무효화 메시지로 따로 전파되므로 여기서는 다루지 않습니다.
+ */
+@Component
+@Slf4j
+public class EventReadModelBroadcaster implements MessageListener {
+
+    public static final String CHANNEL = "event:read-model";
+
+    // 자신이 발행한 메시지를 구분하기 위한 인스턴스 ID
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final EventRepository eventRepository;
+
+    private final EventSearchIndex eventSearchIndex;
+
+    private final ActiveEventCatalog activeEventCatalog;
+
+    private final EventFingerprintCache eventFingerprintCache;
+
+    private final boolean enabled;
+
+    public EventReadModelBroadcaster(
+            StringRedisTemplate stringRedisTemplate,
+            ObjectMapper objectMapper,
+            EventRepository eventRepository,
+            EventSearchIndex eventSearchIndex,
+            ActiveEventCatalog activeEventCatalog,
+            EventFingerprintCache eventFingerprintCache,
+            @Value("${read-model.broadcast.enabled}") boolean enabled) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.eventRepository = eventRepository;
+        this.eventSearchIndex = eventSearchIndex;
+        this.activeEventCatalog = activeEventCatalog;
+        this.eventFingerprintCache = eventFingerprintCache;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 변경된 이벤트의 contentId를 다른 파드에 알립니다.
+     * 이미 커밋된 저장이 발행 실패로 다시 처리되지 않도록 예외는 로그로만 남깁니다.
+     *
+     * @param contentIdCollection 저장/삭제된 이벤트의 contentId 목록
+     */
+    public void publish(Collection<Long> contentIdCollection) {
+        if (!enabled || contentIdCollection.isEmpty()) {
+            return;
+        }
+
+        try {
+            String message = objectMapper.writeValueAsString(
+                    new EventReadModelMessage(instanceId, List.copyOf(contentIdCollection)));
+            stringRedisTemplate.convertAndSend(CHANNEL, message);
+        } catch (IOException | DataAccessException e) {
+            log.warn("Failed to publish event read model update. contentIds: {}", contentIdCollection, e);
+        }
+    }
+
+    /**
+     * 다른 파드에서 발행한 메시지를 받아 해당 이벤트를 다시 읽어 읽기 모델에 반영합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!enabled) {
+            return;
+        }
+
+        EventReadModelMessage eventReadModelMessage;
+        try {
+            eventReadModelMessage = objectMapper.readValue(message.getBody(), EventReadModelMessage.class);
+        } catch (IOException e) {
+            log.warn("Ignored malformed event read model message", e);
+            return;
+        }
+
+        if (instanceId.equals(eventReadModelMessage.origin()) || eventReadModelMessage.contentIds() == null) {
+            return;
+        }
+
+        try {
+            reload(eventReadModelMessage.contentIds());
+        } catch (DataAccessException e) {
+            log.warn("Failed to reload event read model. contentIds: {}", eventReadModelMessage.contentIds(), e);
+        }
+    }
+
+    private void reload(List<Long> contentIdList) {
+        List<EventEntity> eventEntityList = eventRepository.findAllById(contentIdList);
+
+        Set<Long> removedContentIdSet = new HashSet<>(contentIdList);
+        eventEntityList.forEach(eventEntity -> removedContentIdSet.remove(eventEntity.getContentId()));
+
+        eventSearchIndex.indexAll(eventEntityList);
+        activeEventCatalog.upsertAll(eventEntityList);
+        eventFingerprintCache.putAll(eventEntityList);
+        for (Long contentId : removedContentIdSet) {
+            eventSearchIndex.remove(contentId);
+            activeEventCatalog.remove(contentId);
+            eventFingerprintCache.remove(contentId);
+        }
+        log.debug("Event read model reloaded. updated: {}, removed: {}",
+                eventEntityList.size(), removedContentIdSet.size());
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.event.listener;
+
+import java.util.List;
+
+/**
+ * 파드 간 인메모리 읽기 모델 갱신 메시지 (Redis pub/sub)
+ *
+ * @param origin     메시지를 보낸 인스턴스 ID (자신이 보낸 메시지는 무시)
+ * @param contentIds 저장/삭제된 이벤트의 contentId 목록
+ */
+public record EventReadModelMessage(
+        String origin,
+        List<Long> contentIds
+) {
+}
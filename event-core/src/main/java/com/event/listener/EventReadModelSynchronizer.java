@@ -0,0 +1,123 @@
+package com.event.listener;
+
+import com.event.catalog.ActiveEventCatalog;
+import com.event.config.CacheNames;
+import com.event.fingerprint.EventFingerprintCache;
+import com.event.model.entity.EventEntity;
+import com.event.search.EventSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 이벤트 변경 사항을 인메모리 읽기 모델(검색 색인, 활성 이벤트 카탈로그, 지문 캐시)에 반영하고
+ * Redis 응답 캐시(이벤트 목록, 이벤트 상세)를 삭제합니다.
+ *
+ * 롤백된 변경이 읽기 모델에 남지 않도록 트랜잭션 커밋 이후에 반영하고,
+ * 트랜잭션 밖에서 호출되면 즉시 반영합니다.
+ * 다른 파드의 읽기 모델은 EventReadModelBroadcaster로 변경된 contentId를 전파해서 갱신합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventReadModelSynchronizer {
+
+    private final EventSearchIndex eventSearchIndex;
+
+    private final ActiveEventCatalog activeEventCatalog;
+
+    private final EventFingerprintCache eventFingerprintCache;
+
+    private final EventReadModelBroadcaster eventReadModelBroadcaster;
+
+    // 캐시를 사용하지 않는 프로필(test)에서는 CacheManager 빈이 없음
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+
+    /**
+     * 저장된 이벤트들을 읽기 모델에 반영합니다.
+     *
+     * @param eventEntityCollection 저장된 이벤트 목록
+     */
+    public void applySaved(Collection<EventEntity> eventEntityCollection) {
+        afterCommit(() -> {
+            eventSearchIndex.indexAll(eventEntityCollection);
+            activeEventCatalog.upsertAll(eventEntityCollection);
+            eventFingerprintCache.putAll(eventEntityCollection);
+
+            List<Long> contentIdList = eventEntityCollection.stream().map(EventEntity::getContentId).toList();
+            evictResponseCache(contentIdList);
+            eventReadModelBroadcaster.publish(contentIdList);
+        });
+    }
+
+    /**
+     * 내용이 바뀌지 않아 저장하지 않은 이벤트들의 지문만 반영합니다.
+     * 이후 같은 내용이 다시 들어오면 DB에 보내지 않고 건너뛸 수 있습니다.
+     *
+     * @param eventEntityCollection 내용이 바뀌지 않은 이벤트 목록
+     */
+    public void applyUnchanged(Collection<EventEntity> eventEntityCollection) {
+        afterCommit(() -> eventFingerprintCache.putAll(eventEntityCollection));
+    }
+
+    /**
+     * 삭제된 이벤트를 읽기 모델에서 제거합니다.
+     *
+     * @param contentId 삭제된 이벤트의 컨텐츠 ID
+     */
+    public void applyRemoved(Long contentId) {
+        afterCommit(() -> {
+            eventSearchIndex.remove(contentId);
+            activeEventCatalog.remove(contentId);
+            eventFingerprintCache.remove(contentId);
+            evictResponseCache(List.of(contentId));
+            eventReadModelBroadcaster.publish(List.of(contentId));
+        });
+    }
+
+    /**
+     * 변경된 이벤트의 상세 캐시를 삭제합니다.
+     * 이미 커밋된 저장이 캐시 삭제 실패로 다시 처리되지 않도록 예외는 로그로만 남깁니다. (남은 캐시는 TTL로 만료)
+     *
+     * @param contentIdCollection 변경된 이벤트의 contentId 목록
+     */
+    private void evictResponseCache(Collection<Long> contentIdCollection) {
+        if (contentIdCollection.isEmpty()) {
+            return;
+        }
+
+        cacheManagerProvider.ifAvailable(cacheManager -> {
+            try {
+                Cache eventDetailCache = cacheManager.getCache(CacheNames.EVENT_DETAIL);
+                if (eventDetailCache != null) {
+                    contentIdCollection.forEach(eventDetailCache::evict);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to evict event response cache. contentIds: {}", contentIdCollection, e);
+            }
+        });
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+}
@@ -1,18 +1,30 @@
 package com.event.mapper;
 
+import com.event.catalog.CatalogEvent;
 import com.event.model.dto.EventDto;
 import com.event.model.entity.EventEntity;
 import com.event.model.response.EventListResponse;
+import com.event.model.response.EventNearbyResponse;
 import com.event.model.response.EventResponse;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface EventMapper {
 
+    @Mapping(target = "contentHash", ignore = true)
     EventEntity toEventEntity(EventDto dto);
 
     EventListResponse toEventListResponse(EventEntity eventEntity);
 
     EventResponse toEventResponse(EventEntity eventEntity, boolean favoriteStatus);
 
+    CatalogEvent toCatalogEvent(EventEntity eventEntity);
+
+    EventListResponse toEventListResponse(CatalogEvent catalogEvent);
+
+    EventNearbyResponse toEventNearbyResponse(CatalogEvent catalogEvent, long distanceMeters);
+
+    EventNearbyResponse toEventNearbyResponse(EventEntity eventEntity, long distanceMeters);
+
 }
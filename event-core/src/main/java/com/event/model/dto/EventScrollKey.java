@@ -0,0 +1,19 @@
+package com.event.model.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 이벤트 목록 커서 조회의 키셋
+ *
+ * 목록 정렬 순서인 (종료일, 시작일, contentId)로 마지막으로 조회한 이벤트의 위치를 나타냅니다.
+ *
+ * @param eventEndDate   마지막 이벤트의 종료일
+ * @param eventStartDate 마지막 이벤트의 시작일
+ * @param contentId      마지막 이벤트의 컨텐츠 ID
+ */
+public record EventScrollKey(
+        LocalDate eventEndDate,
+        LocalDate eventStartDate,
+        Long contentId
+) {
+}
@@ -0,0 +1,15 @@
+package com.event.model.dto;
+
+/**
+ * 이벤트 배치 upsert 결과
+ *
+ * @param received 수신한 이벤트 수
+ * @param applied  실제로 추가되거나 갱신된 이벤트 수
+ * @param skipped  contentId 중복 또는 내용이 바뀌지 않아 저장하지 않은 이벤트 수
+ */
+public record EventUpsertResult(
+        int received,
+        int applied,
+        int skipped
+) {
+}
@@ -0,0 +1,42 @@
+package com.event.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * 이벤트별 마지막 댓글 분석 결과와 분석 이후의 댓글 변경 수
+ *
+ * 댓글 등록/수정/삭제 트랜잭션에서 변경 수를 증가시키고,
+ * 변경 수나 마지막 분석 이후 지난 시간이 기준을 넘었을 때만 댓글을 다시 분석합니다.
+ */
+@Entity
+@Table(name = "comment_analysis_table")
+@Setter
+@Getter
+@NoArgsConstructor
+public class CommentAnalysisEntity {
+
+    @Id
+    private Long contentId;
+
+    // 분석 결과 (CommentAnalysisResponse JSON)
+    @Column(columnDefinition = "TEXT")
+    private String result;
+
+    // 마지막 분석 이후 등록/수정/삭제된 댓글 수
+    private int pendingCommentCount;
+
+    @Column(columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private Instant analyzedAt;
+
+    public CommentAnalysisEntity(Long contentId, String result, Instant analyzedAt) {
+        this.contentId = contentId;
+        this.result = result;
+        this.analyzedAt = analyzedAt;
+    }
+
+}
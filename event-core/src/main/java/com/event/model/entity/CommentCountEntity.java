@@ -0,0 +1,40 @@
+package com.event.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * 이벤트별 댓글 수 카운터
+ *
+ * 댓글 등록/삭제 트랜잭션에서 함께 증감하고, 주기적인 재집계로 comment_table과 어긋난 값을 바로잡습니다.
+ * 재집계는 최근에 증감된 카운터를 건너뛰므로, 진행 중인 등록/삭제의 증감을 덮어쓰지 않습니다. (updatedAt)
+ */
+@Entity
+@Table(name = "comment_count_table")
+@Setter
+@Getter
+@NoArgsConstructor
+public class CommentCountEntity {
+
+    @Id
+    private Long contentId;
+
+    private int commentCount;
+
+    // 마지막으로 증감한 시각 (재집계로 만든 뒤 증감된 적이 없으면 null)
+    @Column(columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private Instant updatedAt;
+
+    public CommentCountEntity(Long contentId, int commentCount) {
+        this.contentId = contentId;
+        this.commentCount = commentCount;
+    }
+
+}
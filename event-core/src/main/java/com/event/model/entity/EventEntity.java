@@ -1,7 +1,9 @@
 package com.event.model.entity;
 
+import com.event.listener.EventEntityListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.Getter;
@@ -13,6 +15,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "event_table")
+@EntityListeners(EventEntityListener.class)
 @Setter
 @Getter
 public class EventEntity {
@@ -61,4 +64,8 @@ public class EventEntity {
     @Column(columnDefinition = "TIMESTAMP WITH TIME ZONE")
     private Instant dbUpsertedAt;
 
+    // 변경 감지용 내용 지문 (EventFingerprints 참고)
+    @Column(length = 64)
+    private String contentHash;
+
 }
@@ -0,0 +1,13 @@
+package com.event.model.response;
+
+import com.event.analysis.CommentAnalysisJobStatus;
+
+import java.time.Instant;
+
+public record CommentAnalysisStatusResponse(
+        Long contentId,
+        CommentAnalysisJobStatus status, // 분석 작업 상태 (IDLE, QUEUED, RUNNING)
+        int pendingCommentCount,         // 마지막 분석 이후 등록/수정/삭제된 댓글 수
+        Instant analyzedAt               // 마지막 분석 시각 (분석한 적 없으면 null)
+) {
+}
@@ -0,0 +1,7 @@
+package com.event.model.response;
+
+public record CommentCountResponse(
+        Long contentId,
+        long commentCount
+) {
+}
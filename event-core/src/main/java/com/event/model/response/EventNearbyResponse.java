@@ -0,0 +1,21 @@
+package com.event.model.response;
+
+import java.time.LocalDate;
+
+/**
+ * 주변 이벤트 조회 응답
+ *
+ * @param distanceMeters 조회 기준 좌표에서 이벤트까지의 거리 (미터, 반올림)
+ */
+public record EventNearbyResponse(
+    Long contentId,
+    String title,
+    String area,
+    String firstImage,
+    LocalDate eventStartDate,
+    LocalDate eventEndDate,
+    Double mapX,
+    Double mapY,
+    long distanceMeters
+) {
+}
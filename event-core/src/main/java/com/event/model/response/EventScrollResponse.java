@@ -0,0 +1,18 @@
+package com.event.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 이벤트 목록 커서 조회 응답
+ *
+ * totalCount는 필터별로 캐시된 근사값이며, 캐시에 없으면 첫 페이지에서만 계산하고 이후 페이지에서는 null입니다.
+ */
+@JsonInclude(JsonInclude.Include.ALWAYS)
+public record EventScrollResponse(
+        List<EventListResponse> eventListResponseList,
+        String nextCursor,
+        Long totalCount
+) {
+}
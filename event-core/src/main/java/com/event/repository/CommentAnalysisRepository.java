@@ -0,0 +1,41 @@
+package com.event.repository;
+
+import com.event.model.entity.CommentAnalysisEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface CommentAnalysisRepository extends JpaRepository<CommentAnalysisEntity, Long> {
+
+    /**
+     * 마지막 분석 이후의 댓글 변경 수를 1 증가시킵니다. 아직 분석한 적 없는 이벤트는 아무것도 갱신하지 않습니다.
+     *
+     * @return 갱신된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("update CommentAnalysisEntity a set a.pendingCommentCount = a.pendingCommentCount + 1 "
+            + "where a.contentId = :contentId")
+    int addPendingCommentCount(@Param("contentId") Long contentId);
+
+    /**
+     * 새 분석 결과를 저장합니다.
+     * 분석하는 동안 변경된 댓글은 다음 분석에 반영되도록, 분석을 시작할 때 읽은 변경 수만큼만 차감합니다.
+     *
+     * @param analyzedPendingCount 분석을 시작할 때의 변경 수
+     * @return 갱신된 행 수 (0 또는 1)
+     */
+    @Transactional
+    @Modifying
+    @Query("update CommentAnalysisEntity a set a.result = :result, a.analyzedAt = :analyzedAt, "
+            + "a.pendingCommentCount = a.pendingCommentCount - :analyzedPendingCount where a.contentId = :contentId")
+    int updateResult(
+            @Param("contentId") Long contentId,
+            @Param("result") String result,
+            @Param("analyzedAt") Instant analyzedAt,
+            @Param("analyzedPendingCount") int analyzedPendingCount);
+
+}
@@ -0,0 +1,61 @@
+package com.event.repository;
+
+import com.event.model.entity.CommentCountEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface CommentCountRepository extends JpaRepository<CommentCountEntity, Long> {
+
+    /**
+     * 카운터를 delta만큼 증감하고 증감 시각을 기록합니다. 카운터 행이 아직 없으면 아무것도 갱신하지 않습니다.
+     *
+     * @return 갱신된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("update CommentCountEntity c set c.commentCount = c.commentCount + :delta, c.updatedAt = :updatedAt "
+            + "where c.contentId = :contentId")
+    int addCommentCount(
+            @Param("contentId") Long contentId,
+            @Param("delta") int delta,
+            @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * comment_table의 실제 댓글 수와 다른 카운터를 바로잡습니다.
+     * writtenBefore 이후에 증감된 카운터는 아직 커밋되지 않은 댓글의 증감일 수 있으므로 건너뛰고 다음 재집계에서 확인합니다.
+     * 증감 중인 카운터 행은 잠겨 있으므로, 잠금이 풀린 뒤 다시 평가할 때 증감 시각 조건으로 제외됩니다.
+     *
+     * @param writtenBefore 이 시각 이전에 마지막으로 증감된 카운터만 바로잡음
+     * @return 바로잡은 카운터 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE comment_count_table cc
+            SET comment_count = (SELECT count(*) FROM comment_table c WHERE c.content_id = cc.content_id)
+            WHERE (cc.updated_at IS NULL OR cc.updated_at < :writtenBefore)
+              AND cc.comment_count <> (SELECT count(*) FROM comment_table c WHERE c.content_id = cc.content_id)
+            """, nativeQuery = true)
+    int reconcileCommentCounts(@Param("writtenBefore") Instant writtenBefore);
+
+    /**
+     * 카운터 행이 없는 이벤트와 댓글의 카운터를 만듭니다. (댓글이 없는 이벤트는 0)
+     *
+     * @return 만든 카운터 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO comment_count_table (content_id, comment_count)
+            SELECT ids.content_id, (SELECT count(*) FROM comment_table c WHERE c.content_id = ids.content_id)
+            FROM (SELECT content_id FROM event_table UNION SELECT content_id FROM comment_table) ids
+            WHERE ids.content_id IS NOT NULL
+              AND NOT EXISTS (SELECT 1 FROM comment_count_table cc WHERE cc.content_id = ids.content_id)
+            """, nativeQuery = true)
+    int insertMissingCommentCounts();
+
+}
@@ -1,15 +1,24 @@
 package com.event.repository;
 
 import com.event.model.entity.CommentEntity;
+import com.event.model.response.CommentCountResponse;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
 
     int countByContentId(Long contentId);
 
+    @Query("select new com.event.model.response.CommentCountResponse(c.contentId, count(c)) "
+            + "from CommentEntity c where c.contentId in :contentIds group by c.contentId")
+    List<CommentCountResponse> countGroupByContentIdIn(@Param("contentIds") Collection<Long> contentIds);
+
     Page<CommentEntity> findPageByContentId(Long contentId, Pageable pageable);
 
     Slice<CommentEntity> findSliceByContentId(Long contentId, Pageable pageable);
@@ -25,4 +34,17 @@ public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
             KeysetScrollPosition keysetScrollPosition
     );
 
+    /**
+     * 커서 이후의 댓글을 키셋 방식으로 조회합니다. (수정 시각 내림차순)
+     * 키셋 조건은 (updatedAt < ?) OR (updatedAt = ? AND commentId < ?) 형태라 인덱스 범위의 시작점으로 쓰이지 않으므로,
+     * updatedAt <= 커서의 수정 시각 조건을 함께 걸어서 (content_id, updated_at, comment_id) 인덱스를 커서 위치부터 범위 조회합니다.
+     */
+    Window<CommentEntity> findScrollByContentIdAndUpdatedAtLessThanEqual(
+            Long contentId,
+            Instant updatedAt,
+            Sort sort,
+            Limit limit,
+            KeysetScrollPosition keysetScrollPosition
+    );
+
 }
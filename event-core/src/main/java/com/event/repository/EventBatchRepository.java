@@ -0,0 +1,147 @@
+package com.event.repository;
+
+import com.event.model.entity.EventEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트 다건 upsert 리포지토리
+ *
+ * JPA save는 id가 직접 할당된 엔티티마다 SELECT 후 INSERT/UPDATE를 실행하므로,
+ * 카프카 배치 단위로 받은 이벤트들을 PostgreSQL의
+ * INSERT ... ON CONFLICT (content_id) DO UPDATE 다중 행 구문 하나로 저장합니다.
+ * content_hash가 같은 행은 갱신하지 않으므로 내용이 바뀌지 않은 이벤트는 WAL을 남기지 않습니다.
+ *
+ * JDBC로 직접 저장하기 때문에 EventEntityListener가 호출되지 않습니다.
+ * 인메모리 읽기 모델 반영은 호출하는 쪽에서 EventReadModelSynchronizer로 처리해야 합니다.
+ */
+@Repository
+public class EventBatchRepository {
+
+    // PostgreSQL 바인드 파라미터 최대 개수(65535)를 넘지 않도록 구문 하나에 담을 최대 행 수
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    /**
+     * upsert 할 엔티티 속성과 바인드 값 추출 함수
+     */
+    private record BoundProperty(String name, Function<EventEntity, Object> extractor) {
+    }
+
+    private static final List<BoundProperty> BOUND_PROPERTY_LIST = List.of(
+            new BoundProperty("title", EventEntity::getTitle),
+            new BoundProperty("createdTime", EventEntity::getCreatedTime),
+            new BoundProperty("modifiedTime", EventEntity::getModifiedTime),
+            new BoundProperty("addr1", EventEntity::getAddr1),
+            new BoundProperty("addr2", EventEntity::getAddr2),
+            new BoundProperty("area", EventEntity::getArea),
+            new BoundProperty("firstImage", EventEntity::getFirstImage),
+            new BoundProperty("firstImage2", EventEntity::getFirstImage2),
+            new BoundProperty("mapX", EventEntity::getMapX),
+            new BoundProperty("mapY", EventEntity::getMapY),
+            new BoundProperty("zipCode", EventEntity::getZipCode),
+            new BoundProperty("homepage", EventEntity::getHomepage),
+            new BoundProperty("overview", EventEntity::getOverview),
+            new BoundProperty("eventStartDate", EventEntity::getEventStartDate),
+            new BoundProperty("eventEndDate", EventEntity::getEventEndDate),
+            new BoundProperty("playTime", EventEntity::getPlayTime),
+            new BoundProperty("useTimeFestival", EventEntity::getUseTimeFestival),
+            new BoundProperty("sponsor1", EventEntity::getSponsor1),
+            new BoundProperty("sponsor1Tel", EventEntity::getSponsor1Tel),
+            new BoundProperty("sponsor2", EventEntity::getSponsor2),
+            new BoundProperty("sponsor2Tel", EventEntity::getSponsor2Tel),
+            // PostgreSQL JDBC 드라이버는 Instant를 직접 바인딩하지 못하므로 OffsetDateTime으로 변환
+            new BoundProperty("dbUpsertedAt", eventEntity -> eventEntity.getDbUpsertedAt() == null
+                    ? null
+                    : OffsetDateTime.ofInstant(eventEntity.getDbUpsertedAt(), ZoneOffset.UTC)),
+            new BoundProperty("contentHash", EventEntity::getContentHash)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String insertPrefix;
+
+    private final String rowPlaceholder;
+
+    private final String conflictSuffix;
+
+    /**
+     * 컬럼명은 물리 네이밍 전략이 바뀌어도 JPA 매핑과 어긋나지 않도록 Hibernate 메타모델에서 조회합니다.
+     */
+    public EventBatchRepository(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        AbstractEntityPersister entityPersister = (AbstractEntityPersister) entityManagerFactory
+                .unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(EventEntity.class);
+
+        String tableName = entityPersister.getTableName();
+        String idColumnName = entityPersister.getIdentifierColumnNames()[0];
+        List<String> columnNameList = BOUND_PROPERTY_LIST.stream()
+                .map(boundProperty -> entityPersister.getPropertyColumnNames(boundProperty.name())[0])
+                .toList();
+
+        this.insertPrefix = "INSERT INTO " + tableName + " (" + idColumnName + ", "
+                + String.join(", ", columnNameList) + ") VALUES ";
+        this.rowPlaceholder = "(" + "?, ".repeat(columnNameList.size()) + "?)";
+        String contentHashColumnName = entityPersister.getPropertyColumnNames("contentHash")[0];
+        this.conflictSuffix = " ON CONFLICT (" + idColumnName + ") DO UPDATE SET "
+                + columnNameList.stream()
+                .map(columnName -> columnName + " = EXCLUDED." + columnName)
+                .collect(Collectors.joining(", "))
+                + " WHERE " + tableName + "." + contentHashColumnName
+                + " IS DISTINCT FROM EXCLUDED." + contentHashColumnName
+                + " RETURNING " + idColumnName;
+    }
+
+    /**
+     * 이벤트들을 다중 행 INSERT ... ON CONFLICT DO UPDATE 구문으로 저장합니다.
+     * 이미 같은 content_hash로 저장된 행은 갱신하지 않습니다.
+     * contentId가 중복되지 않은 목록이어야 합니다. (한 구문 안에서 같은 행을 두 번 갱신할 수 없음)
+     *
+     * @param eventEntityList 저장할 이벤트 목록
+     * @return 실제로 추가되거나 갱신된 이벤트의 contentId 목록
+     */
+    public List<Long> upsertAll(List<EventEntity> eventEntityList) {
+        List<Long> appliedContentIdList = new ArrayList<>(eventEntityList.size());
+        for (int from = 0; from < eventEntityList.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<EventEntity> chunk = eventEntityList.subList(
+                    from, Math.min(from + MAX_ROWS_PER_STATEMENT, eventEntityList.size()));
+            appliedContentIdList.addAll(jdbcTemplate.queryForList(buildSql(chunk.size()), Long.class, toArgs(chunk)));
+        }
+        return appliedContentIdList;
+    }
+
+    private String buildSql(int rowCount) {
+        StringBuilder sql = new StringBuilder(insertPrefix);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(rowPlaceholder);
+        }
+        return sql.append(conflictSuffix).toString();
+    }
+
+    private Object[] toArgs(List<EventEntity> eventEntityList) {
+        List<Object> argList = new ArrayList<>(eventEntityList.size() * (BOUND_PROPERTY_LIST.size() + 1));
+        for (EventEntity eventEntity : eventEntityList) {
+            argList.add(eventEntity.getContentId());
+            for (BoundProperty boundProperty : BOUND_PROPERTY_LIST) {
+                argList.add(boundProperty.extractor().apply(eventEntity));
+            }
+        }
+        return argList.toArray();
+    }
+
+}
@@ -2,6 +2,10 @@ package com.event.repository;
 
 import com.event.model.entity.EventFavoriteEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface EventFavoriteRepository extends JpaRepository<EventFavoriteEntity, Long> {
 
@@ -9,4 +13,7 @@ public interface EventFavoriteRepository extends JpaRepository<EventFavoriteEnti
 
     void deleteByContentIdAndUserId(Long contentId, Long userId);
 
+    @Query("select f.contentId from EventFavoriteEntity f where f.userId = :userId")
+    List<Long> findContentIdListByUserId(@Param("userId") Long userId);
+
 }
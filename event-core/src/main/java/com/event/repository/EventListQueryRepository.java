@@ -0,0 +1,51 @@
+package com.event.repository;
+
+import com.event.model.dto.EventScrollKey;
+import com.event.model.entity.EventEntity;
+import com.event.model.response.EventListResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 이벤트 목록 프로젝션 조회 리포지토리
+ *
+ * EventListResponse에 필요한 컬럼(contentId, title, area, firstImage, eventStartDate, eventEndDate)만 SELECT 해서
+ * overview, homepage, useTimeFestival 같은 TEXT 컬럼을 DB에서 읽거나 엔티티로 만들지 않습니다.
+ */
+public interface EventListQueryRepository {
+
+    /**
+     * Specification 조건과 페이지네이션을 적용한 이벤트 목록을 조회합니다.
+     *
+     * @param eventEntitySpec 조회 조건
+     * @param pageable        페이지네이션 정보
+     * @return 이벤트 목록 페이지
+     */
+    Page<EventListResponse> findEventListPage(Specification<EventEntity> eventEntitySpec, Pageable pageable);
+
+    /**
+     * (종료일, 시작일, contentId) 순서에서 키셋 다음 위치부터 이벤트 목록을 조회합니다.
+     *
+     * @param eventEntitySpec 조회 조건
+     * @param after           마지막으로 조회한 이벤트의 키셋 (null이면 처음부터)
+     * @param limit           최대 조회 개수
+     * @return 정렬 순서대로의 이벤트 목록
+     */
+    List<EventListResponse> findEventListAfter(
+            Specification<EventEntity> eventEntitySpec,
+            EventScrollKey after,
+            int limit);
+
+    /**
+     * contentId 목록에 해당하는 이벤트 목록을 조회합니다. (순서는 보장하지 않음)
+     *
+     * @param contentIdCollection 조회할 contentId 목록
+     * @return 이벤트 목록
+     */
+    List<EventListResponse> findEventListByContentIdIn(Collection<Long> contentIdCollection);
+
+}
@@ -0,0 +1,170 @@
+package com.event.repository;
+
+import com.event.model.dto.EventScrollKey;
+import com.event.model.entity.EventEntity;
+import com.event.model.response.EventListResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * EventListQueryRepository 구현체
+ *
+ * Criteria API의 생성자 표현식(construct)으로 EventListResponse를 바로 만들고,
+ * 조회 조건은 기존 EventSpecs를 그대로 사용합니다.
+ */
+@RequiredArgsConstructor
+public class EventListQueryRepositoryImpl implements EventListQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<EventListResponse> findEventListPage(Specification<EventEntity> eventEntitySpec, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventListResponse> criteriaQuery = criteriaBuilder.createQuery(EventListResponse.class);
+        Root<EventEntity> root = criteriaQuery.from(EventEntity.class);
+
+        criteriaQuery.select(toEventListResponse(criteriaBuilder, root));
+        applySpec(eventEntitySpec, root, criteriaQuery, criteriaBuilder, new ArrayList<>());
+        criteriaQuery.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+
+        TypedQuery<EventListResponse> typedQuery = entityManager.createQuery(criteriaQuery);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        // 첫 페이지가 다 차지 않는 등 전체 개수를 알 수 있으면 count 쿼리를 생략
+        return PageableExecutionUtils.getPage(
+                typedQuery.getResultList(), pageable, () -> count(eventEntitySpec));
+    }
+
+    @Override
+    public List<EventListResponse> findEventListAfter(
+            Specification<EventEntity> eventEntitySpec,
+            EventScrollKey after,
+            int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventListResponse> criteriaQuery = criteriaBuilder.createQuery(EventListResponse.class);
+        Root<EventEntity> root = criteriaQuery.from(EventEntity.class);
+
+        List<Predicate> predicateList = new ArrayList<>();
+        if (after != null) {
+            predicateList.add(isAfter(criteriaBuilder, root, after));
+        }
+        criteriaQuery.select(toEventListResponse(criteriaBuilder, root));
+        applySpec(eventEntitySpec, root, criteriaQuery, criteriaBuilder, predicateList);
+        criteriaQuery.orderBy(
+                criteriaBuilder.asc(root.get("eventEndDate")),
+                criteriaBuilder.asc(root.get("eventStartDate")),
+                criteriaBuilder.asc(root.get("contentId")));
+
+        return entityManager.createQuery(criteriaQuery)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<EventListResponse> findEventListByContentIdIn(Collection<Long> contentIdCollection) {
+        if (contentIdCollection.isEmpty()) {
+            return List.of();
+        }
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventListResponse> criteriaQuery = criteriaBuilder.createQuery(EventListResponse.class);
+        Root<EventEntity> root = criteriaQuery.from(EventEntity.class);
+
+        criteriaQuery.select(toEventListResponse(criteriaBuilder, root))
+                .where(root.get("contentId").in(contentIdCollection));
+        return entityManager.createQuery(criteriaQuery).getResultList();
+    }
+
+    private long count(Specification<EventEntity> eventEntitySpec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery(Long.class);
+        Root<EventEntity> root = criteriaQuery.from(EventEntity.class);
+
+        criteriaQuery.select(criteriaBuilder.count(root));
+        applySpec(eventEntitySpec, root, criteriaQuery, criteriaBuilder, new ArrayList<>());
+        return entityManager.createQuery(criteriaQuery).getSingleResult();
+    }
+
+    private static CompoundSelection<EventListResponse> toEventListResponse(
+            CriteriaBuilder criteriaBuilder,
+            Root<EventEntity> root) {
+        return criteriaBuilder.construct(
+                EventListResponse.class,
+                root.get("contentId"),
+                root.get("title"),
+                root.get("area"),
+                root.get("firstImage"),
+                root.get("eventStartDate"),
+                root.get("eventEndDate"));
+    }
+
+    private static void applySpec(
+            Specification<EventEntity> eventEntitySpec,
+            Root<EventEntity> root,
+            CriteriaQuery<?> criteriaQuery,
+            CriteriaBuilder criteriaBuilder,
+            List<Predicate> predicateList) {
+        if (eventEntitySpec != null) {
+            Predicate specPredicate = eventEntitySpec.toPredicate(root, criteriaQuery, criteriaBuilder);
+            if (specPredicate != null) {
+                predicateList.add(specPredicate);
+            }
+        }
+        if (!predicateList.isEmpty()) {
+            criteriaQuery.where(predicateList.toArray(Predicate[]::new));
+        }
+    }
+
+    /**
+     * (종료일, 시작일, contentId) 순서에서 키셋보다 뒤에 오는 행 조건을 만듭니다.
+     * 날짜가 null인 행은 오름차순에서 가장 뒤에 오는 것으로 봅니다. (PostgreSQL 기본 NULLS LAST)
+     */
+    private static Predicate isAfter(CriteriaBuilder criteriaBuilder, Root<EventEntity> root, EventScrollKey after) {
+        Path<LocalDate> eventEndDate = root.get("eventEndDate");
+        Path<LocalDate> eventStartDate = root.get("eventStartDate");
+        Path<Long> contentId = root.get("contentId");
+
+        return criteriaBuilder.or(
+                greaterThan(criteriaBuilder, eventEndDate, after.eventEndDate()),
+                criteriaBuilder.and(
+                        equalTo(criteriaBuilder, eventEndDate, after.eventEndDate()),
+                        greaterThan(criteriaBuilder, eventStartDate, after.eventStartDate())),
+                criteriaBuilder.and(
+                        equalTo(criteriaBuilder, eventEndDate, after.eventEndDate()),
+                        equalTo(criteriaBuilder, eventStartDate, after.eventStartDate()),
+                        criteriaBuilder.greaterThan(contentId, after.contentId())));
+    }
+
+    private static Predicate greaterThan(CriteriaBuilder criteriaBuilder, Path<LocalDate> path, LocalDate value) {
+        if (value == null) {
+            // null보다 뒤에 오는 값은 없음
+            return criteriaBuilder.disjunction();
+        }
+        return criteriaBuilder.or(criteriaBuilder.greaterThan(path, value), criteriaBuilder.isNull(path));
+    }
+
+    private static Predicate equalTo(CriteriaBuilder criteriaBuilder, Path<LocalDate> path, LocalDate value) {
+        return value == null ? criteriaBuilder.isNull(path) : criteriaBuilder.equal(path, value);
+    }
+
+}
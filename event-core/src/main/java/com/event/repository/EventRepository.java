@@ -3,6 +3,19 @@ package com.event.repository;
 import com.event.model.entity.EventEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface EventRepository extends JpaRepository<EventEntity, Long>, JpaSpecificationExecutor<EventEntity>,
+        EventListQueryRepository {
+
+    /**
+     * 이벤트의 마지막 DB 저장 시각만 조회합니다. (overview 등 큰 컬럼을 읽지 않고 ETag를 만들기 위함)
+     */
+    @Query("select e.dbUpsertedAt from EventEntity e where e.contentId = :contentId")
+    Optional<Instant> findDbUpsertedAtByContentId(@Param("contentId") Long contentId);
 
-public interface EventRepository extends JpaRepository<EventEntity, Long>, JpaSpecificationExecutor<EventEntity> {
 }
@@ -0,0 +1,336 @@
+package com.event.search;
+
+import com.event.model.entity.EventEntity;
+import com.event.repository.EventRepository;
+import com.event.specification.EventSpecs;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 이벤트 검색용 인메모리 역색인(Inverted Index)
+ *
+ * 제목, 주소, 지역, 개요, 주최 정보를 한글 n-gram으로 토큰화해서 색인하고,
+ * 검색어의 모든 토큰을 포함하는 이벤트를 관련도 순으로 반환합니다.
+ * 7개 컬럼에 대한 lower() LIKE '%q%' 풀스캔을 대체합니다.
+ *
+ * 색인은 애플리케이션 시작 시 종료되지 않은 이벤트로 구성되고,
+ * 이후에는 EventReadModelSynchronizer를 통해 이벤트가 저장/삭제될 때마다 갱신됩니다.
+ * 색인 구성이 끝나기 전에 들어온 변경은 모아 두었다가 색인을 구성한 직후에 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventSearchIndex {
+
+    private static final ZoneId KOREA_ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    // 필드별 가중치 (제목에 매칭되는 이벤트가 개요에만 매칭되는 이벤트보다 앞에 오도록 함)
+    private static final float TITLE_WEIGHT = 5.0f;
+    private static final float AREA_WEIGHT = 3.0f;
+    private static final float ADDR_WEIGHT = 2.0f;
+    private static final float SPONSOR_WEIGHT = 2.0f;
+    private static final float OVERVIEW_WEIGHT = 1.0f;
+
+    private final EventRepository eventRepository;
+
+    @Value("${search.index.enabled}")
+    private boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 토큰 -> (contentId -> 가중치가 적용된 토큰 빈도)
+    private final Map<String, Map<Long, Float>> postingMap = new HashMap<>();
+
+    // contentId -> 해당 문서가 가진 토큰 목록 (재색인/삭제 시 기존 posting 제거용)
+    private final Map<Long, Set<String>> documentTokenMap = new HashMap<>();
+
+    // contentId -> 필터링 및 정렬에 필요한 최소한의 이벤트 정보
+    private final Map<Long, IndexedEvent> indexedEventMap = new HashMap<>();
+
+    private volatile boolean ready = false;
+
+    // 색인 구성이 끝나기 전에 들어온 변경 (contentId -> 이벤트, 삭제된 이벤트는 null), 쓰기 잠금으로 보호
+    private final Map<Long, EventEntity> pendingEventMap = new HashMap<>();
+
+    /**
+     * 필터링 및 정렬에 사용하는 색인된 이벤트 정보
+     */
+    private record IndexedEvent(
+            Long contentId,
+            String area,
+            LocalDate eventStartDate,
+            LocalDate eventEndDate
+    ) {
+    }
+
+    /**
+     * 검색 결과 정렬에 사용하는 (이벤트, 관련도 점수) 쌍
+     */
+    private record ScoredEvent(IndexedEvent indexedEvent, double score) {
+    }
+
+    /**
+     * 색인을 사용할 수 있는 상태인지 확인합니다.
+     * 초기 색인 구성이 끝나기 전이거나 비활성화된 경우에는 false를 반환합니다.
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * 애플리케이션 시작 시 종료되지 않은 이벤트들로 색인을 구성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            log.info("Event search index is disabled");
+            return;
+        }
+
+        LocalDate todayInKorea = LocalDate.now(KOREA_ZONE_ID);
+        Map<Long, EventEntity> eventEntityMap = new HashMap<>();
+        for (EventEntity eventEntity : eventRepository.findAll(EventSpecs.notEndedFrom(todayInKorea))) {
+            eventEntityMap.put(eventEntity.getContentId(), eventEntity);
+        }
+
+        lock.writeLock().lock();
+        try {
+            // 조회 도중에 커밋된 변경이 조회 결과보다 오래된 값일 수 있으므로 저장 시각이 최신인 쪽을 남김
+            // 이미 종료된 이벤트는 삭제된 이벤트와 같이 제외함
+            pendingEventMap.forEach((contentId, pendingEvent) -> {
+                if (pendingEvent == null || !isNotEnded(pendingEvent.getEventEndDate(), todayInKorea)) {
+                    eventEntityMap.remove(contentId);
+                } else {
+                    eventEntityMap.merge(contentId, pendingEvent, EventSearchIndex::newer);
+                }
+            });
+            int replayedCount = pendingEventMap.size();
+            pendingEventMap.clear();
+
+            postingMap.clear();
+            documentTokenMap.clear();
+            indexedEventMap.clear();
+            eventEntityMap.values().forEach(this::indexWithoutLock);
+            ready = true;
+            log.info("Event search index built. documents: {}, tokens: {}, replayed: {}",
+                    indexedEventMap.size(), postingMap.size(), replayedCount);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static EventEntity newer(EventEntity current, EventEntity pending) {
+        if (current.getDbUpsertedAt() == null || pending.getDbUpsertedAt() == null) {
+            return pending;
+        }
+        return pending.getDbUpsertedAt().isBefore(current.getDbUpsertedAt()) ? current : pending;
+    }
+
+    /**
+     * 이벤트를 색인에 추가하거나 갱신합니다.
+     * 이미 종료된 이벤트는 검색 대상이 아니므로 색인에서 제거합니다.
+     *
+     * @param eventEntity 색인할 이벤트
+     */
+    public void index(EventEntity eventEntity) {
+        indexAll(List.of(eventEntity));
+    }
+
+    /**
+     * 여러 이벤트를 한 번의 쓰기 잠금으로 색인에 추가하거나 갱신합니다.
+     *
+     * @param eventEntityCollection 색인할 이벤트 목록
+     */
+    public void indexAll(Collection<EventEntity> eventEntityCollection) {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDate todayInKorea = LocalDate.now(KOREA_ZONE_ID);
+        lock.writeLock().lock();
+        try {
+            for (EventEntity eventEntity : eventEntityCollection) {
+                if (eventEntity.getContentId() == null) {
+                    continue;
+                }
+                if (!ready) {
+                    pendingEventMap.put(eventEntity.getContentId(), eventEntity);
+                    continue;
+                }
+                removeWithoutLock(eventEntity.getContentId());
+                if (isNotEnded(eventEntity.getEventEndDate(), todayInKorea)) {
+                    indexWithoutLock(eventEntity);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 이벤트를 색인에서 제거합니다.
+     *
+     * @param contentId 제거할 이벤트의 컨텐츠 ID
+     */
+    public void remove(Long contentId) {
+        if (!enabled || contentId == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                pendingEventMap.put(contentId, null);
+                return;
+            }
+            removeWithoutLock(contentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 이벤트를 관련도 순으로 조회합니다.
+     * 관련도가 같으면 기존 목록과 동일하게 종료일, 시작일 순으로 정렬합니다.
+     *
+     * @param query    정규화된 검색어
+     * @param areaList 지역 필터 (null이면 전체)
+     * @param today    기준 날짜 (이 날짜 이전에 종료된 이벤트는 제외)
+     * @return 관련도 순으로 정렬된 contentId 목록
+     */
+    public List<Long> search(String query, List<String> areaList, LocalDate today) {
+        Set<String> queryTokenSet = KoreanNgramTokenizer.tokenizeQuery(query);
+        if (queryTokenSet.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            // posting이 가장 짧은 토큰부터 교집합을 구해서 비교 횟수를 줄임
+            List<Map<Long, Float>> postingList = new ArrayList<>();
+            for (String token : queryTokenSet) {
+                Map<Long, Float> posting = postingMap.get(token);
+                if (posting == null) {
+                    return List.of();
+                }
+                postingList.add(posting);
+            }
+            postingList.sort(Comparator.comparingInt(Map::size));
+
+            int documentCount = Math.max(indexedEventMap.size(), 1);
+            List<ScoredEvent> scoredEventList = new ArrayList<>();
+            for (Long contentId : postingList.getFirst().keySet()) {
+                IndexedEvent indexedEvent = indexedEventMap.get(contentId);
+                if (!matchesFilter(indexedEvent, areaList, today)) {
+                    continue;
+                }
+
+                double score = 0;
+                boolean matchesAll = true;
+                for (Map<Long, Float> posting : postingList) {
+                    Float weight = posting.get(contentId);
+                    if (weight == null) {
+                        matchesAll = false;
+                        break;
+                    }
+                    // 흔한 토큰보다 드문 토큰에 매칭될수록 높은 점수 (idf)
+                    double idf = Math.log(1.0 + (double) documentCount / posting.size());
+                    score += (1.0 + Math.log(weight)) * idf;
+                }
+
+                if (matchesAll) {
+                    scoredEventList.add(new ScoredEvent(indexedEvent, score));
+                }
+            }
+
+            return scoredEventList.stream()
+                    .sorted(Comparator.comparingDouble(ScoredEvent::score).reversed()
+                            .thenComparing(scoredEvent -> scoredEvent.indexedEvent().eventEndDate(),
+                                    Comparator.nullsLast(Comparator.naturalOrder()))
+                            .thenComparing(scoredEvent -> scoredEvent.indexedEvent().eventStartDate(),
+                                    Comparator.nullsLast(Comparator.naturalOrder()))
+                            .thenComparing(scoredEvent -> scoredEvent.indexedEvent().contentId()))
+                    .map(scoredEvent -> scoredEvent.indexedEvent().contentId())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean matchesFilter(IndexedEvent indexedEvent, List<String> areaList, LocalDate today) {
+        if (indexedEvent == null) {
+            return false;
+        }
+        if (today != null && !isNotEnded(indexedEvent.eventEndDate(), today)) {
+            return false;
+        }
+        return areaList == null || areaList.isEmpty() || areaList.contains(indexedEvent.area());
+    }
+
+    /**
+     * DB 조회 조건(EventSpecs.notEndedFrom)과 같이 종료일이 기준 날짜 이상인 이벤트만 종료되지 않은 것으로 봅니다.
+     * 종료일이 없는 이벤트는 DB 조회에서 제외되므로 색인에서도 제외합니다.
+     */
+    private static boolean isNotEnded(LocalDate eventEndDate, LocalDate today) {
+        return eventEndDate != null && !eventEndDate.isBefore(today);
+    }
+
+    private void indexWithoutLock(EventEntity eventEntity) {
+        Long contentId = eventEntity.getContentId();
+
+        Map<String, Float> tokenWeightMap = new HashMap<>();
+        addField(tokenWeightMap, eventEntity.getTitle(), TITLE_WEIGHT);
+        addField(tokenWeightMap, eventEntity.getArea(), AREA_WEIGHT);
+        addField(tokenWeightMap, eventEntity.getAddr1(), ADDR_WEIGHT);
+        addField(tokenWeightMap, eventEntity.getAddr2(), ADDR_WEIGHT);
+        addField(tokenWeightMap, eventEntity.getSponsor1(), SPONSOR_WEIGHT);
+        addField(tokenWeightMap, eventEntity.getSponsor2(), SPONSOR_WEIGHT);
+        addField(tokenWeightMap, eventEntity.getOverview(), OVERVIEW_WEIGHT);
+
+        tokenWeightMap.forEach((token, weight) ->
+                postingMap.computeIfAbsent(token, key -> new HashMap<>()).put(contentId, weight));
+        documentTokenMap.put(contentId, tokenWeightMap.keySet());
+        indexedEventMap.put(contentId, new IndexedEvent(
+                contentId,
+                eventEntity.getArea(),
+                eventEntity.getEventStartDate(),
+                eventEntity.getEventEndDate()));
+    }
+
+    private void addField(Map<String, Float> tokenWeightMap, String text, float weight) {
+        for (String token : KoreanNgramTokenizer.tokenizeDocument(text)) {
+            tokenWeightMap.merge(token, weight, Float::sum);
+        }
+    }
+
+    private void removeWithoutLock(Long contentId) {
+        Set<String> tokenSet = documentTokenMap.remove(contentId);
+        indexedEventMap.remove(contentId);
+        if (tokenSet == null) {
+            return;
+        }
+
+        for (String token : tokenSet) {
+            Map<Long, Float> posting = postingMap.get(token);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(contentId);
+            if (posting.isEmpty()) {
+                postingMap.remove(token);
+            }
+        }
+    }
+
+}
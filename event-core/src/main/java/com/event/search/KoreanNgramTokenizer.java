@@ -0,0 +1,79 @@
+package com.event.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글 n-gram 토크나이저
+ *
+ * 한글은 띄어쓰기가 일정하지 않고 조사/어미가 붙기 때문에 형태소 분석 없이도
+ * 부분 문자열 검색이 가능하도록 글자 단위 n-gram(1-gram, 2-gram)으로 토큰을 생성합니다.
+ *
+ * 예) "불꽃축제" -> 문서: [불, 꽃, 축, 제, 불꽃, 꽃축, 축제], 검색어: [불꽃, 꽃축, 축제]
+ */
+public final class KoreanNgramTokenizer {
+
+    private static final String DELIMITER_REGEX = "[^\\p{L}\\p{N}]+";
+
+    private KoreanNgramTokenizer() {
+    }
+
+    /**
+     * 문서(색인 대상) 텍스트를 토큰화합니다.
+     * 1글자 검색어도 찾을 수 있도록 1-gram과 2-gram을 모두 생성합니다.
+     *
+     * @param text 색인할 텍스트
+     * @return 토큰 목록 (중복 포함, 등장 빈도 계산에 사용)
+     */
+    public static List<String> tokenizeDocument(String text) {
+        List<String> tokenList = new ArrayList<>();
+        for (String word : splitWords(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokenList.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    tokenList.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return tokenList;
+    }
+
+    /**
+     * 검색어를 토큰화합니다.
+     * 2글자 이상인 단어는 2-gram만, 1글자 단어는 1-gram을 사용합니다.
+     *
+     * @param query 검색어
+     * @return 중복이 제거된 토큰 집합
+     */
+    public static Set<String> tokenizeQuery(String query) {
+        Set<String> tokenSet = new LinkedHashSet<>();
+        for (String word : splitWords(query)) {
+            if (word.length() == 1) {
+                tokenSet.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokenSet.add(word.substring(i, i + 2));
+            }
+        }
+        return tokenSet;
+    }
+
+    private static List<String> splitWords(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        List<String> wordList = new ArrayList<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split(DELIMITER_REGEX)) {
+            if (!word.isEmpty()) {
+                wordList.add(word);
+            }
+        }
+        return wordList;
+    }
+
+}
@@ -39,6 +39,9 @@ public class SecurityConfig {
         @Value("${event-list-favorite-url}")
         private String eventListFavoriteUrl;
 
+        @Value("${event-scroll-favorite-url}")
+        private String eventScrollFavoriteUrl;
+
         private final RequestIdFilter requestIdFilter;
 
         private final JwtAuthenticationFilter jwtAuthenticationFilter;
@@ -60,6 +63,7 @@ public class SecurityConfig {
                                                 .requestMatchers(HttpMethod.DELETE, eventFavoriteUrl).authenticated()
                                                 // 즐찾 리스트 요청은 인증된 유저만 가능
                                                 .requestMatchers(HttpMethod.GET, eventListFavoriteUrl).authenticated()
+                                                .requestMatchers(HttpMethod.GET, eventScrollFavoriteUrl).authenticated()
                                                 // 나머지 모든 요청은 허용
                                                 .anyRequest().permitAll())
                                 .httpBasic(basic -> basic.disable())
@@ -1,22 +1,35 @@
 package com.event.service;
 
+import com.event.analysis.CommentAnalysisJobStatus;
+import com.event.analysis.CommentAnalysisWorker;
+import com.event.config.CacheNames;
 import com.event.exception.CustomAiException;
+import com.event.model.entity.CommentAnalysisEntity;
 import com.event.model.entity.CommentEntity;
 import com.event.model.response.CommentAnalysisResponse;
+import com.event.model.response.CommentAnalysisStatusResponse;
+import com.event.repository.CommentAnalysisRepository;
 import com.event.repository.CommentRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 /**
@@ -24,6 +37,13 @@ import java.util.stream.Collectors;
  * 
  * 이벤트 댓글을 AI를 통해 분석하여 요약, 키워드 추출, 감정 분석 등을 수행합니다.
  * Spring AI를 사용하여 ChatGPT와 통신하고, 결과를 캐싱하여 성능을 최적화합니다.
+ *
+ * 이벤트별 마지막 분석 결과는 comment_analysis_table에 저장하고, 댓글이 바뀔 때마다 다시 분석하지 않습니다.
+ * 마지막 분석 이후 변경된 댓글 수가 기준 이상이거나, 변경된 댓글이 있는 채로 기준 시간이 지났을 때만 다시 분석하며,
+ * 그 전까지는 마지막 분석 결과를 stale로 표시해서 반환합니다.
+ *
+ * AI 분석은 CommentAnalysisWorker의 백그라운드 스레드에서 이벤트별로 하나씩만 실행합니다.
+ * 다시 분석하는 동안에는 마지막 분석 결과를 바로 반환하고, 분석한 적 없는 이벤트만 첫 분석 결과를 기다립니다.
  */
 @Service
 @Slf4j
@@ -33,6 +53,12 @@ public class AiService {
 
     private final CommentRepository commentRepository;
 
+    private final CommentAnalysisRepository commentAnalysisRepository;
+
+    private final CommentCountService commentCountService;
+
+    private final CommentAnalysisWorker commentAnalysisWorker;
+
     private final ObjectMapper objectMapper;
 
     @Value("${size.required-ai-comment}")
@@ -41,12 +67,27 @@ public class AiService {
     @Value("${size.ai-comment}")
     private int aiCommentCount;
 
+    @Value("${ai-analysis.reanalyze-comment-delta}")
+    private int reanalyzeCommentDelta;
+
+    @Value("${ai-analysis.reanalyze-interval}")
+    private Duration reanalyzeInterval;
+
+    @Value("${ai-analysis.first-analysis-timeout}")
+    private Duration firstAnalysisTimeout;
+
     public AiService(
             ChatClient.Builder chatClientBuilder,
             CommentRepository commentRepository,
+            CommentAnalysisRepository commentAnalysisRepository,
+            CommentCountService commentCountService,
+            CommentAnalysisWorker commentAnalysisWorker,
             ObjectMapper objectMapper) {
         this.chatClient = chatClientBuilder.build();
         this.commentRepository = commentRepository;
+        this.commentAnalysisRepository = commentAnalysisRepository;
+        this.commentCountService = commentCountService;
+        this.commentAnalysisWorker = commentAnalysisWorker;
         this.objectMapper = objectMapper;
     }
 
@@ -54,16 +95,20 @@ public class AiService {
      * 최소 특정한 개수 이상의 댓글이 있을 때만 분석을 수행하며,
      * 최신 특정한 개수의 댓글을 기준으로 요약, 키워드 추출, 감정 분석을 진행합니다.
      * 결과는 레디스 캐쉬에 저장되어 동일한 요청에 대해 빠른 응답을 제공합니다.
+     *
+     * 다시 분석할 기준에 닿지 않았으면 마지막 분석 결과를 반환합니다.
+     * 기준에 닿았으면 백그라운드 분석 작업을 요청하고 작업이 끝나기를 기다리지 않고 마지막 분석 결과를 stale로 반환합니다.
+     * 분석한 적 없는 이벤트는 first-analysis-timeout까지 첫 분석 결과를 기다립니다.
+     * stale 결과는 캐시하지 않으므로 다음 요청에서 다시 분석 기준을 확인합니다.
      * 
      * @param contentId 분석할 이벤트의 컨텐츠 ID
      * @return CommentAnalysisResponse 댓글 분석 결과 (요약, 키워드, 감정 분석)
-     * @throws CustomAiException 댓글 수가 부족하거나 AI 분석 실패 시 발생
+     * @throws CustomAiException 댓글 수가 부족하거나, 마지막 분석 결과 없이 AI 분석 실패, 작업 큐 초과, 첫 분석 대기 시간 초과 시 발생
      */
-    @Transactional(readOnly = true)
-    @Cacheable(value = "comment-analysis", key = "#contentId")
+    @Cacheable(value = CacheNames.COMMENT_ANALYSIS, key = "#contentId", unless = "#result.stale()")
     public CommentAnalysisResponse analyzeComments(Long contentId) {
         // 댓글 수 확인
-        int commentCount = commentRepository.countByContentId(contentId);
+        int commentCount = commentCountService.getCommentCount(contentId);
         if (commentCount < requiredAiCommentCount) {
             log.warn("Not enough comments found. contentId: {}, required comment count: {}, comment count: {}",
                     contentId, requiredAiCommentCount, commentCount);
@@ -72,6 +117,157 @@ public class AiService {
                             + " or more comments.");
         }
 
+        CommentAnalysisEntity commentAnalysisEntity = commentAnalysisRepository.findById(contentId).orElse(null);
+        CommentAnalysisResponse lastCommentAnalysisResponse = readLastResult(commentAnalysisEntity);
+        if (lastCommentAnalysisResponse != null && !requiresReanalysis(commentAnalysisEntity)) {
+            return lastCommentAnalysisResponse;
+        }
+
+        CompletableFuture<CommentAnalysisResponse> analysisJob;
+        try {
+            analysisJob = commentAnalysisWorker.submit(contentId, () -> analyzeIfRequired(contentId, commentCount));
+        } catch (CustomAiException e) {
+            if (lastCommentAnalysisResponse == null) {
+                throw e;
+            }
+            return lastCommentAnalysisResponse;
+        }
+
+        // 다시 분석하는 동안에는 마지막 분석 결과를 바로 반환
+        if (lastCommentAnalysisResponse != null) {
+            return lastCommentAnalysisResponse;
+        }
+        return awaitFirstAnalysis(contentId, analysisJob);
+    }
+
+    /**
+     * 이벤트의 댓글 분석 작업 상태와 마지막 분석 정보를 조회합니다.
+     *
+     * @param contentId 이벤트 컨텐츠 ID
+     * @return 댓글 분석 상태
+     */
+    public CommentAnalysisStatusResponse getAnalysisStatus(Long contentId) {
+        CommentAnalysisJobStatus commentAnalysisJobStatus = commentAnalysisWorker.getStatus(contentId);
+        return commentAnalysisRepository.findById(contentId)
+                .map(commentAnalysisEntity -> new CommentAnalysisStatusResponse(
+                        contentId,
+                        commentAnalysisJobStatus,
+                        commentAnalysisEntity.getPendingCommentCount(),
+                        commentAnalysisEntity.getAnalyzedAt()))
+                .orElseGet(() -> new CommentAnalysisStatusResponse(contentId, commentAnalysisJobStatus, 0, null));
+    }
+
+    /**
+     * 분석한 적 없는 이벤트의 첫 분석 결과를 기다립니다.
+     * 시간 안에 끝나지 않아도 작업은 계속 진행되고, 결과는 다음 요청에서 반환됩니다.
+     */
+    private CommentAnalysisResponse awaitFirstAnalysis(Long contentId,
+            CompletableFuture<CommentAnalysisResponse> analysisJob) {
+        try {
+            return analysisJob.get(firstAnalysisTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("First comment analysis is still in progress. contentId: {}", contentId);
+            throw new CustomAiException(HttpStatus.SERVICE_UNAVAILABLE, "Comment analysis is in progress");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomAiException(HttpStatus.SERVICE_UNAVAILABLE, "Comment analysis was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomAiException customAiException) {
+                throw customAiException;
+            }
+            log.error("AI analysis failed: {}", e.getMessage(), e);
+            throw new CustomAiException(HttpStatus.BAD_GATEWAY, "AI analysis failed");
+        }
+    }
+
+    /**
+     * 분석 워커에서 이벤트별 락을 잡은 상태로 실행합니다.
+     * 작업이 대기하는 동안 다른 파드가 이미 다시 분석했으면 AI를 호출하지 않고 저장된 결과를 반환합니다.
+     * 다시 분석하다 실패하면 마지막 분석 결과를 stale로 반환합니다.
+     */
+    private CommentAnalysisResponse analyzeIfRequired(Long contentId, int commentCount) {
+        CommentAnalysisEntity commentAnalysisEntity = commentAnalysisRepository.findById(contentId).orElse(null);
+        CommentAnalysisResponse lastCommentAnalysisResponse = readLastResult(commentAnalysisEntity);
+        if (lastCommentAnalysisResponse != null && !requiresReanalysis(commentAnalysisEntity)) {
+            return lastCommentAnalysisResponse;
+        }
+
+        CommentAnalysisResponse commentAnalysisResponse;
+        try {
+            commentAnalysisResponse = requestAnalysis(contentId, commentCount);
+        } catch (CustomAiException e) {
+            if (lastCommentAnalysisResponse == null) {
+                throw e;
+            }
+            log.warn("AI re-analysis failed. Returning the last analysis result. contentId: {}", contentId);
+            return lastCommentAnalysisResponse;
+        }
+
+        Instant analyzedAt = Instant.now();
+        saveResult(contentId, commentAnalysisEntity, commentAnalysisResponse, analyzedAt);
+        return commentAnalysisResponse.withState(false, analyzedAt);
+    }
+
+    /**
+     * 마지막 분석 이후 변경된 댓글 수가 기준 이상이거나, 변경된 댓글이 있는 채로 기준 시간이 지났으면 다시 분석합니다.
+     */
+    private boolean requiresReanalysis(CommentAnalysisEntity commentAnalysisEntity) {
+        int pendingCommentCount = commentAnalysisEntity.getPendingCommentCount();
+        if (pendingCommentCount <= 0) {
+            return false;
+        }
+        return pendingCommentCount >= reanalyzeCommentDelta
+                || commentAnalysisEntity.getAnalyzedAt() == null
+                || commentAnalysisEntity.getAnalyzedAt().plus(reanalyzeInterval).isBefore(Instant.now());
+    }
+
+    /**
+     * 저장된 마지막 분석 결과를 읽습니다. 변경된 댓글이 있으면 stale로 표시합니다.
+     *
+     * @return 마지막 분석 결과 (분석한 적 없거나 읽을 수 없으면 null)
+     */
+    private CommentAnalysisResponse readLastResult(CommentAnalysisEntity commentAnalysisEntity) {
+        if (commentAnalysisEntity == null || commentAnalysisEntity.getResult() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(commentAnalysisEntity.getResult(), CommentAnalysisResponse.class)
+                    .withState(commentAnalysisEntity.getPendingCommentCount() > 0, commentAnalysisEntity.getAnalyzedAt());
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to read the last analysis result. contentId: {}", commentAnalysisEntity.getContentId(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 새 분석 결과를 저장합니다.
+     * 저장에 실패해도 이미 받은 분석 결과는 반환하고, 다음 요청에서 다시 분석합니다.
+     */
+    private void saveResult(Long contentId, CommentAnalysisEntity commentAnalysisEntity,
+            CommentAnalysisResponse commentAnalysisResponse, Instant analyzedAt) {
+        try {
+            String result = objectMapper.writeValueAsString(commentAnalysisResponse);
+            if (commentAnalysisEntity == null) {
+                commentAnalysisRepository.save(new CommentAnalysisEntity(contentId, result, analyzedAt));
+            } else {
+                commentAnalysisRepository.updateResult(
+                        contentId, result, analyzedAt, commentAnalysisEntity.getPendingCommentCount());
+            }
+        } catch (JsonProcessingException | DataAccessException e) {
+            // 다른 파드가 같은 이벤트의 첫 분석 결과를 먼저 저장한 경우도 포함
+            log.warn("Failed to save the analysis result. contentId: {}", contentId, e);
+        }
+    }
+
+    /**
+     * 최신 댓글들을 AI로 분석합니다.
+     *
+     * @param contentId    분석할 이벤트의 컨텐츠 ID
+     * @param commentCount 이벤트의 댓글 수
+     * @return 댓글 분석 결과
+     * @throws CustomAiException AI 분석 실패 시 발생
+     */
+    private CommentAnalysisResponse requestAnalysis(Long contentId, int commentCount) {
         // 최신 댓글들 조회
         int fetchSize = Math.min(commentCount, aiCommentCount);
         Pageable pageable = PageRequest.of(0, fetchSize);
@@ -0,0 +1,161 @@
+package com.event.service;
+
+import com.event.exception.CustomCommentException;
+import com.event.model.entity.CommentCountEntity;
+import com.event.model.response.CommentCountResponse;
+import com.event.repository.CommentCountRepository;
+import com.event.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 이벤트별 댓글 수 카운터 서비스
+ *
+ * 이벤트 페이지를 볼 때마다 comment_table을 count(*) 하지 않도록 comment_count_table의 카운터를 읽습니다.
+ * 카운터는 댓글 등록/삭제 트랜잭션 안에서 함께 증감하므로 댓글과 같이 커밋되거나 롤백됩니다.
+ *
+ * 카운터 행은 주기적인 재집계에서 만들어지며, 아직 카운터 행이 없는 이벤트는 count(*)로 조회합니다.
+ * 카운터 행이 만들어지는 중에 등록/삭제된 댓글처럼 어긋난 값도 다음 재집계에서 바로잡습니다.
+ *
+ * 재집계는 Redis 락으로 주기마다 한 파드에서만 실행하고, 최근에 증감된 카운터는 건너뛰어서
+ * 진행 중인 댓글 등록/삭제의 증감을 덮어쓰지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CommentCountService {
+
+    private static final String RECONCILE_LOCK_KEY = "comment-count:reconcile:lock";
+
+    private final CommentCountRepository commentCountRepository;
+
+    private final CommentRepository commentRepository;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${size.comment-count-bulk}")
+    private int commentCountBulkSize;
+
+    // 재집계 락 유지 시간 (재집계 주기보다 짧게 설정해서 주기마다 한 파드만 실행)
+    @Value("${comment-count.reconcile-lock-ttl}")
+    private Duration reconcileLockTtl;
+
+    // 이 시간 안에 증감된 카운터는 재집계에서 건너뜀
+    @Value("${comment-count.recent-write-window}")
+    private Duration recentWriteWindow;
+
+    /**
+     * 특정 이벤트의 댓글 수를 조회합니다.
+     *
+     * @param contentId 이벤트 컨텐츠 ID
+     * @return 댓글 수
+     */
+    @Transactional(readOnly = true)
+    public int getCommentCount(Long contentId) {
+        return commentCountRepository.findById(contentId)
+                .map(CommentCountEntity::getCommentCount)
+                .orElseGet(() -> commentRepository.countByContentId(contentId));
+    }
+
+    /**
+     * 여러 이벤트의 댓글 수를 한 번에 조회합니다.
+     * 목록 화면에서 이벤트마다 댓글 수를 요청하지 않도록 카운터를 한 번에 읽고,
+     * 카운터 행이 없는 이벤트만 모아서 GROUP BY 쿼리 하나로 조회합니다.
+     *
+     * @param contentIdList 이벤트 컨텐츠 ID 목록
+     * @return 요청한 순서대로의 댓글 수 목록 (중복 ID는 한 번만 포함)
+     * @throws CustomCommentException 요청한 ID 수가 최대 개수를 넘는 경우
+     */
+    @Transactional(readOnly = true)
+    public List<CommentCountResponse> getCommentCountList(List<Long> contentIdList) {
+        Set<Long> contentIdSet = new LinkedHashSet<>(contentIdList);
+        contentIdSet.remove(null);
+        if (contentIdSet.size() > commentCountBulkSize) {
+            log.error("Too many contentIds for comment count. size={}, max={}", contentIdSet.size(), commentCountBulkSize);
+            throw new CustomCommentException(
+                    HttpStatus.BAD_REQUEST,
+                    "Comment count is available for up to " + commentCountBulkSize + " contentIds at once");
+        }
+        if (contentIdSet.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Long> commentCountMap = new HashMap<>();
+        commentCountRepository.findAllById(contentIdSet).forEach(commentCountEntity ->
+                commentCountMap.put(commentCountEntity.getContentId(), (long) commentCountEntity.getCommentCount()));
+
+        List<Long> missingContentIdList = contentIdSet.stream()
+                .filter(contentId -> !commentCountMap.containsKey(contentId))
+                .toList();
+        if (!missingContentIdList.isEmpty()) {
+            commentRepository.countGroupByContentIdIn(missingContentIdList).forEach(commentCountResponse ->
+                    commentCountMap.put(commentCountResponse.contentId(), commentCountResponse.commentCount()));
+        }
+
+        return contentIdSet.stream()
+                .map(contentId -> new CommentCountResponse(contentId, commentCountMap.getOrDefault(contentId, 0L)))
+                .toList();
+    }
+
+    /**
+     * 댓글 등록/삭제 트랜잭션 안에서 카운터를 증감합니다.
+     * 카운터 행이 아직 없으면 조회 시 count(*)를 사용하므로 따로 만들지 않습니다.
+     *
+     * @param contentId 이벤트 컨텐츠 ID
+     * @param delta     증감할 값 (등록 1, 삭제 -1)
+     */
+    @Transactional
+    public void addCommentCount(Long contentId, int delta) {
+        commentCountRepository.addCommentCount(contentId, delta, Instant.now());
+    }
+
+    /**
+     * 카운터를 comment_table의 실제 댓글 수로 재집계합니다.
+     * 카운터 행이 없는 이벤트는 새로 만들고, 최근에 증감되지 않았는데 값이 어긋난 카운터는 바로잡습니다.
+     * 다른 파드가 이번 주기의 재집계 락을 잡았으면 실행하지 않으며,
+     * Redis를 사용할 수 없거나 여러 파드가 동시에 재집계해서 실패하더라도 다음 주기에 다시 실행됩니다.
+     */
+    @Scheduled(cron = "${comment-count.reconcile-cron}", zone = "Asia/Seoul")
+    public void reconcile() {
+        if (!acquireReconcileLock()) {
+            log.debug("Comment count reconciliation skipped (running on another instance)");
+            return;
+        }
+
+        try {
+            int insertedCount = commentCountRepository.insertMissingCommentCounts();
+            int correctedCount = commentCountRepository.reconcileCommentCounts(Instant.now().minus(recentWriteWindow));
+            log.info("Comment counts reconciled. inserted: {}, corrected: {}", insertedCount, correctedCount);
+        } catch (DataAccessException e) {
+            log.warn("Comment count reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 이번 주기의 재집계 락을 잡습니다. 락은 풀지 않고 만료되게 해서 같은 주기에 다른 파드가 다시 실행하지 않게 합니다.
+     * Redis를 사용할 수 없으면 락 없이 실행합니다. (최근 증감 조건으로 진행 중인 증감은 덮어쓰지 않음)
+     *
+     * @return 재집계를 실행해도 되면 true
+     */
+    private boolean acquireReconcileLock() {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(RECONCILE_LOCK_KEY, Instant.now().toString(), reconcileLockTtl));
+        } catch (DataAccessException e) {
+            log.warn("Failed to acquire comment count reconcile lock, reconciling without lock: {}", e.getMessage());
+            return true;
+        }
+    }
+
+}
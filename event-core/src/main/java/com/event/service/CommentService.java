@@ -1,22 +1,31 @@
 package com.event.service;
 
+import com.event.config.CacheNames;
 import com.event.exception.CustomCommentException;
 import com.event.mapper.CommentMapper;
 import com.event.model.entity.CommentEntity;
 import com.event.model.request.CommentInsertRequest;
 import com.event.model.request.CommentUpdateRequest;
+import com.event.model.response.CommentCountResponse;
 import com.event.model.response.CommentResponse;
 import com.event.model.response.CommentScrollResponse;
+import com.event.repository.CommentAnalysisRepository;
 import com.event.repository.CommentRepository;
 import com.event.security.CustomPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.*;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
@@ -30,16 +39,32 @@ import java.util.Map;
  * 
  * 댓글의 CRUD 기능을 제공하며, 사용자 권한 검증과
  * 댓글 분석 캐쉬 무효화 처리를 담당합니다.
+ *
+ * 커서 없이 조회하는 댓글 목록 첫 페이지는 이벤트별 쓰기 버전을 붙인 키로 캐시하고,
+ * 댓글이 등록/수정/삭제되면 트랜잭션 커밋 이후에 해당 이벤트의 쓰기 버전을 올립니다.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CommentService {
 
+    private static final String UPDATED_AT_PROPERTY = "updatedAt";
+
+    private static final String COMMENT_FIRST_PAGE_VERSION_KEY_PREFIX = "comment-first-page:version:";
+
     private final CommentMapper commentMapper;
 
     private final CommentRepository commentRepository;
 
+    private final CommentCountService commentCountService;
+
+    private final CommentAnalysisRepository commentAnalysisRepository;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 캐시를 사용하지 않는 프로필(test)에서는 CacheManager 빈이 없음
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+
     @Value("${size.comment}")
     private int commentSize;
 
@@ -51,13 +76,25 @@ public class CommentService {
 
     /**
      * 특정 이벤트의 댓글 수를 조회합니다.
+     * 매번 count(*) 하지 않고 댓글 수 카운터를 읽습니다.
      * 
      * @param contentId 이벤트 컨텐츠 ID
      * @return 댓글 수
      */
     @Transactional(readOnly = true)
     public int getCommentCount(Long contentId) {
-        return commentRepository.countByContentId(contentId);
+        return commentCountService.getCommentCount(contentId);
+    }
+
+    /**
+     * 여러 이벤트의 댓글 수를 한 번에 조회합니다.
+     *
+     * @param contentIdList 이벤트 컨텐츠 ID 목록
+     * @return 요청한 순서대로의 댓글 수 목록
+     */
+    @Transactional(readOnly = true)
+    public List<CommentCountResponse> getCommentCountList(List<Long> contentIdList) {
+        return commentCountService.getCommentCountList(contentIdList);
     }
 
     /**
@@ -90,6 +127,11 @@ public class CommentService {
 
     /**
      * 특정 이벤트의 댓글 목록을 Keyset-Filtering 방식으로 조회합니다.
+     * 커서가 없는 첫 페이지는 다음 커서와 함께 캐시합니다.
+     *
+     * 첫 페이지 캐시 키에는 이벤트별 쓰기 버전을 붙이고, 버전은 DB 조회보다 먼저 읽습니다.
+     * 조회하는 도중에 다른 요청의 댓글 변경이 커밋되면 조회 결과는 이미 지나간 버전의 키에 저장되므로,
+     * 커밋 직후의 요청이 변경 전 목록을 캐시에서 읽지 않고 새 버전의 키로 DB를 다시 조회합니다.
      * 
      * @param contentId
      * @param cursor
@@ -97,21 +139,54 @@ public class CommentService {
      */
     @Transactional(readOnly = true)
     public CommentScrollResponse getCommentScrollByContentId(Long contentId, String cursor) {
-        KeysetScrollPosition keysetScrollPosition = (cursor == null || cursor.isBlank())
-                ? ScrollPosition.keyset()
-                : decodeCursor(cursor);
+        if (cursor != null && !cursor.isBlank()) {
+            return selectCommentScroll(contentId, decodeCursor(cursor));
+        }
 
+        // 캐시를 사용하지 않는 프로필(test)이거나 쓰기 버전을 읽지 못하면 캐시 없이 조회
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        String cacheKey = cacheManager == null ? null : commentFirstPageCacheKey(contentId);
+        if (cacheKey == null) {
+            return selectCommentScroll(contentId, ScrollPosition.keyset());
+        }
+
+        Cache commentFirstPageCache = cacheManager.getCache(CacheNames.COMMENT_FIRST_PAGE);
+        CommentScrollResponse cachedCommentScrollResponse = getCachedCommentFirstPage(commentFirstPageCache, cacheKey);
+        if (cachedCommentScrollResponse != null) {
+            return cachedCommentScrollResponse;
+        }
+
+        CommentScrollResponse commentScrollResponse = selectCommentScroll(contentId, ScrollPosition.keyset());
+        putCommentFirstPage(commentFirstPageCache, cacheKey, commentScrollResponse);
+        return commentScrollResponse;
+    }
+
+    private CommentScrollResponse selectCommentScroll(Long contentId, KeysetScrollPosition keysetScrollPosition) {
         Sort.Direction direction = Sort.Direction.fromString(commentSortDirection);
         Sort sort = Sort.by(direction, commentSortProperty).and(Sort.by(Sort.Direction.DESC, "commentId"));
 
         Limit limit = Limit.of(commentSize);
 
-        Window<CommentEntity> commentEntityWindow = commentRepository.findScrollByContentId(
-                contentId,
-                sort,
-                limit,
-                keysetScrollPosition
-        );
+        // 수정 시각 내림차순 커서 조회는 커서 위치부터 인덱스를 범위 조회하도록 수정 시각 상한을 함께 전달
+        Window<CommentEntity> commentEntityWindow;
+        if (direction.isDescending()
+                && UPDATED_AT_PROPERTY.equals(commentSortProperty)
+                && keysetScrollPosition.getKeys().get(UPDATED_AT_PROPERTY) instanceof Instant cursorUpdatedAt) {
+            commentEntityWindow = commentRepository.findScrollByContentIdAndUpdatedAtLessThanEqual(
+                    contentId,
+                    cursorUpdatedAt,
+                    sort,
+                    limit,
+                    keysetScrollPosition
+            );
+        } else {
+            commentEntityWindow = commentRepository.findScrollByContentId(
+                    contentId,
+                    sort,
+                    limit,
+                    keysetScrollPosition
+            );
+        }
 
         List<CommentResponse> commentResponseList = commentEntityWindow.getContent().stream()
                 .map(commentMapper::toCommentResponse).toList();
@@ -129,6 +204,50 @@ public class CommentService {
         return new CommentScrollResponse(commentResponseList, nextCursor);
     }
 
+    /**
+     * 이벤트의 현재 쓰기 버전을 붙인 첫 페이지 캐시 키를 만듭니다. 아직 변경된 적 없는 이벤트의 버전은 0입니다.
+     * Redis 장애로 버전을 읽지 못하면 null을 반환합니다.
+     *
+     * @param contentId 이벤트 컨텐츠 ID
+     * @return contentId:쓰기 버전 형식의 캐시 키
+     */
+    private String commentFirstPageCacheKey(Long contentId) {
+        try {
+            String version = stringRedisTemplate.opsForValue().get(COMMENT_FIRST_PAGE_VERSION_KEY_PREFIX + contentId);
+            return contentId + ":" + (version == null ? "0" : version);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read comment first page version. contentId: {}", contentId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 캐시된 첫 페이지를 조회합니다. 캐시 장애로 요청이 실패하지 않도록 예외는 로그로만 남기고 DB에서 조회합니다.
+     */
+    private CommentScrollResponse getCachedCommentFirstPage(Cache commentFirstPageCache, String cacheKey) {
+        if (commentFirstPageCache == null) {
+            return null;
+        }
+        try {
+            return commentFirstPageCache.get(cacheKey, CommentScrollResponse.class);
+        } catch (RuntimeException e) {
+            log.warn("Failed to get comment first page cache. key: {}", cacheKey, e);
+            return null;
+        }
+    }
+
+    private void putCommentFirstPage(Cache commentFirstPageCache, String cacheKey,
+            CommentScrollResponse commentScrollResponse) {
+        if (commentFirstPageCache == null) {
+            return;
+        }
+        try {
+            commentFirstPageCache.put(cacheKey, commentScrollResponse);
+        } catch (RuntimeException e) {
+            log.warn("Failed to put comment first page cache. key: {}", cacheKey, e);
+        }
+    }
+
     /**
      * 커서를 인코딩합니다.
      *
@@ -171,6 +290,7 @@ public class CommentService {
 
     /**
      * 새 댓글을 등록합니다.
+     * 같은 트랜잭션에서 댓글 수 카운터와 댓글 분석 이후의 변경 수를 증가시키고,
      * 댓글 등록 후 해당 이벤트의 댓글 분석 캐쉬를 무효화합니다.
      * 
      * @param contentId            이벤트 컨텐츠 ID
@@ -179,11 +299,14 @@ public class CommentService {
      * @return 등록된 댓글 정보
      */
     @Transactional
-    @CacheEvict(value = "comment-analysis", key = "#contentId")
+    @CacheEvict(value = CacheNames.COMMENT_ANALYSIS, key = "#contentId")
     public CommentResponse insertComment(Long contentId, CommentInsertRequest commentInsertRequest,
             CustomPrincipal customPrincipal) {
         CommentEntity commentEntity = createCommentEntity(contentId, commentInsertRequest, customPrincipal);
         CommentEntity savedCommentEntity = commentRepository.save(commentEntity);
+        commentCountService.addCommentCount(contentId, 1);
+        commentAnalysisRepository.addPendingCommentCount(contentId);
+        increaseCommentFirstPageVersionAfterCommit(contentId);
         log.info("DB insert completed for contentId: {}", commentEntity.getContentId());
 
         return commentMapper.toCommentResponse(savedCommentEntity);
@@ -191,7 +314,8 @@ public class CommentService {
 
     /**
      * 댓글을 삭제합니다.
-     * 작성자 본인만 삭제할 수 있으며, 삭제 후 댓글 분석 캐쉬를 무효화합니다.
+     * 작성자 본인만 삭제할 수 있으며, 같은 트랜잭션에서 댓글 수 카운터를 감소시키고 댓글 분석 이후의 변경 수를 증가시키며,
+     * 삭제 후 댓글 분석 캐쉬를 무효화합니다.
      * 
      * @param commentId       삭제할 댓글 ID
      * @param customPrincipal 인증된 사용자 정보
@@ -199,7 +323,7 @@ public class CommentService {
      * @throws CustomCommentException 댓글이 존재하지 않거나 삭제 권한이 없을 경우
      */
     @Transactional
-    @CacheEvict(value = "comment-analysis", key = "#result.contentId")
+    @CacheEvict(value = CacheNames.COMMENT_ANALYSIS, key = "#result.contentId")
     public CommentResponse deleteComment(Long commentId, CustomPrincipal customPrincipal) {
         CommentEntity commentEntity = commentRepository.findById(commentId).orElseThrow(() -> {
             log.error("Delete attempt failed. Comment not found. commentId={}", commentId);
@@ -217,12 +341,15 @@ public class CommentService {
         }
 
         commentRepository.delete(commentEntity);
+        commentCountService.addCommentCount(commentEntity.getContentId(), -1);
+        commentAnalysisRepository.addPendingCommentCount(commentEntity.getContentId());
+        increaseCommentFirstPageVersionAfterCommit(commentEntity.getContentId());
         return commentMapper.toCommentResponse(commentEntity);
     }
 
     /**
      * 댓글을 수정합니다.
-     * 작성자 본인만 수정할 수 있으며, 수정 후 댓글 분석 캐쉬를 무효화합니다.
+     * 작성자 본인만 수정할 수 있으며, 같은 트랜잭션에서 댓글 분석 이후의 변경 수를 증가시키고 수정 후 댓글 분석 캐쉬를 무효화합니다.
      * 
      * @param commentId            수정할 댓글 ID
      * @param commentUpdateRequest 댓글 수정 요청 정보
@@ -231,7 +358,7 @@ public class CommentService {
      * @throws CustomCommentException 댓글이 존재하지 않거나 수정 권한이 없을 경우
      */
     @Transactional
-    @CacheEvict(value = "comment-analysis", key = "#result.contentId")
+    @CacheEvict(value = CacheNames.COMMENT_ANALYSIS, key = "#result.contentId")
     public CommentResponse updateComment(Long commentId, CommentUpdateRequest commentUpdateRequest,
             CustomPrincipal customPrincipal) {
         CommentEntity commentEntity = commentRepository.findById(commentId).orElseThrow(() -> {
@@ -252,10 +379,42 @@ public class CommentService {
         commentEntity.setContent(commentUpdateRequest.content());
         commentEntity.setUpdatedAt(Instant.now());
         commentRepository.save(commentEntity);
+        commentAnalysisRepository.addPendingCommentCount(commentEntity.getContentId());
+        increaseCommentFirstPageVersionAfterCommit(commentEntity.getContentId());
 
         return commentMapper.toCommentResponse(commentEntity);
     }
 
+    /**
+     * 트랜잭션이 커밋된 뒤에 해당 이벤트의 댓글 목록 첫 페이지 쓰기 버전을 올립니다.
+     * 이전 버전의 키로 캐시된 목록은 더 이상 조회되지 않고 TTL로 만료됩니다.
+     * 커밋 전에 올리면 다른 요청이 커밋 전 목록을 새 버전으로 캐시할 수 있고, 롤백된 변경으로 버전을 올리지 않기 위함입니다.
+     * 이미 커밋된 변경이 버전 증가 실패로 실패 응답이 되지 않도록 예외는 로그로만 남깁니다. (남은 캐시는 TTL로 만료)
+     *
+     * @param contentId 이벤트 컨텐츠 ID
+     */
+    private void increaseCommentFirstPageVersionAfterCommit(Long contentId) {
+        Runnable increaseCommentFirstPageVersion = () -> cacheManagerProvider.ifAvailable(cacheManager -> {
+            try {
+                stringRedisTemplate.opsForValue().increment(COMMENT_FIRST_PAGE_VERSION_KEY_PREFIX + contentId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to increase comment first page version. contentId: {}", contentId, e);
+            }
+        });
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increaseCommentFirstPageVersion.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increaseCommentFirstPageVersion.run();
+            }
+        });
+    }
+
     private CommentEntity createCommentEntity(
             Long contentId,
             CommentInsertRequest commentInsertRequest,
@@ -1,6 +1,7 @@
 package com.event.service;
 
 import com.event.exception.CustomEventException;
+import com.event.favorite.FavoriteSetCache;
 import com.event.model.entity.EventFavoriteEntity;
 import com.event.model.response.EventFavoriteResponse;
 import com.event.repository.EventFavoriteRepository;
@@ -11,6 +12,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -20,6 +24,8 @@ public class EventFavoriteService {
 
     private final EventFavoriteRepository favoriteRepository;
 
+    private final FavoriteSetCache favoriteSetCache;
+
     /**
      * 즐겨찾기 등록
      * @param contentId
@@ -37,6 +43,7 @@ public class EventFavoriteService {
         if (!favoriteStatus) {
             favoriteRepository.save(new EventFavoriteEntity(contentId, userId));
         }
+        favoriteSetCache.add(userId, contentId);
 
         return new EventFavoriteResponse(true, contentId, userId);
     }
@@ -53,12 +60,14 @@ public class EventFavoriteService {
         if (favoriteStatus) {
             favoriteRepository.deleteByContentIdAndUserId(contentId, userId);
         }
+        favoriteSetCache.remove(userId, contentId);
 
         return new EventFavoriteResponse(false, contentId, userId);
     }
 
     /**
      * 즐겨찾기 여부 확인
+     * 사용자별 즐겨찾기 집합 캐시를 사용할 수 있으면 DB를 조회하지 않습니다.
      * @param contentId
      * @param userId
      * @return
@@ -68,7 +77,22 @@ public class EventFavoriteService {
         if (userId == null) {
             return false;
         }
+        if (favoriteSetCache.isEnabled()) {
+            return favoriteSetCache.contains(userId, contentId);
+        }
         return favoriteRepository.existsByContentIdAndUserId(contentId, userId);
     }
 
+    /**
+     * 유저가 즐겨찾기한 contentId 집합 조회
+     * @param userId
+     * @return 즐겨찾기 집합 캐시를 사용할 수 없으면 empty
+     */
+    public Optional<Set<Long>> findFavoriteIdSet(Long userId) {
+        if (userId == null || !favoriteSetCache.isEnabled()) {
+            return Optional.empty();
+        }
+        return Optional.of(favoriteSetCache.getFavoriteIdSet(userId));
+    }
+
 }
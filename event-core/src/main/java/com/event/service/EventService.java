@@ -1,27 +1,60 @@
 package com.event.service;
 
+import com.event.catalog.ActiveEventCatalog;
+import com.event.config.CacheNames;
 import com.event.exception.CustomEventException;
+import com.event.fingerprint.EventFingerprintCache;
+import com.event.fingerprint.EventFingerprints;
+import com.event.geo.GeoBounds;
+import com.event.geo.GeoDistance;
+import com.event.listener.EventReadModelSynchronizer;
 import com.event.mapper.EventMapper;
 import com.event.model.dto.EventDto;
+import com.event.model.dto.EventScrollKey;
+import com.event.model.dto.EventUpsertResult;
 import com.event.model.entity.EventEntity;
 import com.event.model.response.EventListResponse;
+import com.event.model.response.EventNearbyResponse;
 import com.event.model.response.EventResponse;
+import com.event.model.response.EventScrollResponse;
+import com.event.repository.EventBatchRepository;
 import com.event.repository.EventRepository;
+import com.event.search.EventSearchIndex;
 import com.event.specification.EventSpecs;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * 이벤트 관련 비즈니스 로직을 처리하는 서비스
@@ -40,21 +73,100 @@ public class EventService {
 
     private final EventFavoriteService eventFavoriteService;
 
+    private final EventSearchIndex eventSearchIndex;
+
+    private final ActiveEventCatalog activeEventCatalog;
+
+    private final EventBatchRepository eventBatchRepository;
+
+    private final EventReadModelSynchronizer eventReadModelSynchronizer;
+
+    private final EventFingerprintCache eventFingerprintCache;
+
     private static final ZoneId KOREA_ZONE_ID = ZoneId.of("Asia/Seoul");
 
+    @Value("${geo.max-radius}")
+    private int maxRadiusMeters;
+
+    // 필터별 전체 이벤트 수 (TTL 동안은 목록이 바뀌어도 근사값을 그대로 사용)
+    private final Cache<String, Long> totalCountCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
     /**
-     * 이벤트를 데이터베이스에 upsert 합니다.
-     * 동일한 contentId가 존재하면 UPDATE, 없으면 INSERT 됩니다.
-     * 
-     * @param eventDto 저장할 이벤트 정보
+     * 카프카 배치로 수신한 이벤트들을 하나의 트랜잭션에서 upsert 합니다.
+     *
+     * 같은 contentId가 여러 번 들어오면 modifiedTime이 가장 최근인 이벤트만 저장하고,
+     * 다중 행 INSERT ... ON CONFLICT DO UPDATE 구문으로 한 번에 저장합니다.
+     * 내용 지문이 마지막으로 저장된 값과 같은 이벤트는 DB에 보내지 않고,
+     * 지문 캐시에 없더라도 DB에 저장된 content_hash와 같으면 갱신하지 않습니다.
+     * 인메모리 검색 색인과 활성 이벤트 카탈로그에는 실제로 저장된 이벤트만 커밋 이후에 반영됩니다.
+     *
+     * 리스너 스레드 여러 개가 동시에 호출할 수 있으므로, 리밸런싱 중에 같은 행을 갱신하더라도
+     * 데드락이 나지 않도록 항상 contentId 오름차순으로 행 잠금을 잡습니다.
+     *
+     * @param eventDtoList 저장할 이벤트 목록
+     * @return 수신/저장/건너뛴 이벤트 수
      */
     @Transactional
-    public void upsertEvent(EventDto eventDto) {
-        EventEntity eventEntity = eventMapper.toEventEntity(eventDto);
-        eventEntity.setDbUpsertedAt(Instant.now());
+    public EventUpsertResult upsertEvents(List<EventDto> eventDtoList) {
+        Map<Long, EventDto> latestEventDtoMap = new TreeMap<>();
+        for (EventDto eventDto : eventDtoList) {
+            if (eventDto.getContentId() == null) {
+                log.warn("Skipped event without contentId. title: {}", eventDto.getTitle());
+                continue;
+            }
+            latestEventDtoMap.merge(eventDto.getContentId(), eventDto, EventService::selectLatest);
+        }
 
-        eventRepository.save(eventEntity);
-        log.info("DB upsert completed for contentId: {}", eventDto.getContentId());
+        // 지문 캐시와 같은 이벤트는 DB에 보내지 않음
+        Instant now = Instant.now();
+        List<EventEntity> changedEventEntityList = new ArrayList<>(latestEventDtoMap.size());
+        for (EventDto eventDto : latestEventDtoMap.values()) {
+            EventEntity eventEntity = eventMapper.toEventEntity(eventDto);
+            eventEntity.setContentHash(EventFingerprints.of(eventEntity));
+            if (!eventFingerprintCache.isUnchanged(eventEntity.getContentId(), eventEntity.getContentHash())) {
+                eventEntity.setDbUpsertedAt(now);
+                changedEventEntityList.add(eventEntity);
+            }
+        }
+
+        // DB의 content_hash와 같아서 갱신되지 않은 이벤트는 지문만 캐시에 반영
+        List<EventEntity> appliedEventEntityList = new ArrayList<>(changedEventEntityList.size());
+        List<EventEntity> unchangedEventEntityList = new ArrayList<>();
+        if (!changedEventEntityList.isEmpty()) {
+            Set<Long> appliedContentIdSet = new HashSet<>(eventBatchRepository.upsertAll(changedEventEntityList));
+            for (EventEntity eventEntity : changedEventEntityList) {
+                if (appliedContentIdSet.contains(eventEntity.getContentId())) {
+                    appliedEventEntityList.add(eventEntity);
+                } else {
+                    unchangedEventEntityList.add(eventEntity);
+                }
+            }
+        }
+        eventReadModelSynchronizer.applySaved(appliedEventEntityList);
+        eventReadModelSynchronizer.applyUnchanged(unchangedEventEntityList);
+
+        EventUpsertResult eventUpsertResult = new EventUpsertResult(
+                eventDtoList.size(),
+                appliedEventEntityList.size(),
+                eventDtoList.size() - appliedEventEntityList.size());
+        log.info("DB batch upsert completed. received: {}, applied: {}, skipped: {}",
+                eventUpsertResult.received(), eventUpsertResult.applied(), eventUpsertResult.skipped());
+        return eventUpsertResult;
+    }
+
+    /**
+     * modifiedTime이 더 최근인 이벤트를 반환합니다.
+     * 비교할 수 없거나 같으면 나중에 수신한 이벤트를 반환합니다.
+     */
+    private static EventDto selectLatest(EventDto received, EventDto later) {
+        if (received.getModifiedTime() != null && later.getModifiedTime() != null
+                && later.getModifiedTime().isBefore(received.getModifiedTime())) {
+            return received;
+        }
+        return later;
     }
 
     // @Transactional(readOnly = true)
@@ -73,6 +185,8 @@ public class EventService {
     /**
      * 이벤트 목록을 조회합니다.
      * 검색어와 지역 필터를 통해 조건부 검색이 가능합니다.
+     * 검색어가 있으면 인메모리 검색 색인으로 관련도 순 결과를 반환하고,
+     * 검색어가 없으면 인메모리 활성 이벤트 카탈로그에서 DB 조회 없이 반환합니다.
      * 
      * @param pageable   페이지네이션 정보
      * @param query      검색어 (선택사항)
@@ -85,14 +199,53 @@ public class EventService {
         List<String> areaList = parseAreaString(areaString);
         LocalDate todayInKorea = LocalDate.now(KOREA_ZONE_ID);
 
+        if (safeQuery != null && !safeQuery.isEmpty() && eventSearchIndex.isReady()) {
+            List<Long> rankedContentIdList = eventSearchIndex.search(safeQuery, areaList, todayInKorea);
+            return toRankedPage(rankedContentIdList, pageable);
+        }
+
+        if ((safeQuery == null || safeQuery.isEmpty()) && activeEventCatalog.isReady()) {
+            return activeEventCatalog.selectPage(areaList, pageable);
+        }
+
         Specification<EventEntity> eventEntitySpec = Specification.allOf(
                 EventSpecs.notEndedFrom(todayInKorea),
                 EventSpecs.withQuery(safeQuery),
                 EventSpecs.withArea(areaList)
         );
 
-        Page<EventEntity> eventEntitiyPage = eventRepository.findAll(eventEntitySpec, pageable);
-        return eventEntitiyPage.map(eventMapper::toEventListResponse);
+        return eventRepository.findEventListPage(eventEntitySpec, pageable);
+    }
+
+    /**
+     * 관련도 순으로 정렬된 contentId 목록에서 요청한 페이지에 해당하는 이벤트만 조회합니다.
+     * 카탈로그를 사용할 수 없으면 검색 결과 전체가 아닌 현재 페이지의 행만 DB에서 읽습니다.
+     *
+     * @param rankedContentIdList 관련도 순으로 정렬된 contentId 목록
+     * @param pageable            페이지네이션 정보
+     * @return 관련도 순서를 유지한 이벤트 목록 페이지
+     */
+    private Page<EventListResponse> toRankedPage(List<Long> rankedContentIdList, Pageable pageable) {
+        int fromIndex = (int) Math.min(pageable.getOffset(), rankedContentIdList.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), rankedContentIdList.size());
+        List<Long> pageContentIdList = rankedContentIdList.subList(fromIndex, toIndex);
+
+        // 색인과 카탈로그 모두 종료되지 않은 이벤트를 담고 있으므로 카탈로그에서 바로 조회
+        if (activeEventCatalog.isReady()) {
+            return new PageImpl<>(activeEventCatalog.selectAll(pageContentIdList), pageable,
+                    rankedContentIdList.size());
+        }
+
+        Map<Long, EventListResponse> eventListResponseMap = eventRepository.findEventListByContentIdIn(pageContentIdList)
+                .stream()
+                .collect(Collectors.toMap(EventListResponse::contentId, Function.identity()));
+
+        List<EventListResponse> eventListResponseList = pageContentIdList.stream()
+                .map(eventListResponseMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(eventListResponseList, pageable, rankedContentIdList.size());
     }
 
     /**
@@ -141,12 +294,17 @@ public class EventService {
 
     /**
      * 특정 이벤트의 상세 정보를 조회합니다.
+     *
+     * 비로그인 요청은 즐겨찾기 여부가 항상 false로 같으므로 contentId를 키로 Redis에 캐시하고,
+     * 이벤트가 upsert 되면 EventReadModelSynchronizer가 해당 키를 삭제합니다.
      * 
      * @param contentId 조회할 이벤트의 컨텐츠 ID
+     * @param userId    로그인 사용자 ID (비로그인 요청이면 null)
      * @return 이벤트 상세 정보
      * @throws CustomEventException 해당 ID의 이벤트가 존재하지 않을 경우
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.EVENT_DETAIL, key = "#contentId", condition = "#userId == null")
     public EventResponse selectEvent(Long contentId, Long userId) {
         EventEntity eventEntity = eventRepository.findById(contentId).orElseThrow(() -> {
             log.debug("Event not found with contentId: {}", contentId);
@@ -155,6 +313,135 @@ public class EventService {
         return eventMapper.toEventResponse(eventEntity, eventFavoriteService.isFavorited(contentId, userId));
     }
 
+    /**
+     * 이벤트 상세 응답의 ETag 값을 만듭니다.
+     * 응답은 이벤트가 다시 저장될 때만 바뀌므로 (contentId, dbUpsertedAt)으로 만들고,
+     * 로그인 유저는 즐겨찾기 여부도 응답에 포함되므로 함께 반영합니다.
+     * dbUpsertedAt은 카탈로그에서 먼저 찾고, 없으면 해당 컬럼만 DB에서 조회합니다. (엔티티를 읽지 않음)
+     *
+     * @param contentId 이벤트의 컨텐츠 ID
+     * @param userId    로그인 유저 ID (비로그인이면 null)
+     * @return 이벤트가 없거나 저장 시각을 알 수 없으면 빈 값
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> selectEventETag(Long contentId, Long userId) {
+        Optional<Instant> dbUpsertedAt = activeEventCatalog.findDbUpsertedAt(contentId)
+                .or(() -> eventRepository.findDbUpsertedAtByContentId(contentId));
+
+        return dbUpsertedAt.map(upsertedAt -> {
+            String eTag = contentId + "-" + upsertedAt.toEpochMilli();
+            if (userId == null) {
+                return eTag;
+            }
+            return eTag + (eventFavoriteService.isFavorited(contentId, userId) ? "-f" : "-n");
+        });
+    }
+
+    /**
+     * 이벤트 목록 응답의 ETag 값을 만듭니다.
+     * 검색 색인과 카탈로그에서 응답하는 경우에만 카탈로그 버전으로 만들고,
+     * DB에서 조회해야 하는 경우에는 버전을 알 수 없으므로 빈 값을 반환합니다.
+     * 요청 URL(검색어, 지역, 페이지 또는 커서)마다 응답이 다르지만 ETag는 URL별로 비교되므로 버전만 사용합니다.
+     *
+     * @param query 검색어 (선택사항)
+     * @return 카탈로그 버전 기반 ETag 값
+     */
+    public Optional<String> selectEventListETag(String query) {
+        String safeQuery = normalizeWhitespace(query);
+        if (safeQuery != null && !safeQuery.isEmpty() && !eventSearchIndex.isReady()) {
+            return Optional.empty();
+        }
+        return activeEventCatalog.currentVersion().map(version -> "list-" + version);
+    }
+
+    /**
+     * 기준 좌표에서 반경 안에 있는 종료되지 않은 이벤트를 가까운 순서로 조회합니다.
+     *
+     * @param mapX         기준 경도
+     * @param mapY         기준 위도
+     * @param radiusMeters 반경 (미터)
+     * @param size         최대 조회 개수
+     * @return 가까운 순서대로의 이벤트 목록
+     * @throws CustomEventException 좌표나 반경이 올바르지 않을 경우
+     */
+    @Transactional(readOnly = true)
+    public List<EventNearbyResponse> selectNearbyEventList(double mapX, double mapY, int radiusMeters, int size) {
+        if (!GeoDistance.isValid(mapX, mapY)) {
+            throw new CustomEventException(HttpStatus.BAD_REQUEST, "Invalid location");
+        }
+        if (radiusMeters <= 0 || radiusMeters > maxRadiusMeters) {
+            throw new CustomEventException(HttpStatus.BAD_REQUEST,
+                    "Radius must be between 1 and " + maxRadiusMeters + " meters");
+        }
+
+        return selectByLocation(GeoBounds.around(mapX, mapY, radiusMeters), mapX, mapY, radiusMeters, size);
+    }
+
+    /**
+     * 위경도 범위 안에 있는 종료되지 않은 이벤트를 범위 중심에서 가까운 순서로 조회합니다.
+     * (지도 화면에 보이는 영역의 이벤트 조회)
+     *
+     * @param minMapX 최소 경도
+     * @param minMapY 최소 위도
+     * @param maxMapX 최대 경도
+     * @param maxMapY 최대 위도
+     * @param size    최대 조회 개수
+     * @return 범위 중심에서 가까운 순서대로의 이벤트 목록
+     * @throws CustomEventException 범위가 올바르지 않을 경우
+     */
+    @Transactional(readOnly = true)
+    public List<EventNearbyResponse> selectEventListInBounds(
+            double minMapX,
+            double minMapY,
+            double maxMapX,
+            double maxMapY,
+            int size) {
+        if (!(minMapX >= -180 && minMapX <= maxMapX && maxMapX <= 180
+                && minMapY >= -90 && minMapY <= maxMapY && maxMapY <= 90)) {
+            throw new CustomEventException(HttpStatus.BAD_REQUEST, "Invalid bounds");
+        }
+
+        GeoBounds bounds = new GeoBounds(minMapX, minMapY, maxMapX, maxMapY);
+        return selectByLocation(bounds, bounds.centerMapX(), bounds.centerMapY(), Double.MAX_VALUE, size);
+    }
+
+    /**
+     * 카탈로그를 사용할 수 있으면 격자 색인으로 조회하고,
+     * 아니면 DB에서 범위 안의 이벤트를 조회한 뒤 거리를 계산해서 정렬합니다.
+     */
+    private List<EventNearbyResponse> selectByLocation(
+            GeoBounds bounds,
+            double mapX,
+            double mapY,
+            double maxDistanceMeters,
+            int size) {
+        if (activeEventCatalog.isReady()) {
+            return activeEventCatalog.selectNearby(bounds, mapX, mapY, maxDistanceMeters, size);
+        }
+
+        Specification<EventEntity> eventEntitySpec = Specification.allOf(
+                EventSpecs.notEndedFrom(LocalDate.now(KOREA_ZONE_ID)),
+                EventSpecs.withinBounds(bounds));
+
+        return eventRepository.findAll(eventEntitySpec).stream()
+                .filter(eventEntity -> GeoDistance.isValid(eventEntity.getMapX(), eventEntity.getMapY()))
+                .map(eventEntity -> new LocatedEvent(eventEntity,
+                        GeoDistance.meters(mapX, mapY, eventEntity.getMapX(), eventEntity.getMapY())))
+                .filter(locatedEvent -> locatedEvent.distanceMeters() <= maxDistanceMeters)
+                .sorted(Comparator.comparingDouble(LocatedEvent::distanceMeters)
+                        .thenComparing(locatedEvent -> locatedEvent.eventEntity().getContentId()))
+                .limit(size)
+                .map(locatedEvent -> eventMapper.toEventNearbyResponse(
+                        locatedEvent.eventEntity(), Math.round(locatedEvent.distanceMeters())))
+                .toList();
+    }
+
+    /**
+     * DB에서 조회한 이벤트와 기준 좌표까지의 거리
+     */
+    private record LocatedEvent(EventEntity eventEntity, double distanceMeters) {
+    }
+
     /**
      * 유저가 즐겨찾기한 이벤트 목록을 조회합니다.
      * 
@@ -174,14 +461,193 @@ public class EventService {
         List<String> areaList = parseAreaString(areaString);
         LocalDate todayInKorea = LocalDate.now(KOREA_ZONE_ID);
 
+        // 즐겨찾기 집합 캐시를 사용할 수 있으면 즐겨찾기 서브쿼리 없이 인메모리 색인과 카탈로그에서 조회
+        Optional<Set<Long>> favoriteIdSet = eventFavoriteService.findFavoriteIdSet(userId);
+        if (favoriteIdSet.isPresent()) {
+            if (safeQuery != null && !safeQuery.isEmpty() && eventSearchIndex.isReady()) {
+                List<Long> rankedContentIdList = eventSearchIndex.search(safeQuery, areaList, todayInKorea).stream()
+                        .filter(favoriteIdSet.get()::contains)
+                        .toList();
+                return toRankedPage(rankedContentIdList, pageable);
+            }
+
+            if ((safeQuery == null || safeQuery.isEmpty()) && activeEventCatalog.isReady()) {
+                return activeEventCatalog.selectPage(favoriteIdSet.get(), areaList, pageable);
+            }
+        }
+
         Specification<EventEntity> eventEntitySpec = Specification.allOf(
                 EventSpecs.isFavoritedBy(userId),
                 EventSpecs.notEndedFrom(todayInKorea),
                 EventSpecs.withQuery(safeQuery),
                 EventSpecs.withArea(areaList));
 
-        Page<EventEntity> eventEntityPage = eventRepository.findAll(eventEntitySpec, pageable);
-        return eventEntityPage.map(eventMapper::toEventListResponse);
+        return eventRepository.findEventListPage(eventEntitySpec, pageable);
+    }
+
+    /**
+     * 이벤트 목록을 키셋 커서 방식으로 조회합니다.
+     * 정렬은 검색어 유무와 관계없이 (종료일, 시작일, contentId) 오름차순이며,
+     * 페이지마다 count 쿼리를 실행하지 않습니다.
+     *
+     * @param cursor     이전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size       조회할 이벤트 수
+     * @param query      검색어 (선택사항)
+     * @param areaString 지역 필터 (쉼표로 구분된 지역 목록, 선택사항)
+     * @return 이벤트 목록과 다음 커서
+     */
+    @Transactional(readOnly = true)
+    public EventScrollResponse selectEventScroll(String cursor, int size, String query, String areaString) {
+        return selectScroll(null, cursor, size, query, areaString);
+    }
+
+    /**
+     * 유저가 즐겨찾기한 이벤트 목록을 키셋 커서 방식으로 조회합니다.
+     *
+     * @param userId     유저 ID
+     * @param cursor     이전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size       조회할 이벤트 수
+     * @param query      검색어 (선택사항)
+     * @param areaString 지역 필터 (쉼표로 구분된 지역 목록, 선택사항)
+     * @return 이벤트 목록과 다음 커서
+     */
+    @Transactional(readOnly = true)
+    public EventScrollResponse selectFavoriteEventScroll(
+            Long userId,
+            String cursor,
+            int size,
+            String query,
+            String areaString) {
+        return selectScroll(userId, cursor, size, query, areaString);
+    }
+
+    /**
+     * 인메모리 카탈로그를 사용할 수 있으면 카탈로그에서, 아니면 DB에서 키셋 조회합니다.
+     *
+     * @param favoriteUserId 즐겨찾기 목록이면 유저 ID, 전체 목록이면 null
+     */
+    private EventScrollResponse selectScroll(
+            Long favoriteUserId,
+            String cursor,
+            int size,
+            String query,
+            String areaString) {
+        String safeQuery = normalizeWhitespace(query);
+        List<String> areaList = parseAreaString(areaString);
+        LocalDate todayInKorea = LocalDate.now(KOREA_ZONE_ID);
+        EventScrollKey after = (cursor == null || cursor.isBlank()) ? null : decodeEventCursor(cursor);
+        boolean hasQuery = safeQuery != null && !safeQuery.isEmpty();
+        String countKey = (favoriteUserId == null ? "all" : "favorite:" + favoriteUserId)
+                + "|" + (hasQuery ? safeQuery : "") + "|" + (areaList == null ? "" : String.join(",", areaList));
+
+        boolean catalogAvailable = activeEventCatalog.isReady() && (!hasQuery || eventSearchIndex.isReady());
+        Set<Long> contentIdSet = null;
+        if (catalogAvailable && favoriteUserId != null) {
+            Optional<Set<Long>> favoriteIdSet = eventFavoriteService.findFavoriteIdSet(favoriteUserId);
+            catalogAvailable = favoriteIdSet.isPresent();
+            contentIdSet = favoriteIdSet.orElse(null);
+        }
+
+        if (catalogAvailable) {
+            // 검색 결과는 관련도 순서 대신 매칭 집합으로만 사용해서 목록과 같은 키셋 순서로 조회
+            if (hasQuery) {
+                Set<Long> matchedContentIdSet = new HashSet<>(eventSearchIndex.search(safeQuery, areaList, todayInKorea));
+                if (contentIdSet != null) {
+                    matchedContentIdSet.retainAll(contentIdSet);
+                }
+                contentIdSet = matchedContentIdSet;
+            }
+
+            Set<Long> filterContentIdSet = contentIdSet;
+            List<EventListResponse> eventListResponseList = activeEventCatalog.selectAfter(
+                    filterContentIdSet, areaList, after, size + 1);
+            boolean hasNext = eventListResponseList.size() > size;
+            return toEventScrollResponse(
+                    hasNext ? eventListResponseList.subList(0, size) : eventListResponseList,
+                    hasNext,
+                    resolveTotalCount(countKey, after == null,
+                            () -> activeEventCatalog.count(filterContentIdSet, areaList)));
+        }
+
+        Specification<EventEntity> eventEntitySpec = Specification.allOf(
+                EventSpecs.isFavoritedBy(favoriteUserId),
+                EventSpecs.notEndedFrom(todayInKorea),
+                EventSpecs.withQuery(safeQuery),
+                EventSpecs.withArea(areaList));
+        List<EventListResponse> eventListResponseList = eventRepository.findEventListAfter(
+                eventEntitySpec, after, size + 1);
+        boolean hasNext = eventListResponseList.size() > size;
+        return toEventScrollResponse(
+                hasNext ? eventListResponseList.subList(0, size) : eventListResponseList,
+                hasNext,
+                resolveTotalCount(countKey, after == null, () -> eventRepository.count(eventEntitySpec)));
+    }
+
+    /**
+     * 필터별로 캐시된 전체 이벤트 수를 반환합니다.
+     * 캐시에 없으면 첫 페이지에서만 계산하고, 이후 페이지에서는 count 쿼리 없이 null을 반환합니다.
+     */
+    private Long resolveTotalCount(String countKey, boolean firstPage, Supplier<Long> totalCountSupplier) {
+        if (firstPage) {
+            return totalCountCache.get(countKey, key -> totalCountSupplier.get());
+        }
+        return totalCountCache.getIfPresent(countKey);
+    }
+
+    private EventScrollResponse toEventScrollResponse(
+            List<EventListResponse> eventListResponseList,
+            boolean hasNext,
+            Long totalCount) {
+        String nextCursor = null;
+        // 조회한 페이지가 비어 있지 않고, 마지막 페이지가 아닌 경우
+        if (hasNext && !eventListResponseList.isEmpty()) {
+            EventListResponse lastEventListResponse = eventListResponseList.get(eventListResponseList.size() - 1);
+            nextCursor = encodeEventCursor(new EventScrollKey(
+                    lastEventListResponse.eventEndDate(),
+                    lastEventListResponse.eventStartDate(),
+                    lastEventListResponse.contentId()));
+        }
+        return new EventScrollResponse(eventListResponseList, nextCursor, totalCount);
+    }
+
+    /**
+     * 이벤트 커서를 인코딩합니다.
+     * 날짜가 없는 경우에는 빈 문자열로 표시합니다.
+     *
+     * @param eventScrollKey 마지막으로 조회한 이벤트의 키셋
+     * @return Base64URL 인코딩된 커서 문자열
+     */
+    private String encodeEventCursor(EventScrollKey eventScrollKey) {
+        String rawCursor = Objects.toString(eventScrollKey.eventEndDate(), "")
+                + "|" + Objects.toString(eventScrollKey.eventStartDate(), "")
+                + "|" + eventScrollKey.contentId();
+
+        return Base64.getUrlEncoder().encodeToString(rawCursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 이벤트 커서를 디코딩합니다.
+     *
+     * @param cursor Base64URL 인코딩된 커서 문자열
+     * @return 마지막으로 조회한 이벤트의 키셋
+     * @throws CustomEventException 커서 형식이 올바르지 않을 경우
+     */
+    private EventScrollKey decodeEventCursor(String cursor) {
+        try {
+            String rawCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = rawCursor.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Unexpected cursor part count: " + parts.length);
+            }
+
+            return new EventScrollKey(
+                    parts[0].isEmpty() ? null : LocalDate.parse(parts[0]),
+                    parts[1].isEmpty() ? null : LocalDate.parse(parts[1]),
+                    Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            log.error("Invalid cursor format: {}", cursor, e);
+            throw new CustomEventException(HttpStatus.BAD_REQUEST, "Invalid cursor format");
+        }
     }
 
 }
@@ -1,33 +1,130 @@
 package com.event.service;
 
 import com.event.model.dto.EventDto;
-import lombok.RequiredArgsConstructor;
+import com.event.model.dto.EventUpsertResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.core.log.LogAccessor;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Kafka 메시지를 소비하는 서비스
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class KafkaConsumerService {
 
+    private static final LogAccessor LOG_ACCESSOR = new LogAccessor(KafkaConsumerService.class);
+
     private final EventService eventService;
 
+    private final Counter consumedRecordCounter;
+
+    private final Counter appliedEventCounter;
+
+    private final Counter skippedEventCounter;
+
+    private final DistributionSummary batchSizeSummary;
+
+    private final Timer batchTimer;
+
+    public KafkaConsumerService(EventService eventService, MeterRegistry meterRegistry) {
+        this.eventService = eventService;
+        this.consumedRecordCounter = Counter.builder("event.consumer.records")
+                .description("Number of event records consumed from Kafka")
+                .register(meterRegistry);
+        this.appliedEventCounter = Counter.builder("event.upsert.applied")
+                .description("Number of events inserted or updated")
+                .register(meterRegistry);
+        this.skippedEventCounter = Counter.builder("event.upsert.skipped")
+                .description("Number of events skipped as duplicated or unchanged")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("event.consumer.batch.size")
+                .description("Number of records per consumed batch")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("event.consumer.batch.duration")
+                .description("Time taken to persist a consumed batch")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     /**
-     * Kafka 토픽에서 이벤트 메시지를 소비합니다.
+     * Kafka 토픽에서 이벤트 메시지를 배치 단위로 소비합니다.
      * 
-     * bridge-service에서 전송한 이벤트 데이터를 수신하여
-     * EventService를 통해 데이터베이스에 저장합니다.
+     * bridge-service에서 전송한 이벤트 데이터를 poll 한 번에 여러 건 수신하여
+     * EventService를 통해 하나의 트랜잭션으로 데이터베이스에 저장합니다.
+     * 오프셋은 트랜잭션이 커밋된 이후에만 커밋되므로, 저장에 실패한 배치는 다시 소비됩니다.
+     *
+     * bridge-service는 contentId를 레코드 키로 전송하므로 같은 이벤트는 항상 같은 파티션에 저장되고,
+     * 파티션마다 하나의 리스너 스레드가 처리하므로 concurrency를 늘려도 이벤트별 순서가 유지됩니다.
+     *
+     * 역직렬화에 실패한 레코드(모르는 스키마 버전 등)를 만나면 그 앞까지만 저장하고 BatchListenerFailedException을 던집니다.
+     * 오프셋을 직접 커밋하지 않으므로 실패한 레코드는 유실되지 않고, 에러 핸들러가 데드 레터 토픽으로 보낸 뒤
+     * 뒤따르는 레코드부터 다시 소비합니다. (KafkaConsumerConfig 참고)
      * 
-     * @param eventDto Kafka로부터 수신한 이벤트 데이터
+     * @param consumerRecordList Kafka로부터 수신한 이벤트 레코드 목록
+     * @param acknowledgment     오프셋 커밋용 Acknowledgment
+     */
+    @KafkaListener(topics = "${spring.kafka.topic}", groupId = "${spring.kafka.consumer.group-id}", autoStartup = "${spring.kafka.consumer.auto-startup}", concurrency = "${spring.kafka.listener.concurrency}", batch = "true")
+    public void consumeEvents(List<ConsumerRecord<String, EventDto>> consumerRecordList, Acknowledgment acknowledgment) {
+        List<EventDto> eventDtoList = new ArrayList<>(consumerRecordList.size());
+        int failedIndex = -1;
+        for (int i = 0; i < consumerRecordList.size(); i++) {
+            // 역직렬화에 실패한 레코드는 ErrorHandlingDeserializer가 null로 전달함
+            if (consumerRecordList.get(i).value() == null) {
+                failedIndex = i;
+                break;
+            }
+            eventDtoList.add(consumerRecordList.get(i).value());
+        }
+
+        EventUpsertResult eventUpsertResult = batchTimer.record(() -> eventService.upsertEvents(eventDtoList));
+        recordMetrics(eventDtoList.size(), eventUpsertResult);
+
+        if (failedIndex >= 0) {
+            ConsumerRecord<String, EventDto> failedRecord = consumerRecordList.get(failedIndex);
+            log.warn("Undeserializable record will be sent to dead letter topic. partition: {}, offset: {}",
+                    failedRecord.partition(), failedRecord.offset());
+            throw new BatchListenerFailedException("Undeserializable record",
+                    deserializationException(failedRecord), failedIndex);
+        }
+        acknowledgment.acknowledge();
+    }
+
+    private void recordMetrics(int recordCount, EventUpsertResult eventUpsertResult) {
+        consumedRecordCounter.increment(recordCount);
+        appliedEventCounter.increment(eventUpsertResult.applied());
+        skippedEventCounter.increment(eventUpsertResult.skipped());
+        batchSizeSummary.record(recordCount);
+        log.info("Consumed batch. records: {}, applied: {}, skipped: {}",
+                recordCount, eventUpsertResult.applied(), eventUpsertResult.skipped());
+    }
+
+    /**
+     * ErrorHandlingDeserializer가 헤더에 담아 둔 역직렬화 예외를 꺼냅니다.
+     * 에러 핸들러는 DeserializationException을 재시도하지 않으므로 실패한 레코드는 바로 데드 레터 토픽으로 전송됩니다.
      */
-    @KafkaListener(topics = "${spring.kafka.topic}", groupId = "${spring.kafka.consumer.group-id}", autoStartup = "${spring.kafka.consumer.auto-startup}")
-    public void consumeEvent(EventDto eventDto) {
-        log.info("Consumed contentId: {}", eventDto.getContentId());
-        eventService.upsertEvent(eventDto);
+    private DeserializationException deserializationException(ConsumerRecord<String, EventDto> consumerRecord) {
+        DeserializationException deserializationException = SerializationUtils.getExceptionFromHeader(
+                consumerRecord, SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR);
+        if (deserializationException != null) {
+            return deserializationException;
+        }
+        // 헤더 없이 값이 null인 레코드(tombstone)도 처리할 수 없으므로 같은 방식으로 전달
+        return new DeserializationException("Record value is null", null, false, null);
     }
 
 }
@@ -1,9 +1,9 @@
 package com.event.specification;
 
+import com.event.geo.GeoBounds;
 import com.event.model.entity.EventEntity;
 import com.event.model.entity.EventFavoriteEntity;
 import jakarta.persistence.criteria.Root;
-import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
@@ -65,6 +65,7 @@ public class EventSpecs {
 
     /**
      * 오늘 날짜를 기준으로 종료되지 않은 이벤트만 조회합니다.
+     * 종료일이 없는 이벤트는 조회하지 않으며, 인메모리 읽기 모델(ActiveEventCatalog, EventSearchIndex)도 같은 기준을 따릅니다.
      *
      * @param today 기준 날짜
      * @return eventEndDate가 today 이상인 이벤트
@@ -79,8 +80,30 @@ public class EventSpecs {
         };
     }
 
+    /**
+     * 좌표가 위경도 범위 안에 있는 이벤트만 조회합니다.
+     *
+     * @param bounds 위경도 범위
+     * @return mapX, mapY가 범위 안에 있는 이벤트
+     */
+    public static Specification<EventEntity> withinBounds(GeoBounds bounds) {
+        return (root, criteriaQuery, criteriaBuilder) -> {
+            if (bounds == null) {
+                return criteriaBuilder.conjunction();
+            }
+
+            return criteriaBuilder.and(
+                    criteriaBuilder.between(root.get("mapY"), bounds.minMapY(), bounds.maxMapY()),
+                    criteriaBuilder.between(root.get("mapX"), bounds.minMapX(), bounds.maxMapX()));
+        };
+    }
+
     /**
      * 유저가 즐겨찾기한 이벤트만 필터링하는 Specification
+     *
+     * 이벤트마다 즐겨찾기 테이블을 확인하는 상관 EXISTS 서브쿼리 대신 즐겨찾기 테이블을 조인하므로,
+     * (user_id, content_id) 인덱스로 유저의 즐겨찾기 행을 먼저 찾고 이벤트 테이블로 조인하는 실행 계획을 사용할 수 있습니다.
+     * (content_id, user_id)가 유니크하므로 조인해도 이벤트가 중복되지 않습니다.
      * 
      * @param userId
      * @return
@@ -92,15 +115,11 @@ public class EventSpecs {
             }
 
             assert criteriaQuery != null;
-            Subquery<Long> longSubquery = criteriaQuery.subquery(Long.class);
-            Root<EventFavoriteEntity> eventFavoriteEntityRoot = longSubquery.from(EventFavoriteEntity.class);
-
-            longSubquery.select(criteriaBuilder.literal(1L))
-                    .where(
-                            criteriaBuilder.equal(eventFavoriteEntityRoot.get("contentId"), root.get("contentId")),
-                            criteriaBuilder.equal(eventFavoriteEntityRoot.get("userId"), userId));
+            Root<EventFavoriteEntity> eventFavoriteEntityRoot = criteriaQuery.from(EventFavoriteEntity.class);
 
-            return criteriaBuilder.exists(longSubquery);
+            return criteriaBuilder.and(
+                    criteriaBuilder.equal(eventFavoriteEntityRoot.get("userId"), userId),
+                    criteriaBuilder.equal(eventFavoriteEntityRoot.get("contentId"), root.get("contentId")));
         };
     }
 
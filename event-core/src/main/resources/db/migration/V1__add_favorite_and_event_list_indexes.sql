@@ -0,0 +1,11 @@
+-- 즐겨찾기 목록: 유저의 즐겨찾기 행에서 시작해서 이벤트 테이블로 조인 (기존 유니크 인덱스는 content_id가 선두 컬럼)
+CREATE INDEX IF NOT EXISTS idx_event_favorite_user_content
+    ON event_favorite_table (user_id, content_id);
+
+-- 이벤트 목록: 종료되지 않은 이벤트를 (종료일, 시작일) 순으로 조회
+CREATE INDEX IF NOT EXISTS idx_event_end_start
+    ON event_table (event_end_date, event_start_date);
+
+-- 지역 필터가 있는 이벤트 목록
+CREATE INDEX IF NOT EXISTS idx_event_area_end_start
+    ON event_table (area, event_end_date, event_start_date);
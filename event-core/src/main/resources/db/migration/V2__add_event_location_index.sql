@@ -0,0 +1,3 @@
+-- 주변 이벤트 조회: 인메모리 카탈로그를 사용할 수 없을 때 위경도 범위 조회 (위도 범위로 먼저 좁힘)
+CREATE INDEX IF NOT EXISTS idx_event_map_y_map_x
+    ON event_table (map_y, map_x);
@@ -0,0 +1,4 @@
+-- 댓글 목록 키셋 스크롤: contentId로 거른 뒤 (수정 시각, 댓글 ID) 내림차순으로 커서 이후의 댓글을 인덱스 범위 조회
+-- 댓글 분석(최신 댓글 N개)과 contentId별 댓글 수 집계도 선두 컬럼 content_id로 같은 인덱스를 사용
+CREATE INDEX IF NOT EXISTS idx_comment_content_updated_comment
+    ON comment_table (content_id, updated_at DESC, comment_id DESC);
@@ -0,0 +1,210 @@
+package com.event.analysis;
+
+import com.event.exception.CustomAiException;
+import com.event.model.response.CommentAnalysisResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CommentAnalysisWorker 단위 테스트")
+class CommentAnalysisWorkerTest {
+
+    private static final CommentAnalysisResponse RESPONSE = new CommentAnalysisResponse("요약", List.of(), null);
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CommentAnalysisWorker commentAnalysisWorker;
+
+    @AfterEach
+    void tearDown() {
+        if (commentAnalysisWorker != null) {
+            commentAnalysisWorker.shutdown();
+        }
+    }
+
+    @Nested
+    @DisplayName("submit")
+    class SubmitTest {
+        @Test
+        @DisplayName("같은 이벤트의 작업이 진행 중이면 새 작업을 만들지 않고 진행 중인 작업을 반환")
+        void givenRunningJob_whenSubmitSameContentId_thenCoalesces() throws Exception {
+            // Given
+            createWorker(2, 10);
+            givenLockAcquired();
+            CountDownLatch releaseLatch = new CountDownLatch(1);
+            Supplier<CommentAnalysisResponse> blockingAnalysis = blockingAnalysis(releaseLatch);
+
+            // When
+            CompletableFuture<CommentAnalysisResponse> firstJob = commentAnalysisWorker.submit(1L, blockingAnalysis);
+            CompletableFuture<CommentAnalysisResponse> secondJob = commentAnalysisWorker.submit(1L, () -> {
+                throw new IllegalStateException("must not run");
+            });
+            releaseLatch.countDown();
+
+            // Then
+            assertThat(secondJob).isSameAs(firstJob);
+            assertThat(firstJob.get(5, TimeUnit.SECONDS)).isEqualTo(RESPONSE);
+            assertThat(jobCount("submitted")).isEqualTo(1.0);
+            assertThat(jobCount("coalesced")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("작업 큐가 가득 차면 503 예외가 발생하고 거절 수가 기록됨")
+        void givenFullQueue_whenSubmit_thenRejects() {
+            // Given
+            createWorker(1, 1);
+            givenLockAcquired();
+            CountDownLatch releaseLatch = new CountDownLatch(1);
+            commentAnalysisWorker.submit(1L, blockingAnalysis(releaseLatch));
+            commentAnalysisWorker.submit(2L, () -> RESPONSE);
+
+            // When & Then
+            try {
+                assertThatThrownBy(() -> commentAnalysisWorker.submit(3L, () -> RESPONSE))
+                        .isInstanceOf(CustomAiException.class)
+                        .extracting("httpStatus").isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                assertThat(jobCount("rejected")).isEqualTo(1.0);
+                assertThat(commentAnalysisWorker.getStatus(2L)).isEqualTo(CommentAnalysisJobStatus.QUEUED);
+            } finally {
+                releaseLatch.countDown();
+            }
+        }
+
+        @Test
+        @DisplayName("다른 파드가 락을 잡고 있으면 기다리지 않고 분석 중(503)으로 끝남")
+        void givenLockHeldByOtherPod_whenSubmit_thenFailsImmediatelyWithoutAnalysis() {
+            // Given
+            createWorker(1, 10);
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+
+            // When
+            CompletableFuture<CommentAnalysisResponse> job = commentAnalysisWorker.submit(1L, () -> {
+                throw new IllegalStateException("must not run");
+            });
+
+            // Then
+            assertThatThrownBy(() -> job.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(CustomAiException.class)
+                    .cause()
+                    .extracting("httpStatus").isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        @Test
+        @DisplayName("분석이 끝날 때까지 락을 연장함")
+        void givenLongAnalysis_whenRunning_thenRenewsLock() throws Exception {
+            // Given
+            createWorker(1, 10, Duration.ofMillis(300));
+            givenLockAcquired();
+            CountDownLatch releaseLatch = new CountDownLatch(1);
+
+            // When
+            CompletableFuture<CommentAnalysisResponse> job = commentAnalysisWorker.submit(1L, blockingAnalysis(releaseLatch));
+
+            // Then
+            try {
+                then(stringRedisTemplate).should(timeout(2000).atLeastOnce()).execute(
+                        ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of("ai-analysis:lock:1")), anyString(), eq("300"));
+            } finally {
+                releaseLatch.countDown();
+            }
+            assertThat(job.get(5, TimeUnit.SECONDS)).isEqualTo(RESPONSE);
+        }
+
+        @Test
+        @DisplayName("Redis를 사용할 수 없으면 락 없이 분석")
+        void givenRedisDown_whenSubmit_thenAnalyzesWithoutLock() throws Exception {
+            // Given
+            createWorker(1, 10);
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                    .willThrow(new RedisConnectionFailureException("connection refused"));
+
+            // When
+            CompletableFuture<CommentAnalysisResponse> job = commentAnalysisWorker.submit(1L, () -> RESPONSE);
+
+            // Then
+            assertThat(job.get(5, TimeUnit.SECONDS)).isEqualTo(RESPONSE);
+        }
+    }
+
+    @Nested
+    @DisplayName("getStatus")
+    class GetStatusTest {
+        @Test
+        @DisplayName("이 파드에 작업이 없어도 다른 파드가 락을 잡고 있으면 RUNNING")
+        void givenLockHeldByOtherPod_whenGetStatus_thenReturnsRunning() {
+            // Given
+            createWorker(1, 10);
+            given(stringRedisTemplate.hasKey("ai-analysis:lock:1")).willReturn(true);
+
+            // When
+            CommentAnalysisJobStatus status = commentAnalysisWorker.getStatus(1L);
+
+            // Then
+            assertThat(status).isEqualTo(CommentAnalysisJobStatus.RUNNING);
+        }
+    }
+
+    private void createWorker(int threads, int queueCapacity) {
+        createWorker(threads, queueCapacity, Duration.ofMinutes(2));
+    }
+
+    private void createWorker(int threads, int queueCapacity, Duration lockTtl) {
+        commentAnalysisWorker = new CommentAnalysisWorker(
+                stringRedisTemplate, meterRegistry, threads, queueCapacity, lockTtl);
+    }
+
+    /**
+     * 작업 스레드가 언제 락을 잡는지는 테스트 스레드와 무관하므로 lenient로 설정합니다.
+     */
+    private void givenLockAcquired() {
+        lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+    }
+
+    private Supplier<CommentAnalysisResponse> blockingAnalysis(CountDownLatch releaseLatch) {
+        return () -> {
+            try {
+                releaseLatch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return RESPONSE;
+        };
+    }
+
+    private double jobCount(String result) {
+        return meterRegistry.get("ai.analysis.jobs").tag("result", result).counter().count();
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.event.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoLevelCacheManager 단위 테스트")
+class TwoLevelCacheManagerTest {
+
+    @Mock
+    private RedisCacheManager redisCacheManager;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private Cache redisCache;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private TwoLevelCacheManager twoLevelCacheManager;
+
+    @BeforeEach
+    void init() {
+        twoLevelCacheManager = new TwoLevelCacheManager(
+                redisCacheManager, stringRedisTemplate, objectMapper, Duration.ofMinutes(1), 100,
+                new SimpleMeterRegistry());
+        given(redisCacheManager.getCache("event-detail")).willReturn(redisCache);
+    }
+
+    @Nested
+    @DisplayName("onMessage")
+    class OnMessageTest {
+        @Test
+        @DisplayName("다른 인스턴스가 발행한 무효화 메시지를 받으면 L1에서 해당 키를 삭제한다")
+        void givenRemoteMessage_whenOnMessage_thenEvictsLocalKey() throws Exception {
+            // Given
+            Cache cache = twoLevelCacheManager.getCache("event-detail");
+            cache.put(1L, "행사1");
+            given(redisCache.get(1L)).willReturn(new SimpleValueWrapper("행사1-갱신"));
+            byte[] body = objectMapper.writeValueAsBytes(
+                    new CacheInvalidationMessage("other-instance", "event-detail", "1"));
+
+            // When
+            twoLevelCacheManager.onMessage(new DefaultMessage(new byte[0], body), null);
+
+            // Then
+            assertThat(cache.get(1L).get()).isEqualTo("행사1-갱신");
+        }
+
+        @Test
+        @DisplayName("자신이 발행한 메시지는 무시한다")
+        void givenOwnMessage_whenOnMessage_thenKeepsLocalValue() {
+            // Given
+            Cache cache = twoLevelCacheManager.getCache("event-detail");
+            cache.evict(1L);
+            ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+            then(stringRedisTemplate).should().convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL), messageCaptor.capture());
+            cache.put(1L, "행사1");
+
+            // When
+            twoLevelCacheManager.onMessage(new DefaultMessage(
+                    new byte[0], messageCaptor.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+            // Then
+            assertThat(cache.get(1L).get()).isEqualTo("행사1");
+            then(redisCache).should(never()).get(any());
+        }
+    }
+
+}
@@ -0,0 +1,189 @@
+package com.event.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoLevelCache 단위 테스트")
+class TwoLevelCacheTest {
+
+    @Mock
+    private Cache redisCache;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 발행된 (캐시 이름, 키) 무효화 메시지
+    private final List<List<String>> publishedList = new ArrayList<>();
+
+    private TwoLevelCache twoLevelCache;
+
+    @BeforeEach
+    void init() {
+        twoLevelCache = new TwoLevelCache(
+                "event-detail",
+                redisCache,
+                Duration.ofMinutes(1),
+                100,
+                (cacheName, key) -> publishedList.add(Arrays.asList(cacheName, key)),
+                meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("get")
+    class GetTest {
+        @Test
+        @DisplayName("L2에서 찾은 값은 L1에 담아서 다음 조회부터 Redis를 조회하지 않는다")
+        void givenRedisHit_whenGetTwice_thenSecondGetHitsLocal() {
+            // Given
+            given(redisCache.get(1L)).willReturn(new SimpleValueWrapper("행사1"));
+
+            // When
+            Cache.ValueWrapper first = twoLevelCache.get(1L);
+            Cache.ValueWrapper second = twoLevelCache.get(1L);
+
+            // Then
+            assertThat(first.get()).isEqualTo("행사1");
+            assertThat(second.get()).isEqualTo("행사1");
+            then(redisCache).should(times(1)).get(1L);
+            assertThat(count("l1", "hit")).isEqualTo(1);
+            assertThat(count("l1", "miss")).isEqualTo(1);
+            assertThat(count("l2", "hit")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("두 단계 모두 없으면 null을 반환하고 L2 miss를 기록한다")
+        void givenNoValue_whenGet_thenReturnsNull() {
+            // Given
+            given(redisCache.get(1L)).willReturn(null);
+
+            // When
+            Cache.ValueWrapper valueWrapper = twoLevelCache.get(1L);
+
+            // Then
+            assertThat(valueWrapper).isNull();
+            assertThat(count("l2", "miss")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("put")
+    class PutTest {
+        @Test
+        @DisplayName("두 단계에 모두 저장하고, 이후 조회는 L1에서 응답한다")
+        void givenPut_whenGet_thenHitsLocal() {
+            // When
+            twoLevelCache.put(1L, "행사1");
+            Cache.ValueWrapper valueWrapper = twoLevelCache.get(1L);
+
+            // Then
+            assertThat(valueWrapper.get()).isEqualTo("행사1");
+            then(redisCache).should().put(1L, "행사1");
+            then(redisCache).should(never()).get(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("evict / clear")
+    class EvictTest {
+        @Test
+        @DisplayName("두 단계에서 삭제하고 다른 파드에 문자열 키로 무효화를 알린다")
+        void givenCachedValue_whenEvict_thenEvictsBothAndPublishes() {
+            // Given
+            twoLevelCache.put(1L, "행사1");
+            given(redisCache.get(1L)).willReturn(null);
+
+            // When
+            twoLevelCache.evict(1L);
+
+            // Then
+            assertThat(twoLevelCache.get(1L)).isNull();
+            then(redisCache).should().evict(1L);
+            assertThat(publishedList).containsExactly(List.of("event-detail", "1"));
+        }
+
+        @Test
+        @DisplayName("캐시를 비우면 키 없이 무효화를 알린다")
+        void givenClear_whenClear_thenPublishesWithoutKey() {
+            // When
+            twoLevelCache.clear();
+
+            // Then
+            then(redisCache).should().clear();
+            assertThat(publishedList).containsExactly(Arrays.asList("event-detail", null));
+        }
+
+        @Test
+        @DisplayName("L2 삭제가 실패해도 L1에서 삭제하고 무효화를 알린 뒤 예외를 전파한다")
+        void givenRedisFailure_whenEvict_thenStillEvictsLocalAndPublishes() {
+            // Given
+            twoLevelCache.put(1L, "행사1");
+            given(redisCache.get(1L)).willReturn(null);
+            willThrow(new RedisConnectionFailureException("redis down")).given(redisCache).evict(1L);
+
+            // When & Then
+            assertThatThrownBy(() -> twoLevelCache.evict(1L))
+                    .isInstanceOf(RedisConnectionFailureException.class);
+            assertThat(twoLevelCache.get(1L)).isNull();
+            assertThat(publishedList).containsExactly(List.of("event-detail", "1"));
+        }
+
+        @Test
+        @DisplayName("L2 비우기가 실패해도 L1을 비우고 무효화를 알린 뒤 예외를 전파한다")
+        void givenRedisFailure_whenClear_thenStillClearsLocalAndPublishes() {
+            // Given
+            twoLevelCache.put(1L, "행사1");
+            given(redisCache.get(1L)).willReturn(null);
+            willThrow(new RedisConnectionFailureException("redis down")).given(redisCache).clear();
+
+            // When & Then
+            assertThatThrownBy(() -> twoLevelCache.clear())
+                    .isInstanceOf(RedisConnectionFailureException.class);
+            assertThat(twoLevelCache.get(1L)).isNull();
+            assertThat(publishedList).containsExactly(Arrays.asList("event-detail", null));
+        }
+
+        @Test
+        @DisplayName("다른 파드의 무효화 메시지는 L1에서만 삭제하고 다시 발행하지 않는다")
+        void givenRemoteInvalidation_whenEvictLocal_thenOnlyLocalEvicted() {
+            // Given
+            twoLevelCache.put(1L, "행사1");
+            given(redisCache.get(1L)).willReturn(new SimpleValueWrapper("행사1-갱신"));
+
+            // When
+            twoLevelCache.evictLocal("1");
+
+            // Then
+            assertThat(twoLevelCache.get(1L).get()).isEqualTo("행사1-갱신");
+            then(redisCache).should(never()).evict(any());
+            assertThat(publishedList).isEmpty();
+        }
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("cache.tier.gets")
+                .tag("cache", "event-detail")
+                .tag("tier", tier)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.event.catalog;
+
+import com.event.geo.GeoBounds;
+import com.event.geo.GeoDistance;
+import com.event.mapper.EventMapper;
+import com.event.model.entity.EventEntity;
+import com.event.model.response.EventNearbyResponse;
+import com.event.repository.EventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 주변 이벤트 조회의 격자 색인 방식과 전체 이벤트를 훑는 방식을 비교합니다.
+ *
+ * 한반도 범위에 무작위로 흩어진 이벤트 20,000개를 기준으로 반경 5km 조회 시간을 로그로 확인하며,
+ * 실행 환경에 따라 달라지는 시간은 검증하지 않고 두 방식의 결과가 같은지만 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("주변 이벤트 조회 격자 색인 벤치마크")
+@Tag("benchmark")
+class ActiveEventCatalogNearbyBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ActiveEventCatalogNearbyBenchmarkTest.class);
+
+    private static final int EVENT_COUNT = 20_000;
+
+    private static final int QUERY_COUNT = 200;
+
+    private static final int WARMUP_ROUNDS = 5;
+
+    private static final int RADIUS_METERS = 5_000;
+
+    private static final int LIMIT = 30;
+
+    @InjectMocks
+    private ActiveEventCatalog activeEventCatalog;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Spy
+    private EventMapper eventMapper = Mappers.getMapper(EventMapper.class);
+
+    private final LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+    private final Random random = new Random(42);
+
+    @Test
+    @DisplayName("20,000개 이벤트에 대해 격자 색인 조회와 전체 탐색의 결과가 같다")
+    void compareGeoGridAndFullScan() {
+        // Given
+        List<EventEntity> eventEntityList = createEventEntities();
+        ReflectionTestUtils.setField(activeEventCatalog, "enabled", true);
+        given(eventRepository.findAll(ArgumentMatchers.<Specification<EventEntity>>any())).willReturn(eventEntityList);
+        activeEventCatalog.rebuild();
+
+        List<double[]> locationList = new ArrayList<>(QUERY_COUNT);
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            locationList.add(randomLocation());
+        }
+
+        // When
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            locationList.forEach(location -> selectNearby(location));
+            locationList.forEach(location -> scanNearby(eventEntityList, location));
+        }
+
+        long gridNanos = 0;
+        long scanNanos = 0;
+        long resultCount = 0;
+        for (double[] location : locationList) {
+            long startNanos = System.nanoTime();
+            List<EventNearbyResponse> gridResult = selectNearby(location);
+            gridNanos += System.nanoTime() - startNanos;
+
+            startNanos = System.nanoTime();
+            List<Long> scanResult = scanNearby(eventEntityList, location);
+            scanNanos += System.nanoTime() - startNanos;
+
+            // Then
+            assertThat(gridResult)
+                    .extracting(EventNearbyResponse::contentId)
+                    .containsExactlyElementsOf(scanResult);
+            resultCount += gridResult.size();
+        }
+
+        log.info(String.format("[geo grid ] %.3f ms/query (avg results: %.1f)",
+                gridNanos / 1_000_000.0 / QUERY_COUNT, (double) resultCount / QUERY_COUNT));
+        log.info(String.format("[full scan] %.3f ms/query", scanNanos / 1_000_000.0 / QUERY_COUNT));
+        assertThat(resultCount).isPositive();
+    }
+
+    private List<EventNearbyResponse> selectNearby(double[] location) {
+        return activeEventCatalog.selectNearby(
+                GeoBounds.around(location[0], location[1], RADIUS_METERS),
+                location[0], location[1], RADIUS_METERS, LIMIT);
+    }
+
+    /**
+     * 종료되지 않은 모든 이벤트의 거리를 계산해서 가까운 순서로 정렬합니다. (비교 기준)
+     * 거리가 같으면 카탈로그와 같이 (종료일, 시작일, contentId) 순서를 따릅니다.
+     */
+    private List<Long> scanNearby(List<EventEntity> eventEntityList, double[] location) {
+        record Located(EventEntity eventEntity, double distanceMeters) {
+        }
+
+        return eventEntityList.stream()
+                .filter(eventEntity -> !eventEntity.getEventEndDate().isBefore(today))
+                .map(eventEntity -> new Located(eventEntity, GeoDistance.meters(
+                        location[0], location[1], eventEntity.getMapX(), eventEntity.getMapY())))
+                .filter(located -> located.distanceMeters() <= RADIUS_METERS)
+                .sorted(Comparator.comparingDouble(Located::distanceMeters)
+                        .thenComparing(located -> located.eventEntity().getEventEndDate())
+                        .thenComparing(located -> located.eventEntity().getEventStartDate())
+                        .thenComparing(located -> located.eventEntity().getContentId()))
+                .limit(LIMIT)
+                .map(located -> located.eventEntity().getContentId())
+                .toList();
+    }
+
+    /**
+     * 이벤트 20,000개를 만듭니다. 절반은 수도권에 몰려 있고, 일부는 이미 종료된 이벤트입니다.
+     */
+    private List<EventEntity> createEventEntities() {
+        List<EventEntity> eventEntityList = new ArrayList<>(EVENT_COUNT);
+        for (long contentId = 1; contentId <= EVENT_COUNT; contentId++) {
+            double[] location = contentId % 2 == 0 ? randomLocation() : randomCapitalAreaLocation();
+            EventEntity eventEntity = new EventEntity();
+            eventEntity.setContentId(contentId);
+            eventEntity.setTitle("행사" + contentId);
+            eventEntity.setArea("서울");
+            eventEntity.setMapX(location[0]);
+            eventEntity.setMapY(location[1]);
+            eventEntity.setEventStartDate(today.minusDays(contentId % 30));
+            eventEntity.setEventEndDate(today.plusDays(contentId % 120 - 10));
+            eventEntityList.add(eventEntity);
+        }
+        return eventEntityList;
+    }
+
+    private double[] randomLocation() {
+        return new double[]{126.0 + random.nextDouble() * 3.5, 34.5 + random.nextDouble() * 3.5};
+    }
+
+    private double[] randomCapitalAreaLocation() {
+        return new double[]{126.7 + random.nextDouble() * 0.5, 37.3 + random.nextDouble() * 0.4};
+    }
+
+}
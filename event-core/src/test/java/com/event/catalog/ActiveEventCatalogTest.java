@@ -0,0 +1,393 @@
+package com.event.catalog;
+
+import com.event.geo.GeoBounds;
+import com.event.mapper.EventMapper;
+import com.event.model.dto.EventScrollKey;
+import com.event.model.entity.EventEntity;
+import com.event.model.response.EventListResponse;
+import com.event.model.response.EventNearbyResponse;
+import com.event.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActiveEventCatalog 단위 테스트")
+class ActiveEventCatalogTest {
+
+    @InjectMocks
+    private ActiveEventCatalog activeEventCatalog;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Spy
+    private EventMapper eventMapper = Mappers.getMapper(EventMapper.class);
+
+    private final LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+    @BeforeEach
+    void init() {
+        ReflectionTestUtils.setField(activeEventCatalog, "enabled", true);
+        given(eventRepository.findAll(ArgumentMatchers.<Specification<EventEntity>>any())).willReturn(List.of(
+                createEventEntity(1L, "서울", 5),
+                createEventEntity(2L, "부산", 1),
+                createEventEntity(3L, "서울", 3),
+                createEventEntity(4L, "제주", 2)));
+        activeEventCatalog.rebuild();
+    }
+
+    @Nested
+    @DisplayName("selectPage")
+    class SelectPageTest {
+        @Test
+        @DisplayName("종료일 오름차순으로 정렬된 페이지를 반환한다")
+        void givenCatalog_whenSelectPage_thenReturnsSortedPage() {
+            // When
+            Page<EventListResponse> eventListResponsePage = activeEventCatalog.selectPage(null, PageRequest.of(0, 3));
+
+            // Then
+            assertThat(eventListResponsePage.getContent())
+                    .extracting(EventListResponse::contentId)
+                    .containsExactly(2L, 4L, 3L);
+            assertThat(eventListResponsePage.getTotalElements()).isEqualTo(4);
+            assertThat(eventListResponsePage.hasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("지역 필터와 페이지네이션을 함께 적용한다")
+        void givenAreaFilter_whenSelectPage_thenReturnsFilteredPage() {
+            // When
+            Page<EventListResponse> eventListResponsePage = activeEventCatalog.selectPage(
+                    List.of("서울", "제주"), PageRequest.of(1, 2));
+
+            // Then
+            assertThat(eventListResponsePage.getContent())
+                    .extracting(EventListResponse::contentId)
+                    .containsExactly(1L);
+            assertThat(eventListResponsePage.getTotalElements()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("selectPage (contentId 집합)")
+    class SelectPageWithContentIdsTest {
+        @Test
+        @DisplayName("집합에 속한 이벤트만 종료일 순으로 정렬하고, 카탈로그에 없는 contentId는 제외한다")
+        void givenContentIdSet_whenSelectPage_thenReturnsOnlyContainedEvents() {
+            // When
+            Page<EventListResponse> eventListResponsePage = activeEventCatalog.selectPage(
+                    Set.of(1L, 3L, 4L, 99L), List.of("서울", "제주"), PageRequest.of(0, 2));
+
+            // Then
+            assertThat(eventListResponsePage.getContent())
+                    .extracting(EventListResponse::contentId)
+                    .containsExactly(4L, 3L);
+            assertThat(eventListResponsePage.getTotalElements()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("selectAfter / count")
+    class SelectAfterTest {
+        @Test
+        @DisplayName("키셋 다음 위치부터 정렬 순서대로 조회한다")
+        void givenKeyset_whenSelectAfter_thenReturnsFollowingEvents() {
+            // Given
+            EventScrollKey after = new EventScrollKey(today.plusDays(2), today.minusDays(1), 4L);
+
+            // When
+            List<EventListResponse> eventListResponseList = activeEventCatalog.selectAfter(null, null, after, 10);
+
+            // Then
+            assertThat(eventListResponseList)
+                    .extracting(EventListResponse::contentId)
+                    .containsExactly(3L, 1L);
+        }
+
+        @Test
+        @DisplayName("키셋의 이벤트가 카탈로그에서 빠졌어도 그 다음 이벤트부터 조회한다")
+        void givenRemovedKeysetEvent_whenSelectAfter_thenContinuesFromNextPosition() {
+            // Given
+            EventScrollKey after = new EventScrollKey(today.plusDays(2), today.minusDays(1), 4L);
+            activeEventCatalog.remove(4L);
+
+            // When
+            List<EventListResponse> eventListResponseList = activeEventCatalog.selectAfter(null, null, after, 1);
+
+            // Then
+            assertThat(eventListResponseList)
+                    .extracting(EventListResponse::contentId)
+                    .containsExactly(3L);
+        }
+
+        @Test
+        @DisplayName("contentId 집합과 지역 필터를 함께 적용하고, 개수도 같은 필터로 계산한다")
+        void givenContentIdSetAndAreaFilter_whenSelectAfter_thenReturnsFilteredEvents() {
+            // When
+            List<EventListResponse> eventListResponseList = activeEventCatalog.selectAfter(
+                    Set.of(1L, 2L, 4L), List.of("서울", "제주"), null, 10);
+            long count = activeEventCatalog.count(Set.of(1L, 2L, 4L), List.of("서울", "제주"));
+
+            // Then
+            assertThat(eventListResponseList)
+                    .extracting(EventListResponse::contentId)
+                    .containsExactly(4L, 1L);
+            assertThat(count).isEqualTo(2);
+            assertThat(activeEventCatalog.count(null, List.of("서울"))).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("currentVersion / findDbUpsertedAt")
+    class VersionTest {
+        @Test
+        @DisplayName("이벤트가 다시 저장되면 버전이 바뀌고, 같은 내용으로 되돌리면 같은 버전이 된다")
+        void givenUpsertedEvent_whenCurrentVersion_thenChangesWithContent() {
+            // Given
+            String initialVersion = activeEventCatalog.currentVersion().orElseThrow();
+            EventEntity updatedEventEntity = createEventEntity(1L, "서울", 5);
+            updatedEventEntity.setDbUpsertedAt(Instant.parse("2025-05-01T00:00:00Z"));
+
+            // When
+            activeEventCatalog.upsertAll(List.of(updatedEventEntity));
+            String updatedVersion = activeEventCatalog.currentVersion().orElseThrow();
+            activeEventCatalog.upsertAll(List.of(createEventEntity(1L, "서울", 5)));
+
+            // Then
+            assertThat(updatedVersion).isNotEqualTo(initialVersion);
+            assertThat(activeEventCatalog.currentVersion()).contains(initialVersion);
+            assertThat(activeEventCatalog.findDbUpsertedAt(1L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("카탈로그에 있는 이벤트의 저장 시각을 반환한다")
+        void givenCatalogEvent_whenFindDbUpsertedAt_thenReturnsUpsertedAt() {
+            // Given
+            EventEntity eventEntity = createEventEntity(5L, "부산", 1);
+            eventEntity.setDbUpsertedAt(Instant.parse("2025-05-01T00:00:00Z"));
+            activeEventCatalog.upsertAll(List.of(eventEntity));
+
+            // When & Then
+            assertThat(activeEventCatalog.findDbUpsertedAt(5L)).contains(Instant.parse("2025-05-01T00:00:00Z"));
+            assertThat(activeEventCatalog.findDbUpsertedAt(99L)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("selectNearby")
+    class SelectNearbyTest {
+        // 서울시청
+        private static final double CITY_HALL_MAP_X = 126.9780;
+        private static final double CITY_HALL_MAP_Y = 37.5665;
+
+        @BeforeEach
+        void addLocatedEvents() {
+            activeEventCatalog.upsertAll(List.of(
+                    // 시청에서 북쪽으로 약 1km
+                    createLocatedEventEntity(11L, 126.9780, 37.5755, 3),
+                    // 시청 바로 옆
+                    createLocatedEventEntity(12L, 126.9785, 37.5666, 4),
+                    // 강남역 (약 8.8km)
+                    createLocatedEventEntity(13L, 127.0276, 37.4979, 5),
+                    // 부산
+                    createLocatedEventEntity(14L, 129.0756, 35.1796, 6),
+                    // 이미 종료된 이벤트
+                    createLocatedEventEntity(15L, 126.9781, 37.5665, -1)));
+        }
+
+        @Test
+        @DisplayName("반경 안의 종료되지 않은 이벤트를 가까운 순서로 반환하고, 좌표가 없는 이벤트는 제외한다")
+        void givenRadius_whenSelectNearby_thenReturnsEventsWithinRadiusByDistance() {
+            // When
+            List<EventNearbyResponse> eventNearbyResponseList = activeEventCatalog.selectNearby(
+                    GeoBounds.around(CITY_HALL_MAP_X, CITY_HALL_MAP_Y, 10_000),
+                    CITY_HALL_MAP_X, CITY_HALL_MAP_Y, 10_000, 10);
+
+            // Then
+            assertThat(eventNearbyResponseList)
+                    .extracting(EventNearbyResponse::contentId)
+                    .containsExactly(12L, 11L, 13L);
+            assertThat(eventNearbyResponseList.get(1).distanceMeters()).isBetween(990L, 1010L);
+        }
+
+        @Test
+        @DisplayName("최대 개수만큼 가장 가까운 이벤트만 반환한다")
+        void givenLimit_whenSelectNearby_thenReturnsNearestEvents() {
+            // When
+            List<EventNearbyResponse> eventNearbyResponseList = activeEventCatalog.selectNearby(
+                    GeoBounds.around(CITY_HALL_MAP_X, CITY_HALL_MAP_Y, 10_000),
+                    CITY_HALL_MAP_X, CITY_HALL_MAP_Y, 10_000, 2);
+
+            // Then
+            assertThat(eventNearbyResponseList)
+                    .extracting(EventNearbyResponse::contentId)
+                    .containsExactly(12L, 11L);
+        }
+
+        @Test
+        @DisplayName("범위만으로 조회하면 범위 안의 이벤트를 모두 반환한다")
+        void givenBounds_whenSelectNearby_thenReturnsEventsInBounds() {
+            // Given
+            GeoBounds bounds = new GeoBounds(124.0, 33.0, 132.0, 39.0);
+
+            // When
+            List<EventNearbyResponse> eventNearbyResponseList = activeEventCatalog.selectNearby(
+                    bounds, bounds.centerMapX(), bounds.centerMapY(), Double.MAX_VALUE, 10);
+
+            // Then
+            assertThat(eventNearbyResponseList)
+                    .extracting(EventNearbyResponse::contentId)
+                    .containsExactlyInAnyOrder(11L, 12L, 13L, 14L);
+        }
+
+        @Test
+        @DisplayName("이벤트가 이동하거나 삭제되면 격자 색인에도 반영된다")
+        void givenMovedAndRemovedEvents_whenSelectNearby_thenReflectsChanges() {
+            // Given
+            activeEventCatalog.upsertAll(List.of(createLocatedEventEntity(14L, 126.9790, 37.5670, 6)));
+            activeEventCatalog.remove(12L);
+
+            // When
+            List<EventNearbyResponse> eventNearbyResponseList = activeEventCatalog.selectNearby(
+                    GeoBounds.around(CITY_HALL_MAP_X, CITY_HALL_MAP_Y, 2_000),
+                    CITY_HALL_MAP_X, CITY_HALL_MAP_Y, 2_000, 10);
+
+            // Then
+            assertThat(eventNearbyResponseList)
+                    .extracting(EventNearbyResponse::contentId)
+                    .containsExactly(14L, 11L);
+        }
+    }
+
+    @Nested
+    @DisplayName("upsertAll / remove")
+    class UpsertAndRemoveTest {
+        @Test
+        @DisplayName("저장된 이벤트는 정렬 위치에 반영되고, 종료된 이벤트와 삭제된 이벤트는 제외된다")
+        void givenUpsertedAndRemovedEvents_whenSelectPage_thenReflectsChanges() {
+            // Given
+            EventEntity endedEventEntity = createEventEntity(2L, "부산", -1);
+            EventEntity newEventEntity = createEventEntity(5L, "부산", 0);
+            activeEventCatalog.upsertAll(List.of(endedEventEntity, newEventEntity));
+            activeEventCatalog.remove(4L);
+
+            // When
+            Page<EventListResponse> eventListResponsePage = activeEventCatalog.selectPage(null, PageRequest.of(0, 10));
+
+            // Then
+            assertThat(eventListResponsePage.getContent())
+                    .extracting(EventListResponse::contentId)
+                    .containsExactly(5L, 3L, 1L);
+        }
+
+        @Test
+        @DisplayName("종료일이 없는 이벤트는 DB 조회 조건과 같이 진행 중인 이벤트에서 제외된다")
+        void givenEventWithoutEndDate_whenUpsertAll_thenExcludesIt() {
+            // Given: 진행 중이던 1번의 종료일이 지워지고, 종료일이 없는 5번이 새로 저장됨
+            EventEntity endDateRemovedEventEntity = createEventEntity(1L, "서울", 5);
+            endDateRemovedEventEntity.setEventEndDate(null);
+            EventEntity noEndDateEventEntity = createEventEntity(5L, "서울", 0);
+            noEndDateEventEntity.setEventEndDate(null);
+            activeEventCatalog.upsertAll(List.of(endDateRemovedEventEntity, noEndDateEventEntity));
+
+            // When
+            Page<EventListResponse> eventListResponsePage = activeEventCatalog.selectPage(null, PageRequest.of(0, 10));
+
+            // Then
+            assertThat(eventListResponsePage.getContent())
+                    .extracting(EventListResponse::contentId)
+                    .containsExactly(2L, 4L, 3L);
+        }
+
+        @Test
+        @DisplayName("변경된 이벤트만 병합한 카탈로그는 전체를 다시 구성한 카탈로그와 순서와 버전이 같다")
+        void givenPatchedCatalog_whenCompareWithRebuilt_thenSameOrderAndVersion() {
+            // Given
+            activeEventCatalog.upsertAll(List.of(
+                    createEventEntity(5L, "부산", 0),
+                    createEventEntity(3L, "서울", 10),
+                    createEventEntity(6L, "제주", 2)));
+            activeEventCatalog.remove(2L);
+
+            ActiveEventCatalog rebuiltCatalog = new ActiveEventCatalog(eventRepository, eventMapper);
+            ReflectionTestUtils.setField(rebuiltCatalog, "enabled", true);
+            given(eventRepository.findAll(ArgumentMatchers.<Specification<EventEntity>>any())).willReturn(List.of(
+                    createEventEntity(1L, "서울", 5),
+                    createEventEntity(3L, "서울", 10),
+                    createEventEntity(4L, "제주", 2),
+                    createEventEntity(5L, "부산", 0),
+                    createEventEntity(6L, "제주", 2)));
+            rebuiltCatalog.rebuild();
+
+            // When
+            List<EventListResponse> patchedList = activeEventCatalog.selectPage(null, PageRequest.of(0, 10)).getContent();
+            List<EventListResponse> rebuiltList = rebuiltCatalog.selectPage(null, PageRequest.of(0, 10)).getContent();
+
+            // Then
+            assertThat(patchedList).extracting(EventListResponse::contentId).containsExactly(5L, 4L, 6L, 1L, 3L);
+            assertThat(patchedList).isEqualTo(rebuiltList);
+            assertThat(activeEventCatalog.selectPage(List.of("제주"), PageRequest.of(0, 10)).getContent())
+                    .extracting(EventListResponse::contentId)
+                    .containsExactly(4L, 6L);
+            assertThat(activeEventCatalog.currentVersion()).isEqualTo(rebuiltCatalog.currentVersion());
+        }
+
+        @Test
+        @DisplayName("초기 적재가 끝나기 전에 들어온 변경은 적재 직후에 반영된다")
+        void givenChangesBeforeRebuild_whenRebuild_thenReplaysChanges() {
+            // Given
+            ActiveEventCatalog notBuiltCatalog = new ActiveEventCatalog(eventRepository, eventMapper);
+            ReflectionTestUtils.setField(notBuiltCatalog, "enabled", true);
+            notBuiltCatalog.upsertAll(List.of(createEventEntity(5L, "부산", 0)));
+            notBuiltCatalog.remove(4L);
+
+            // When
+            notBuiltCatalog.rebuild();
+
+            // Then
+            assertThat(notBuiltCatalog.selectPage(null, PageRequest.of(0, 10)).getContent())
+                    .extracting(EventListResponse::contentId)
+                    .containsExactly(5L, 2L, 3L, 1L);
+        }
+    }
+
+    private EventEntity createEventEntity(Long contentId, String area, int endAfterDays) {
+        EventEntity eventEntity = new EventEntity();
+        eventEntity.setContentId(contentId);
+        eventEntity.setTitle("행사" + contentId);
+        eventEntity.setArea(area);
+        eventEntity.setEventStartDate(today.minusDays(1));
+        eventEntity.setEventEndDate(today.plusDays(endAfterDays));
+        return eventEntity;
+    }
+
+    private EventEntity createLocatedEventEntity(Long contentId, double mapX, double mapY, int endAfterDays) {
+        EventEntity eventEntity = createEventEntity(contentId, "서울", endAfterDays);
+        eventEntity.setMapX(mapX);
+        eventEntity.setMapY(mapY);
+        return eventEntity;
+    }
+
+}
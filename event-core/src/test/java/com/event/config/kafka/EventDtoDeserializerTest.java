@@ -0,0 +1,91 @@
+package com.event.config.kafka;
+
+import com.event.model.dto.EventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("EventDtoDeserializer 단위 테스트")
+class EventDtoDeserializerTest {
+
+    private final EventDtoDeserializer eventDtoDeserializer = new EventDtoDeserializer();
+
+    private final ObjectMapper smileMapper = SmileMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final Map<String, Object> payload = Map.of(
+            "contentId", 1L,
+            "title", "테스트 축제",
+            "modifiedTime", "2025-05-01T12:30:00",
+            "unknownField", "무시");
+
+    @Nested
+    @DisplayName("deserialize")
+    class DeserializeTest {
+        @Test
+        @DisplayName("Smile content-type 헤더가 있으면 Smile로 역직렬화")
+        void givenSmileHeader_whenDeserialize_thenReadsSmile() throws Exception {
+            // Given
+            byte[] data = smileMapper.writeValueAsBytes(payload);
+            Headers headers = smileHeaders("1");
+
+            // When
+            EventDto eventDto = eventDtoDeserializer.deserialize("event-topic", headers, data);
+
+            // Then
+            assertThat(eventDto.getContentId()).isEqualTo(1L);
+            assertThat(eventDto.getTitle()).isEqualTo("테스트 축제");
+            assertThat(eventDto.getModifiedTime()).isEqualTo(LocalDateTime.of(2025, 5, 1, 12, 30));
+        }
+
+        @Test
+        @DisplayName("content-type 헤더가 없으면 기존 JSON 메시지로 역직렬화")
+        void givenNoHeader_whenDeserialize_thenReadsJson() throws Exception {
+            // Given
+            byte[] data = new ObjectMapper().writeValueAsBytes(payload);
+
+            // When
+            EventDto eventDto = eventDtoDeserializer.deserialize("event-topic", new RecordHeaders(), data);
+
+            // Then
+            assertThat(eventDto.getContentId()).isEqualTo(1L);
+            assertThat(eventDto.getModifiedTime()).isEqualTo(LocalDateTime.of(2025, 5, 1, 12, 30));
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 스키마 버전이면 SerializationException 발생")
+        void givenNewerSchemaVersion_whenDeserialize_thenThrowsSerializationException() throws Exception {
+            // Given
+            byte[] data = smileMapper.writeValueAsBytes(payload);
+            Headers headers = smileHeaders(String.valueOf(EventWireFormat.SCHEMA_VERSION + 1));
+
+            // When & Then
+            assertThatThrownBy(() -> eventDtoDeserializer.deserialize("event-topic", headers, data))
+                    .isInstanceOf(SerializationException.class);
+        }
+    }
+
+    private Headers smileHeaders(String schemaVersion) {
+        Headers headers = new RecordHeaders();
+        headers.add(EventWireFormat.CONTENT_TYPE_HEADER,
+                EventWireFormat.SMILE_CONTENT_TYPE.getBytes(StandardCharsets.UTF_8));
+        headers.add(EventWireFormat.SCHEMA_VERSION_HEADER, schemaVersion.getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+
+}
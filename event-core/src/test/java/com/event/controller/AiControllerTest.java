@@ -1,7 +1,9 @@
 package com.event.controller;
 
+import com.event.analysis.CommentAnalysisJobStatus;
 import com.event.model.response.CommentAnalysisResponse;
 import com.event.model.response.CommentAnalysisResponse.Emotion;
+import com.event.model.response.CommentAnalysisStatusResponse;
 import com.event.security.JwtAuthenticationFilter;
 import com.event.service.AiService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,6 +18,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
@@ -79,4 +82,30 @@ class AiControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("getCommentsAnalysisStatus")
+    class GetCommentsAnalysisStatusTest {
+        @Test
+        @DisplayName("댓글 분석 작업 상태를 반환한다")
+        void givenRunningJob_whenGetStatus_thenReturnsStatus() throws Exception {
+            // Given
+            Long contentId = 1L;
+            given(aiService.getAnalysisStatus(contentId)).willReturn(new CommentAnalysisStatusResponse(
+                    contentId, CommentAnalysisJobStatus.RUNNING, 5, Instant.parse("2025-05-01T00:00:00Z")));
+
+            // When
+            ResultActions result = mockMvc.perform(get("/ai/v1/{contentId}/analysis/status", contentId)
+                    .contentType(MediaType.APPLICATION_JSON));
+
+            // Then
+            result.andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.contentId").value(1))
+                    .andExpect(jsonPath("$.status").value("RUNNING"))
+                    .andExpect(jsonPath("$.pendingCommentCount").value(5));
+
+            then(aiService).should().getAnalysisStatus(contentId);
+        }
+    }
+
 }
@@ -0,0 +1,63 @@
+package com.event.controller;
+
+import com.event.model.response.CommentCountResponse;
+import com.event.security.JwtAuthenticationFilter;
+import com.event.service.CommentService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(CommentCountController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("CommentCountController 단위 테스트")
+class CommentCountControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CommentService commentService;
+
+    @MockitoBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Nested
+    @DisplayName("getCommentCountList")
+    class GetCommentCountListTest {
+        @Test
+        @DisplayName("여러 이벤트의 댓글 수를 한 번에 조회")
+        void givenContentIds_whenGetCommentCountList_thenReturnsCounts() throws Exception {
+            // Given
+            given(commentService.getCommentCountList(List.of(1L, 2L)))
+                    .willReturn(List.of(new CommentCountResponse(1L, 3L), new CommentCountResponse(2L, 0L)));
+
+            // When
+            ResultActions resultActions = mockMvc.perform(get("/events/v1/comments/counts")
+                    .param("contentIds", "1,2"));
+
+            // Then
+            resultActions
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[0].contentId").value(1L))
+                    .andExpect(jsonPath("$[0].commentCount").value(3L))
+                    .andExpect(jsonPath("$[1].contentId").value(2L))
+                    .andExpect(jsonPath("$[1].commentCount").value(0L));
+
+            then(commentService).should().getCommentCountList(List.of(1L, 2L));
+        }
+    }
+
+}
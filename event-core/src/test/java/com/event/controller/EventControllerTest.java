@@ -1,7 +1,9 @@
 package com.event.controller;
 
 import com.event.model.response.EventListResponse;
+import com.event.model.response.EventNearbyResponse;
 import com.event.model.response.EventResponse;
+import com.event.model.response.EventScrollResponse;
 import com.event.security.JwtAuthenticationFilter;
 import com.event.service.EventService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -19,6 +21,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.BDDMockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -71,6 +74,66 @@ class EventControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("getEventScroll")
+    class GetEventScrollTest {
+        @Test
+        @DisplayName("커서와 필터를 서비스에 전달하고 다음 커서를 반환한다")
+        void givenCursor_whenGetEventScroll_thenReturnsNextCursor() throws Exception {
+            // Given
+            EventListResponse eventListResponse = new EventListResponse(1L, "축제1", "서울", "img1.jpg", LocalDate.now(), LocalDate.now().plusDays(1));
+            EventScrollResponse eventScrollResponse = new EventScrollResponse(List.of(eventListResponse), "next-cursor", null);
+
+            given(eventService.selectEventScroll(eq("cursor"), anyInt(), eq(null), eq("서울"))).willReturn(eventScrollResponse);
+
+            // When
+            ResultActions result = mockMvc.perform(get("/events/v1/scroll")
+                    .param("cursor", "cursor")
+                    .param("area", "서울")
+                    .contentType(MediaType.APPLICATION_JSON));
+
+            // Then
+            result.andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.eventListResponseList.length()").value(1))
+                    .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                    .andExpect(jsonPath("$.totalCount").isEmpty());
+
+            then(eventService).should().selectEventScroll(eq("cursor"), anyInt(), eq(null), eq("서울"));
+        }
+    }
+
+    @Nested
+    @DisplayName("getNearbyEventList")
+    class GetNearbyEventListTest {
+        @Test
+        @DisplayName("반경을 생략하면 기본 반경으로 조회하고 거리를 함께 반환한다")
+        void givenNoRadius_whenGetNearbyEventList_thenUsesDefaultRadius() throws Exception {
+            // Given
+            EventNearbyResponse eventNearbyResponse = new EventNearbyResponse(1L, "축제1", "서울", "img1.jpg",
+                    LocalDate.now(), LocalDate.now().plusDays(1), 126.9785, 37.5666, 45L);
+
+            given(eventService.selectEventListETag(null)).willReturn(Optional.empty());
+            given(eventService.selectNearbyEventList(eq(126.978), eq(37.5665), eq(3000), anyInt()))
+                    .willReturn(List.of(eventNearbyResponse));
+
+            // When
+            ResultActions result = mockMvc.perform(get("/events/v1/nearby")
+                    .param("mapX", "126.978")
+                    .param("mapY", "37.5665")
+                    .contentType(MediaType.APPLICATION_JSON));
+
+            // Then
+            result.andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].contentId").value(1L))
+                    .andExpect(jsonPath("$[0].distanceMeters").value(45));
+
+            then(eventService).should().selectNearbyEventList(eq(126.978), eq(37.5665), eq(3000), anyInt());
+        }
+    }
+
     @Nested
     @DisplayName("getEvent")
     class GetEventTest {
@@ -119,6 +182,66 @@ class EventControllerTest {
 
             then(eventService).should().selectEvent(1L, null);
         }
+
+        @Test
+        @DisplayName("If-None-Match가 현재 ETag와 같으면 이벤트를 조회하지 않고 304를 반환한다")
+        void givenMatchingIfNoneMatch_whenGetEvent_thenReturnsNotModified() throws Exception {
+            // Given
+            given(eventService.selectEventETag(1L, null)).willReturn(Optional.of("1-1714521600000"));
+
+            // When
+            ResultActions result = mockMvc.perform(get("/events/v1/1")
+                    .header("If-None-Match", "\"1-1714521600000\""));
+
+            // Then
+            result.andDo(print())
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", "\"1-1714521600000\""))
+                    .andExpect(header().string("Cache-Control", "max-age=60, public"));
+
+            then(eventService).should(never()).selectEvent(any(), any());
+        }
+
+        @Test
+        @DisplayName("ETag가 다르면 본문과 함께 새 ETag와 Cache-Control을 반환한다")
+        void givenStaleIfNoneMatch_whenGetEvent_thenReturnsBodyWithETag() throws Exception {
+            // Given
+            given(eventService.selectEventETag(1L, null)).willReturn(Optional.of("1-1714521600000"));
+            given(eventService.selectEvent(1L, null)).willReturn(null);
+
+            // When
+            ResultActions result = mockMvc.perform(get("/events/v1/1")
+                    .header("If-None-Match", "\"1-1000\""));
+
+            // Then
+            result.andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"1-1714521600000\""))
+                    .andExpect(header().string("Cache-Control", "max-age=60, public"));
+
+            then(eventService).should().selectEvent(1L, null);
+        }
+    }
+
+    @Nested
+    @DisplayName("getEventList (ETag)")
+    class GetEventListETagTest {
+        @Test
+        @DisplayName("카탈로그 버전이 같으면 목록을 조회하지 않고 304를 반환한다")
+        void givenMatchingCatalogVersion_whenGetEventList_thenReturnsNotModified() throws Exception {
+            // Given
+            given(eventService.selectEventListETag(null)).willReturn(Optional.of("list-2025-05-01-abc"));
+
+            // When
+            ResultActions result = mockMvc.perform(get("/events/v1")
+                    .header("If-None-Match", "\"list-2025-05-01-abc\""));
+
+            // Then
+            result.andDo(print())
+                    .andExpect(status().isNotModified());
+
+            then(eventService).should(never()).selectEventList(any(), any(), any());
+        }
     }
 
 }
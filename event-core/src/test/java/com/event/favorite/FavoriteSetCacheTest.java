@@ -0,0 +1,153 @@
+package com.event.favorite;
+
+import com.event.repository.EventFavoriteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FavoriteSetCache 단위 테스트")
+class FavoriteSetCacheTest {
+
+    private static final Long USER_ID = 100L;
+
+    private static final String KEY = "favorite:user:100";
+
+    private static final String VERSION_KEY = "favorite:user:100:version";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private EventFavoriteRepository favoriteRepository;
+
+    private FavoriteSetCache favoriteSetCache;
+
+    @BeforeEach
+    void init() {
+        favoriteSetCache = new FavoriteSetCache(stringRedisTemplate, favoriteRepository, true,
+                Duration.ofHours(6), Duration.ofMinutes(1), 100);
+        given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Nested
+    @DisplayName("contains")
+    class ContainsTest {
+        @Test
+        @DisplayName("Redis에 적재된 집합으로 즐겨찾기 여부를 확인하고, 이후 조회는 로컬 캐시에서 처리한다")
+        void givenLoadedRedisSet_whenContains_thenUsesRedisOnceWithoutDb() {
+            // Given
+            given(setOperations.members(KEY)).willReturn(Set.of("-", "1", "2"));
+
+            // When
+            boolean favorited = favoriteSetCache.contains(USER_ID, 1L);
+            boolean notFavorited = favoriteSetCache.contains(USER_ID, 3L);
+
+            // Then
+            assertThat(favorited).isTrue();
+            assertThat(notFavorited).isFalse();
+            then(setOperations).should(times(1)).members(KEY);
+            then(favoriteRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("Redis에 집합이 없으면 DB에서 읽어서 적재 표시와 함께 Redis에 저장한다")
+        void givenMissingRedisSet_whenContains_thenLoadsFromDbAndStoresInRedis() {
+            // Given
+            given(setOperations.members(KEY)).willReturn(Set.of());
+            given(favoriteRepository.findContentIdListByUserId(USER_ID)).willReturn(List.of(1L));
+
+            // When
+            boolean favorited = favoriteSetCache.contains(USER_ID, 1L);
+
+            // Then
+            assertThat(favorited).isTrue();
+            then(stringRedisTemplate).should().execute(ArgumentMatchers.<RedisScript<Long>>any(),
+                    eq(List.of(KEY, VERSION_KEY)), eq("21600"), eq("0"), eq("-"), eq("1"));
+        }
+
+        @Test
+        @DisplayName("DB를 읽기 전에 확인한 집합 버전과 함께 저장해서, 그 사이에 등록/해제가 있으면 저장되지 않게 한다")
+        void givenVersionedSet_whenContains_thenStoresWithVersionReadBeforeDb() {
+            // Given
+            given(valueOperations.get(VERSION_KEY)).willReturn("7");
+            given(setOperations.members(KEY)).willReturn(Set.of());
+            given(favoriteRepository.findContentIdListByUserId(USER_ID)).willReturn(List.of());
+
+            // When
+            favoriteSetCache.contains(USER_ID, 1L);
+
+            // Then
+            InOrder inOrder = inOrder(valueOperations, favoriteRepository, stringRedisTemplate);
+            inOrder.verify(valueOperations).get(VERSION_KEY);
+            inOrder.verify(favoriteRepository).findContentIdListByUserId(USER_ID);
+            inOrder.verify(stringRedisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(),
+                    eq(List.of(KEY, VERSION_KEY)), eq("21600"), eq("7"), eq("-"));
+        }
+
+        @Test
+        @DisplayName("Redis를 사용할 수 없으면 DB에서 읽는다")
+        void givenRedisFailure_whenContains_thenFallsBackToDb() {
+            // Given
+            given(setOperations.members(KEY)).willThrow(new RedisConnectionFailureException("connection refused"));
+            given(favoriteRepository.findContentIdListByUserId(USER_ID)).willReturn(List.of(2L));
+
+            // When
+            boolean favorited = favoriteSetCache.contains(USER_ID, 2L);
+
+            // Then
+            assertThat(favorited).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("add / remove")
+    class AddAndRemoveTest {
+        @Test
+        @DisplayName("등록/해제가 로컬 캐시에 바로 반영되고 Redis 집합도 갱신한다")
+        void givenLoadedSet_whenAddAndRemove_thenUpdatesLocalAndRedis() {
+            // Given
+            given(setOperations.members(KEY)).willReturn(Set.of("-", "1"));
+            favoriteSetCache.contains(USER_ID, 1L);
+
+            // When
+            favoriteSetCache.add(USER_ID, 2L);
+            favoriteSetCache.remove(USER_ID, 1L);
+
+            // Then
+            assertThat(favoriteSetCache.getFavoriteIdSet(USER_ID)).containsExactly(2L);
+            then(stringRedisTemplate).should().execute(
+                    ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(KEY, VERSION_KEY)), eq("2"), eq("21600"));
+            then(stringRedisTemplate).should().execute(
+                    ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(KEY, VERSION_KEY)), eq("1"), eq("21600"));
+            then(setOperations).should(times(1)).members(KEY);
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.event.fingerprint;
+
+import com.event.model.entity.EventEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EventFingerprintCache 단위 테스트")
+class EventFingerprintCacheTest {
+
+    private final EventFingerprintCache eventFingerprintCache = new EventFingerprintCache(100, Duration.ofHours(6));
+
+    @Nested
+    @DisplayName("isUnchanged")
+    class IsUnchangedTest {
+        @Test
+        @DisplayName("저장된 지문과 같으면 true, 다르거나 캐시에 없으면 false")
+        void givenCachedFingerprint_whenIsUnchanged_thenComparesHash() {
+            // Given
+            eventFingerprintCache.putAll(List.of(createEventEntity(1L, "hash-1")));
+
+            // When & Then
+            assertThat(eventFingerprintCache.isUnchanged(1L, "hash-1")).isTrue();
+            assertThat(eventFingerprintCache.isUnchanged(1L, "hash-2")).isFalse();
+            assertThat(eventFingerprintCache.isUnchanged(2L, "hash-1")).isFalse();
+        }
+
+        @Test
+        @DisplayName("삭제된 이벤트의 지문은 비교하지 않는다")
+        void givenRemovedEvent_whenIsUnchanged_thenReturnsFalse() {
+            // Given
+            eventFingerprintCache.putAll(List.of(createEventEntity(1L, "hash-1")));
+            eventFingerprintCache.remove(1L);
+
+            // When & Then
+            assertThat(eventFingerprintCache.isUnchanged(1L, "hash-1")).isFalse();
+        }
+
+        @Test
+        @DisplayName("유효기간이 지난 지문은 비교하지 않고 DB 비교로 넘긴다")
+        void givenExpiredFingerprint_whenIsUnchanged_thenReturnsFalse() {
+            // Given
+            EventFingerprintCache expiredFingerprintCache = new EventFingerprintCache(100, Duration.ZERO);
+            expiredFingerprintCache.putAll(List.of(createEventEntity(1L, "hash-1")));
+
+            // When & Then
+            assertThat(expiredFingerprintCache.isUnchanged(1L, "hash-1")).isFalse();
+        }
+    }
+
+    private EventEntity createEventEntity(Long contentId, String contentHash) {
+        EventEntity eventEntity = new EventEntity();
+        eventEntity.setContentId(contentId);
+        eventEntity.setContentHash(contentHash);
+        return eventEntity;
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.event.listener;
+
+import com.event.catalog.ActiveEventCatalog;
+import com.event.fingerprint.EventFingerprintCache;
+import com.event.model.entity.EventEntity;
+import com.event.repository.EventRepository;
+import com.event.search.EventSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventReadModelBroadcaster 단위 테스트")
+class EventReadModelBroadcasterTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventSearchIndex eventSearchIndex;
+
+    @Mock
+    private ActiveEventCatalog activeEventCatalog;
+
+    @Mock
+    private EventFingerprintCache eventFingerprintCache;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EventReadModelBroadcaster eventReadModelBroadcaster;
+
+    @BeforeEach
+    void init() {
+        eventReadModelBroadcaster = new EventReadModelBroadcaster(
+                stringRedisTemplate, objectMapper, eventRepository,
+                eventSearchIndex, activeEventCatalog, eventFingerprintCache, true);
+    }
+
+    @Nested
+    @DisplayName("onMessage")
+    class OnMessageTest {
+        @Test
+        @DisplayName("다른 인스턴스가 발행한 메시지를 받으면 이벤트를 다시 읽어 반영하고, DB에 없는 이벤트는 제거한다")
+        void givenRemoteMessage_whenOnMessage_thenReloadsEvents() throws Exception {
+            // Given
+            EventEntity eventEntity = new EventEntity();
+            eventEntity.setContentId(1L);
+            given(eventRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(eventEntity));
+            byte[] body = objectMapper.writeValueAsBytes(new EventReadModelMessage("other-instance", List.of(1L, 2L)));
+
+            // When
+            eventReadModelBroadcaster.onMessage(new DefaultMessage(new byte[0], body), null);
+
+            // Then
+            then(eventSearchIndex).should().indexAll(List.of(eventEntity));
+            then(activeEventCatalog).should().upsertAll(List.of(eventEntity));
+            then(eventFingerprintCache).should().putAll(List.of(eventEntity));
+            then(eventSearchIndex).should().remove(2L);
+            then(activeEventCatalog).should().remove(2L);
+            then(eventFingerprintCache).should().remove(2L);
+        }
+
+        @Test
+        @DisplayName("자신이 발행한 메시지는 무시한다")
+        void givenOwnMessage_whenOnMessage_thenIgnores() {
+            // Given
+            eventReadModelBroadcaster.publish(List.of(1L));
+            ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+            then(stringRedisTemplate).should().convertAndSend(eq(EventReadModelBroadcaster.CHANNEL), messageCaptor.capture());
+
+            // When
+            eventReadModelBroadcaster.onMessage(new DefaultMessage(
+                    new byte[0], messageCaptor.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+            // Then
+            then(eventRepository).should(never()).findAllById(any());
+        }
+    }
+
+}
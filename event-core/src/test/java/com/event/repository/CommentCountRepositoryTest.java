@@ -0,0 +1,140 @@
+package com.event.repository;
+
+import com.event.model.entity.CommentCountEntity;
+import com.event.model.entity.CommentEntity;
+import com.event.model.entity.EventEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@DisplayName("CommentCountRepository JPA 테스트")
+class CommentCountRepositoryTest {
+
+    @Autowired
+    private CommentCountRepository commentCountRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Nested
+    @DisplayName("addCommentCount")
+    class AddCommentCountTest {
+        @Test
+        @DisplayName("카운터가 있으면 증감하고 증감 시각을 기록하며, 없으면 아무것도 갱신하지 않는다")
+        void givenCounter_whenAddCommentCount_thenUpdatesOnlyExistingCounter() {
+            // Given
+            commentCountRepository.saveAndFlush(new CommentCountEntity(1L, 3));
+            Instant updatedAt = Instant.parse("2025-01-01T00:00:00Z");
+
+            // When
+            int updatedCount = commentCountRepository.addCommentCount(1L, -1, updatedAt);
+            int missingUpdatedCount = commentCountRepository.addCommentCount(2L, 1, updatedAt);
+            entityManager.clear();
+
+            // Then
+            assertThat(updatedCount).isEqualTo(1);
+            assertThat(missingUpdatedCount).isZero();
+            assertThat(commentCountRepository.findById(1L)).get()
+                    .extracting(CommentCountEntity::getCommentCount, CommentCountEntity::getUpdatedAt)
+                    .containsExactly(2, updatedAt);
+            assertThat(commentCountRepository.findById(2L)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("insertMissingCommentCounts / reconcileCommentCounts")
+    class ReconcileTest {
+        @Test
+        @DisplayName("카운터가 없는 이벤트의 카운터를 만들고, 어긋난 카운터를 실제 댓글 수로 바로잡는다")
+        void givenMissingAndDriftedCounters_whenReconcile_thenMatchesCommentTable() {
+            // Given: 이벤트 1(댓글 2개, 카운터 없음), 이벤트 2(댓글 없음, 카운터 없음), 이벤트 3(댓글 1개, 카운터 5)
+            eventRepository.saveAll(List.of(createEvent(1L), createEvent(2L), createEvent(3L)));
+            commentRepository.saveAll(List.of(createComment(1L), createComment(1L), createComment(3L)));
+            commentCountRepository.save(new CommentCountEntity(3L, 5));
+            entityManager.flush();
+
+            // When
+            int insertedCount = commentCountRepository.insertMissingCommentCounts();
+            int correctedCount = commentCountRepository.reconcileCommentCounts(Instant.now());
+            entityManager.clear();
+
+            // Then
+            assertThat(insertedCount).isEqualTo(2);
+            assertThat(correctedCount).isEqualTo(1);
+            assertThat(commentCountRepository.findAll())
+                    .extracting(CommentCountEntity::getContentId, CommentCountEntity::getCommentCount)
+                    .containsExactlyInAnyOrder(
+                            tuple(1L, 2),
+                            tuple(2L, 0),
+                            tuple(3L, 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcileCommentCounts")
+    class ReconcileCommentCountsTest {
+        @Test
+        @DisplayName("기준 시각 이후에 증감된 카운터는 실제 댓글 수와 달라도 바로잡지 않는다")
+        void givenRecentlyUpdatedCounter_whenReconcile_thenSkipsIt() {
+            // Given: 이벤트 1(댓글 1개, 카운터 2, 방금 증감), 이벤트 2(댓글 1개, 카운터 5, 오래 전 증감)
+            Instant writtenBefore = Instant.parse("2025-01-01T00:00:00Z");
+            commentRepository.saveAll(List.of(createComment(1L), createComment(2L)));
+            commentCountRepository.saveAll(List.of(
+                    createCommentCount(1L, 2, writtenBefore.plusSeconds(10)),
+                    createCommentCount(2L, 5, writtenBefore.minusSeconds(10))));
+            entityManager.flush();
+
+            // When
+            int correctedCount = commentCountRepository.reconcileCommentCounts(writtenBefore);
+            entityManager.clear();
+
+            // Then
+            assertThat(correctedCount).isEqualTo(1);
+            assertThat(commentCountRepository.findAll())
+                    .extracting(CommentCountEntity::getContentId, CommentCountEntity::getCommentCount)
+                    .containsExactlyInAnyOrder(
+                            tuple(1L, 2),
+                            tuple(2L, 1));
+        }
+    }
+
+    private CommentCountEntity createCommentCount(Long contentId, int commentCount, Instant updatedAt) {
+        CommentCountEntity commentCountEntity = new CommentCountEntity(contentId, commentCount);
+        commentCountEntity.setUpdatedAt(updatedAt);
+        return commentCountEntity;
+    }
+
+    private EventEntity createEvent(Long contentId) {
+        EventEntity eventEntity = new EventEntity();
+        eventEntity.setContentId(contentId);
+        eventEntity.setTitle("행사" + contentId);
+        return eventEntity;
+    }
+
+    private CommentEntity createComment(Long contentId) {
+        CommentEntity commentEntity = new CommentEntity();
+        commentEntity.setContent("테스트 댓글");
+        commentEntity.setContentId(contentId);
+        commentEntity.setUserId(1L);
+        commentEntity.setUsername("tester");
+        Instant now = Instant.now();
+        commentEntity.setCreatedAt(now);
+        commentEntity.setUpdatedAt(now);
+        return commentEntity;
+    }
+
+}
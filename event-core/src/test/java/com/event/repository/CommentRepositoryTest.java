@@ -1,6 +1,7 @@
 package com.event.repository;
 
 import com.event.model.entity.CommentEntity;
+import com.event.model.response.CommentCountResponse;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -83,6 +84,30 @@ class CommentRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("countGroupByContentIdIn")
+    class CountGroupByContentIdInTest {
+        @Test
+        @DisplayName("여러 콘텐츠의 댓글 수를 한 번에 카운트하고, 댓글이 없는 콘텐츠는 포함하지 않는다")
+        void givenCommentsExist_whenCountGroupByContentIdIn_thenReturnsCountPerContentId() {
+            // Given: contentId 5에 댓글 2개, 6에 댓글 1개 저장
+            commentRepository.saveAll(List.of(
+                    createComment(5L, 0),
+                    createComment(5L, 1),
+                    createComment(6L, 0)
+            ));
+
+            // When
+            List<CommentCountResponse> commentCountResponseList =
+                    commentRepository.countGroupByContentIdIn(List.of(5L, 6L, 7L));
+
+            // Then
+            assertThat(commentCountResponseList).containsExactlyInAnyOrder(
+                    new CommentCountResponse(5L, 2L),
+                    new CommentCountResponse(6L, 1L));
+        }
+    }
+
     @Nested
     @DisplayName("findByContentIdOrderByUpdatedAtDesc")
     class FindByContentIdOrderByUpdatedAtDescTest {
@@ -0,0 +1,260 @@
+package com.event.repository;
+
+import com.event.model.entity.CommentEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 목록 키셋 스크롤의 첫 페이지와 깊은 커서 페이지 조회 시간을 비교합니다.
+ *
+ * 댓글의 90%가 한 이벤트에 몰려 있는 상황에서 (content_id, updated_at, comment_id) 인덱스로
+ * 첫 페이지, 깊은 커서 페이지(수정 시각 상한 유무), 같은 위치의 OFFSET 페이지 조회 시간을 로그로 확인합니다.
+ * 실행 환경에 따라 달라지는 시간은 검증하지 않고, 결과가 같은지와 Spring Data가 만든 SQL의 실행 계획을 검증합니다.
+ * (수정 시각 상한이 있는 깊은 커서 조회가 인덱스를 사용하고, 상한이 없는 조회보다 적은 행을 읽는지)
+ * 댓글 수는 -Dbenchmark.comment-count로 바꿀 수 있습니다.
+ */
+@DataJpaTest
+@DisplayName("댓글 목록 키셋 스크롤 인덱스 벤치마크")
+@Tag("benchmark")
+class CommentScrollIndexBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentScrollIndexBenchmarkTest.class);
+
+    private static final int COMMENT_COUNT = Integer.getInteger("benchmark.comment-count", 200_000);
+
+    private static final long HEAVY_CONTENT_ID = 1L;
+
+    private static final int OTHER_CONTENT_COUNT = 1_000;
+
+    private static final int PAGE_SIZE = 10;
+
+    private static final int WARMUP_ROUNDS = 5;
+
+    private static final int MEASURE_ROUNDS = 20;
+
+    private static final String INDEX_NAME = "IDX_COMMENT_CONTENT_UPDATED_COMMENT";
+
+    // 비교 연산자 앞의 컬럼 이름(그룹 1) 또는 행 수 제한 파라미터
+    private static final Pattern PARAMETER_PATTERN = Pattern.compile(
+            "([a-z_]+)\\s*(?:<=|>=|<>|<|>|=)\\s*\\?|(?:fetch first|offset|limit)\\s*\\?", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern SCAN_COUNT_PATTERN = Pattern.compile("scanCount: (\\d+)");
+
+    // Hibernate가 실행한 SQL (StatementCaptureConfiguration)
+    private static final List<String> CAPTURED_SQL_LIST = new CopyOnWriteArrayList<>();
+
+    private static final Sort SORT = Sort.by(Sort.Direction.DESC, "updatedAt")
+            .and(Sort.by(Sort.Direction.DESC, "commentId"));
+
+    @TestConfiguration
+    static class StatementCaptureConfiguration {
+        @Bean
+        HibernatePropertiesCustomizer statementCapturingCustomizer() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                    (StatementInspector) sql -> {
+                        CAPTURED_SQL_LIST.add(sql);
+                        return sql;
+                    });
+        }
+    }
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("수정 시각 상한이 있는 깊은 커서 페이지는 인덱스를 커서 위치부터 읽고, OFFSET 조회와 결과가 같다")
+    void compareFirstPageAndDeepCursorPage() {
+        // Given
+        // 인덱스 DDL이 커밋되면서 댓글까지 커밋되지 않도록 인덱스를 먼저 만들고 댓글을 저장
+        new ResourceDatabasePopulator(
+                new ClassPathResource("db/migration/V3__add_comment_scroll_index.sql"))
+                .execute(dataSource);
+        insertComments();
+        entityManager.clear();
+
+        int heavyCommentCount = commentRepository.countByContentId(HEAVY_CONTENT_ID);
+        // 90% 위치의 페이지 (OFFSET 조회와 비교할 수 있도록 페이지 크기의 배수)
+        int depth = heavyCommentCount * 9 / 10 / PAGE_SIZE * PAGE_SIZE;
+        Long cursorCommentId = jdbcTemplate.queryForObject(
+                "SELECT comment_id FROM comment_table WHERE content_id = ? "
+                        + "ORDER BY updated_at DESC, comment_id DESC LIMIT 1 OFFSET ?",
+                Long.class, HEAVY_CONTENT_ID, depth - 1);
+        Instant cursorUpdatedAt = jdbcTemplate.queryForObject(
+                "SELECT updated_at FROM comment_table WHERE comment_id = ?", Instant.class, cursorCommentId);
+
+        Map<String, Object> key = new LinkedHashMap<>();
+        key.put("updatedAt", cursorUpdatedAt);
+        key.put("commentId", cursorCommentId);
+        KeysetScrollPosition deepPosition = ScrollPosition.forward(key);
+
+        // When
+        Window<CommentEntity> boundedWindow = commentRepository.findScrollByContentIdAndUpdatedAtLessThanEqual(
+                HEAVY_CONTENT_ID, cursorUpdatedAt, SORT, Limit.of(PAGE_SIZE), deepPosition);
+        List<CommentEntity> offsetPage = commentRepository.findByContentIdOrderByUpdatedAtDesc(
+                HEAVY_CONTENT_ID, PageRequest.of(depth / PAGE_SIZE, PAGE_SIZE, SORT));
+
+        double firstPageMillis = measure(() -> commentRepository.findScrollByContentId(
+                HEAVY_CONTENT_ID, SORT, Limit.of(PAGE_SIZE), ScrollPosition.keyset()).getContent());
+        double boundedMillis = measure(() -> commentRepository.findScrollByContentIdAndUpdatedAtLessThanEqual(
+                HEAVY_CONTENT_ID, cursorUpdatedAt, SORT, Limit.of(PAGE_SIZE), deepPosition).getContent());
+        double unboundedMillis = measure(() -> commentRepository.findScrollByContentId(
+                HEAVY_CONTENT_ID, SORT, Limit.of(PAGE_SIZE), deepPosition).getContent());
+        double offsetMillis = measure(() -> commentRepository.findByContentIdOrderByUpdatedAtDesc(
+                HEAVY_CONTENT_ID, PageRequest.of(depth / PAGE_SIZE, PAGE_SIZE, SORT)));
+
+        // Then
+        log.info(String.format("[first page          ] %.2f ms/page (comments: %d)", firstPageMillis, heavyCommentCount));
+        log.info(String.format("[deep cursor, bounded] %.2f ms/page (depth: %d)", boundedMillis, depth));
+        log.info(String.format("[deep cursor         ] %.2f ms/page", unboundedMillis));
+        log.info(String.format("[deep offset         ] %.2f ms/page", offsetMillis));
+
+        List<Long> expectedIdList = jdbcTemplate.queryForList(
+                "SELECT comment_id FROM comment_table WHERE content_id = ? "
+                        + "ORDER BY updated_at DESC, comment_id DESC LIMIT ? OFFSET ?",
+                Long.class, HEAVY_CONTENT_ID, PAGE_SIZE, depth);
+        assertThat(boundedWindow.getContent())
+                .extracting(CommentEntity::getCommentId)
+                .containsExactlyElementsOf(expectedIdList);
+        assertThat(offsetPage)
+                .extracting(CommentEntity::getCommentId)
+                .containsExactlyElementsOf(expectedIdList);
+
+        // Spring Data가 실제로 만든 SQL의 실행 계획과 읽은 행 수로 확인
+        String boundedSql = captureSql(() -> commentRepository.findScrollByContentIdAndUpdatedAtLessThanEqual(
+                HEAVY_CONTENT_ID, cursorUpdatedAt, SORT, Limit.of(PAGE_SIZE), deepPosition).getContent());
+        String unboundedSql = captureSql(() -> commentRepository.findScrollByContentId(
+                HEAVY_CONTENT_ID, SORT, Limit.of(PAGE_SIZE), deepPosition).getContent());
+        Map<String, Object> parameterMap = Map.of(
+                "content_id", HEAVY_CONTENT_ID,
+                "updated_at", cursorUpdatedAt,
+                "comment_id", cursorCommentId);
+        String boundedPlan = explainAnalyze(boundedSql, parameterMap);
+        String unboundedPlan = explainAnalyze(unboundedSql, parameterMap);
+        long boundedScanCount = scanCount(boundedPlan);
+        long unboundedScanCount = scanCount(unboundedPlan);
+        log.info("[deep cursor, bounded] scanned rows: {}", boundedScanCount);
+        log.info("[deep cursor         ] scanned rows: {}", unboundedScanCount);
+
+        assertThat(boundedPlan).containsIgnoringCase(INDEX_NAME);
+        assertThat(boundedScanCount).isLessThan(unboundedScanCount);
+
+        // 댓글 분석의 최신 댓글 조회도 같은 인덱스를 사용
+        String latestSql = captureSql(() -> commentRepository.findByContentIdOrderByUpdatedAtDesc(
+                HEAVY_CONTENT_ID, PageRequest.of(0, PAGE_SIZE)));
+        assertThat(explainAnalyze(latestSql, parameterMap)).containsIgnoringCase(INDEX_NAME);
+    }
+
+    /**
+     * 조회를 실행하고 Hibernate가 댓글 테이블에 보낸 SELECT 문을 반환합니다.
+     */
+    private String captureSql(Supplier<List<CommentEntity>> query) {
+        CAPTURED_SQL_LIST.clear();
+        query.get();
+        entityManager.clear();
+        return CAPTURED_SQL_LIST.stream()
+                .filter(sql -> sql.toLowerCase().startsWith("select") && sql.contains("comment_table"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+    }
+
+    /**
+     * 캡처한 SQL의 바인딩 파라미터를 앞의 비교 컬럼으로 채워서 EXPLAIN ANALYZE 결과를 반환합니다.
+     * 행 수 제한(fetch first ?, offset ?) 파라미터는 페이지 크기로 채웁니다.
+     */
+    private String explainAnalyze(String sql, Map<String, Object> parameterMap) {
+        List<Object> parameterList = new ArrayList<>();
+        Matcher matcher = PARAMETER_PATTERN.matcher(sql);
+        while (matcher.find()) {
+            if (matcher.group(1) != null) {
+                Object parameter = parameterMap.get(matcher.group(1));
+                assertThat(parameter).as("parameter for column %s", matcher.group(1)).isNotNull();
+                parameterList.add(parameter);
+            } else {
+                parameterList.add(PAGE_SIZE + 1);
+            }
+        }
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN ANALYZE " + sql, String.class, parameterList.toArray());
+        log.info("{}", plan);
+        return plan;
+    }
+
+    private long scanCount(String plan) {
+        Matcher matcher = SCAN_COUNT_PATTERN.matcher(plan);
+        long scanCount = 0;
+        while (matcher.find()) {
+            scanCount += Long.parseLong(matcher.group(1));
+        }
+        return scanCount;
+    }
+
+    private double measure(Supplier<List<CommentEntity>> query) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            query.get();
+            entityManager.clear();
+        }
+
+        long totalNanos = 0;
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            long startNanos = System.nanoTime();
+            query.get();
+            totalNanos += System.nanoTime() - startNanos;
+            entityManager.clear();
+        }
+        return totalNanos / 1_000_000.0 / MEASURE_ROUNDS;
+    }
+
+    /**
+     * 댓글을 저장합니다. 90%는 한 이벤트에, 나머지는 다른 이벤트 1,000개에 나눠서 저장하며,
+     * 두 댓글마다 수정 시각이 같아서 댓글 ID로 순서를 정하는 경우도 포함합니다.
+     */
+    private void insertComments() {
+        jdbcTemplate.update(
+                "INSERT INTO comment_table (content, content_id, user_id, username, created_at, updated_at) "
+                        + "SELECT 'comment ' || X, "
+                        + "CASE WHEN MOD(X, 10) = 0 THEN MOD(X / 10, ?) + 2 ELSE ? END, "
+                        + "MOD(X, 500) + 1, 'user', "
+                        + "DATEADD(SECOND, X / 2, TIMESTAMP WITH TIME ZONE '2025-01-01 00:00:00+00'), "
+                        + "DATEADD(SECOND, X / 2, TIMESTAMP WITH TIME ZONE '2025-01-01 00:00:00+00') "
+                        + "FROM SYSTEM_RANGE(1, ?)",
+                OTHER_CONTENT_COUNT, HEAVY_CONTENT_ID, COMMENT_COUNT);
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.event.repository;
+
+import com.event.model.entity.EventEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * INSERT ... ON CONFLICT ... WHERE ... IS DISTINCT FROM ... RETURNING 구문은 H2에서 실행할 수 없으므로
+ * Testcontainers로 띄운 PostgreSQL에서 검증합니다. (Docker가 없으면 건너뜀)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EventBatchRepository.class)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("EventBatchRepository PostgreSQL 테스트")
+class EventBatchRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private EventBatchRepository eventBatchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Nested
+    @DisplayName("upsertAll")
+    class UpsertAllTest {
+        @Test
+        @DisplayName("없는 이벤트는 추가하고 contentId를 반환")
+        void givenNewEvents_whenUpsertAll_thenInsertsAndReturnsIds() {
+            // Given
+            List<EventEntity> eventEntityList = List.of(
+                    createEventEntity(1L, "서울 축제", "hash-1"),
+                    createEventEntity(2L, "부산 축제", "hash-2"));
+
+            // When
+            List<Long> appliedContentIdList = eventBatchRepository.upsertAll(eventEntityList);
+
+            // Then
+            assertThat(appliedContentIdList).containsExactlyInAnyOrder(1L, 2L);
+            assertThat(selectTitle(1L)).isEqualTo("서울 축제");
+            assertThat(selectTitle(2L)).isEqualTo("부산 축제");
+        }
+
+        @Test
+        @DisplayName("content_hash가 바뀐 이벤트는 갱신하고 contentId를 반환")
+        void givenChangedHash_whenUpsertAll_thenUpdatesAndReturnsId() {
+            // Given
+            eventBatchRepository.upsertAll(List.of(createEventEntity(1L, "서울 축제", "hash-1")));
+
+            // When
+            List<Long> appliedContentIdList = eventBatchRepository.upsertAll(
+                    List.of(createEventEntity(1L, "서울 봄 축제", "hash-1-changed")));
+
+            // Then
+            assertThat(appliedContentIdList).containsExactly(1L);
+            assertThat(selectTitle(1L)).isEqualTo("서울 봄 축제");
+            assertThat(selectContentHash(1L)).isEqualTo("hash-1-changed");
+        }
+
+        @Test
+        @DisplayName("content_hash가 같은 이벤트는 갱신하지 않고 반환 목록에서도 제외")
+        void givenSameHash_whenUpsertAll_thenSkipsRow() {
+            // Given
+            eventBatchRepository.upsertAll(List.of(
+                    createEventEntity(1L, "서울 축제", "hash-1"),
+                    createEventEntity(2L, "부산 축제", "hash-2")));
+
+            // When: 1번은 해시가 같고(다른 컬럼 값이 달라도 갱신하지 않음), 2번만 해시가 바뀜
+            List<Long> appliedContentIdList = eventBatchRepository.upsertAll(List.of(
+                    createEventEntity(1L, "갱신되면 안 되는 제목", "hash-1"),
+                    createEventEntity(2L, "부산 가을 축제", "hash-2-changed")));
+
+            // Then
+            assertThat(appliedContentIdList).containsExactly(2L);
+            assertThat(selectTitle(1L)).isEqualTo("서울 축제");
+            assertThat(selectTitle(2L)).isEqualTo("부산 가을 축제");
+        }
+
+        @Test
+        @DisplayName("구문 최대 행 수(1000)를 넘으면 나눠 실행하고 모든 구문의 contentId를 합쳐 반환")
+        void givenMoreThanOneChunk_whenUpsertAll_thenReturnsIdsOfAllChunks() {
+            // Given
+            List<EventEntity> eventEntityList = new ArrayList<>();
+            LongStream.rangeClosed(1, 1001)
+                    .forEach(contentId -> eventEntityList.add(createEventEntity(contentId, "행사" + contentId, "hash")));
+
+            // When
+            List<Long> insertedContentIdList = eventBatchRepository.upsertAll(eventEntityList);
+
+            // Then
+            assertThat(insertedContentIdList).hasSize(1001).doesNotHaveDuplicates();
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_table", Long.class)).isEqualTo(1001L);
+
+            // When: 첫 구문의 마지막 행(1000)과 두 번째 구문의 행(1001)만 해시가 바뀜
+            List<EventEntity> changedEventEntityList = new ArrayList<>();
+            LongStream.rangeClosed(1, 1001)
+                    .forEach(contentId -> changedEventEntityList.add(createEventEntity(contentId, "행사" + contentId,
+                            contentId >= 1000 ? "hash-changed" : "hash")));
+            List<Long> updatedContentIdList = eventBatchRepository.upsertAll(changedEventEntityList);
+
+            // Then
+            assertThat(updatedContentIdList).containsExactlyInAnyOrder(1000L, 1001L);
+        }
+    }
+
+    private String selectTitle(Long contentId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT title FROM event_table WHERE content_id = ?", String.class, contentId);
+    }
+
+    private String selectContentHash(Long contentId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT content_hash FROM event_table WHERE content_id = ?", String.class, contentId);
+    }
+
+    private EventEntity createEventEntity(Long contentId, String title, String contentHash) {
+        EventEntity eventEntity = new EventEntity();
+        eventEntity.setContentId(contentId);
+        eventEntity.setTitle(title);
+        eventEntity.setArea("서울");
+        eventEntity.setEventStartDate(LocalDate.of(2025, 5, 1));
+        eventEntity.setEventEndDate(LocalDate.of(2025, 5, 31));
+        eventEntity.setDbUpsertedAt(Instant.parse("2025-05-01T00:00:00Z"));
+        eventEntity.setContentHash(contentHash);
+        return eventEntity;
+    }
+
+}
@@ -0,0 +1,190 @@
+package com.event.repository;
+
+import com.event.model.entity.EventEntity;
+import com.event.model.entity.EventFavoriteEntity;
+import com.event.specification.EventSpecs;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 즐겨찾기 목록 조회의 기존 실행 계획(상관 EXISTS 서브쿼리)과 즐겨찾기 조인 실행 계획을 비교합니다.
+ *
+ * 즐겨찾기가 10,000개인 유저를 기준으로 첫 페이지 조회(목록 + count 쿼리) 시간을 로그로 확인하며,
+ * 실행 환경에 따라 달라지는 시간은 검증하지 않고 두 실행 계획의 결과가 같은지만 검증합니다.
+ * 인덱스는 운영 DB와 같은 Flyway 마이그레이션 스크립트로 만듭니다.
+ */
+@DataJpaTest
+@DisplayName("즐겨찾기 목록 조회 실행 계획 벤치마크")
+@Tag("benchmark")
+class EventFavoriteQueryBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EventFavoriteQueryBenchmarkTest.class);
+
+    private static final int EVENT_COUNT = 15_000;
+
+    private static final long HEAVY_USER_ID = 1L;
+
+    private static final int OTHER_USER_COUNT = 200;
+
+    private static final int FAVORITES_PER_OTHER_USER = 100;
+
+    private static final int WARMUP_ROUNDS = 5;
+
+    private static final int MEASURE_ROUNDS = 20;
+
+    private static final String[] AREAS = {"서울", "부산", "제주", "강원", "경기"};
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+    @Test
+    @DisplayName("즐겨찾기 10,000개인 유저에 대해 EXISTS 서브쿼리와 조인 실행 계획의 결과가 같다")
+    void compareExistsSubqueryAndFavoriteJoin() {
+        // Given
+        insertEventsAndFavorites();
+        new ResourceDatabasePopulator(
+                new ClassPathResource("db/migration/V1__add_favorite_and_event_list_indexes.sql"))
+                .execute(dataSource);
+        entityManager.clear();
+
+        List<String> areaList = List.of("서울", "부산");
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(
+                Sort.Order.asc("eventEndDate"),
+                Sort.Order.asc("eventStartDate"),
+                Sort.Order.asc("contentId")));
+        Specification<EventEntity> existsSpec = Specification.allOf(
+                existsFavoriteOf(HEAVY_USER_ID),
+                EventSpecs.notEndedFrom(today),
+                EventSpecs.withArea(areaList));
+        Specification<EventEntity> joinSpec = Specification.allOf(
+                EventSpecs.isFavoritedBy(HEAVY_USER_ID),
+                EventSpecs.notEndedFrom(today),
+                EventSpecs.withArea(areaList));
+
+        // When
+        Page<EventEntity> existsPage = eventRepository.findAll(existsSpec, pageable);
+        Page<EventEntity> joinPage = eventRepository.findAll(joinSpec, pageable);
+        double existsMillis = measure(() -> eventRepository.findAll(existsSpec, pageable));
+        double joinMillis = measure(() -> eventRepository.findAll(joinSpec, pageable));
+
+        // Then
+        log.info(String.format("[EXISTS subquery] %.2f ms/page (total: %d)", existsMillis, existsPage.getTotalElements()));
+        log.info(String.format("[favorite join  ] %.2f ms/page (total: %d)", joinMillis, joinPage.getTotalElements()));
+
+        assertThat(joinPage.getTotalElements()).isEqualTo(existsPage.getTotalElements());
+        assertThat(joinPage.getContent())
+                .extracting(EventEntity::getContentId)
+                .containsExactlyElementsOf(existsPage.getContent().stream().map(EventEntity::getContentId).toList());
+    }
+
+    /**
+     * 기존 즐겨찾기 필터 (이벤트마다 즐겨찾기 테이블을 확인하는 상관 EXISTS 서브쿼리)
+     */
+    private static Specification<EventEntity> existsFavoriteOf(Long userId) {
+        return (root, criteriaQuery, criteriaBuilder) -> {
+            assert criteriaQuery != null;
+            Subquery<Long> longSubquery = criteriaQuery.subquery(Long.class);
+            Root<EventFavoriteEntity> eventFavoriteEntityRoot = longSubquery.from(EventFavoriteEntity.class);
+
+            longSubquery.select(criteriaBuilder.literal(1L))
+                    .where(
+                            criteriaBuilder.equal(eventFavoriteEntityRoot.get("contentId"), root.get("contentId")),
+                            criteriaBuilder.equal(eventFavoriteEntityRoot.get("userId"), userId));
+
+            return criteriaBuilder.exists(longSubquery);
+        };
+    }
+
+    private double measure(Supplier<Page<EventEntity>> query) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            query.get();
+            entityManager.clear();
+        }
+
+        long totalNanos = 0;
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            long startNanos = System.nanoTime();
+            query.get();
+            totalNanos += System.nanoTime() - startNanos;
+            entityManager.clear();
+        }
+        return totalNanos / 1_000_000.0 / MEASURE_ROUNDS;
+    }
+
+    /**
+     * 이벤트 15,000개와 즐겨찾기 30,000개(무거운 유저 10,000개 + 다른 유저 200명 * 100개)를 저장합니다.
+     */
+    private void insertEventsAndFavorites() {
+        List<Object[]> eventArgList = new ArrayList<>(EVENT_COUNT);
+        for (long contentId = 1; contentId <= EVENT_COUNT; contentId++) {
+            eventArgList.add(new Object[]{
+                    contentId,
+                    "행사" + contentId,
+                    AREAS[(int) (contentId % AREAS.length)],
+                    Date.valueOf(today.minusDays(contentId % 30)),
+                    // 일부는 이미 종료된 이벤트
+                    Date.valueOf(today.plusDays(contentId % 120 - 10))});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO event_table (content_id, title, area, event_start_date, event_end_date) "
+                        + "VALUES (?, ?, ?, ?, ?)",
+                eventArgList);
+
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        List<Object[]> favoriteArgList = new ArrayList<>();
+        for (long contentId = 1; contentId <= EVENT_COUNT; contentId++) {
+            if (contentId % 3 != 0) {
+                favoriteArgList.add(new Object[]{contentId, HEAVY_USER_ID, createdAt});
+            }
+        }
+        for (long userId = 2; userId < 2 + OTHER_USER_COUNT; userId++) {
+            for (int i = 0; i < FAVORITES_PER_OTHER_USER; i++) {
+                long contentId = (userId * 7919 + i * 131L) % EVENT_COUNT + 1;
+                favoriteArgList.add(new Object[]{contentId, userId, createdAt});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO event_favorite_table (content_id, user_id, created_at) VALUES (?, ?, ?)",
+                favoriteArgList);
+    }
+
+}
@@ -0,0 +1,205 @@
+package com.event.repository;
+
+import com.event.mapper.EventMapper;
+import com.event.model.entity.EventEntity;
+import com.event.model.response.EventListResponse;
+import com.event.specification.EventSpecs;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이벤트 목록 조회의 엔티티 조회 + 매핑 방식과 목록 컬럼 프로젝션 방식을 비교합니다.
+ *
+ * 개요, 홈페이지, 이용 시간처럼 긴 TEXT 컬럼이 채워진 이벤트 2,000개를 기준으로
+ * 페이지당 할당된 힙 크기와 조회 시간, 읽어 온 컬럼 크기를 로그로 확인합니다.
+ * 실행 환경에 따라 달라지는 할당량과 시간은 검증하지 않고 결과가 같은지와 읽은 컬럼 크기만 검증합니다.
+ */
+@DataJpaTest
+@DisplayName("이벤트 목록 프로젝션 조회 벤치마크")
+@Tag("benchmark")
+class EventListProjectionBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EventListProjectionBenchmarkTest.class);
+
+    private static final int EVENT_COUNT = 2_000;
+
+    private static final int PAGE_SIZE = 32;
+
+    private static final int WARMUP_ROUNDS = 5;
+
+    private static final int MEASURE_ROUNDS = 20;
+
+    private static final String[] AREAS = {"서울", "부산", "제주", "강원", "경기"};
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final EventMapper eventMapper = Mappers.getMapper(EventMapper.class);
+
+    private final LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * 페이지 조회 한 번에 할당된 평균 힙 크기와 걸린 시간
+     */
+    private record Measurement(double allocatedKiloBytes, double millis) {
+    }
+
+    @Test
+    @DisplayName("엔티티 조회 후 매핑한 결과와 목록 컬럼 프로젝션 결과가 같고, 프로젝션이 더 적은 컬럼 데이터를 읽는다")
+    void compareEntityMappingAndProjection() {
+        // Given
+        insertEventsWithLargeText();
+        entityManager.clear();
+
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by(
+                Sort.Order.asc("eventEndDate"),
+                Sort.Order.asc("eventStartDate"),
+                Sort.Order.asc("contentId")));
+        Specification<EventEntity> eventEntitySpec = Specification.allOf(
+                EventSpecs.notEndedFrom(today),
+                EventSpecs.withArea(List.of("서울", "부산", "제주")));
+
+        Supplier<List<EventListResponse>> entityQuery = () -> eventRepository.findAll(eventEntitySpec, pageable)
+                .map(eventMapper::toEventListResponse)
+                .getContent();
+        Supplier<List<EventListResponse>> projectionQuery = () -> eventRepository
+                .findEventListPage(eventEntitySpec, pageable)
+                .getContent();
+
+        // When
+        List<EventEntity> eventEntityList = eventRepository.findAll(eventEntitySpec, pageable).getContent();
+        long entityPayloadBytes = eventEntityList.stream().mapToLong(this::entityPayloadBytes).sum();
+        List<EventListResponse> entityResult = entityQuery.get();
+        entityManager.clear();
+
+        Page<EventListResponse> projectionPage = eventRepository.findEventListPage(eventEntitySpec, pageable);
+        long projectionPayloadBytes = projectionPage.getContent().stream().mapToLong(this::projectionPayloadBytes).sum();
+        entityManager.clear();
+
+        Measurement entityMeasurement = measure(entityQuery);
+        Measurement projectionMeasurement = measure(projectionQuery);
+
+        // Then
+        log.info(String.format("[entity + mapper] %.1f KB/page, %.2f ms/page, column payload %d bytes",
+                entityMeasurement.allocatedKiloBytes(), entityMeasurement.millis(), entityPayloadBytes));
+        log.info(String.format("[projection     ] %.1f KB/page, %.2f ms/page, column payload %d bytes",
+                projectionMeasurement.allocatedKiloBytes(), projectionMeasurement.millis(), projectionPayloadBytes));
+
+        assertThat(projectionPage.getContent()).containsExactlyElementsOf(entityResult);
+        assertThat(projectionPage.getContent()).hasSize(PAGE_SIZE);
+        assertThat(projectionPayloadBytes).isLessThan(entityPayloadBytes);
+    }
+
+    private Measurement measure(Supplier<List<EventListResponse>> query) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            query.get();
+            entityManager.clear();
+        }
+
+        long totalAllocatedBytes = 0;
+        long totalNanos = 0;
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            long startAllocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes();
+            long startNanos = System.nanoTime();
+            query.get();
+            totalNanos += System.nanoTime() - startNanos;
+            totalAllocatedBytes += threadMXBean.getCurrentThreadAllocatedBytes() - startAllocatedBytes;
+            entityManager.clear();
+        }
+        return new Measurement(
+                totalAllocatedBytes / 1024.0 / MEASURE_ROUNDS,
+                totalNanos / 1_000_000.0 / MEASURE_ROUNDS);
+    }
+
+    /**
+     * 엔티티 조회 시 DB에서 읽어 오는 문자열 컬럼 크기 (UTF-16 기준 추정치)
+     */
+    private long entityPayloadBytes(EventEntity eventEntity) {
+        return textBytes(eventEntity.getTitle(), eventEntity.getAddr1(), eventEntity.getAddr2(),
+                eventEntity.getArea(), eventEntity.getFirstImage(), eventEntity.getFirstImage2(),
+                eventEntity.getZipCode(), eventEntity.getHomepage(), eventEntity.getOverview(),
+                eventEntity.getPlayTime(), eventEntity.getUseTimeFestival(),
+                eventEntity.getSponsor1(), eventEntity.getSponsor1Tel(),
+                eventEntity.getSponsor2(), eventEntity.getSponsor2Tel(), eventEntity.getContentHash());
+    }
+
+    /**
+     * 프로젝션 조회 시 DB에서 읽어 오는 문자열 컬럼 크기 (UTF-16 기준 추정치)
+     */
+    private long projectionPayloadBytes(EventListResponse eventListResponse) {
+        return textBytes(eventListResponse.title(), eventListResponse.area(), eventListResponse.firstImage());
+    }
+
+    private static long textBytes(String... values) {
+        long bytes = 0;
+        for (String value : values) {
+            if (value != null) {
+                bytes += value.length() * 2L;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 상세 화면에서만 쓰는 긴 TEXT 컬럼을 채운 이벤트 2,000개를 저장합니다.
+     */
+    private void insertEventsWithLargeText() {
+        String overview = "축제 개요입니다. ".repeat(200);
+        String homepage = "<a href=\"https://example.com/festival\">홈페이지</a> ".repeat(10);
+        String useTimeFestival = "성인 10,000원 / 청소년 5,000원 / 어린이 무료 ".repeat(10);
+
+        List<Object[]> eventArgList = new ArrayList<>(EVENT_COUNT);
+        for (long contentId = 1; contentId <= EVENT_COUNT; contentId++) {
+            eventArgList.add(new Object[]{
+                    contentId,
+                    "행사" + contentId,
+                    AREAS[(int) (contentId % AREAS.length)],
+                    "https://example.com/images/" + contentId + ".jpg",
+                    Date.valueOf(today.minusDays(contentId % 30)),
+                    // 일부는 이미 종료된 이벤트
+                    Date.valueOf(today.plusDays(contentId % 120 - 10)),
+                    "서울특별시 중구 세종대로 " + contentId,
+                    overview + contentId,
+                    homepage,
+                    useTimeFestival});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO event_table (content_id, title, area, first_image, event_start_date, event_end_date, "
+                        + "addr1, overview, homepage, use_time_festival) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                eventArgList);
+    }
+
+}
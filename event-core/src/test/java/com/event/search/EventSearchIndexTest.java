@@ -0,0 +1,143 @@
+package com.event.search;
+
+import com.event.model.entity.EventEntity;
+import com.event.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventSearchIndex 단위 테스트")
+class EventSearchIndexTest {
+
+    @InjectMocks
+    private EventSearchIndex eventSearchIndex;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private final LocalDate today = LocalDate.of(2025, 5, 1);
+
+    @BeforeEach
+    void init() {
+        ReflectionTestUtils.setField(eventSearchIndex, "enabled", true);
+        given(eventRepository.findAll(ArgumentMatchers.<Specification<EventEntity>>any())).willReturn(List.of(
+                createEventEntity(1L, "한강 불꽃놀이", "서울", "여의도 한강공원에서 열리는 불꽃 축제"),
+                createEventEntity(2L, "제주 꽃축제", "제주", "유채꽃이 가득한 봄 축제"),
+                createEventEntity(3L, "부산 음악회", "부산", "해운대 야외 공연")));
+        eventSearchIndex.rebuild();
+    }
+
+    @Nested
+    @DisplayName("search")
+    class SearchTest {
+        @Test
+        @DisplayName("단어 중간에 포함된 검색어도 찾는다")
+        void givenInfixQuery_whenSearch_thenReturnsMatchedEvents() {
+            // When
+            List<Long> contentIdList = eventSearchIndex.search("축제", null, today);
+
+            // Then
+            assertThat(contentIdList).containsExactlyInAnyOrder(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("제목에 매칭되는 이벤트가 개요에만 매칭되는 이벤트보다 앞에 온다")
+        void givenQuery_whenSearch_thenTitleMatchRanksFirst() {
+            // When
+            List<Long> contentIdList = eventSearchIndex.search("축제", null, today);
+
+            // Then
+            assertThat(contentIdList).containsExactly(2L, 1L);
+        }
+
+        @Test
+        @DisplayName("1글자 검색어와 지역 필터를 함께 적용한다")
+        void givenSingleCharQueryAndArea_whenSearch_thenReturnsFilteredEvents() {
+            // When
+            List<Long> contentIdList = eventSearchIndex.search("꽃", List.of("제주"), today);
+
+            // Then
+            assertThat(contentIdList).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("삭제된 이벤트와 종료된 이벤트는 검색되지 않는다")
+        void givenRemovedAndEndedEvents_whenSearch_thenExcludesThem() {
+            // Given
+            eventSearchIndex.remove(1L);
+            EventEntity endedEventEntity = createEventEntity(2L, "제주 꽃축제", "제주", null);
+            endedEventEntity.setEventEndDate(LocalDate.now().minusDays(1));
+            eventSearchIndex.index(endedEventEntity);
+
+            // When
+            List<Long> contentIdList = eventSearchIndex.search("축제", null, today);
+
+            // Then
+            assertThat(contentIdList).isEmpty();
+        }
+
+        @Test
+        @DisplayName("종료일이 없는 이벤트는 DB 조회 조건과 같이 검색되지 않는다")
+        void givenEventWithoutEndDate_whenSearch_thenExcludesIt() {
+            // Given
+            EventEntity noEndDateEventEntity = createEventEntity(2L, "제주 꽃축제", "제주", null);
+            noEndDateEventEntity.setEventEndDate(null);
+            eventSearchIndex.index(noEndDateEventEntity);
+
+            // When
+            List<Long> contentIdList = eventSearchIndex.search("축제", null, today);
+
+            // Then
+            assertThat(contentIdList).containsExactly(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuild")
+    class RebuildTest {
+        @Test
+        @DisplayName("색인 구성이 끝나기 전에 들어온 변경은 구성 직후에 반영된다")
+        void givenChangesBeforeRebuild_whenRebuild_thenReplaysChanges() {
+            // Given
+            EventSearchIndex notBuiltIndex = new EventSearchIndex(eventRepository);
+            ReflectionTestUtils.setField(notBuiltIndex, "enabled", true);
+            EventEntity newEventEntity = createEventEntity(4L, "제주 불꽃 축제", "제주", null);
+            newEventEntity.setEventEndDate(LocalDate.now().plusDays(10));
+            notBuiltIndex.index(newEventEntity);
+            notBuiltIndex.remove(1L);
+
+            // When
+            notBuiltIndex.rebuild();
+
+            // Then
+            assertThat(notBuiltIndex.search("불꽃", null, today)).containsExactly(4L);
+        }
+    }
+
+    private EventEntity createEventEntity(Long contentId, String title, String area, String overview) {
+        EventEntity eventEntity = new EventEntity();
+        eventEntity.setContentId(contentId);
+        eventEntity.setTitle(title);
+        eventEntity.setArea(area);
+        eventEntity.setOverview(overview);
+        eventEntity.setEventStartDate(today);
+        eventEntity.setEventEndDate(today.plusDays(10));
+        return eventEntity;
+    }
+
+}
@@ -0,0 +1,331 @@
+package com.event.service;
+
+import com.event.analysis.CommentAnalysisJobStatus;
+import com.event.analysis.CommentAnalysisWorker;
+import com.event.exception.CustomAiException;
+import com.event.model.entity.CommentAnalysisEntity;
+import com.event.model.entity.CommentEntity;
+import com.event.model.response.CommentAnalysisResponse;
+import com.event.model.response.CommentAnalysisResponse.Emotion;
+import com.event.model.response.CommentAnalysisStatusResponse;
+import com.event.repository.CommentAnalysisRepository;
+import com.event.repository.CommentRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AiService 단위 테스트")
+class AiServiceTest {
+
+    private static final Long CONTENT_ID = 1L;
+
+    private static final int REANALYZE_COMMENT_DELTA = 5;
+
+    private static final Duration REANALYZE_INTERVAL = Duration.ofMinutes(30);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private AiService aiService;
+
+    private ChatClient chatClient;
+
+    @Mock
+    private ChatClient.Builder chatClientBuilder;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private CommentAnalysisRepository commentAnalysisRepository;
+
+    @Mock
+    private CommentCountService commentCountService;
+
+    @Mock
+    private CommentAnalysisWorker commentAnalysisWorker;
+
+    @BeforeEach
+    void init() {
+        chatClient = mock(ChatClient.class, RETURNS_DEEP_STUBS);
+        given(chatClientBuilder.build()).willReturn(chatClient);
+        aiService = new AiService(
+                chatClientBuilder,
+                commentRepository,
+                commentAnalysisRepository,
+                commentCountService,
+                commentAnalysisWorker,
+                objectMapper);
+        ReflectionTestUtils.setField(aiService, "requiredAiCommentCount", 5);
+        ReflectionTestUtils.setField(aiService, "aiCommentCount", 10);
+        ReflectionTestUtils.setField(aiService, "reanalyzeCommentDelta", REANALYZE_COMMENT_DELTA);
+        ReflectionTestUtils.setField(aiService, "reanalyzeInterval", REANALYZE_INTERVAL);
+        ReflectionTestUtils.setField(aiService, "firstAnalysisTimeout", Duration.ofSeconds(5));
+    }
+
+    @Nested
+    @DisplayName("analyzeComments")
+    class AnalyzeCommentsTest {
+        @Test
+        @DisplayName("분석한 적 없는 이벤트는 AI로 분석하고 결과를 저장")
+        void givenNoAnalysis_whenAnalyzeComments_thenAnalyzesAndSaves() throws JsonProcessingException {
+            // Given
+            givenCommentCount();
+            given(commentAnalysisRepository.findById(CONTENT_ID)).willReturn(Optional.empty());
+            givenWorkerRunsImmediately();
+            givenAiAnswers(createCommentAnalysisResponse("새 분석"));
+
+            // When
+            CommentAnalysisResponse result = aiService.analyzeComments(CONTENT_ID);
+
+            // Then
+            assertThat(result.summary()).isEqualTo("새 분석");
+            assertThat(result.stale()).isFalse();
+            assertThat(result.analyzedAt()).isNotNull();
+
+            ArgumentCaptor<CommentAnalysisEntity> captor = ArgumentCaptor.forClass(CommentAnalysisEntity.class);
+            then(commentAnalysisRepository).should().save(captor.capture());
+            assertThat(captor.getValue().getContentId()).isEqualTo(CONTENT_ID);
+            assertThat(captor.getValue().getResult()).contains("새 분석");
+        }
+
+        @Test
+        @DisplayName("분석 이후 변경된 댓글이 없으면 AI를 호출하지 않고 마지막 결과를 반환")
+        void givenNoPendingComments_whenAnalyzeComments_thenReturnsLastResult() throws JsonProcessingException {
+            // Given
+            givenCommentCount();
+            givenLastAnalysis(0, Instant.now().minus(Duration.ofDays(1)));
+
+            // When
+            CommentAnalysisResponse result = aiService.analyzeComments(CONTENT_ID);
+
+            // Then
+            assertThat(result.summary()).isEqualTo("지난 분석");
+            assertThat(result.stale()).isFalse();
+            then(chatClient).shouldHaveNoInteractions();
+            then(commentRepository).shouldHaveNoInteractions();
+            then(commentAnalysisWorker).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("변경된 댓글 수가 기준 미만이고 기준 시간 전이면 AI를 호출하지 않고 마지막 결과를 stale로 반환")
+        void givenFewPendingComments_whenAnalyzeComments_thenReturnsStaleResult() throws JsonProcessingException {
+            // Given
+            Instant analyzedAt = Instant.now().minus(Duration.ofMinutes(1));
+            givenCommentCount();
+            givenLastAnalysis(REANALYZE_COMMENT_DELTA - 1, analyzedAt);
+
+            // When
+            CommentAnalysisResponse result = aiService.analyzeComments(CONTENT_ID);
+
+            // Then
+            assertThat(result.summary()).isEqualTo("지난 분석");
+            assertThat(result.stale()).isTrue();
+            assertThat(result.analyzedAt()).isEqualTo(analyzedAt);
+            then(chatClient).shouldHaveNoInteractions();
+            then(commentAnalysisWorker).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("변경된 댓글 수가 기준 이상이면 마지막 결과를 stale로 바로 반환하고, 백그라운드에서 다시 분석한 뒤 분석을 시작할 때의 변경 수만큼 차감")
+        void givenEnoughPendingComments_whenAnalyzeComments_thenReanalyzesInBackground() throws JsonProcessingException {
+            // Given
+            givenCommentCount();
+            givenLastAnalysis(REANALYZE_COMMENT_DELTA, Instant.now().minus(Duration.ofMinutes(1)));
+            givenWorkerRunsImmediately();
+            givenAiAnswers(createCommentAnalysisResponse("새 분석"));
+
+            // When
+            CommentAnalysisResponse result = aiService.analyzeComments(CONTENT_ID);
+
+            // Then
+            assertThat(result.summary()).isEqualTo("지난 분석");
+            assertThat(result.stale()).isTrue();
+            then(commentAnalysisRepository).should()
+                    .updateResult(eq(CONTENT_ID), contains("새 분석"), any(), eq(REANALYZE_COMMENT_DELTA));
+        }
+
+        @Test
+        @DisplayName("변경된 댓글이 있는 채로 기준 시간이 지나면 변경 수가 적어도 다시 분석")
+        void givenOldAnalysis_whenAnalyzeComments_thenReanalyzes() throws JsonProcessingException {
+            // Given
+            givenCommentCount();
+            givenLastAnalysis(1, Instant.now().minus(REANALYZE_INTERVAL).minusSeconds(1));
+            givenWorkerRunsImmediately();
+            givenAiAnswers(createCommentAnalysisResponse("새 분석"));
+
+            // When
+            CommentAnalysisResponse result = aiService.analyzeComments(CONTENT_ID);
+
+            // Then
+            assertThat(result.stale()).isTrue();
+            then(commentAnalysisRepository).should().updateResult(eq(CONTENT_ID), anyString(), any(), eq(1));
+        }
+
+        @Test
+        @DisplayName("다시 분석하다 실패하면 마지막 결과를 stale로 반환")
+        void givenAiFailure_whenReanalyze_thenReturnsStaleResult() throws JsonProcessingException {
+            // Given
+            givenCommentCount();
+            givenLastAnalysis(REANALYZE_COMMENT_DELTA, Instant.now().minus(Duration.ofMinutes(1)));
+            givenWorkerRunsImmediately();
+            given(chatClient.prompt()).willThrow(new RuntimeException("timeout"));
+
+            // When
+            CommentAnalysisResponse result = aiService.analyzeComments(CONTENT_ID);
+
+            // Then
+            assertThat(result.summary()).isEqualTo("지난 분석");
+            assertThat(result.stale()).isTrue();
+            then(commentAnalysisRepository).should(never()).updateResult(any(), any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("마지막 결과 없이 분석에 실패하면 예외 발생")
+        void givenAiFailureWithoutLastResult_whenAnalyzeComments_thenThrows() {
+            // Given
+            givenCommentCount();
+            given(commentAnalysisRepository.findById(CONTENT_ID)).willReturn(Optional.empty());
+            givenWorkerRunsImmediately();
+            given(commentRepository.findByContentIdOrderByUpdatedAtDesc(eq(CONTENT_ID), any()))
+                    .willReturn(List.of(createCommentEntity()));
+            given(chatClient.prompt()).willThrow(new RuntimeException("timeout"));
+
+            // When & Then
+            assertThatThrownBy(() -> aiService.analyzeComments(CONTENT_ID))
+                    .isInstanceOf(CustomAiException.class)
+                    .extracting("httpStatus").isEqualTo(HttpStatus.BAD_GATEWAY);
+            then(commentAnalysisRepository).should(never()).save(any());
+        }
+
+        @Test
+        @DisplayName("작업 큐가 가득 차면 마지막 결과를 stale로 반환")
+        void givenQueueFull_whenAnalyzeComments_thenReturnsStaleResult() throws JsonProcessingException {
+            // Given
+            givenCommentCount();
+            givenLastAnalysis(REANALYZE_COMMENT_DELTA, Instant.now().minus(Duration.ofMinutes(1)));
+            given(commentAnalysisWorker.submit(eq(CONTENT_ID), any()))
+                    .willThrow(new CustomAiException(HttpStatus.SERVICE_UNAVAILABLE, "Comment analysis queue is full"));
+
+            // When
+            CommentAnalysisResponse result = aiService.analyzeComments(CONTENT_ID);
+
+            // Then
+            assertThat(result.summary()).isEqualTo("지난 분석");
+            assertThat(result.stale()).isTrue();
+        }
+
+        @Test
+        @DisplayName("첫 분석이 대기 시간 안에 끝나지 않으면 503 예외 발생")
+        void givenSlowFirstAnalysis_whenAnalyzeComments_thenThrows503() {
+            // Given
+            ReflectionTestUtils.setField(aiService, "firstAnalysisTimeout", Duration.ofMillis(10));
+            givenCommentCount();
+            given(commentAnalysisRepository.findById(CONTENT_ID)).willReturn(Optional.empty());
+            given(commentAnalysisWorker.submit(eq(CONTENT_ID), any())).willReturn(new CompletableFuture<>());
+
+            // When & Then
+            assertThatThrownBy(() -> aiService.analyzeComments(CONTENT_ID))
+                    .isInstanceOf(CustomAiException.class)
+                    .extracting("httpStatus").isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    @Nested
+    @DisplayName("getAnalysisStatus")
+    class GetAnalysisStatusTest {
+        @Test
+        @DisplayName("분석 작업 상태와 마지막 분석 정보를 반환")
+        void givenRunningJob_whenGetAnalysisStatus_thenReturnsStatus() throws JsonProcessingException {
+            // Given
+            Instant analyzedAt = Instant.now().minus(Duration.ofMinutes(1));
+            givenLastAnalysis(3, analyzedAt);
+            given(commentAnalysisWorker.getStatus(CONTENT_ID)).willReturn(CommentAnalysisJobStatus.RUNNING);
+
+            // When
+            CommentAnalysisStatusResponse result = aiService.getAnalysisStatus(CONTENT_ID);
+
+            // Then
+            assertThat(result.status()).isEqualTo(CommentAnalysisJobStatus.RUNNING);
+            assertThat(result.pendingCommentCount()).isEqualTo(3);
+            assertThat(result.analyzedAt()).isEqualTo(analyzedAt);
+        }
+    }
+
+    private void givenCommentCount() {
+        given(commentCountService.getCommentCount(CONTENT_ID)).willReturn(20);
+    }
+
+    /**
+     * 분석 워커가 작업을 요청 스레드에서 바로 실행하도록 합니다.
+     */
+    private void givenWorkerRunsImmediately() {
+        given(commentAnalysisWorker.submit(eq(CONTENT_ID), any())).willAnswer(invocation -> {
+            Supplier<CommentAnalysisResponse> analysis = invocation.getArgument(1);
+            CompletableFuture<CommentAnalysisResponse> analysisJob = new CompletableFuture<>();
+            try {
+                analysisJob.complete(analysis.get());
+            } catch (RuntimeException e) {
+                analysisJob.completeExceptionally(e);
+            }
+            return analysisJob;
+        });
+    }
+
+    private void givenLastAnalysis(int pendingCommentCount, Instant analyzedAt) throws JsonProcessingException {
+        CommentAnalysisEntity commentAnalysisEntity = new CommentAnalysisEntity(
+                CONTENT_ID, objectMapper.writeValueAsString(createCommentAnalysisResponse("지난 분석")), analyzedAt);
+        commentAnalysisEntity.setPendingCommentCount(pendingCommentCount);
+        given(commentAnalysisRepository.findById(CONTENT_ID)).willReturn(Optional.of(commentAnalysisEntity));
+    }
+
+    private void givenAiAnswers(CommentAnalysisResponse commentAnalysisResponse) throws JsonProcessingException {
+        given(commentRepository.findByContentIdOrderByUpdatedAtDesc(eq(CONTENT_ID), any()))
+                .willReturn(List.of(createCommentEntity()));
+        ChatResponse chatResponse = new ChatResponse(List.of(new Generation(
+                new AssistantMessage(objectMapper.writeValueAsString(commentAnalysisResponse)))));
+        given(chatClient.prompt().system(anyString()).user(anyString()).call().chatResponse()).willReturn(chatResponse);
+    }
+
+    private CommentAnalysisResponse createCommentAnalysisResponse(String summary) {
+        return new CommentAnalysisResponse(
+                summary,
+                List.of("불꽃놀이", "음식"),
+                new Emotion("positive",
+                        Map.of("positive", 0.7, "negative", 0.1, "neutral", 0.2),
+                        List.of("즐거움")));
+    }
+
+    private CommentEntity createCommentEntity() {
+        CommentEntity commentEntity = new CommentEntity();
+        commentEntity.setContentId(CONTENT_ID);
+        commentEntity.setContent("재밌어요");
+        commentEntity.setUpdatedAt(Instant.now());
+        return commentEntity;
+    }
+
+}
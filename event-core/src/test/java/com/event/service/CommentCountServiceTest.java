@@ -0,0 +1,205 @@
+package com.event.service;
+
+import com.event.exception.CustomCommentException;
+import com.event.model.entity.CommentCountEntity;
+import com.event.model.response.CommentCountResponse;
+import com.event.repository.CommentCountRepository;
+import com.event.repository.CommentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CommentCountService 단위 테스트")
+class CommentCountServiceTest {
+
+    @InjectMocks
+    private CommentCountService commentCountService;
+
+    @Mock
+    private CommentCountRepository commentCountRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @BeforeEach
+    void init() {
+        ReflectionTestUtils.setField(commentCountService, "commentCountBulkSize", 3);
+        ReflectionTestUtils.setField(commentCountService, "reconcileLockTtl", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(commentCountService, "recentWriteWindow", Duration.ofMinutes(1));
+    }
+
+    @Nested
+    @DisplayName("getCommentCount")
+    class GetCommentCountTest {
+        @Test
+        @DisplayName("카운터가 있으면 count 쿼리를 실행하지 않음")
+        void givenCounter_whenGetCommentCount_thenReturnsCounterValue() {
+            // Given
+            given(commentCountRepository.findById(1L)).willReturn(Optional.of(new CommentCountEntity(1L, 5)));
+
+            // When
+            int commentCount = commentCountService.getCommentCount(1L);
+
+            // Then
+            assertThat(commentCount).isEqualTo(5);
+            then(commentRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("카운터가 아직 없으면 count 쿼리로 조회")
+        void givenNoCounter_whenGetCommentCount_thenCountsComments() {
+            // Given
+            given(commentCountRepository.findById(1L)).willReturn(Optional.empty());
+            given(commentRepository.countByContentId(1L)).willReturn(2);
+
+            // When
+            int commentCount = commentCountService.getCommentCount(1L);
+
+            // Then
+            assertThat(commentCount).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("getCommentCountList")
+    class GetCommentCountListTest {
+        @Test
+        @DisplayName("카운터가 없는 이벤트만 모아서 한 번에 카운트하고, 요청한 순서대로 반환")
+        void givenPartialCounters_whenGetCommentCountList_thenCountsOnlyMissing() {
+            // Given
+            given(commentCountRepository.findAllById(any())).willReturn(List.of(new CommentCountEntity(2L, 4)));
+            given(commentRepository.countGroupByContentIdIn(List.of(3L, 1L)))
+                    .willReturn(List.of(new CommentCountResponse(1L, 1L)));
+
+            // When
+            List<CommentCountResponse> result = commentCountService.getCommentCountList(List.of(3L, 2L, 1L, 2L));
+
+            // Then
+            assertThat(result).containsExactly(
+                    new CommentCountResponse(3L, 0L),
+                    new CommentCountResponse(2L, 4L),
+                    new CommentCountResponse(1L, 1L));
+        }
+
+        @Test
+        @DisplayName("모든 이벤트에 카운터가 있으면 count 쿼리를 실행하지 않음")
+        void givenAllCounters_whenGetCommentCountList_thenDoesNotCount() {
+            // Given
+            given(commentCountRepository.findAllById(any()))
+                    .willReturn(List.of(new CommentCountEntity(1L, 1), new CommentCountEntity(2L, 0)));
+
+            // When
+            List<CommentCountResponse> result = commentCountService.getCommentCountList(List.of(1L, 2L));
+
+            // Then
+            assertThat(result).containsExactly(
+                    new CommentCountResponse(1L, 1L),
+                    new CommentCountResponse(2L, 0L));
+            then(commentRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("요청한 이벤트 수가 최대 개수를 넘으면 예외 발생")
+        void givenTooManyContentIds_whenGetCommentCountList_thenThrowsException() {
+            // When & Then
+            assertThatThrownBy(() -> commentCountService.getCommentCountList(List.of(1L, 2L, 3L, 4L)))
+                    .isInstanceOf(CustomCommentException.class);
+            then(commentCountRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcile")
+    class ReconcileTest {
+        @Test
+        @DisplayName("재집계 락을 잡으면 없는 카운터를 만든 뒤 최근에 증감되지 않은 어긋난 카운터를 바로잡음")
+        void givenLockAcquired_whenReconcile_thenInsertsMissingAndCorrectsCounters() {
+            // Given
+            givenReconcileLock(true);
+            given(commentCountRepository.insertMissingCommentCounts()).willReturn(2);
+            given(commentCountRepository.reconcileCommentCounts(any(Instant.class))).willReturn(1);
+            Instant beforeReconcile = Instant.now();
+
+            // When
+            commentCountService.reconcile();
+
+            // Then
+            then(commentCountRepository).should().insertMissingCommentCounts();
+            ArgumentCaptor<Instant> writtenBeforeCaptor = ArgumentCaptor.forClass(Instant.class);
+            then(commentCountRepository).should().reconcileCommentCounts(writtenBeforeCaptor.capture());
+            assertThat(writtenBeforeCaptor.getValue()).isBefore(beforeReconcile.minusSeconds(59));
+        }
+
+        @Test
+        @DisplayName("다른 파드가 이번 주기의 재집계 락을 잡았으면 재집계하지 않음")
+        void givenLockHeldByOtherPod_whenReconcile_thenSkips() {
+            // Given
+            givenReconcileLock(false);
+
+            // When
+            commentCountService.reconcile();
+
+            // Then
+            then(commentCountRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("Redis를 사용할 수 없으면 락 없이 재집계")
+        void givenRedisFailure_whenReconcile_thenReconcilesWithoutLock() {
+            // Given
+            given(stringRedisTemplate.opsForValue()).willThrow(new RedisConnectionFailureException("down"));
+
+            // When
+            commentCountService.reconcile();
+
+            // Then
+            then(commentCountRepository).should().insertMissingCommentCounts();
+            then(commentCountRepository).should().reconcileCommentCounts(any(Instant.class));
+        }
+
+        @Test
+        @DisplayName("다른 파드와 동시에 재집계해서 실패해도 예외를 전파하지 않음")
+        void givenConcurrentReconcile_whenReconcile_thenDoesNotThrow() {
+            // Given
+            givenReconcileLock(true);
+            given(commentCountRepository.insertMissingCommentCounts())
+                    .willThrow(new DataIntegrityViolationException("duplicate key"));
+
+            // When & Then
+            assertThatCode(() -> commentCountService.reconcile()).doesNotThrowAnyException();
+        }
+    }
+
+    private void givenReconcileLock(boolean acquired) {
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("comment-count:reconcile:lock"), anyString(), eq(Duration.ofMinutes(5))))
+                .willReturn(acquired);
+    }
+
+}
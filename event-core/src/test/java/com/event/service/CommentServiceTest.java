@@ -1,5 +1,6 @@
 package com.event.service;
 
+import com.event.config.CacheNames;
 import com.event.exception.CustomCommentException;
 import com.event.mapper.CommentMapper;
 import com.event.model.entity.CommentEntity;
@@ -7,6 +8,7 @@ import com.event.model.request.CommentInsertRequest;
 import com.event.model.request.CommentUpdateRequest;
 import com.event.model.response.CommentResponse;
 import com.event.model.response.CommentScrollResponse;
+import com.event.repository.CommentAnalysisRepository;
 import com.event.repository.CommentRepository;
 import com.event.security.CustomPrincipal;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,13 +19,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Window;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
@@ -41,6 +53,21 @@ class CommentServiceTest {
     @Mock
     private CommentMapper commentMapper;
 
+    @Mock
+    private CommentCountService commentCountService;
+
+    @Mock
+    private CommentAnalysisRepository commentAnalysisRepository;
+
+    @Mock
+    private ObjectProvider<CacheManager> cacheManagerProvider;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
     private final CustomPrincipal customPrincipal = new CustomPrincipal(1L, "tester");
 
     @Nested
@@ -85,6 +112,46 @@ class CommentServiceTest {
             then(commentMapper).should().toCommentResponse(commentEntity);
             then(commentMapper).should().toCommentResponse(commentEntity2);
         }
+
+        @Test
+        @DisplayName("수정 시각 내림차순 커서 조회는 커서의 수정 시각을 상한으로 함께 전달")
+        void givenCursor_whenGetCommentScroll_thenBoundsByCursorUpdatedAt() {
+            // Given
+            ReflectionTestUtils.setField(commentService, "commentSortProperty", "updatedAt");
+            Instant cursorUpdatedAt = Instant.parse("2025-01-01T00:00:00Z");
+            String cursor = Base64.getUrlEncoder().encodeToString(
+                    (cursorUpdatedAt.toEpochMilli() + "|" + 5L).getBytes(StandardCharsets.UTF_8));
+            Window<CommentEntity> commentEntityWindow = Window.<CommentEntity>from(List.of(), i -> ScrollPosition.keyset(), false);
+            given(commentRepository.findScrollByContentIdAndUpdatedAtLessThanEqual(
+                    eq(10L), eq(cursorUpdatedAt), any(), any(), any()))
+                    .willReturn(commentEntityWindow);
+
+            // When
+            CommentScrollResponse result = commentService.getCommentScrollByContentId(10L, cursor);
+
+            // Then
+            assertThat(result.commentResponseList()).isEmpty();
+            assertThat(result.nextCursor()).isNull();
+            then(commentRepository).should(never()).findScrollByContentId(any(), any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("getCommentCount")
+    class GetCommentCountTest {
+        @Test
+        @DisplayName("댓글 수는 count 쿼리 대신 댓글 수 카운터에서 조회")
+        void givenCommentCounter_whenGetCommentCount_thenReadsCounter() {
+            // Given
+            given(commentCountService.getCommentCount(10L)).willReturn(7);
+
+            // When
+            int commentCount = commentService.getCommentCount(10L);
+
+            // Then
+            assertThat(commentCount).isEqualTo(7);
+            then(commentRepository).shouldHaveNoInteractions();
+        }
     }
 
     @Nested
@@ -116,10 +183,133 @@ class CommentServiceTest {
             assertThat(result.username()).isEqualTo("tester");
 
             then(commentRepository).should().save(any());
+            then(commentCountService).should().addCommentCount(1L, 1);
+            then(commentAnalysisRepository).should().addPendingCommentCount(1L);
             then(commentMapper).should().toCommentResponse(commentEntity);
         }
     }
 
+    @Nested
+    @DisplayName("comment first page cache")
+    class CommentFirstPageCacheTest {
+
+        private static final String VERSION_KEY = "comment-first-page:version:10";
+
+        private final CacheManager cacheManager = new ConcurrentMapCacheManager(CacheNames.COMMENT_FIRST_PAGE);
+
+        // Redis에 저장된 이벤트 10의 쓰기 버전
+        private final AtomicLong version = new AtomicLong();
+
+        @BeforeEach
+        void init() {
+            ReflectionTestUtils.setField(commentService, "commentSize", 20);
+            ReflectionTestUtils.setField(commentService, "commentSortDirection", "DESC");
+            ReflectionTestUtils.setField(commentService, "commentSortProperty", "commentId");
+        }
+
+        @Test
+        @DisplayName("댓글 등록 후 해당 이벤트의 댓글 목록 첫 페이지 쓰기 버전을 올림")
+        void givenInsertedComment_whenInsertComment_thenIncreasesFirstPageVersion() {
+            // Given
+            CommentEntity commentEntity = createCommentEntity(100L, 10L, 1L, "tester");
+            givenCacheManagerOnWrite();
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(commentRepository.save(any())).willReturn(commentEntity);
+
+            // When
+            commentService.insertComment(10L, new CommentInsertRequest("좋은 글입니다."), customPrincipal);
+
+            // Then
+            then(valueOperations).should().increment(VERSION_KEY);
+        }
+
+        @Test
+        @DisplayName("쓰기 버전을 올리지 못해도 댓글 수정은 성공")
+        void givenRedisFailure_whenUpdateComment_thenSucceeds() {
+            // Given
+            CommentEntity commentEntity = createCommentEntity(1L, 10L, 1L, "tester");
+            givenCacheManagerOnWrite();
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.increment(VERSION_KEY)).willThrow(new RedisConnectionFailureException("redis down"));
+            given(commentRepository.findById(1L)).willReturn(Optional.of(commentEntity));
+
+            // When & Then
+            assertThatCode(() -> commentService.updateComment(1L, new CommentUpdateRequest("수정"), customPrincipal))
+                    .doesNotThrowAnyException();
+            then(commentRepository).should().save(commentEntity);
+        }
+
+        @Test
+        @DisplayName("쓰기 버전이 그대로면 두 번째 조회는 캐시에서 반환")
+        void givenSameVersion_whenGetCommentScrollTwice_thenQueriesOnce() {
+            // Given
+            CommentEntity commentEntity = createCommentEntity(1L, 10L, 1L, "tester");
+            given(cacheManagerProvider.getIfAvailable()).willReturn(cacheManager);
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(VERSION_KEY)).willReturn("3");
+            given(commentRepository.findScrollByContentId(eq(10L), any(), any(), any()))
+                    .willReturn(window(commentEntity));
+            given(commentMapper.toCommentResponse(commentEntity)).willReturn(createCommentResponse(1L));
+
+            // When
+            commentService.getCommentScrollByContentId(10L, null);
+            CommentScrollResponse result = commentService.getCommentScrollByContentId(10L, null);
+
+            // Then
+            assertThat(result.commentResponseList()).extracting(CommentResponse::commentId).containsExactly(1L);
+            then(commentRepository).should(times(1)).findScrollByContentId(eq(10L), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("첫 페이지를 조회하는 도중 댓글 등록이 커밋되면, 조회 결과는 이전 버전 키에 저장되고 다음 조회는 DB에서 새 목록을 읽음")
+        void givenCommitDuringQuery_whenGetCommentScroll_thenStalePageIsNotServed() {
+            // Given
+            CommentEntity oldCommentEntity = createCommentEntity(1L, 10L, 1L, "tester");
+            CommentEntity newCommentEntity = createCommentEntity(2L, 10L, 1L, "tester");
+            given(cacheManagerProvider.getIfAvailable()).willReturn(cacheManager);
+            givenCacheManagerOnWrite();
+            givenVersionStore();
+            given(commentRepository.save(any())).willReturn(newCommentEntity);
+            given(commentMapper.toCommentResponse(oldCommentEntity)).willReturn(createCommentResponse(1L));
+            given(commentMapper.toCommentResponse(newCommentEntity)).willReturn(createCommentResponse(2L));
+            // 첫 번째 조회가 DB를 읽은 뒤 결과를 캐시에 저장하기 전에, 다른 요청의 댓글 등록이 커밋됨
+            given(commentRepository.findScrollByContentId(eq(10L), any(), any(), any()))
+                    .willAnswer(invocation -> {
+                        commentService.insertComment(10L, new CommentInsertRequest("새 댓글"), customPrincipal);
+                        return window(oldCommentEntity);
+                    })
+                    .willReturn(window(newCommentEntity, oldCommentEntity));
+
+            // When
+            CommentScrollResponse staleResult = commentService.getCommentScrollByContentId(10L, null);
+            CommentScrollResponse nextResult = commentService.getCommentScrollByContentId(10L, null);
+
+            // Then
+            assertThat(staleResult.commentResponseList()).extracting(CommentResponse::commentId).containsExactly(1L);
+            assertThat(nextResult.commentResponseList()).extracting(CommentResponse::commentId).containsExactly(2L, 1L);
+            then(commentRepository).should(times(2)).findScrollByContentId(eq(10L), any(), any(), any());
+
+            Cache commentFirstPageCache = cacheManager.getCache(CacheNames.COMMENT_FIRST_PAGE);
+            assertThat(commentFirstPageCache.get("10:0", CommentScrollResponse.class)).isEqualTo(staleResult);
+            assertThat(commentFirstPageCache.get("10:1", CommentScrollResponse.class)).isEqualTo(nextResult);
+        }
+
+        private void givenCacheManagerOnWrite() {
+            willAnswer(invocation -> {
+                Consumer<CacheManager> consumer = invocation.getArgument(0);
+                consumer.accept(cacheManager);
+                return null;
+            }).given(cacheManagerProvider).ifAvailable(any());
+        }
+
+        private void givenVersionStore() {
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(VERSION_KEY)).willAnswer(invocation ->
+                    version.get() == 0 ? null : String.valueOf(version.get()));
+            given(valueOperations.increment(VERSION_KEY)).willAnswer(invocation -> version.incrementAndGet());
+        }
+    }
+
     @Nested
     @DisplayName("deleteComment")
     class DeleteCommentTest {
@@ -149,6 +339,8 @@ class CommentServiceTest {
 
             then(commentRepository).should().findById(1L);
             then(commentRepository).should().delete(commentEntity);
+            then(commentCountService).should().addCommentCount(10L, -1);
+            then(commentAnalysisRepository).should().addPendingCommentCount(10L);
             then(commentMapper).should().toCommentResponse(commentEntity);
         }
 
@@ -166,6 +358,7 @@ class CommentServiceTest {
 
             then(commentRepository).should().findById(1L);
             then(commentRepository).should(never()).delete(any());
+            then(commentCountService).shouldHaveNoInteractions();
         }
 
         @Test
@@ -216,6 +409,7 @@ class CommentServiceTest {
 
             then(commentRepository).should().findById(1L);
             then(commentRepository).should().save(commentEntity);
+            then(commentAnalysisRepository).should().addPendingCommentCount(10L);
             then(commentMapper).should().toCommentResponse(commentEntity);
         }
 
@@ -255,6 +449,14 @@ class CommentServiceTest {
         }
     }
 
+    private Window<CommentEntity> window(CommentEntity... commentEntities) {
+        return Window.from(List.of(commentEntities), i -> ScrollPosition.keyset(), false);
+    }
+
+    private CommentResponse createCommentResponse(Long commentId) {
+        return new CommentResponse(commentId, "샘플 댓글", 10L, 1L, "tester", LocalDateTime.now(), LocalDateTime.now());
+    }
+
     private CommentEntity createCommentEntity(Long commentId, Long contentId, Long userId, String username) {
         CommentEntity commentEntity = new CommentEntity();
         commentEntity.setCommentId(commentId);
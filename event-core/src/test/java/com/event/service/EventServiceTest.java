@@ -1,24 +1,36 @@
 package com.event.service;
 
+import com.event.catalog.ActiveEventCatalog;
 import com.event.exception.CustomEventException;
+import com.event.fingerprint.EventFingerprintCache;
+import com.event.listener.EventReadModelSynchronizer;
 import com.event.mapper.EventMapper;
 import com.event.model.dto.EventDto;
+import com.event.model.dto.EventScrollKey;
+import com.event.model.dto.EventUpsertResult;
 import com.event.model.entity.EventEntity;
 import com.event.model.response.EventListResponse;
+import com.event.model.response.EventNearbyResponse;
 import com.event.model.response.EventResponse;
+import com.event.model.response.EventScrollResponse;
+import com.event.repository.EventBatchRepository;
 import com.event.repository.EventRepository;
+import com.event.search.EventSearchIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -43,6 +55,21 @@ class EventServiceTest {
     @Mock
     private EventFavoriteService eventFavoriteService;
 
+    @Mock
+    private EventSearchIndex eventSearchIndex;
+
+    @Mock
+    private ActiveEventCatalog activeEventCatalog;
+
+    @Mock
+    private EventBatchRepository eventBatchRepository;
+
+    @Mock
+    private EventReadModelSynchronizer eventReadModelSynchronizer;
+
+    @Mock
+    private EventFingerprintCache eventFingerprintCache;
+
     @Nested
     @DisplayName("selectEventList")
     class SelectEventListTest {
@@ -54,17 +81,12 @@ class EventServiceTest {
             String query = "축제";
             String area = "서울,부산";
 
-            EventEntity eventEntity = new EventEntity();
-            EventEntity eventEntity2 = new EventEntity();
-            Page<EventEntity> eventEntityPage = new PageImpl<>(List.of(eventEntity, eventEntity2));
-
             EventListResponse eventListResponse = new EventListResponse(1L, "행사1", "서울", null, null, null);
             EventListResponse eventListResponse2 = new EventListResponse(2L, "행사2", "부산", null, null, null);
+            Page<EventListResponse> projectedPage = new PageImpl<>(List.of(eventListResponse, eventListResponse2));
 
-            given(eventRepository.findAll(ArgumentMatchers.<Specification<EventEntity>>any(), eq(pageable)))
-                    .willReturn(eventEntityPage);
-            given(eventMapper.toEventListResponse(eventEntity)).willReturn(eventListResponse);
-            given(eventMapper.toEventListResponse(eventEntity2)).willReturn(eventListResponse2);
+            given(eventRepository.findEventListPage(ArgumentMatchers.<Specification<EventEntity>>any(), eq(pageable)))
+                    .willReturn(projectedPage);
 
             // When
             Page<EventListResponse> eventListResponsePage = eventService.selectEventList(pageable, query, area);
@@ -73,8 +95,224 @@ class EventServiceTest {
             assertThat(eventListResponsePage).hasSize(2);
             assertThat(eventListResponsePage.getContent().getFirst().area()).isEqualTo("서울");
 
-            then(eventRepository).should().findAll(ArgumentMatchers.<Specification<EventEntity>>any(), eq(pageable));
-            then(eventMapper).should(times(2)).toEventListResponse(any(EventEntity.class));
+            // 엔티티를 읽지 않고 목록 컬럼만 프로젝션으로 조회
+            then(eventRepository).should().findEventListPage(ArgumentMatchers.<Specification<EventEntity>>any(), eq(pageable));
+            then(eventRepository).should(never()).findAll(ArgumentMatchers.<Specification<EventEntity>>any(), any(Pageable.class));
+            then(eventMapper).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("검색 색인이 준비되어 있으면 관련도 순서대로 현재 페이지의 이벤트만 조회한다")
+        void givenReadySearchIndex_whenSelectEventList_thenReturnsRankedPage() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 2);
+            String query = "축제";
+
+            EventListResponse eventListResponse = new EventListResponse(1L, "행사1", "서울", null, null, null);
+            EventListResponse eventListResponse2 = new EventListResponse(2L, "행사2", "부산", null, null, null);
+
+            given(eventSearchIndex.isReady()).willReturn(true);
+            given(eventSearchIndex.search(eq(query), isNull(), any())).willReturn(List.of(2L, 1L, 3L));
+            // DB는 순서를 보장하지 않으므로 색인 순서와 다르게 반환
+            given(eventRepository.findEventListByContentIdIn(List.of(2L, 1L)))
+                    .willReturn(List.of(eventListResponse, eventListResponse2));
+
+            // When
+            Page<EventListResponse> eventListResponsePage = eventService.selectEventList(pageable, query, null);
+
+            // Then
+            assertThat(eventListResponsePage.getContent())
+                    .extracting(EventListResponse::contentId)
+                    .containsExactly(2L, 1L);
+            assertThat(eventListResponsePage.getTotalElements()).isEqualTo(3);
+
+            then(eventRepository).should(never()).findAll(ArgumentMatchers.<Specification<EventEntity>>any(), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("검색어가 없고 카탈로그가 준비되어 있으면 DB 조회 없이 카탈로그에서 반환한다")
+        void givenReadyCatalog_whenSelectEventList_thenReturnsCatalogPage() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<EventListResponse> catalogPage = new PageImpl<>(List.of(
+                    new EventListResponse(1L, "행사1", "서울", null, null, null)));
+
+            given(activeEventCatalog.isReady()).willReturn(true);
+            given(activeEventCatalog.selectPage(List.of("서울"), pageable)).willReturn(catalogPage);
+
+            // When
+            Page<EventListResponse> eventListResponsePage = eventService.selectEventList(pageable, null, "서울");
+
+            // Then
+            assertThat(eventListResponsePage).isSameAs(catalogPage);
+
+            then(eventRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("selectEventScroll")
+    class SelectEventScrollTest {
+        @Test
+        @DisplayName("카탈로그에서 size + 1개를 조회해서 다음 페이지가 있으면 마지막 이벤트의 커서를 반환한다")
+        void givenReadyCatalog_whenSelectEventScroll_thenReturnsNextCursorAndTotalCount() {
+            // Given
+            LocalDate today = LocalDate.now();
+            given(activeEventCatalog.isReady()).willReturn(true);
+            given(activeEventCatalog.selectAfter(isNull(), eq(List.of("서울")), isNull(), eq(3))).willReturn(List.of(
+                    new EventListResponse(1L, "행사1", "서울", null, today, today.plusDays(1)),
+                    new EventListResponse(2L, "행사2", "서울", null, today, today.plusDays(2)),
+                    new EventListResponse(3L, "행사3", "서울", null, today, today.plusDays(3))));
+            given(activeEventCatalog.count(isNull(), eq(List.of("서울")))).willReturn(5L);
+
+            // When
+            EventScrollResponse eventScrollResponse = eventService.selectEventScroll(null, 2, null, "서울");
+
+            // Then
+            assertThat(eventScrollResponse.eventListResponseList())
+                    .extracting(EventListResponse::contentId)
+                    .containsExactly(1L, 2L);
+            assertThat(eventScrollResponse.nextCursor()).isNotNull();
+            assertThat(eventScrollResponse.totalCount()).isEqualTo(5L);
+
+            then(eventRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("다음 커서로 조회하면 마지막 이벤트의 키셋 다음부터 조회하고, 전체 개수는 다시 계산하지 않는다")
+        void givenNextCursor_whenSelectEventScroll_thenSelectsAfterKeyset() {
+            // Given
+            LocalDate today = LocalDate.now();
+            given(activeEventCatalog.isReady()).willReturn(true);
+            given(activeEventCatalog.selectAfter(isNull(), isNull(), isNull(), eq(2))).willReturn(List.of(
+                    new EventListResponse(1L, "행사1", "서울", null, today, today.plusDays(1)),
+                    new EventListResponse(2L, "행사2", "서울", null, today, today.plusDays(2))));
+            given(activeEventCatalog.count(isNull(), isNull())).willReturn(2L);
+            String nextCursor = eventService.selectEventScroll(null, 1, null, null).nextCursor();
+
+            EventScrollKey expectedKey = new EventScrollKey(today.plusDays(1), today, 1L);
+            given(activeEventCatalog.selectAfter(isNull(), isNull(), eq(expectedKey), eq(2))).willReturn(List.of(
+                    new EventListResponse(2L, "행사2", "서울", null, today, today.plusDays(2))));
+
+            // When
+            EventScrollResponse eventScrollResponse = eventService.selectEventScroll(nextCursor, 1, null, null);
+
+            // Then
+            assertThat(eventScrollResponse.eventListResponseList())
+                    .extracting(EventListResponse::contentId)
+                    .containsExactly(2L);
+            assertThat(eventScrollResponse.nextCursor()).isNull();
+            assertThat(eventScrollResponse.totalCount()).isEqualTo(2L);
+
+            then(activeEventCatalog).should(times(1)).count(isNull(), isNull());
+        }
+
+        @Test
+        @DisplayName("검색어가 있으면 검색 색인에 매칭된 이벤트만 같은 키셋 순서로 조회한다")
+        void givenQuery_whenSelectEventScroll_thenFiltersByMatchedContentIds() {
+            // Given
+            given(activeEventCatalog.isReady()).willReturn(true);
+            given(eventSearchIndex.isReady()).willReturn(true);
+            given(eventSearchIndex.search(eq("축제"), isNull(), any())).willReturn(List.of(3L, 1L));
+            given(activeEventCatalog.selectAfter(eq(Set.of(1L, 3L)), isNull(), isNull(), eq(11)))
+                    .willReturn(List.of(new EventListResponse(1L, "축제1", "서울", null, null, null)));
+            given(activeEventCatalog.count(eq(Set.of(1L, 3L)), isNull())).willReturn(2L);
+
+            // When
+            EventScrollResponse eventScrollResponse = eventService.selectEventScroll(null, 10, " 축제 ", null);
+
+            // Then
+            assertThat(eventScrollResponse.eventListResponseList()).hasSize(1);
+            assertThat(eventScrollResponse.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 커서가 주어지면 예외를 던진다")
+        void givenInvalidCursor_whenSelectEventScroll_thenThrowsException() {
+            // When & Then
+            assertThatThrownBy(() -> eventService.selectEventScroll("not-a-cursor", 10, null, null))
+                    .isInstanceOf(CustomEventException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("selectNearbyEventList")
+    class SelectNearbyEventListTest {
+        @Test
+        @DisplayName("반경이 최대 반경보다 크면 예외를 던진다")
+        void givenTooLargeRadius_whenSelectNearbyEventList_thenThrowsException() {
+            // Given
+            ReflectionTestUtils.setField(eventService, "maxRadiusMeters", 50_000);
+
+            // When & Then
+            assertThatThrownBy(() -> eventService.selectNearbyEventList(126.9780, 37.5665, 50_001, 10))
+                    .isInstanceOf(CustomEventException.class);
+            then(activeEventCatalog).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("카탈로그를 사용할 수 없으면 DB에서 범위 조회한 뒤 반경 안의 이벤트를 가까운 순서로 반환한다")
+        void givenCatalogNotReady_whenSelectNearbyEventList_thenQueriesDbAndSortsByDistance() {
+            // Given
+            ReflectionTestUtils.setField(eventService, "maxRadiusMeters", 50_000);
+            EventEntity farEventEntity = createLocatedEventEntity(1L, 126.9780, 37.5755);
+            EventEntity nearEventEntity = createLocatedEventEntity(2L, 126.9785, 37.5666);
+            // 범위의 모서리에 있어서 반경 밖인 이벤트
+            EventEntity cornerEventEntity = createLocatedEventEntity(3L, 126.9890, 37.5750);
+            EventEntity unlocatedEventEntity = new EventEntity();
+            unlocatedEventEntity.setContentId(4L);
+
+            given(activeEventCatalog.isReady()).willReturn(false);
+            given(eventRepository.findAll(ArgumentMatchers.<Specification<EventEntity>>any()))
+                    .willReturn(List.of(farEventEntity, nearEventEntity, cornerEventEntity, unlocatedEventEntity));
+            given(eventMapper.toEventNearbyResponse(any(EventEntity.class), anyLong())).willAnswer(invocation -> {
+                EventEntity eventEntity = invocation.getArgument(0);
+                return new EventNearbyResponse(eventEntity.getContentId(), null, null, null, null, null,
+                        eventEntity.getMapX(), eventEntity.getMapY(), invocation.getArgument(1));
+            });
+
+            // When
+            List<EventNearbyResponse> eventNearbyResponseList =
+                    eventService.selectNearbyEventList(126.9780, 37.5665, 1_100, 10);
+
+            // Then
+            assertThat(eventNearbyResponseList)
+                    .extracting(EventNearbyResponse::contentId)
+                    .containsExactly(2L, 1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("selectEventETag")
+    class SelectEventETagTest {
+        @Test
+        @DisplayName("카탈로그에 있으면 DB 조회 없이 contentId와 저장 시각으로 ETag를 만든다")
+        void givenCatalogEvent_whenSelectEventETag_thenUsesCatalog() {
+            // Given
+            given(activeEventCatalog.findDbUpsertedAt(1L)).willReturn(Optional.of(Instant.ofEpochMilli(1000L)));
+
+            // When
+            Optional<String> eTag = eventService.selectEventETag(1L, null);
+
+            // Then
+            assertThat(eTag).contains("1-1000");
+            then(eventRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("카탈로그에 없으면 저장 시각만 DB에서 조회하고, 로그인 유저는 즐겨찾기 여부를 반영한다")
+        void givenEndedEventAndUser_whenSelectEventETag_thenQueriesUpsertedAtOnly() {
+            // Given
+            given(activeEventCatalog.findDbUpsertedAt(1L)).willReturn(Optional.empty());
+            given(eventRepository.findDbUpsertedAtByContentId(1L)).willReturn(Optional.of(Instant.ofEpochMilli(1000L)));
+            given(eventFavoriteService.isFavorited(1L, 7L)).willReturn(true);
+
+            // When
+            Optional<String> eTag = eventService.selectEventETag(1L, 7L);
+
+            // Then
+            assertThat(eTag).contains("1-1000-f");
+            then(eventRepository).should(never()).findById(any());
         }
     }
 
@@ -123,26 +361,96 @@ class EventServiceTest {
     }
 
     @Nested
-    @DisplayName("upsertEvent")
-    class UpsertEventTest {
+    @DisplayName("upsertEvents")
+    class UpsertEventsTest {
 
         @Test
-        @DisplayName("이벤트 업서트 시 DB 저장 또는 갱신")
-        void givenEventDto_whenUpsertEvent_thenSavesEntity() {
+        @DisplayName("중복된 contentId는 modifiedTime이 가장 최근인 이벤트만 한 번에 저장한다")
+        @SuppressWarnings("unchecked")
+        void givenDuplicatedEventDtoList_whenUpsertEvents_thenUpsertsLatestOnce() {
             // Given
-            EventDto eventDto = new EventDto();
-            EventEntity eventEntity = new EventEntity();
+            LocalDateTime modifiedTime = LocalDateTime.of(2025, 5, 1, 0, 0);
+            EventDto latestEventDto = createEventDto(1L, "최신", modifiedTime.plusHours(1));
+            List<EventDto> eventDtoList = List.of(
+                    latestEventDto,
+                    createEventDto(2L, "행사2", modifiedTime),
+                    createEventDto(1L, "이전", modifiedTime));
 
-            given(eventMapper.toEventEntity(eventDto)).willReturn(eventEntity);
-            given(eventRepository.save(eventEntity)).willReturn(eventEntity);
+            given(eventMapper.toEventEntity(any(EventDto.class))).willAnswer(invocation -> {
+                EventDto eventDto = invocation.getArgument(0);
+                EventEntity eventEntity = new EventEntity();
+                eventEntity.setContentId(eventDto.getContentId());
+                eventEntity.setTitle(eventDto.getTitle());
+                return eventEntity;
+            });
+            given(eventBatchRepository.upsertAll(anyList())).willReturn(List.of(1L, 2L));
 
             // When
-            eventService.upsertEvent(eventDto);
+            EventUpsertResult eventUpsertResult = eventService.upsertEvents(eventDtoList);
 
             // Then
-            then(eventMapper).should().toEventEntity(eventDto);
-            then(eventRepository).should().save(eventEntity);
+            ArgumentCaptor<List<EventEntity>> eventEntityListCaptor = ArgumentCaptor.forClass(List.class);
+            then(eventBatchRepository).should().upsertAll(eventEntityListCaptor.capture());
+            assertThat(eventUpsertResult).isEqualTo(new EventUpsertResult(3, 2, 1));
+            assertThat(eventEntityListCaptor.getValue())
+                    .extracting(EventEntity::getContentId, EventEntity::getTitle)
+                    .containsExactly(tuple(1L, "최신"), tuple(2L, "행사2"));
+            assertThat(eventEntityListCaptor.getValue()).allMatch(eventEntity -> eventEntity.getDbUpsertedAt() != null);
+            then(eventReadModelSynchronizer).should().applySaved(eventEntityListCaptor.getValue());
+            then(eventRepository).shouldHaveNoInteractions();
         }
+
+        @Test
+        @DisplayName("지문 캐시와 같은 이벤트는 DB에 보내지 않고, DB에서 갱신되지 않은 이벤트는 지문만 반영한다")
+        @SuppressWarnings("unchecked")
+        void givenUnchangedEvents_whenUpsertEvents_thenSkipsThem() {
+            // Given
+            LocalDateTime modifiedTime = LocalDateTime.of(2025, 5, 1, 0, 0);
+            List<EventDto> eventDtoList = List.of(
+                    createEventDto(1L, "캐시와 같음", modifiedTime),
+                    createEventDto(2L, "DB와 같음", modifiedTime),
+                    createEventDto(3L, "변경됨", modifiedTime));
+
+            given(eventMapper.toEventEntity(any(EventDto.class))).willAnswer(invocation -> {
+                EventDto eventDto = invocation.getArgument(0);
+                EventEntity eventEntity = new EventEntity();
+                eventEntity.setContentId(eventDto.getContentId());
+                eventEntity.setTitle(eventDto.getTitle());
+                return eventEntity;
+            });
+            given(eventFingerprintCache.isUnchanged(anyLong(), anyString()))
+                    .willAnswer(invocation -> invocation.<Long>getArgument(0) == 1L);
+            given(eventBatchRepository.upsertAll(anyList())).willReturn(List.of(3L));
+
+            // When
+            EventUpsertResult eventUpsertResult = eventService.upsertEvents(eventDtoList);
+
+            // Then
+            ArgumentCaptor<List<EventEntity>> savedEventEntityListCaptor = ArgumentCaptor.forClass(List.class);
+            ArgumentCaptor<List<EventEntity>> unchangedEventEntityListCaptor = ArgumentCaptor.forClass(List.class);
+            then(eventBatchRepository).should().upsertAll(argThat(eventEntityList -> eventEntityList.size() == 2));
+            then(eventReadModelSynchronizer).should().applySaved(savedEventEntityListCaptor.capture());
+            then(eventReadModelSynchronizer).should().applyUnchanged(unchangedEventEntityListCaptor.capture());
+            assertThat(eventUpsertResult).isEqualTo(new EventUpsertResult(3, 1, 2));
+            assertThat(savedEventEntityListCaptor.getValue()).extracting(EventEntity::getContentId).containsExactly(3L);
+            assertThat(unchangedEventEntityListCaptor.getValue()).extracting(EventEntity::getContentId).containsExactly(2L);
+        }
+
+        private EventDto createEventDto(Long contentId, String title, LocalDateTime modifiedTime) {
+            EventDto eventDto = new EventDto();
+            eventDto.setContentId(contentId);
+            eventDto.setTitle(title);
+            eventDto.setModifiedTime(modifiedTime);
+            return eventDto;
+        }
+    }
+
+    private EventEntity createLocatedEventEntity(Long contentId, double mapX, double mapY) {
+        EventEntity eventEntity = new EventEntity();
+        eventEntity.setContentId(contentId);
+        eventEntity.setMapX(mapX);
+        eventEntity.setMapY(mapY);
+        return eventEntity;
     }
 
 }
@@ -0,0 +1,124 @@
+package com.event.service;
+
+import com.event.config.kafka.EventDtoDeserializer;
+import com.event.config.kafka.EventWireFormat;
+import com.event.model.dto.EventDto;
+import com.event.model.dto.EventUpsertResult;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KafkaConsumerService 단위 테스트")
+class KafkaConsumerServiceTest {
+
+    private KafkaConsumerService kafkaConsumerService;
+
+    @Mock
+    private EventService eventService;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @BeforeEach
+    void init() {
+        kafkaConsumerService = new KafkaConsumerService(eventService, new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("consumeEvents")
+    class ConsumeEventsTest {
+        @Test
+        @DisplayName("모든 레코드를 저장하면 오프셋 커밋")
+        void givenValidRecords_whenConsumeEvents_thenAcknowledges() {
+            // Given
+            List<ConsumerRecord<String, EventDto>> consumerRecordList = List.of(
+                    consumerRecord(0L, eventDto(1L), new RecordHeaders()),
+                    consumerRecord(1L, eventDto(2L), new RecordHeaders()));
+            given(eventService.upsertEvents(anyList())).willReturn(new EventUpsertResult(2, 2, 0));
+
+            // When
+            kafkaConsumerService.consumeEvents(consumerRecordList, acknowledgment);
+
+            // Then
+            then(eventService).should().upsertEvents(argThat(eventDtoList -> eventDtoList.size() == 2));
+            then(acknowledgment).should().acknowledge();
+        }
+
+        @Test
+        @DisplayName("모르는 스키마 버전의 레코드는 커밋하지 않고 에러 핸들러로 넘김")
+        void givenNewerSchemaVersionRecord_whenConsumeEvents_thenThrowsWithoutAcknowledge() throws Exception {
+            // Given
+            ConsumerRecord<String, EventDto> newerSchemaRecord = newerSchemaRecord(1L);
+            List<ConsumerRecord<String, EventDto>> consumerRecordList = List.of(
+                    consumerRecord(0L, eventDto(1L), new RecordHeaders()),
+                    newerSchemaRecord,
+                    consumerRecord(2L, eventDto(3L), new RecordHeaders()));
+            given(eventService.upsertEvents(anyList())).willReturn(new EventUpsertResult(1, 1, 0));
+
+            // When & Then
+            assertThatThrownBy(() -> kafkaConsumerService.consumeEvents(consumerRecordList, acknowledgment))
+                    .isInstanceOfSatisfying(BatchListenerFailedException.class, exception -> {
+                        assertThat(exception.getIndex()).isEqualTo(1);
+                        assertThat(exception.getCause()).isInstanceOf(DeserializationException.class);
+                    });
+            // 실패한 레코드 앞까지만 저장
+            then(eventService).should().upsertEvents(argThat(eventDtoList ->
+                    eventDtoList.size() == 1 && eventDtoList.get(0).getContentId() == 1L));
+            then(acknowledgment).should(never()).acknowledge();
+        }
+    }
+
+    /**
+     * ErrorHandlingDeserializer로 다음 스키마 버전의 Smile 메시지를 역직렬화해
+     * 실제 컨슈머가 전달하는 것과 같은 레코드(값은 null, 헤더에 역직렬화 예외)를 만듭니다.
+     */
+    private ConsumerRecord<String, EventDto> newerSchemaRecord(long offset) throws Exception {
+        Headers headers = new RecordHeaders();
+        headers.add(EventWireFormat.CONTENT_TYPE_HEADER,
+                EventWireFormat.SMILE_CONTENT_TYPE.getBytes(StandardCharsets.UTF_8));
+        headers.add(EventWireFormat.SCHEMA_VERSION_HEADER,
+                String.valueOf(EventWireFormat.SCHEMA_VERSION + 1).getBytes(StandardCharsets.UTF_8));
+        byte[] data = new SmileMapper().writeValueAsBytes(Map.of("contentId", 2L));
+
+        try (ErrorHandlingDeserializer<EventDto> errorHandlingDeserializer =
+                     new ErrorHandlingDeserializer<>(new EventDtoDeserializer())) {
+            EventDto eventDto = errorHandlingDeserializer.deserialize("event-topic", headers, data);
+            return consumerRecord(offset, eventDto, headers);
+        }
+    }
+
+    private ConsumerRecord<String, EventDto> consumerRecord(long offset, EventDto eventDto, Headers headers) {
+        return new ConsumerRecord<>("event-topic", 0, offset, 0L, TimestampType.CREATE_TIME,
+                0, 0, String.valueOf(offset), eventDto, headers, Optional.empty());
+    }
+
+    private EventDto eventDto(Long contentId) {
+        EventDto eventDto = new EventDto();
+        eventDto.setContentId(contentId);
+        return eventDto;
+    }
+
+}